@@ -21,9 +21,11 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 import org.apache.qpid.protonj2.client.exceptions.ClientOperationTimedOutException;
 import org.apache.qpid.protonj2.client.exceptions.ClientSendTimedOutException;
 import org.apache.qpid.protonj2.types.transport.Open;
@@ -51,6 +53,7 @@ public class ConnectionOptions implements Cloneable {
     public static final int DEFAULT_CHANNEL_MAX = 65535;
     public static final int DEFAULT_MAX_FRAME_SIZE = 65536;
     public static final NextReceiverPolicy DEFAULT_NEXT_RECEIVER_POLICY = NextReceiverPolicy.ROUND_ROBIN;
+    public static final int DEFAULT_LARGE_DELIVERY_THRESHOLD = 8 * 1024 * 1024;
 
     private long sendTimeout = DEFAULT_SEND_TIMEOUT;
     private long requestTimeout = DEFAULT_REQUEST_TIMEOUT;
@@ -73,6 +76,9 @@ public class ConnectionOptions implements Cloneable {
     private Map<String, Object> properties;
     private String virtualHost;
     private boolean traceFrames;
+    private ProtonBufferAllocator bufferAllocator = ProtonBufferAllocator.defaultAllocator();
+    private ProtonBufferAllocator largeDeliveryAllocator;
+    private int largeDeliveryThreshold = DEFAULT_LARGE_DELIVERY_THRESHOLD;
     private NextReceiverPolicy nextReceiverPolicy = DEFAULT_NEXT_RECEIVER_POLICY;
 
     private BiConsumer<Connection, ConnectionEvent> connectedHandler;
@@ -125,6 +131,9 @@ public class ConnectionOptions implements Cloneable {
         other.user(user);
         other.password(password);
         other.traceFrames(traceFrames);
+        other.bufferAllocator(bufferAllocator);
+        other.largeDeliveryAllocator(largeDeliveryAllocator);
+        other.largeDeliveryThreshold(largeDeliveryThreshold);
         other.connectedHandler(connectedHandler);
         other.interruptedHandler(interruptedHandler);
         other.reconnectedHandler(reconnectedHandler);
@@ -632,6 +641,80 @@ public class ConnectionOptions implements Cloneable {
         return this.traceFrames;
     }
 
+    /**
+     * Configures the {@link ProtonBufferAllocator} that the connection uses to allocate the buffers
+     * that outgoing messages are encoded into, both by a {@link Sender} and by the send contexts of
+     * a {@link StreamSender}. Buffers are closed once the encoded bytes have been written so a pooling
+     * allocator such as the ProtonPooledBufferAllocator can be used to recycle the encoding buffers
+     * instead of allocating new ones for each send. The allocator is shared by all connections
+     * configured with it and is not closed when the connection is closed.
+     * <p>
+     * Frame buffers written to and read from the network are always allocated by the transport so
+     * that they can be handed to the I/O layer without a copy, and incoming deliveries are held in
+     * those transport buffers unless a {@link #largeDeliveryAllocator(ProtonBufferAllocator)} is set.
+     *
+     * @param bufferAllocator
+     * 		The buffer allocator used when encoding messages that are sent on this connection.
+     *
+     * @return this {@link ConnectionOptions} instance.
+     */
+    public ConnectionOptions bufferAllocator(ProtonBufferAllocator bufferAllocator) {
+        this.bufferAllocator = Objects.requireNonNull(bufferAllocator, "The buffer allocator cannot be null");
+        return this;
+    }
+
+    /**
+     * @return the buffer allocator used when encoding outgoing messages on this connection.
+     */
+    public ProtonBufferAllocator bufferAllocator() {
+        return bufferAllocator;
+    }
+
+    /**
+     * Configures a {@link ProtonBufferAllocator} that holds the payload of incoming deliveries
+     * once their size exceeds the configured large delivery threshold. An allocator that does not
+     * hold its buffers on the heap, such as the ProtonMappedFileBufferAllocator, can be used to
+     * bound the heap used by very large incoming messages. By default no allocator is set and
+     * deliveries are held in the buffers read from the transport.
+     *
+     * @param largeDeliveryAllocator
+     * 		The buffer allocator used to hold large incoming deliveries or null to disable.
+     *
+     * @return this {@link ConnectionOptions} instance.
+     */
+    public ConnectionOptions largeDeliveryAllocator(ProtonBufferAllocator largeDeliveryAllocator) {
+        this.largeDeliveryAllocator = largeDeliveryAllocator;
+        return this;
+    }
+
+    /**
+     * @return the buffer allocator used to hold large incoming deliveries or null if none set.
+     */
+    public ProtonBufferAllocator largeDeliveryAllocator() {
+        return largeDeliveryAllocator;
+    }
+
+    /**
+     * Configures the size in bytes above which the payload of an incoming delivery is moved into
+     * a buffer from the configured large delivery allocator.
+     *
+     * @param largeDeliveryThreshold
+     * 		The payload size in bytes above which a delivery is held in a large delivery buffer.
+     *
+     * @return this {@link ConnectionOptions} instance.
+     */
+    public ConnectionOptions largeDeliveryThreshold(int largeDeliveryThreshold) {
+        this.largeDeliveryThreshold = largeDeliveryThreshold;
+        return this;
+    }
+
+    /**
+     * @return the payload size in bytes above which a delivery is held in a large delivery buffer.
+     */
+    public int largeDeliveryThreshold() {
+        return largeDeliveryThreshold;
+    }
+
     /**
      * @return true if SSL support has been enabled for this connection.
      */
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client;
+
+import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.apache.qpid.protonj2.client.impl.ClientMessageTemplate;
+
+/**
+ * A template for creating many messages that share the same header, message annotations
+ * and properties whose encoded form is produced once when the template is created.  Messages
+ * created from the template copy the encoded bytes of those sections when sent and only the
+ * message-id and creation-time properties are encoded for each message along with the
+ * application properties, body and footer of the message.
+ * <p>
+ * The header, message annotations and all properties other than the message-id and creation-time
+ * of a message created from a template cannot be modified, changes made to the message the template
+ * was created from are not reflected in the template.
+ */
+public interface MessageTemplate {
+
+    /**
+     * Creates a new {@link MessageTemplate} from the header, message annotations and properties of
+     * the given message, any other sections of the given message are not part of the template.
+     *
+     * @param message
+     * 		The message whose header, message annotations and properties are the template values.
+     *
+     * @return a new {@link MessageTemplate} that creates messages with the sections of the given message.
+     *
+     * @throws ClientException if an error occurs while encoding the template sections.
+     */
+    static MessageTemplate create(Message<?> message) throws ClientException {
+        return ClientMessageTemplate.create(message);
+    }
+
+    /**
+     * Creates a new message from this template with no body.
+     *
+     * @param <E> The type of the message body that the message carries.
+     *
+     * @return a new {@link AdvancedMessage} that carries the sections of this template.
+     *
+     * @throws ClientException if an error occurs while creating the message.
+     */
+    <E> AdvancedMessage<E> newMessage() throws ClientException;
+
+    /**
+     * Creates a new message from this template with the given body.
+     *
+     * @param <E> The type of the message body that the message carries.
+     *
+     * @param body
+     * 		The value to assign as the body of the new message.
+     *
+     * @return a new {@link AdvancedMessage} that carries the sections of this template and the given body.
+     *
+     * @throws ClientException if an error occurs while creating the message.
+     */
+    <E> AdvancedMessage<E> newMessage(E body) throws ClientException;
+
+}
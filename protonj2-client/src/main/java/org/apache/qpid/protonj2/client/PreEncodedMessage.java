@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client;
+
+import java.util.Map;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.apache.qpid.protonj2.client.impl.ClientPreEncodedMessage;
+
+/**
+ * A read-only {@link AdvancedMessage} whose encoded form is produced once when the message
+ * is created and then shared by every send of the message.  Each call to {@link #encode(Map, ProtonBufferAllocator)}
+ * returns a read-only view of the shared encoding rather than encoding the message again, which
+ * allows the same message to be sent from many {@link Sender} instances concurrently at the cost
+ * of a reference to the shared bytes per send instead of an encode and copy per send.
+ * <p>
+ * The shared encoding remains in memory until this message is closed and every send that references
+ * it has completed, the message should be closed once no further sends of it will be made.  The
+ * contents of the message cannot be modified and changes made to the message it was created from
+ * are not reflected in the encoded form.
+ *
+ * @param <E> The type of the message body that this message carries
+ */
+public interface PreEncodedMessage<E> extends AdvancedMessage<E>, AutoCloseable {
+
+    /**
+     * Creates a new {@link PreEncodedMessage} from the given message using the default buffer allocator.
+     *
+     * @param <E> The type of the message body that the message carries.
+     *
+     * @param message
+     * 		The message whose encoding is to be shared.
+     *
+     * @return a new {@link PreEncodedMessage} that shares a single encoding of the given message.
+     *
+     * @throws ClientException if an error occurs while encoding the message.
+     */
+    static <E> PreEncodedMessage<E> create(Message<E> message) throws ClientException {
+        return ClientPreEncodedMessage.create(message, ProtonBufferAllocator.defaultAllocator());
+    }
+
+    /**
+     * Creates a new {@link PreEncodedMessage} from the given message whose encoding is written into
+     * a buffer obtained from the given allocator.
+     *
+     * @param <E> The type of the message body that the message carries.
+     *
+     * @param message
+     * 		The message whose encoding is to be shared.
+     * @param allocator
+     * 		The allocator used to create the buffer that holds the shared encoding.
+     *
+     * @return a new {@link PreEncodedMessage} that shares a single encoding of the given message.
+     *
+     * @throws ClientException if an error occurs while encoding the message.
+     */
+    static <E> PreEncodedMessage<E> create(Message<E> message, ProtonBufferAllocator allocator) throws ClientException {
+        return ClientPreEncodedMessage.create(message, allocator);
+    }
+
+    /**
+     * @return the number of bytes in the shared encoding of this message without delivery annotations.
+     */
+    int encodedSize();
+
+    /**
+     * Returns a read-only view of the shared encoding, the returned buffer must be closed by the caller
+     * but the shared memory is only released once this message and all other views are closed.  When
+     * delivery annotations are provided the returned buffer is a composite of views of the shared encoding
+     * and a newly encoded delivery annotations section placed after any message header.
+     *
+     * @param deliveryAnnotations
+     *      A {@link Map} of delivery annotation values that should be included in the transmitted message.
+     * @param allocator
+     * 		An allocator that is used to encode any provided delivery annotations.
+     *
+     * @return a read-only view of the encoded form of this message.
+     *
+     * @throws ClientException if this message is closed or the delivery annotations cannot be encoded.
+     */
+    @Override
+    ProtonBuffer encode(Map<String, Object> deliveryAnnotations, ProtonBufferAllocator allocator) throws ClientException;
+
+    /**
+     * Releases this message's reference to the shared encoding, sends that are still in progress
+     * retain their own references and the memory is released when the last of them completes.
+     * Message sections are decoded from the shared encoding on first access so any section that
+     * was not read before this message is closed can no longer be read from it.
+     */
+    @Override
+    void close();
+
+}
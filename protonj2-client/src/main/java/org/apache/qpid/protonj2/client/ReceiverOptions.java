@@ -26,6 +26,8 @@ public class ReceiverOptions extends LinkOptions<ReceiverOptions> implements Clo
     private long drainTimeout = ConnectionOptions.DEFAULT_DRAIN_TIMEOUT;
     private boolean autoAccept = true;
     private int creditWindow = 10;
+    private boolean lazyMessageDecoding;
+    private boolean lazyMapSections;
 
     /**
      * Create a new ReceiverOptions instance with defaults set for all options.
@@ -128,6 +130,56 @@ public class ReceiverOptions extends LinkOptions<ReceiverOptions> implements Clo
         return this;
     }
 
+    /**
+     * @return the current value of the {@link Receiver} lazy message decoding setting.
+     */
+    public boolean lazyMessageDecoding() {
+        return lazyMessageDecoding;
+    }
+
+    /**
+     * Controls if the {@link Message} returned from a received {@link Delivery} is decoded lazily
+     * (default is <code>false</code>).  When enabled the encoded message is only scanned for the
+     * boundaries of its sections and each section is decoded the first time it is accessed, which
+     * allows an application that only inspects some message headers or properties to avoid the
+     * cost of decoding the remaining sections and the message body.
+     *
+     * @param lazyMessageDecoding
+     *      The value to assign for lazy message decoding.
+     *
+     * @return this {@link ReceiverOptions} instance.
+     */
+    public ReceiverOptions lazyMessageDecoding(boolean lazyMessageDecoding) {
+        this.lazyMessageDecoding = lazyMessageDecoding;
+        return this;
+    }
+
+    /**
+     * @return the current value of the {@link Receiver} lazy map sections setting.
+     */
+    public boolean lazyMapSections() {
+        return lazyMapSections;
+    }
+
+    /**
+     * Controls if the message annotations and application properties of a {@link Message} returned
+     * from a received {@link Delivery} are decoded lazily (default is <code>false</code>).  When enabled
+     * the encoded keys of these maps are indexed when the section is decoded but a key and its value are
+     * only decoded when that entry is accessed, which allows an application that routes or filters on a
+     * few entries to avoid the cost of decoding the remaining entries.  The maps are copied into a new
+     * modifiable map the first time the message annotations or application properties of the message are
+     * modified.
+     *
+     * @param lazyMapSections
+     *      The value to assign for lazy map section decoding.
+     *
+     * @return this {@link ReceiverOptions} instance.
+     */
+    public ReceiverOptions lazyMapSections(boolean lazyMapSections) {
+        this.lazyMapSections = lazyMapSections;
+        return this;
+    }
+
     @Override
     public ReceiverOptions clone() {
         return copyInto(new ReceiverOptions());
@@ -148,6 +200,8 @@ public class ReceiverOptions extends LinkOptions<ReceiverOptions> implements Clo
         other.autoAccept(autoAccept);
         other.creditWindow(creditWindow);
         other.drainTimeout(drainTimeout);
+        other.lazyMessageDecoding(lazyMessageDecoding);
+        other.lazyMapSections(lazyMapSections);
 
         return other;
     }
@@ -17,9 +17,11 @@
 package org.apache.qpid.protonj2.client;
 
 import java.io.OutputStream;
+import java.util.Iterator;
 
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
 import org.apache.qpid.protonj2.client.exceptions.ClientIllegalStateException;
+import org.apache.qpid.protonj2.types.messaging.AmqpSequence;
 import org.apache.qpid.protonj2.types.messaging.Data;
 import org.apache.qpid.protonj2.types.messaging.Section;
 import org.apache.qpid.protonj2.types.transport.Transfer;
@@ -91,6 +93,26 @@ public interface StreamSenderMessage extends AdvancedMessage<OutputStream> {
      */
     boolean aborted();
 
+    /**
+     * Encodes the elements provided by the given {@link Iterator} into the body of this message
+     * as one or more AMQP {@link AmqpSequence} sections.
+     * <p>
+     * Elements are encoded as they are read from the {@link Iterator} and a new {@link AmqpSequence}
+     * section is started each time the encoded size of the current section reaches the configured
+     * write buffer size of the sender, which allows large or generated data sets to be sent without
+     * first collecting them into a {@link java.util.List}.  A {@link java.util.stream.Stream} of
+     * elements can be sent by passing the result of its {@link java.util.stream.Stream#iterator()}
+     * method.  An empty {@link Iterator} results in a single empty {@link AmqpSequence} section.
+     *
+     * @param elements
+     *      The {@link Iterator} that provides the elements of the message body.
+     *
+     * @return this {@link StreamSenderMessage} instance.
+     *
+     * @throws ClientException if an error occurs while writing the sequence sections.
+     */
+    StreamSenderMessage addBodySequence(Iterator<?> elements) throws ClientException;
+
     /**
      * Creates an {@link OutputStream} instance configured with the given options which will
      * write the bytes as the payload of one or more AMQP {@link Data} sections based on the
@@ -874,6 +874,11 @@ public final class ClientConnection implements Connection {
             }
         }
 
+        if (options.largeDeliveryAllocator() != null) {
+            engine.configuration().setLargeDeliveryAllocator(options.largeDeliveryAllocator())
+                                  .setLargeDeliveryThreshold(options.largeDeliveryThreshold());
+        }
+
         engine.outputHandler(this::handleEngineOutput)
               .shutdownHandler(this::handleEngineShutdown)
               .errorHandler(this::handleEngineFailure);
@@ -75,8 +75,14 @@ public final class ClientDelivery extends ClientDeliverable<ClientDelivery, Clie
 
         Message<E> message = (Message<E>) cachedMessage;
         if (message == null && payload.isReadable()) {
-            try (payload) {
-                message = (Message<E>)(cachedMessage = ClientMessageSupport.decodeMessage(payload, this::deliveryAnnotations));
+            final boolean lazyMapSections = receiver.receiverOptions().lazyMapSections();
+
+            if (receiver.receiverOptions().lazyMessageDecoding()) {
+                message = (Message<E>)(cachedMessage = new ClientLazyMessage<>(payload, lazyMapSections));
+            } else {
+                try (payload) {
+                    message = (Message<E>)(cachedMessage = ClientMessageSupport.decodeMessage(payload, this::deliveryAnnotations, lazyMapSections));
+                }
             }
         }
 
@@ -100,7 +106,9 @@ public final class ClientDelivery extends ClientDeliverable<ClientDelivery, Clie
 
     @Override
     public Map<String, Object> annotations() throws ClientException {
-        message();
+        if (message() instanceof ClientLazyMessage) {
+            deliveryAnnotations = ((ClientLazyMessage<?>) cachedMessage).deliveryAnnotations();
+        }
 
         if (deliveryAnnotations != null && deliveryAnnotations.getValue() != null) {
             return StringUtils.toStringKeyedMap(deliveryAnnotations.getValue());
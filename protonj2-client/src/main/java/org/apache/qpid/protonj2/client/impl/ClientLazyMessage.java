@@ -0,0 +1,697 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.impl;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.buffer.impl.ProtonByteArrayBuffer;
+import org.apache.qpid.protonj2.client.AdvancedMessage;
+import org.apache.qpid.protonj2.client.Message;
+import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.apache.qpid.protonj2.engine.util.StringUtils;
+import org.apache.qpid.protonj2.types.messaging.ApplicationProperties;
+import org.apache.qpid.protonj2.types.messaging.DeliveryAnnotations;
+import org.apache.qpid.protonj2.types.messaging.Footer;
+import org.apache.qpid.protonj2.types.messaging.Header;
+import org.apache.qpid.protonj2.types.messaging.MessageAnnotations;
+import org.apache.qpid.protonj2.types.messaging.Properties;
+import org.apache.qpid.protonj2.types.messaging.Section;
+import org.apache.qpid.protonj2.types.messaging.Section.SectionType;
+
+/**
+ * Client {@link AdvancedMessage} implementation used for received deliveries that decodes
+ * its sections on demand.
+ * <p>
+ * On creation the encoded message is only scanned to find the boundaries of each section
+ * and each section is then decoded the first time it is accessed, the body sections remain
+ * undecoded until the body is requested.  A delivery payload that is held in an unpooled heap
+ * buffer is retained as a read-only view without copying, any other payload such as a pooled or
+ * direct transport buffer is copied into a heap buffer and released when the message is created
+ * so that the message does not hold transport memory for as long as it is in use.  That copy is
+ * the size of the whole payload, body included.  A message that is not modified is re-encoded by
+ * copying its original bytes.
+ *
+ * @param <E> the body type that the {@link Message} carries
+ */
+public final class ClientLazyMessage<E> implements AdvancedMessage<E> {
+
+    private static final int HEADER = 0;
+    private static final int DELIVERY_ANNOTATIONS = 1;
+    private static final int MESSAGE_ANNOTATIONS = 2;
+    private static final int PROPERTIES = 3;
+    private static final int APPLICATION_PROPERTIES = 4;
+    private static final int BODY = 5;
+    private static final int FOOTER = 6;
+
+    private static final int SECTION_COUNT = 7;
+
+    private final ClientMessage<E> message = new ClientMessage<>();
+    private final ProtonBuffer payload;
+    private final int[] sectionOffsets = new int[SECTION_COUNT];
+    private final int[] sectionEnds = new int[SECTION_COUNT];
+    private final boolean lazyMapSections;
+
+    private DeliveryAnnotations deliveryAnnotations;
+    private int decodedSections;
+    private boolean modified;
+
+    /**
+     * Creates a new lazily decoded message view of the encoded message in the given buffer
+     * which is scanned for section boundaries without decoding any section contents.  The
+     * message takes ownership of the given buffer which is either retained as a read-only view
+     * or, if it must be released, copied and closed before this constructor returns.
+     *
+     * @param encoded
+     *      The buffer that holds the encoded message sections.
+     *
+     * @throws ClientException if the encoded message sections are malformed.
+     */
+    ClientLazyMessage(ProtonBuffer encoded) throws ClientException {
+        this(encoded, false);
+    }
+
+    /**
+     * Creates a new lazily decoded message view of the encoded message in the given buffer
+     * which is scanned for section boundaries without decoding any section contents.  The
+     * message takes ownership of the given buffer which is either retained as a read-only view
+     * or, if it must be released, copied and closed before this constructor returns.
+     *
+     * @param encoded
+     *      The buffer that holds the encoded message sections.
+     * @param lazyMapSections
+     *      Should ApplicationProperties and MessageAnnotations decode to a lazily decoded map view.
+     *
+     * @throws ClientException if the encoded message sections are malformed.
+     */
+    ClientLazyMessage(ProtonBuffer encoded, boolean lazyMapSections) throws ClientException {
+        this.lazyMapSections = lazyMapSections;
+
+        if (encoded instanceof ProtonByteArrayBuffer && !((ProtonByteArrayBuffer) encoded).isPooled() && ((ProtonByteArrayBuffer) encoded).tracker() == null) {
+            this.payload = encoded.convertToReadOnly();
+        } else {
+            try (encoded) {
+                this.payload = ProtonBufferAllocator.defaultAllocator().allocate(encoded.getReadableBytes()).writeBytes(encoded);
+            }
+        }
+
+        Arrays.fill(sectionOffsets, -1);
+
+        final int readOffset = payload.getReadOffset();
+
+        try {
+            while (payload.isReadable()) {
+                final int sectionStart = payload.getReadOffset();
+                final int section = sectionIndex(ClientMessageSupport.skipSection(payload));
+
+                if (sectionOffsets[section] < 0) {
+                    sectionOffsets[section] = sectionStart;
+                } else if (section != BODY) {
+                    throw new ClientException("Message contains more than one " + SectionType.values()[section] + " section");
+                }
+
+                sectionEnds[section] = payload.getReadOffset();
+            }
+        } finally {
+            payload.setReadOffset(readOffset);
+        }
+    }
+
+    @Override
+    public AdvancedMessage<E> toAdvancedMessage() {
+        return this;
+    }
+
+    //----- Message Header API
+
+    @Override
+    public boolean durable() throws ClientException {
+        return decoded(HEADER).durable();
+    }
+
+    @Override
+    public ClientLazyMessage<E> durable(boolean durable) throws ClientException {
+        modifiable(HEADER).durable(durable);
+        return this;
+    }
+
+    @Override
+    public byte priority() throws ClientException {
+        return decoded(HEADER).priority();
+    }
+
+    @Override
+    public ClientLazyMessage<E> priority(byte priority) throws ClientException {
+        modifiable(HEADER).priority(priority);
+        return this;
+    }
+
+    @Override
+    public long timeToLive() throws ClientException {
+        return decoded(HEADER).timeToLive();
+    }
+
+    @Override
+    public ClientLazyMessage<E> timeToLive(long timeToLive) throws ClientException {
+        modifiable(HEADER).timeToLive(timeToLive);
+        return this;
+    }
+
+    @Override
+    public boolean firstAcquirer() throws ClientException {
+        return decoded(HEADER).firstAcquirer();
+    }
+
+    @Override
+    public ClientLazyMessage<E> firstAcquirer(boolean firstAcquirer) throws ClientException {
+        modifiable(HEADER).firstAcquirer(firstAcquirer);
+        return this;
+    }
+
+    @Override
+    public long deliveryCount() throws ClientException {
+        return decoded(HEADER).deliveryCount();
+    }
+
+    @Override
+    public ClientLazyMessage<E> deliveryCount(long deliveryCount) throws ClientException {
+        modifiable(HEADER).deliveryCount(deliveryCount);
+        return this;
+    }
+
+    //----- Message Properties access
+
+    @Override
+    public Object messageId() throws ClientException {
+        return decoded(PROPERTIES).messageId();
+    }
+
+    @Override
+    public ClientLazyMessage<E> messageId(Object messageId) throws ClientException {
+        modifiable(PROPERTIES).messageId(messageId);
+        return this;
+    }
+
+    @Override
+    public byte[] userId() throws ClientException {
+        return decoded(PROPERTIES).userId();
+    }
+
+    @Override
+    public ClientLazyMessage<E> userId(byte[] userId) throws ClientException {
+        modifiable(PROPERTIES).userId(userId);
+        return this;
+    }
+
+    @Override
+    public String to() throws ClientException {
+        return decoded(PROPERTIES).to();
+    }
+
+    @Override
+    public ClientLazyMessage<E> to(String to) throws ClientException {
+        modifiable(PROPERTIES).to(to);
+        return this;
+    }
+
+    @Override
+    public String subject() throws ClientException {
+        return decoded(PROPERTIES).subject();
+    }
+
+    @Override
+    public ClientLazyMessage<E> subject(String subject) throws ClientException {
+        modifiable(PROPERTIES).subject(subject);
+        return this;
+    }
+
+    @Override
+    public String replyTo() throws ClientException {
+        return decoded(PROPERTIES).replyTo();
+    }
+
+    @Override
+    public ClientLazyMessage<E> replyTo(String replyTo) throws ClientException {
+        modifiable(PROPERTIES).replyTo(replyTo);
+        return this;
+    }
+
+    @Override
+    public Object correlationId() throws ClientException {
+        return decoded(PROPERTIES).correlationId();
+    }
+
+    @Override
+    public ClientLazyMessage<E> correlationId(Object correlationId) throws ClientException {
+        modifiable(PROPERTIES).correlationId(correlationId);
+        return this;
+    }
+
+    @Override
+    public String contentType() throws ClientException {
+        return decoded(PROPERTIES).contentType();
+    }
+
+    @Override
+    public ClientLazyMessage<E> contentType(String contentType) throws ClientException {
+        modifiable(PROPERTIES).contentType(contentType);
+        return this;
+    }
+
+    @Override
+    public String contentEncoding() throws ClientException {
+        return decoded(PROPERTIES).contentEncoding();
+    }
+
+    @Override
+    public ClientLazyMessage<E> contentEncoding(String contentEncoding) throws ClientException {
+        modifiable(PROPERTIES).contentEncoding(contentEncoding);
+        return this;
+    }
+
+    @Override
+    public long absoluteExpiryTime() throws ClientException {
+        return decoded(PROPERTIES).absoluteExpiryTime();
+    }
+
+    @Override
+    public ClientLazyMessage<E> absoluteExpiryTime(long expiryTime) throws ClientException {
+        modifiable(PROPERTIES).absoluteExpiryTime(expiryTime);
+        return this;
+    }
+
+    @Override
+    public long creationTime() throws ClientException {
+        return decoded(PROPERTIES).creationTime();
+    }
+
+    @Override
+    public ClientLazyMessage<E> creationTime(long createTime) throws ClientException {
+        modifiable(PROPERTIES).creationTime(createTime);
+        return this;
+    }
+
+    @Override
+    public String groupId() throws ClientException {
+        return decoded(PROPERTIES).groupId();
+    }
+
+    @Override
+    public ClientLazyMessage<E> groupId(String groupId) throws ClientException {
+        modifiable(PROPERTIES).groupId(groupId);
+        return this;
+    }
+
+    @Override
+    public int groupSequence() throws ClientException {
+        return decoded(PROPERTIES).groupSequence();
+    }
+
+    @Override
+    public ClientLazyMessage<E> groupSequence(int groupSequence) throws ClientException {
+        modifiable(PROPERTIES).groupSequence(groupSequence);
+        return this;
+    }
+
+    @Override
+    public String replyToGroupId() throws ClientException {
+        return decoded(PROPERTIES).replyToGroupId();
+    }
+
+    @Override
+    public ClientLazyMessage<E> replyToGroupId(String replyToGroupId) throws ClientException {
+        modifiable(PROPERTIES).replyToGroupId(replyToGroupId);
+        return this;
+    }
+
+    //----- Message Annotations Access
+
+    @Override
+    public Object annotation(String key) throws ClientException {
+        return decoded(MESSAGE_ANNOTATIONS).annotation(key);
+    }
+
+    @Override
+    public boolean hasAnnotation(String key) throws ClientException {
+        return decoded(MESSAGE_ANNOTATIONS).hasAnnotation(key);
+    }
+
+    @Override
+    public boolean hasAnnotations() throws ClientException {
+        return decoded(MESSAGE_ANNOTATIONS).hasAnnotations();
+    }
+
+    @Override
+    public Object removeAnnotation(String key) throws ClientException {
+        return modifiable(MESSAGE_ANNOTATIONS).removeAnnotation(key);
+    }
+
+    @Override
+    public ClientLazyMessage<E> forEachAnnotation(BiConsumer<String, Object> action) throws ClientException {
+        decoded(MESSAGE_ANNOTATIONS).forEachAnnotation(action);
+        return this;
+    }
+
+    @Override
+    public ClientLazyMessage<E> annotation(String key, Object value) throws ClientException {
+        modifiable(MESSAGE_ANNOTATIONS).annotation(key, value);
+        return this;
+    }
+
+    //----- Application Properties Access
+
+    @Override
+    public Object property(String key) throws ClientException {
+        return decoded(APPLICATION_PROPERTIES).property(key);
+    }
+
+    @Override
+    public boolean hasProperty(String key) throws ClientException {
+        return decoded(APPLICATION_PROPERTIES).hasProperty(key);
+    }
+
+    @Override
+    public boolean hasProperties() throws ClientException {
+        return decoded(APPLICATION_PROPERTIES).hasProperties();
+    }
+
+    @Override
+    public Object removeProperty(String key) throws ClientException {
+        return modifiable(APPLICATION_PROPERTIES).removeProperty(key);
+    }
+
+    @Override
+    public ClientLazyMessage<E> forEachProperty(BiConsumer<String, Object> action) throws ClientException {
+        decoded(APPLICATION_PROPERTIES).forEachProperty(action);
+        return this;
+    }
+
+    @Override
+    public ClientLazyMessage<E> property(String key, Object value) throws ClientException {
+        modifiable(APPLICATION_PROPERTIES).property(key, value);
+        return this;
+    }
+
+    //----- Footer Access
+
+    @Override
+    public Object footer(String key) throws ClientException {
+        return decoded(FOOTER).footer(key);
+    }
+
+    @Override
+    public boolean hasFooter(String key) throws ClientException {
+        return decoded(FOOTER).hasFooter(key);
+    }
+
+    @Override
+    public boolean hasFooters() throws ClientException {
+        return decoded(FOOTER).hasFooters();
+    }
+
+    @Override
+    public Object removeFooter(String key) throws ClientException {
+        return modifiable(FOOTER).removeFooter(key);
+    }
+
+    @Override
+    public ClientLazyMessage<E> forEachFooter(BiConsumer<String, Object> action) throws ClientException {
+        decoded(FOOTER).forEachFooter(action);
+        return this;
+    }
+
+    @Override
+    public ClientLazyMessage<E> footer(String key, Object value) throws ClientException {
+        modifiable(FOOTER).footer(key, value);
+        return this;
+    }
+
+    //----- Message body access
+
+    @Override
+    public E body() throws ClientException {
+        // The body value could be modified by the caller so we can no longer trust the original encoding.
+        return modifiable(BODY).body();
+    }
+
+    @Override
+    public ClientLazyMessage<E> body(E value) throws ClientException {
+        replaced(BODY).body(value);
+        return this;
+    }
+
+    //----- AdvancedMessage API
+
+    @Override
+    public Header header() throws ClientException {
+        return modifiable(HEADER).header();
+    }
+
+    @Override
+    public ClientLazyMessage<E> header(Header header) throws ClientException {
+        replaced(HEADER).header(header);
+        return this;
+    }
+
+    @Override
+    public MessageAnnotations annotations() throws ClientException {
+        return modifiable(MESSAGE_ANNOTATIONS).annotations();
+    }
+
+    @Override
+    public ClientLazyMessage<E> annotations(MessageAnnotations messageAnnotations) throws ClientException {
+        replaced(MESSAGE_ANNOTATIONS).annotations(messageAnnotations);
+        return this;
+    }
+
+    @Override
+    public Properties properties() throws ClientException {
+        return modifiable(PROPERTIES).properties();
+    }
+
+    @Override
+    public ClientLazyMessage<E> properties(Properties properties) throws ClientException {
+        replaced(PROPERTIES).properties(properties);
+        return this;
+    }
+
+    @Override
+    public ApplicationProperties applicationProperties() throws ClientException {
+        return modifiable(APPLICATION_PROPERTIES).applicationProperties();
+    }
+
+    @Override
+    public ClientLazyMessage<E> applicationProperties(ApplicationProperties applicationProperties) throws ClientException {
+        replaced(APPLICATION_PROPERTIES).applicationProperties(applicationProperties);
+        return this;
+    }
+
+    @Override
+    public Footer footer() throws ClientException {
+        return modifiable(FOOTER).footer();
+    }
+
+    @Override
+    public ClientLazyMessage<E> footer(Footer footer) throws ClientException {
+        replaced(FOOTER).footer(footer);
+        return this;
+    }
+
+    @Override
+    public int messageFormat() throws ClientException {
+        return message.messageFormat();
+    }
+
+    @Override
+    public ClientLazyMessage<E> messageFormat(int messageFormat) throws ClientException {
+        message.messageFormat(messageFormat);
+        return this;
+    }
+
+    @Override
+    public ClientLazyMessage<E> addBodySection(Section<?> bodySection) throws ClientException {
+        modifiable(BODY).addBodySection(bodySection);
+        return this;
+    }
+
+    @Override
+    public ClientLazyMessage<E> bodySections(Collection<Section<?>> sections) throws ClientException {
+        replaced(BODY).bodySections(sections);
+        return this;
+    }
+
+    @Override
+    public Collection<Section<?>> bodySections() throws ClientException {
+        return modifiable(BODY).bodySections();
+    }
+
+    @Override
+    public ClientLazyMessage<E> forEachBodySection(Consumer<Section<?>> consumer) throws ClientException {
+        modifiable(BODY).forEachBodySection(consumer);
+        return this;
+    }
+
+    @Override
+    public ClientLazyMessage<E> clearBodySections() throws ClientException {
+        replaced(BODY).clearBodySections();
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer encode(Map<String, Object> deliveryAnnotations, ProtonBufferAllocator allocator) throws ClientException {
+        if (modified || !isCopyableEncoding()) {
+            for (int section = 0; section < SECTION_COUNT; ++section) {
+                decoded(section);
+            }
+
+            return ClientMessageSupport.encodeMessage(message, deliveryAnnotations, allocator);
+        }
+
+        // Unmodified messages are copied from the original bytes with any delivery annotations
+        // replaced by those given which must follow the header if one is present.
+        final int start = payload.getReadOffset();
+        final int headerEnd = sectionOffsets[HEADER] < 0 ? start : sectionEnds[HEADER];
+        final int remainderStart = sectionOffsets[DELIVERY_ANNOTATIONS] < 0 ? headerEnd : sectionEnds[DELIVERY_ANNOTATIONS];
+        final int remainderLength = payload.getWriteOffset() - remainderStart;
+
+        final ProtonBuffer buffer = allocator.outputBuffer(payload.getReadableBytes());
+
+        copyPayloadInto(buffer, start, headerEnd - start);
+        if (deliveryAnnotations != null) {
+            ClientMessageSupport.encodeSection(new DeliveryAnnotations(StringUtils.toSymbolKeyedMap(deliveryAnnotations)), buffer);
+        }
+        copyPayloadInto(buffer, remainderStart, remainderLength);
+
+        return buffer.convertToReadOnly();
+    }
+
+    //----- Internal API
+
+    /**
+     * @return the {@link DeliveryAnnotations} from the encoded message or null if none were present.
+     *
+     * @throws ClientException if an error occurs while decoding the delivery annotations.
+     */
+    DeliveryAnnotations deliveryAnnotations() throws ClientException {
+        decoded(DELIVERY_ANNOTATIONS);
+        return deliveryAnnotations;
+    }
+
+    private boolean isCopyableEncoding() {
+        final int start = payload.getReadOffset();
+        final int headerEnd = sectionOffsets[HEADER] < 0 ? start : sectionEnds[HEADER];
+
+        return (sectionOffsets[HEADER] < 0 || sectionOffsets[HEADER] == start) &&
+               (sectionOffsets[DELIVERY_ANNOTATIONS] < 0 || sectionOffsets[DELIVERY_ANNOTATIONS] == headerEnd);
+    }
+
+    private void copyPayloadInto(ProtonBuffer buffer, int offset, int length) {
+        if (length > 0) {
+            buffer.ensureWritable(length);
+            payload.copyInto(offset, buffer, buffer.getWriteOffset(), length);
+            buffer.advanceWriteOffset(length);
+        }
+    }
+
+    private ClientMessage<E> modifiable(int section) throws ClientException {
+        modified = true;
+        return decoded(section);
+    }
+
+    private ClientMessage<E> replaced(int section) {
+        modified = true;
+        decodedSections |= 1 << section;
+        return message;
+    }
+
+    private ClientMessage<E> decoded(int section) throws ClientException {
+        if ((decodedSections & (1 << section)) == 0 && sectionOffsets[section] >= 0) {
+            final int readOffset = payload.getReadOffset();
+
+            payload.setReadOffset(sectionOffsets[section]);
+            try {
+                while (payload.getReadOffset() < sectionEnds[section]) {
+                    decodeSection(ClientMessageSupport.decodeSection(payload, lazyMapSections));
+                }
+            } finally {
+                payload.setReadOffset(readOffset);
+            }
+        }
+
+        decodedSections |= 1 << section;
+
+        return message;
+    }
+
+    private void decodeSection(Section<?> section) throws ClientException {
+        switch (section.getType()) {
+            case Header:
+                message.header((Header) section);
+                break;
+            case DeliveryAnnotations:
+                deliveryAnnotations = (DeliveryAnnotations) section;
+                break;
+            case MessageAnnotations:
+                message.annotations((MessageAnnotations) section);
+                break;
+            case Properties:
+                message.properties((Properties) section);
+                break;
+            case ApplicationProperties:
+                message.applicationProperties((ApplicationProperties) section);
+                break;
+            case Data:
+            case AmqpSequence:
+            case AmqpValue:
+                message.addBodySection(section);
+                break;
+            case Footer:
+                message.footer((Footer) section);
+                break;
+            default:
+                throw new ClientException("Unknown Message Section forced decode abort.");
+        }
+    }
+
+    private static int sectionIndex(SectionType sectionType) throws ClientException {
+        switch (sectionType) {
+            case Header:
+                return HEADER;
+            case DeliveryAnnotations:
+                return DELIVERY_ANNOTATIONS;
+            case MessageAnnotations:
+                return MESSAGE_ANNOTATIONS;
+            case Properties:
+                return PROPERTIES;
+            case ApplicationProperties:
+                return APPLICATION_PROPERTIES;
+            case Data:
+            case AmqpSequence:
+            case AmqpValue:
+                return BODY;
+            case Footer:
+                return FOOTER;
+            default:
+                throw new ClientException("Unknown Message Section forced decode abort.");
+        }
+    }
+}
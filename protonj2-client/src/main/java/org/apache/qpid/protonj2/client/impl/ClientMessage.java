@@ -32,6 +32,7 @@ import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 import org.apache.qpid.protonj2.client.AdvancedMessage;
 import org.apache.qpid.protonj2.client.Message;
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.apache.qpid.protonj2.codec.decoders.ProtonEncodedMapView;
 import org.apache.qpid.protonj2.types.Binary;
 import org.apache.qpid.protonj2.types.Symbol;
 import org.apache.qpid.protonj2.types.messaging.ApplicationProperties;
@@ -359,7 +360,7 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
     @Override
     public Object removeAnnotation(String key) {
         if (hasAnnotations()) {
-            return messageAnnotations.getValue().remove(Symbol.valueOf(key));
+            return lazyCreateMessageAnnotations().getValue().remove(Symbol.valueOf(key));
         } else {
             return null;
         }
@@ -412,7 +413,7 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
     @Override
     public Object removeProperty(String key) {
         if (hasProperties()) {
-            return applicationProperties.getValue().remove(key);
+            return lazyCreateApplicationProperties().getValue().remove(key);
         } else {
             return null;
         }
@@ -529,6 +530,8 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
     private ApplicationProperties lazyCreateApplicationProperties() {
         if (applicationProperties == null) {
             applicationProperties = new ApplicationProperties(new LinkedHashMap<>());
+        } else if (applicationProperties.getValue() instanceof ProtonEncodedMapView) {
+            applicationProperties = new ApplicationProperties(new LinkedHashMap<>(applicationProperties.getValue()));
         }
 
         return applicationProperties;
@@ -537,6 +540,8 @@ public final class ClientMessage<E> implements AdvancedMessage<E> {
     private MessageAnnotations lazyCreateMessageAnnotations() {
         if (messageAnnotations == null) {
             messageAnnotations = new MessageAnnotations(new LinkedHashMap<>());
+        } else if (messageAnnotations.getValue() instanceof ProtonEncodedMapView) {
+            messageAnnotations = new MessageAnnotations(new LinkedHashMap<>(messageAnnotations.getValue()));
         }
 
         return messageAnnotations;
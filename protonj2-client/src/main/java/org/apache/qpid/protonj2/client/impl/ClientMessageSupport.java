@@ -16,6 +16,8 @@
  */
 package org.apache.qpid.protonj2.client.impl;
 
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,7 +33,11 @@ import org.apache.qpid.protonj2.codec.Decoder;
 import org.apache.qpid.protonj2.codec.DecoderState;
 import org.apache.qpid.protonj2.codec.Encoder;
 import org.apache.qpid.protonj2.codec.EncoderState;
+import org.apache.qpid.protonj2.codec.EncodingCodes;
 import org.apache.qpid.protonj2.codec.SectionEncoder;
+import org.apache.qpid.protonj2.codec.TypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.ProtonDecoderState;
+import org.apache.qpid.protonj2.codec.encoders.AbstractDescribedListTypeEncoder;
 import org.apache.qpid.protonj2.engine.util.StringUtils;
 import org.apache.qpid.protonj2.types.Binary;
 import org.apache.qpid.protonj2.types.Symbol;
@@ -45,6 +51,7 @@ import org.apache.qpid.protonj2.types.messaging.Header;
 import org.apache.qpid.protonj2.types.messaging.MessageAnnotations;
 import org.apache.qpid.protonj2.types.messaging.Properties;
 import org.apache.qpid.protonj2.types.messaging.Section;
+import org.apache.qpid.protonj2.types.messaging.Section.SectionType;
 
 /**
  * Support methods dealing with Message types and encode or decode operations.
@@ -56,12 +63,32 @@ public abstract class ClientMessageSupport {
 
     private static final SectionEncoder SECTION_ENCODER = new SectionEncoder(DEFAULT_ENCODER);
 
+    @SuppressWarnings("unchecked")
+    private static final AbstractDescribedListTypeEncoder<Properties> PROPERTIES_ENCODER =
+        (AbstractDescribedListTypeEncoder<Properties>) DEFAULT_ENCODER.getTypeEncoder(Properties.class);
+
     private static final int DEFAULT_BUFFER_ALLOCATION = 256;
 
+    private static final Map<Class<?>, SectionType> SECTION_TYPES = new HashMap<>();
+
+    static {
+        SECTION_TYPES.put(Header.class, SectionType.Header);
+        SECTION_TYPES.put(DeliveryAnnotations.class, SectionType.DeliveryAnnotations);
+        SECTION_TYPES.put(MessageAnnotations.class, SectionType.MessageAnnotations);
+        SECTION_TYPES.put(Properties.class, SectionType.Properties);
+        SECTION_TYPES.put(ApplicationProperties.class, SectionType.ApplicationProperties);
+        SECTION_TYPES.put(Data.class, SectionType.Data);
+        SECTION_TYPES.put(AmqpSequence.class, SectionType.AmqpSequence);
+        SECTION_TYPES.put(AmqpValue.class, SectionType.AmqpValue);
+        SECTION_TYPES.put(Footer.class, SectionType.Footer);
+    }
+
     private static final ThreadLocal<EncoderState> THREAD_LOCAL_ENCODER_STATE =
         ThreadLocal.withInitial(() -> DEFAULT_ENCODER.newEncoderState());
     private static final ThreadLocal<DecoderState> THREAD_LOCAL_DECODER_STATE =
             ThreadLocal.withInitial(() -> DEFAULT_DECODER.newDecoderState());
+    private static final ThreadLocal<DecoderState> THREAD_LOCAL_LAZY_MAP_DECODER_STATE =
+            ThreadLocal.withInitial(() -> ((ProtonDecoderState) DEFAULT_DECODER.newDecoderState()).setLazyMapSections(true));
 
     //----- Message Conversion
 
@@ -113,19 +140,64 @@ public abstract class ClientMessageSupport {
     }
 
     public static ProtonBuffer encodeMessage(Encoder encoder, EncoderState encoderState, ProtonBufferAllocator allocator, AdvancedMessage<?> message, Map<String, Object> deliveryAnnotations) throws ClientException {
-        ProtonBuffer buffer = allocator.outputBuffer(DEFAULT_BUFFER_ALLOCATION);
-
         Header header = message.header();
+        DeliveryAnnotations annotations = null;
         MessageAnnotations messageAnnotations = message.annotations();
         Properties properties = message.properties();
         ApplicationProperties applicationProperties = message.applicationProperties();
         Footer footer = message.footer();
 
+        if (deliveryAnnotations != null) {
+            annotations = new DeliveryAnnotations(StringUtils.toSymbolKeyedMap(deliveryAnnotations));
+        }
+
+        // Data body sections can be sized without walking their contents, when they are large enough
+        // that growing the buffer would copy them repeatedly the remaining sections are also sized so
+        // that the buffer can be allocated once, otherwise the message is written in a single pass.
+        final int[] encodedSize = new int[] { 0 };
+
+        message.forEachBodySection(section -> {
+            if (section instanceof Data) {
+                encodedSize[0] += SECTION_ENCODER.getEncodedSize(section);
+            }
+        });
+
+        if (encodedSize[0] > DEFAULT_BUFFER_ALLOCATION) {
+            message.forEachBodySection(section -> {
+                if (!(section instanceof Data)) {
+                    encodedSize[0] += SECTION_ENCODER.getEncodedSize(section);
+                }
+            });
+
+            if (header != null) {
+                encodedSize[0] += SECTION_ENCODER.getEncodedSize(header);
+            }
+            if (annotations != null) {
+                encodedSize[0] += SECTION_ENCODER.getEncodedSize(annotations);
+            }
+            if (messageAnnotations != null) {
+                encodedSize[0] += SECTION_ENCODER.getEncodedSize(messageAnnotations);
+            }
+            if (properties != null) {
+                encodedSize[0] += SECTION_ENCODER.getEncodedSize(properties);
+            }
+            if (applicationProperties != null) {
+                encodedSize[0] += SECTION_ENCODER.getEncodedSize(applicationProperties);
+            }
+            if (footer != null) {
+                encodedSize[0] += SECTION_ENCODER.getEncodedSize(footer);
+            }
+        } else {
+            encodedSize[0] = DEFAULT_BUFFER_ALLOCATION;
+        }
+
+        final ProtonBuffer buffer = allocator.outputBuffer(encodedSize[0]);
+
         if (header != null) {
             SECTION_ENCODER.write(buffer, header);
         }
-        if (deliveryAnnotations != null) {
-            SECTION_ENCODER.write(buffer, new DeliveryAnnotations(StringUtils.toSymbolKeyedMap(deliveryAnnotations)));
+        if (annotations != null) {
+            SECTION_ENCODER.write(buffer, annotations);
         }
         if (messageAnnotations != null) {
             SECTION_ENCODER.write(buffer, messageAnnotations);
@@ -146,12 +218,132 @@ public abstract class ClientMessageSupport {
         return buffer.convertToReadOnly();
     }
 
+    //----- Message Template Encoding
+
+    public static ProtonBuffer encodeMessage(ClientTemplatedMessage<?> message, Map<String, Object> deliveryAnnotations, ProtonBufferAllocator allocator) throws ClientException {
+        final ClientMessageTemplate template = message.template();
+        final ProtonBuffer buffer = allocator.outputBuffer(DEFAULT_BUFFER_ALLOCATION);
+        final EncoderState encoderState = THREAD_LOCAL_ENCODER_STATE.get();
+
+        ApplicationProperties applicationProperties = message.applicationProperties();
+        Footer footer = message.footer();
+
+        if (template.encodedHeader() != null) {
+            buffer.writeBytes(template.encodedHeader());
+        }
+        if (deliveryAnnotations != null) {
+            SECTION_ENCODER.write(buffer, new DeliveryAnnotations(StringUtils.toSymbolKeyedMap(deliveryAnnotations)));
+        }
+        if (template.encodedAnnotations() != null) {
+            buffer.writeBytes(template.encodedAnnotations());
+        }
+
+        // The properties list is written around the cached encodings of the template elements
+        // with only the message-id and creation-time elements encoded for this message.
+        // The list encoding is chosen the same way the properties encoder would for the full
+        // list so that the result matches a standard encoding of the message.
+        buffer.writeBytes(template.encodedPropertiesPrefix());
+
+        try {
+            final Properties variableProperties = message.variableProperties();
+            final int listSize = Byte.BYTES +
+                template.encodedPropertiesMiddle().length + template.encodedPropertiesSuffix().length +
+                PROPERTIES_ENCODER.getElementEncodedSize(variableProperties, ClientMessageTemplate.MESSAGE_ID_INDEX, DEFAULT_ENCODER, encoderState) +
+                PROPERTIES_ENCODER.getElementEncodedSize(variableProperties, ClientMessageTemplate.CREATION_TIME_INDEX, DEFAULT_ENCODER, encoderState);
+
+            if (listSize <= 255) {
+                buffer.writeByte(EncodingCodes.LIST8);
+                buffer.writeByte((byte) listSize);
+                buffer.writeByte((byte) template.propertiesCount());
+            } else {
+                buffer.writeByte(EncodingCodes.LIST32);
+                buffer.writeInt(listSize + Integer.BYTES - Byte.BYTES);
+                buffer.writeInt(template.propertiesCount());
+            }
+
+            PROPERTIES_ENCODER.writeElement(variableProperties, ClientMessageTemplate.MESSAGE_ID_INDEX, buffer, DEFAULT_ENCODER, encoderState);
+            buffer.writeBytes(template.encodedPropertiesMiddle());
+            PROPERTIES_ENCODER.writeElement(variableProperties, ClientMessageTemplate.CREATION_TIME_INDEX, buffer, DEFAULT_ENCODER, encoderState);
+            buffer.writeBytes(template.encodedPropertiesSuffix());
+        } finally {
+            encoderState.reset();
+        }
+
+        if (applicationProperties != null) {
+            SECTION_ENCODER.write(buffer, applicationProperties);
+        }
+
+        message.forEachBodySection(section -> SECTION_ENCODER.write(buffer, section));
+
+        if (footer != null) {
+            SECTION_ENCODER.write(buffer, footer);
+        }
+
+        return buffer.convertToReadOnly();
+    }
+
+    static ProtonBuffer encodeSequence(Iterator<?> elements, ProtonBuffer buffer) {
+        SECTION_ENCODER.writeSequence(buffer, elements);
+        return buffer;
+    }
+
+    static byte[] encodeSectionBytes(Section<?> section) {
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate(DEFAULT_BUFFER_ALLOCATION);
+
+        SECTION_ENCODER.write(buffer, section);
+
+        return toByteArray(buffer);
+    }
+
+    static byte[] encodePropertiesPrefixBytes() {
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate(DEFAULT_BUFFER_ALLOCATION);
+        final EncoderState encoderState = THREAD_LOCAL_ENCODER_STATE.get();
+
+        // Only the descriptor is cached as the list constructor, size and count are written for
+        // each message once the size of the variable elements is known.
+        try {
+            buffer.writeByte(EncodingCodes.DESCRIBED_TYPE_INDICATOR);
+            DEFAULT_ENCODER.writeUnsignedLong(buffer, encoderState, Properties.DESCRIPTOR_CODE);
+        } finally {
+            encoderState.reset();
+        }
+
+        return toByteArray(buffer);
+    }
+
+    static byte[] encodePropertiesElementBytes(Properties properties, int fromIndex, int toIndex) {
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate(DEFAULT_BUFFER_ALLOCATION);
+        final EncoderState encoderState = THREAD_LOCAL_ENCODER_STATE.get();
+
+        try {
+            for (int i = fromIndex; i < toIndex; ++i) {
+                PROPERTIES_ENCODER.writeElement(properties, i, buffer, DEFAULT_ENCODER, encoderState);
+            }
+        } finally {
+            encoderState.reset();
+        }
+
+        return toByteArray(buffer);
+    }
+
+    private static byte[] toByteArray(ProtonBuffer buffer) {
+        try (buffer) {
+            final byte[] bytes = new byte[buffer.getReadableBytes()];
+            buffer.readBytes(bytes, 0, bytes.length);
+            return bytes;
+        }
+    }
+
     //----- Message Decoding
 
     public static Message<?> decodeMessage(ProtonBuffer buffer, Consumer<DeliveryAnnotations> daConsumer) throws ClientException {
         return decodeMessage(DEFAULT_DECODER, THREAD_LOCAL_DECODER_STATE.get(), buffer, daConsumer);
     }
 
+    public static Message<?> decodeMessage(ProtonBuffer buffer, Consumer<DeliveryAnnotations> daConsumer, boolean lazyMapSections) throws ClientException {
+        return decodeMessage(DEFAULT_DECODER, decoderState(lazyMapSections), buffer, daConsumer);
+    }
+
     public static Message<?> decodeMessage(Decoder decoder, ProtonBuffer buffer, Consumer<DeliveryAnnotations> daConsumer) throws ClientException {
         return decodeMessage(decoder, decoder.newDecoderState(), buffer, daConsumer);
     }
@@ -204,6 +396,85 @@ public abstract class ClientMessageSupport {
         return message;
     }
 
+    /**
+     * Decodes the single message {@link Section} that begins at the read offset of the given buffer
+     * and leaves the read offset at the end of that section.
+     *
+     * @param buffer
+     *      The buffer containing the encoded section.
+     *
+     * @return the decoded message {@link Section}.
+     *
+     * @throws ClientException if the encoding is not a valid message section.
+     */
+    public static Section<?> decodeSection(ProtonBuffer buffer) throws ClientException {
+        return decodeSection(buffer, false);
+    }
+
+    /**
+     * Decodes the single message {@link Section} that begins at the read offset of the given buffer
+     * and leaves the read offset at the end of that section.
+     *
+     * @param buffer
+     *      The buffer containing the encoded section.
+     * @param lazyMapSections
+     *      Should ApplicationProperties and MessageAnnotations sections carry a lazily decoded map view.
+     *
+     * @return the decoded message {@link Section}.
+     *
+     * @throws ClientException if the encoding is not a valid message section.
+     */
+    public static Section<?> decodeSection(ProtonBuffer buffer, boolean lazyMapSections) throws ClientException {
+        final Object section;
+
+        try {
+            section = DEFAULT_DECODER.readObject(buffer, decoderState(lazyMapSections));
+        } catch (Exception e) {
+            throw ClientExceptionSupport.createNonFatalOrPassthrough(e);
+        }
+
+        if (section instanceof Section) {
+            return (Section<?>) section;
+        } else {
+            throw new ClientException("Unknown Message Section forced decode abort.");
+        }
+    }
+
+    /**
+     * Skips over the single message {@link Section} that begins at the read offset of the given buffer
+     * without decoding its contents and returns the type of the section that was skipped.
+     *
+     * @param buffer
+     *      The buffer containing the encoded section.
+     *
+     * @return the {@link SectionType} of the section that was skipped.
+     *
+     * @throws ClientException if the encoding is not a valid message section.
+     */
+    public static SectionType skipSection(ProtonBuffer buffer) throws ClientException {
+        final DecoderState decoderState = THREAD_LOCAL_DECODER_STATE.get();
+        final SectionType sectionType;
+
+        try {
+            final TypeDecoder<?> typeDecoder = DEFAULT_DECODER.readNextTypeDecoder(buffer, decoderState);
+
+            sectionType = SECTION_TYPES.get(typeDecoder.getTypeClass());
+            if (sectionType == null) {
+                throw new ClientException("Unknown Message Section forced decode abort.");
+            }
+
+            typeDecoder.skipValue(buffer, decoderState);
+        } catch (Exception e) {
+            throw ClientExceptionSupport.createNonFatalOrPassthrough(e);
+        }
+
+        return sectionType;
+    }
+
+    private static DecoderState decoderState(boolean lazyMapSections) {
+        return lazyMapSections ? THREAD_LOCAL_LAZY_MAP_DECODER_STATE.get() : THREAD_LOCAL_DECODER_STATE.get();
+    }
+
     @SuppressWarnings({ "rawtypes", "unchecked" })
     public static <E> Section<E> createSectionFromValue(E body) {
         if (body == null) {
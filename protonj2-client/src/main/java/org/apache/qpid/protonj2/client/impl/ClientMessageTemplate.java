@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.impl;
+
+import java.util.Objects;
+
+import org.apache.qpid.protonj2.client.AdvancedMessage;
+import org.apache.qpid.protonj2.client.Message;
+import org.apache.qpid.protonj2.client.MessageTemplate;
+import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.apache.qpid.protonj2.types.messaging.Header;
+import org.apache.qpid.protonj2.types.messaging.MessageAnnotations;
+import org.apache.qpid.protonj2.types.messaging.Properties;
+
+/**
+ * Client implementation of a {@link MessageTemplate} which holds the encoded bytes of the
+ * header and message annotations of the template message along with the encoded properties
+ * elements that precede and follow the message-id and creation-time elements which are the
+ * only properties encoded for each message.
+ */
+public final class ClientMessageTemplate implements MessageTemplate {
+
+    static final int MESSAGE_ID_INDEX = 0;
+    static final int CREATION_TIME_INDEX = 9;
+
+    private final Header header;
+    private final MessageAnnotations annotations;
+    private final Properties properties;
+    private final int messageFormat;
+
+    private final byte[] encodedHeader;
+    private final byte[] encodedAnnotations;
+    private final byte[] encodedPropertiesPrefix;
+    private final byte[] encodedPropertiesMiddle;
+    private final byte[] encodedPropertiesSuffix;
+    private final int propertiesCount;
+
+    private ClientMessageTemplate(AdvancedMessage<?> message) throws ClientException {
+        this.header = message.header() != null ? message.header().copy() : null;
+        this.annotations = message.annotations() != null ? message.annotations().copy() : null;
+        this.properties = message.properties() != null ? message.properties().copy() : new Properties();
+        this.messageFormat = message.messageFormat();
+
+        this.encodedHeader = header != null ? ClientMessageSupport.encodeSectionBytes(header) : null;
+        this.encodedAnnotations = annotations != null ? ClientMessageSupport.encodeSectionBytes(annotations) : null;
+
+        // Every message carries properties up to at least the creation-time element
+        this.propertiesCount = Math.max(properties.getElementCount(), CREATION_TIME_INDEX + 1);
+        this.encodedPropertiesPrefix = ClientMessageSupport.encodePropertiesPrefixBytes();
+        this.encodedPropertiesMiddle = ClientMessageSupport.encodePropertiesElementBytes(properties, MESSAGE_ID_INDEX + 1, CREATION_TIME_INDEX);
+        this.encodedPropertiesSuffix = ClientMessageSupport.encodePropertiesElementBytes(properties, CREATION_TIME_INDEX + 1, propertiesCount);
+    }
+
+    /**
+     * Creates a {@link ClientMessageTemplate} from the header, message annotations and properties
+     * of the given message.
+     *
+     * @param message
+     * 		The message whose header, message annotations and properties are the template values.
+     *
+     * @return a new {@link ClientMessageTemplate} that creates messages with the sections of the given message.
+     *
+     * @throws ClientException if an error occurs while encoding the template sections.
+     */
+    public static ClientMessageTemplate create(Message<?> message) throws ClientException {
+        Objects.requireNonNull(message, "The template message cannot be null");
+
+        try {
+            return new ClientMessageTemplate(ClientMessageSupport.convertMessage(message));
+        } catch (RuntimeException ex) {
+            throw ClientExceptionSupport.createNonFatalOrPassthrough(ex);
+        }
+    }
+
+    @Override
+    public <E> ClientTemplatedMessage<E> newMessage() throws ClientException {
+        return new ClientTemplatedMessage<>(this);
+    }
+
+    @Override
+    public <E> ClientTemplatedMessage<E> newMessage(E body) throws ClientException {
+        return new ClientTemplatedMessage<E>(this).body(body);
+    }
+
+    //----- Internal API for the templated messages and message encoding
+
+    Header header() {
+        return header;
+    }
+
+    MessageAnnotations annotations() {
+        return annotations;
+    }
+
+    Properties properties() {
+        return properties;
+    }
+
+    int messageFormat() {
+        return messageFormat;
+    }
+
+    byte[] encodedHeader() {
+        return encodedHeader;
+    }
+
+    byte[] encodedAnnotations() {
+        return encodedAnnotations;
+    }
+
+    byte[] encodedPropertiesPrefix() {
+        return encodedPropertiesPrefix;
+    }
+
+    byte[] encodedPropertiesMiddle() {
+        return encodedPropertiesMiddle;
+    }
+
+    byte[] encodedPropertiesSuffix() {
+        return encodedPropertiesSuffix;
+    }
+
+    int propertiesCount() {
+        return propertiesCount;
+    }
+}
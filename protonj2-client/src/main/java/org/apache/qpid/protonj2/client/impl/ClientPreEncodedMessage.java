@@ -0,0 +1,623 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.impl;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.client.AdvancedMessage;
+import org.apache.qpid.protonj2.client.Message;
+import org.apache.qpid.protonj2.client.PreEncodedMessage;
+import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.apache.qpid.protonj2.client.exceptions.ClientIllegalStateException;
+import org.apache.qpid.protonj2.client.exceptions.ClientUnsupportedOperationException;
+import org.apache.qpid.protonj2.engine.util.StringUtils;
+import org.apache.qpid.protonj2.types.messaging.ApplicationProperties;
+import org.apache.qpid.protonj2.types.messaging.DeliveryAnnotations;
+import org.apache.qpid.protonj2.types.messaging.Footer;
+import org.apache.qpid.protonj2.types.messaging.Header;
+import org.apache.qpid.protonj2.types.messaging.MessageAnnotations;
+import org.apache.qpid.protonj2.types.messaging.Properties;
+import org.apache.qpid.protonj2.types.messaging.Section;
+import org.apache.qpid.protonj2.types.messaging.Section.SectionType;
+
+/**
+ * Client implementation of a {@link PreEncodedMessage} which holds a single read-only encoding
+ * of a message and serves out read-only views of it to each send.  Message values are read from
+ * the shared encoding rather than the message that was encoded, so they always reflect the bytes
+ * that are sent and are unaffected by later changes to that message.  The encoding is scanned for
+ * section boundaries when the message is created and each section is decoded from a read-only view
+ * of the shared encoding the first time it is accessed, sections that were not accessed before the
+ * message is closed can no longer be read.  Message sections returned from this message are copies
+ * and cannot be used to modify it.
+ *
+ * @param <E> The type of the message body that this message carries
+ */
+public final class ClientPreEncodedMessage<E> implements PreEncodedMessage<E> {
+
+    private static final int HEADER = 0;
+    private static final int DELIVERY_ANNOTATIONS = 1;
+    private static final int MESSAGE_ANNOTATIONS = 2;
+    private static final int PROPERTIES = 3;
+    private static final int APPLICATION_PROPERTIES = 4;
+    private static final int BODY = 5;
+    private static final int FOOTER = 6;
+
+    private static final int SECTION_COUNT = 7;
+
+    private final ClientMessage<E> message = new ClientMessage<>();
+    private final int messageFormat;
+    private final int headerSize;
+    private final int encodedSize;
+    private final int[] sectionOffsets;
+    private final int[] sectionEnds;
+
+    private ProtonBuffer encoded;
+    private int decodedSections;
+
+    private ClientPreEncodedMessage(int messageFormat, ProtonBuffer encoded, int[] sectionOffsets, int[] sectionEnds) {
+        this.messageFormat = messageFormat;
+        this.encoded = encoded;
+        this.encodedSize = encoded.getReadableBytes();
+        this.sectionOffsets = sectionOffsets;
+        this.sectionEnds = sectionEnds;
+        this.headerSize = sectionOffsets[HEADER] == 0 ? sectionEnds[HEADER] : 0;
+    }
+
+    /**
+     * Encodes the given message into a read-only buffer from the given allocator and returns a
+     * {@link ClientPreEncodedMessage} that shares that encoding with every send.
+     *
+     * @param <E> The type of the message body that the message carries.
+     *
+     * @param message
+     * 		The message whose encoding is to be shared.
+     * @param allocator
+     * 		The allocator used to create the buffer that holds the shared encoding.
+     *
+     * @return a new {@link ClientPreEncodedMessage} that shares a single encoding of the given message.
+     *
+     * @throws ClientException if an error occurs while encoding the message.
+     */
+    public static <E> ClientPreEncodedMessage<E> create(Message<E> message, ProtonBufferAllocator allocator) throws ClientException {
+        Objects.requireNonNull(message, "The message to encode cannot be null");
+        Objects.requireNonNull(allocator, "The buffer allocator cannot be null");
+
+        final AdvancedMessage<E> advanced = ClientMessageSupport.convertMessage(message);
+        final ProtonBuffer encoded = ClientMessageSupport.encodeMessage(advanced, null, allocator);
+
+        try (ProtonBuffer view = encoded.copy(true)) {
+            final int[] sectionOffsets = new int[SECTION_COUNT];
+            final int[] sectionEnds = new int[SECTION_COUNT];
+
+            Arrays.fill(sectionOffsets, -1);
+
+            // Only the section boundaries are recorded here, values are decoded on first access.
+            while (view.isReadable()) {
+                final int sectionStart = view.getReadOffset();
+                final int section = sectionIndex(ClientMessageSupport.skipSection(view));
+
+                if (sectionOffsets[section] < 0) {
+                    sectionOffsets[section] = sectionStart;
+                } else if (section != BODY) {
+                    throw new ClientException("Message contains more than one " + SectionType.values()[section] + " section");
+                }
+
+                sectionEnds[section] = view.getReadOffset();
+            }
+
+            return new ClientPreEncodedMessage<>(advanced.messageFormat(), encoded, sectionOffsets, sectionEnds);
+        } catch (ClientException | RuntimeException ex) {
+            encoded.close();
+            throw ex;
+        }
+    }
+
+    @Override
+    public int encodedSize() {
+        return encodedSize;
+    }
+
+    @Override
+    public ProtonBuffer encode(Map<String, Object> deliveryAnnotations, ProtonBufferAllocator allocator) throws ClientException {
+        if (deliveryAnnotations == null) {
+            return sharedView(0, -1);
+        }
+
+        final ProtonBuffer annotations = ClientMessageSupport.encodeSection(
+            new DeliveryAnnotations(StringUtils.toSymbolKeyedMap(deliveryAnnotations)), allocator.allocate());
+
+        try {
+            final ProtonBuffer[] views = headerSize > 0 ?
+                new ProtonBuffer[] { sharedView(0, headerSize), annotations.convertToReadOnly(), sharedView(headerSize, -1) } :
+                new ProtonBuffer[] { annotations.convertToReadOnly(), sharedView(0, -1) };
+
+            return allocator.composite(views).convertToReadOnly();
+        } catch (ClientException | RuntimeException ex) {
+            annotations.close();
+            throw ex;
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (encoded != null) {
+            encoded.close();
+            encoded = null;
+        }
+    }
+
+    private synchronized ProtonBuffer sharedView(int offset, int length) throws ClientException {
+        if (encoded == null) {
+            throw new ClientIllegalStateException("The pre-encoded message has been closed");
+        }
+
+        return encoded.copy(offset, length < 0 ? encodedSize - offset : length, true);
+    }
+
+    private synchronized ClientMessage<E> decoded(int section) throws ClientException {
+        if ((decodedSections & (1 << section)) == 0 && sectionOffsets[section] >= 0) {
+            final int offset = sectionOffsets[section];
+
+            try (ProtonBuffer view = sharedView(offset, sectionEnds[section] - offset)) {
+                while (view.isReadable()) {
+                    decodeSection(ClientMessageSupport.decodeSection(view));
+                }
+            }
+        }
+
+        decodedSections |= 1 << section;
+
+        return message;
+    }
+
+    private void decodeSection(Section<?> section) throws ClientException {
+        switch (section.getType()) {
+            case Header:
+                message.header((Header) section);
+                break;
+            case DeliveryAnnotations:
+                break;
+            case MessageAnnotations:
+                message.annotations((MessageAnnotations) section);
+                break;
+            case Properties:
+                message.properties((Properties) section);
+                break;
+            case ApplicationProperties:
+                message.applicationProperties((ApplicationProperties) section);
+                break;
+            case Data:
+            case AmqpSequence:
+            case AmqpValue:
+                message.addBodySection(section);
+                break;
+            case Footer:
+                message.footer((Footer) section);
+                break;
+            default:
+                throw new ClientException("Unknown Message Section forced decode abort.");
+        }
+    }
+
+    private static int sectionIndex(SectionType sectionType) throws ClientException {
+        switch (sectionType) {
+            case Header:
+                return HEADER;
+            case DeliveryAnnotations:
+                return DELIVERY_ANNOTATIONS;
+            case MessageAnnotations:
+                return MESSAGE_ANNOTATIONS;
+            case Properties:
+                return PROPERTIES;
+            case ApplicationProperties:
+                return APPLICATION_PROPERTIES;
+            case Data:
+            case AmqpSequence:
+            case AmqpValue:
+                return BODY;
+            case Footer:
+                return FOOTER;
+            default:
+                throw new ClientException("Unknown Message Section forced decode abort.");
+        }
+    }
+
+    //----- Message read API delegates to sections decoded on demand from the shared encoding
+
+    @Override
+    public int messageFormat() throws ClientException {
+        return messageFormat;
+    }
+
+    @Override
+    public boolean durable() throws ClientException {
+        return decoded(HEADER).durable();
+    }
+
+    @Override
+    public byte priority() throws ClientException {
+        return decoded(HEADER).priority();
+    }
+
+    @Override
+    public long timeToLive() throws ClientException {
+        return decoded(HEADER).timeToLive();
+    }
+
+    @Override
+    public boolean firstAcquirer() throws ClientException {
+        return decoded(HEADER).firstAcquirer();
+    }
+
+    @Override
+    public long deliveryCount() throws ClientException {
+        return decoded(HEADER).deliveryCount();
+    }
+
+    @Override
+    public Header header() throws ClientException {
+        final Header header = decoded(HEADER).header();
+        return header != null ? header.copy() : null;
+    }
+
+    @Override
+    public Object messageId() throws ClientException {
+        return decoded(PROPERTIES).messageId();
+    }
+
+    @Override
+    public byte[] userId() throws ClientException {
+        return decoded(PROPERTIES).userId();
+    }
+
+    @Override
+    public String to() throws ClientException {
+        return decoded(PROPERTIES).to();
+    }
+
+    @Override
+    public String subject() throws ClientException {
+        return decoded(PROPERTIES).subject();
+    }
+
+    @Override
+    public String replyTo() throws ClientException {
+        return decoded(PROPERTIES).replyTo();
+    }
+
+    @Override
+    public Object correlationId() throws ClientException {
+        return decoded(PROPERTIES).correlationId();
+    }
+
+    @Override
+    public String contentType() throws ClientException {
+        return decoded(PROPERTIES).contentType();
+    }
+
+    @Override
+    public String contentEncoding() throws ClientException {
+        return decoded(PROPERTIES).contentEncoding();
+    }
+
+    @Override
+    public long absoluteExpiryTime() throws ClientException {
+        return decoded(PROPERTIES).absoluteExpiryTime();
+    }
+
+    @Override
+    public long creationTime() throws ClientException {
+        return decoded(PROPERTIES).creationTime();
+    }
+
+    @Override
+    public String groupId() throws ClientException {
+        return decoded(PROPERTIES).groupId();
+    }
+
+    @Override
+    public int groupSequence() throws ClientException {
+        return decoded(PROPERTIES).groupSequence();
+    }
+
+    @Override
+    public String replyToGroupId() throws ClientException {
+        return decoded(PROPERTIES).replyToGroupId();
+    }
+
+    @Override
+    public Properties properties() throws ClientException {
+        final Properties properties = decoded(PROPERTIES).properties();
+        return properties != null ? properties.copy() : null;
+    }
+
+    @Override
+    public Object annotation(String key) throws ClientException {
+        return decoded(MESSAGE_ANNOTATIONS).annotation(key);
+    }
+
+    @Override
+    public boolean hasAnnotation(String key) throws ClientException {
+        return decoded(MESSAGE_ANNOTATIONS).hasAnnotation(key);
+    }
+
+    @Override
+    public boolean hasAnnotations() throws ClientException {
+        return decoded(MESSAGE_ANNOTATIONS).hasAnnotations();
+    }
+
+    @Override
+    public PreEncodedMessage<E> forEachAnnotation(BiConsumer<String, Object> action) throws ClientException {
+        decoded(MESSAGE_ANNOTATIONS).forEachAnnotation(action);
+        return this;
+    }
+
+    @Override
+    public MessageAnnotations annotations() throws ClientException {
+        final MessageAnnotations annotations = decoded(MESSAGE_ANNOTATIONS).annotations();
+        return annotations != null ? annotations.copy() : null;
+    }
+
+    @Override
+    public Object property(String key) throws ClientException {
+        return decoded(APPLICATION_PROPERTIES).property(key);
+    }
+
+    @Override
+    public boolean hasProperty(String key) throws ClientException {
+        return decoded(APPLICATION_PROPERTIES).hasProperty(key);
+    }
+
+    @Override
+    public boolean hasProperties() throws ClientException {
+        return decoded(APPLICATION_PROPERTIES).hasProperties();
+    }
+
+    @Override
+    public PreEncodedMessage<E> forEachProperty(BiConsumer<String, Object> action) throws ClientException {
+        decoded(APPLICATION_PROPERTIES).forEachProperty(action);
+        return this;
+    }
+
+    @Override
+    public ApplicationProperties applicationProperties() throws ClientException {
+        final ApplicationProperties applicationProperties = decoded(APPLICATION_PROPERTIES).applicationProperties();
+        return applicationProperties != null ? applicationProperties.copy() : null;
+    }
+
+    @Override
+    public Object footer(String key) throws ClientException {
+        return decoded(FOOTER).footer(key);
+    }
+
+    @Override
+    public boolean hasFooter(String key) throws ClientException {
+        return decoded(FOOTER).hasFooter(key);
+    }
+
+    @Override
+    public boolean hasFooters() throws ClientException {
+        return decoded(FOOTER).hasFooters();
+    }
+
+    @Override
+    public PreEncodedMessage<E> forEachFooter(BiConsumer<String, Object> action) throws ClientException {
+        decoded(FOOTER).forEachFooter(action);
+        return this;
+    }
+
+    @Override
+    public Footer footer() throws ClientException {
+        final Footer footer = decoded(FOOTER).footer();
+        return footer != null ? footer.copy() : null;
+    }
+
+    @Override
+    public E body() throws ClientException {
+        return decoded(BODY).body();
+    }
+
+    @Override
+    public Collection<Section<?>> bodySections() throws ClientException {
+        return decoded(BODY).bodySections();
+    }
+
+    @Override
+    public PreEncodedMessage<E> forEachBodySection(Consumer<Section<?>> consumer) throws ClientException {
+        decoded(BODY).forEachBodySection(consumer);
+        return this;
+    }
+
+    //----- Message write API is not supported once encoded
+
+    @Override
+    public PreEncodedMessage<E> messageFormat(int messageFormat) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot write to a PreEncodedMessage");
+    }
+
+    @Override
+    public PreEncodedMessage<E> durable(boolean durable) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot write to a PreEncodedMessage");
+    }
+
+    @Override
+    public PreEncodedMessage<E> priority(byte priority) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot write to a PreEncodedMessage");
+    }
+
+    @Override
+    public PreEncodedMessage<E> timeToLive(long timeToLive) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot write to a PreEncodedMessage");
+    }
+
+    @Override
+    public PreEncodedMessage<E> firstAcquirer(boolean firstAcquirer) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot write to a PreEncodedMessage");
+    }
+
+    @Override
+    public PreEncodedMessage<E> deliveryCount(long deliveryCount) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot write to a PreEncodedMessage");
+    }
+
+    @Override
+    public PreEncodedMessage<E> header(Header header) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot write to a PreEncodedMessage");
+    }
+
+    @Override
+    public PreEncodedMessage<E> messageId(Object messageId) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot write to a PreEncodedMessage");
+    }
+
+    @Override
+    public PreEncodedMessage<E> userId(byte[] userId) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot write to a PreEncodedMessage");
+    }
+
+    @Override
+    public PreEncodedMessage<E> to(String to) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot write to a PreEncodedMessage");
+    }
+
+    @Override
+    public PreEncodedMessage<E> subject(String subject) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot write to a PreEncodedMessage");
+    }
+
+    @Override
+    public PreEncodedMessage<E> replyTo(String replyTo) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot write to a PreEncodedMessage");
+    }
+
+    @Override
+    public PreEncodedMessage<E> correlationId(Object correlationId) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot write to a PreEncodedMessage");
+    }
+
+    @Override
+    public PreEncodedMessage<E> contentType(String contentType) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot write to a PreEncodedMessage");
+    }
+
+    @Override
+    public PreEncodedMessage<E> contentEncoding(String contentEncoding) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot write to a PreEncodedMessage");
+    }
+
+    @Override
+    public PreEncodedMessage<E> absoluteExpiryTime(long expiryTime) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot write to a PreEncodedMessage");
+    }
+
+    @Override
+    public PreEncodedMessage<E> creationTime(long createTime) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot write to a PreEncodedMessage");
+    }
+
+    @Override
+    public PreEncodedMessage<E> groupId(String groupId) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot write to a PreEncodedMessage");
+    }
+
+    @Override
+    public PreEncodedMessage<E> groupSequence(int groupSequence) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot write to a PreEncodedMessage");
+    }
+
+    @Override
+    public PreEncodedMessage<E> replyToGroupId(String replyToGroupId) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot write to a PreEncodedMessage");
+    }
+
+    @Override
+    public PreEncodedMessage<E> properties(Properties properties) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot write to a PreEncodedMessage");
+    }
+
+    @Override
+    public Object removeAnnotation(String key) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot write to a PreEncodedMessage");
+    }
+
+    @Override
+    public PreEncodedMessage<E> annotation(String key, Object value) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot write to a PreEncodedMessage");
+    }
+
+    @Override
+    public PreEncodedMessage<E> annotations(MessageAnnotations messageAnnotations) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot write to a PreEncodedMessage");
+    }
+
+    @Override
+    public Object removeProperty(String key) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot write to a PreEncodedMessage");
+    }
+
+    @Override
+    public PreEncodedMessage<E> property(String key, Object value) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot write to a PreEncodedMessage");
+    }
+
+    @Override
+    public PreEncodedMessage<E> applicationProperties(ApplicationProperties applicationProperties) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot write to a PreEncodedMessage");
+    }
+
+    @Override
+    public Object removeFooter(String key) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot write to a PreEncodedMessage");
+    }
+
+    @Override
+    public PreEncodedMessage<E> footer(String key, Object value) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot write to a PreEncodedMessage");
+    }
+
+    @Override
+    public PreEncodedMessage<E> footer(Footer footer) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot write to a PreEncodedMessage");
+    }
+
+    @Override
+    public PreEncodedMessage<E> body(E value) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot write to a PreEncodedMessage");
+    }
+
+    @Override
+    public PreEncodedMessage<E> addBodySection(Section<?> bodySection) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot write to a PreEncodedMessage");
+    }
+
+    @Override
+    public PreEncodedMessage<E> bodySections(Collection<Section<?>> sections) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot write to a PreEncodedMessage");
+    }
+
+    @Override
+    public PreEncodedMessage<E> clearBodySections() throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot write to a PreEncodedMessage");
+    }
+}
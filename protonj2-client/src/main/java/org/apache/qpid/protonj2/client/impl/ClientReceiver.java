@@ -171,6 +171,10 @@ public final class ClientReceiver extends ClientReceiverLinkType<Receiver> imple
         return this;
     }
 
+    ReceiverOptions receiverOptions() {
+        return options;
+    }
+
     //----- Handlers for proton receiver events
 
     @Override
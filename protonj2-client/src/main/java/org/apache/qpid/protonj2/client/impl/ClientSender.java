@@ -23,7 +23,6 @@ import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
-import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 import org.apache.qpid.protonj2.client.AdvancedMessage;
 import org.apache.qpid.protonj2.client.Message;
 import org.apache.qpid.protonj2.client.Sender;
@@ -152,7 +151,7 @@ public final class ClientSender extends ClientSenderLinkType<Sender> implements
 
     private Tracker sendMessage(AdvancedMessage<?> message, Map<String, Object> deliveryAnnotations, boolean waitForCredit) throws ClientException {
         final ClientFuture<Tracker> operation = session.getFutureFactory().createFuture();
-        final ProtonBuffer buffer = message.encode(deliveryAnnotations, ProtonBufferAllocator.defaultAllocator());
+        final ProtonBuffer buffer = message.encode(deliveryAnnotations, connection().getOptions().bufferAllocator());
 
         executor.execute(() -> {
             if (notClosedOrFailed(operation)) {
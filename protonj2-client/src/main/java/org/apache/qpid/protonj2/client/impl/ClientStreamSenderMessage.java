@@ -21,6 +21,7 @@ import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -78,6 +79,7 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
     private final DeliveryAnnotations deliveryAnnotations;
     private final int writeBufferSize;
     private final ClientStreamTracker tracker;
+    private final ProtonBufferAllocator allocator;
 
     private Header header;
     private MessageAnnotations annotations;
@@ -93,6 +95,7 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
         this.sender = sender;
         this.deliveryAnnotations = deliveryAnnotations;
         this.tracker = tracker;
+        this.allocator = sender.connection().getOptions().bufferAllocator();
 
         if (sender.options().writeBufferSize() > 0) {
             writeBufferSize = Math.max(StreamSenderOptions.MIN_BUFFER_SIZE_LIMIT, sender.options().writeBufferSize());
@@ -230,7 +233,48 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
 
         transitionToWritableState();
 
-        appendDataToBuffer(ClientMessageSupport.encodeSection(bodySection, ProtonBufferAllocator.defaultAllocator().allocate()));
+        appendDataToBuffer(ClientMessageSupport.encodeSection(bodySection, allocator.allocate()));
+
+        return this;
+    }
+
+    @Override
+    public StreamSenderMessage addBodySequence(Iterator<?> elements) throws ClientException {
+        Objects.requireNonNull(elements, "Cannot write a body sequence from a null Iterator");
+
+        if (completed()) {
+            throw new ClientIllegalStateException("Cannot add more body sections to a completed message");
+        }
+
+        if (aborted()) {
+            throw new ClientIllegalStateException("Cannot add more body sections to an aborted message");
+        }
+
+        if (currentState == StreamState.BODY_WRITTING) {
+            throw new ClientIllegalStateException("Cannot add more body sections while an OutputStream is active");
+        }
+
+        transitionToWritableState();
+
+        // Each section is bounded by the write buffer size, once the limit is reached the section
+        // size is known and it can be handed off for sending before starting the next one.
+        do {
+            final ProtonBuffer section = allocator.allocate();
+            final Iterator<?> sectionElements = new Iterator<Object>() {
+
+                @Override
+                public boolean hasNext() {
+                    return section.getReadableBytes() < writeBufferSize && elements.hasNext();
+                }
+
+                @Override
+                public Object next() {
+                    return elements.next();
+                }
+            };
+
+            appendDataToBuffer(ClientMessageSupport.encodeSequence(sectionElements, section));
+        } while (elements.hasNext());
 
         return this;
     }
@@ -286,9 +330,7 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
 
         transitionToWritableState();
 
-        final ProtonBuffer streamBuffer = ProtonBufferAllocator.defaultAllocator()
-                                                               .allocate(writeBufferSize)
-                                                               .implicitGrowthLimit(writeBufferSize);
+        final ProtonBuffer streamBuffer = allocator.allocate(writeBufferSize).implicitGrowthLimit(writeBufferSize);
 
         if (options.bodyLength() > 0) {
             return new SingularDataSectionOutputStream(options, streamBuffer);
@@ -314,7 +356,7 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
         transitionToWritableState();
 
         return new SendContextRawBytesOutputStream(
-            ProtonBufferAllocator.defaultAllocator().allocate(writeBufferSize).implicitGrowthLimit(writeBufferSize));
+            allocator.allocate(writeBufferSize).implicitGrowthLimit(writeBufferSize));
     }
 
     //----- OutputStream implementation for the Send Context
@@ -468,7 +510,7 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
         public SingularDataSectionOutputStream(OutputStreamOptions options, ProtonBuffer buffer) throws ClientException {
             super(options, buffer);
 
-            ProtonBuffer preamble = ProtonBufferAllocator.defaultAllocator().allocate(DATA_SECTION_HEADER_ENCODING_SIZE)
+            ProtonBuffer preamble = allocator.allocate(DATA_SECTION_HEADER_ENCODING_SIZE)
                                                                             .implicitGrowthLimit(DATA_SECTION_HEADER_ENCODING_SIZE);
 
             preamble.writeBytes(DATA_SECTION_PREAMBLE);
@@ -489,7 +531,7 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
         @Override
         protected void doFlushPending(boolean complete) throws IOException {
             if (streamBuffer.isReadable()) {
-                ProtonBuffer preamble = ProtonBufferAllocator.defaultAllocator().allocate(DATA_SECTION_HEADER_ENCODING_SIZE)
+                ProtonBuffer preamble = allocator.allocate(DATA_SECTION_HEADER_ENCODING_SIZE)
                                                                                 .implicitGrowthLimit(DATA_SECTION_HEADER_ENCODING_SIZE);
 
                 preamble.writeBytes(DATA_SECTION_PREAMBLE);
@@ -953,7 +995,7 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
             if (buffer instanceof ProtonCompositeBuffer) {
                 ((ProtonCompositeBuffer) buffer).append(incoming);
             } else {
-                buffer = ProtonBufferAllocator.defaultAllocator().composite(new ProtonBuffer[] { buffer, incoming });
+                buffer = allocator.composite(new ProtonBuffer[] { buffer, incoming });
             }
         }
 
@@ -976,19 +1018,19 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
         if (currentState == StreamState.PREAMBLE) {
 
             if (header != null) {
-                appendDataToBuffer(ClientMessageSupport.encodeSection(header, ProtonBufferAllocator.defaultAllocator().allocate()));
+                appendDataToBuffer(ClientMessageSupport.encodeSection(header, allocator.allocate()));
             }
             if (deliveryAnnotations != null) {
-                appendDataToBuffer(ClientMessageSupport.encodeSection(deliveryAnnotations, ProtonBufferAllocator.defaultAllocator().allocate()));
+                appendDataToBuffer(ClientMessageSupport.encodeSection(deliveryAnnotations, allocator.allocate()));
             }
             if (annotations != null) {
-                appendDataToBuffer(ClientMessageSupport.encodeSection(annotations, ProtonBufferAllocator.defaultAllocator().allocate()));
+                appendDataToBuffer(ClientMessageSupport.encodeSection(annotations, allocator.allocate()));
             }
             if (properties != null) {
-                appendDataToBuffer(ClientMessageSupport.encodeSection(properties, ProtonBufferAllocator.defaultAllocator().allocate()));
+                appendDataToBuffer(ClientMessageSupport.encodeSection(properties, allocator.allocate()));
             }
             if (applicationProperties != null) {
-                appendDataToBuffer(ClientMessageSupport.encodeSection(applicationProperties, ProtonBufferAllocator.defaultAllocator().allocate()));
+                appendDataToBuffer(ClientMessageSupport.encodeSection(applicationProperties, allocator.allocate()));
             }
 
             currentState = StreamState.BODY_WRITABLE;
@@ -1004,7 +1046,7 @@ final class ClientStreamSenderMessage implements StreamSenderMessage {
             throw new ClientIllegalStateException("Cannot write a Section to an already completed send context");
         }
 
-        appendDataToBuffer(ClientMessageSupport.encodeSection(section, ProtonBufferAllocator.defaultAllocator().allocate()));
+        appendDataToBuffer(ClientMessageSupport.encodeSection(section, allocator.allocate()));
 
         return this;
     }
@@ -0,0 +1,488 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.impl;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.client.AdvancedMessage;
+import org.apache.qpid.protonj2.client.MessageTemplate;
+import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.apache.qpid.protonj2.client.exceptions.ClientUnsupportedOperationException;
+import org.apache.qpid.protonj2.types.Symbol;
+import org.apache.qpid.protonj2.types.messaging.ApplicationProperties;
+import org.apache.qpid.protonj2.types.messaging.Footer;
+import org.apache.qpid.protonj2.types.messaging.Header;
+import org.apache.qpid.protonj2.types.messaging.MessageAnnotations;
+import org.apache.qpid.protonj2.types.messaging.Properties;
+import org.apache.qpid.protonj2.types.messaging.Section;
+
+/**
+ * Client {@link AdvancedMessage} implementation created from a {@link MessageTemplate} whose header,
+ * message annotations and properties are provided by the template.  Only the message-id and
+ * creation-time properties along with the application properties, body and footer of the message
+ * can be modified, the template sections are encoded by copying the encoding held in the template.
+ *
+ * @param <E> The type of the message body that this message carries
+ */
+public final class ClientTemplatedMessage<E> implements AdvancedMessage<E> {
+
+    private final ClientMessageTemplate template;
+    private final ClientMessage<E> message = new ClientMessage<>();
+    private final Properties variableProperties = new Properties();
+
+    ClientTemplatedMessage(ClientMessageTemplate template) {
+        this.template = template;
+        this.message.messageFormat(template.messageFormat());
+
+        if (template.properties().hasMessageId()) {
+            variableProperties.setMessageId(template.properties().getMessageId());
+        }
+        if (template.properties().hasCreationTime()) {
+            variableProperties.setCreationTime(template.properties().getCreationTime());
+        }
+    }
+
+    @Override
+    public AdvancedMessage<E> toAdvancedMessage() {
+        return this;
+    }
+
+    //----- Message Header API provided by the template
+
+    @Override
+    public boolean durable() {
+        return template.header() != null ? template.header().isDurable() : Header.DEFAULT_DURABILITY;
+    }
+
+    @Override
+    public byte priority() {
+        return template.header() != null ? template.header().getPriority() : Header.DEFAULT_PRIORITY;
+    }
+
+    @Override
+    public long timeToLive() {
+        return template.header() != null ? template.header().getTimeToLive() : Header.DEFAULT_TIME_TO_LIVE;
+    }
+
+    @Override
+    public boolean firstAcquirer() {
+        return template.header() != null ? template.header().isFirstAcquirer() : Header.DEFAULT_FIRST_ACQUIRER;
+    }
+
+    @Override
+    public long deliveryCount() {
+        return template.header() != null ? template.header().getDeliveryCount() : Header.DEFAULT_DELIVERY_COUNT;
+    }
+
+    @Override
+    public Header header() {
+        return template.header() != null ? template.header().copy() : null;
+    }
+
+    //----- Message Properties API, only the message-id and creation-time are not from the template
+
+    @Override
+    public Object messageId() {
+        return variableProperties.getMessageId();
+    }
+
+    @Override
+    public ClientTemplatedMessage<E> messageId(Object messageId) {
+        variableProperties.setMessageId(messageId);
+        return this;
+    }
+
+    @Override
+    public long creationTime() {
+        return variableProperties.getCreationTime();
+    }
+
+    @Override
+    public ClientTemplatedMessage<E> creationTime(long createTime) {
+        variableProperties.setCreationTime(createTime);
+        return this;
+    }
+
+    @Override
+    public byte[] userId() {
+        return template.properties().getUserId() != null ? template.properties().getUserId().asByteArray() : null;
+    }
+
+    @Override
+    public String to() {
+        return template.properties().getTo();
+    }
+
+    @Override
+    public String subject() {
+        return template.properties().getSubject();
+    }
+
+    @Override
+    public String replyTo() {
+        return template.properties().getReplyTo();
+    }
+
+    @Override
+    public Object correlationId() {
+        return template.properties().getCorrelationId();
+    }
+
+    @Override
+    public String contentType() {
+        return template.properties().getContentType();
+    }
+
+    @Override
+    public String contentEncoding() {
+        return template.properties().getContentEncoding();
+    }
+
+    @Override
+    public long absoluteExpiryTime() {
+        return template.properties().getAbsoluteExpiryTime();
+    }
+
+    @Override
+    public String groupId() {
+        return template.properties().getGroupId();
+    }
+
+    @Override
+    public int groupSequence() {
+        return (int) template.properties().getGroupSequence();
+    }
+
+    @Override
+    public String replyToGroupId() {
+        return template.properties().getReplyToGroupId();
+    }
+
+    @Override
+    public Properties properties() {
+        final Properties properties = template.properties().copy();
+
+        properties.setMessageId(variableProperties.getMessageId());
+        if (variableProperties.hasCreationTime()) {
+            properties.setCreationTime(variableProperties.getCreationTime());
+        } else {
+            properties.clearCreationTime();
+        }
+
+        return properties;
+    }
+
+    //----- Message Annotations API provided by the template
+
+    @Override
+    public Object annotation(String key) {
+        return hasAnnotations() ? template.annotations().getValue().get(Symbol.valueOf(key)) : null;
+    }
+
+    @Override
+    public boolean hasAnnotation(String key) {
+        return hasAnnotations() ? template.annotations().getValue().containsKey(Symbol.valueOf(key)) : false;
+    }
+
+    @Override
+    public boolean hasAnnotations() {
+        return template.annotations() != null && template.annotations().getValue() != null &&
+               !template.annotations().getValue().isEmpty();
+    }
+
+    @Override
+    public ClientTemplatedMessage<E> forEachAnnotation(BiConsumer<String, Object> action) {
+        if (hasAnnotations()) {
+            template.annotations().getValue().forEach((key, value) -> {
+                action.accept(key.toString(), value);
+            });
+        }
+
+        return this;
+    }
+
+    @Override
+    public MessageAnnotations annotations() {
+        return template.annotations() != null ? template.annotations().copy() : null;
+    }
+
+    //----- Application Properties, Footer and Body are carried by each message
+
+    @Override
+    public Object property(String key) {
+        return message.property(key);
+    }
+
+    @Override
+    public boolean hasProperty(String key) {
+        return message.hasProperty(key);
+    }
+
+    @Override
+    public boolean hasProperties() {
+        return message.hasProperties();
+    }
+
+    @Override
+    public Object removeProperty(String key) {
+        return message.removeProperty(key);
+    }
+
+    @Override
+    public ClientTemplatedMessage<E> forEachProperty(BiConsumer<String, Object> action) {
+        message.forEachProperty(action);
+        return this;
+    }
+
+    @Override
+    public ClientTemplatedMessage<E> property(String key, Object value) {
+        message.property(key, value);
+        return this;
+    }
+
+    @Override
+    public ApplicationProperties applicationProperties() {
+        return message.applicationProperties();
+    }
+
+    @Override
+    public ClientTemplatedMessage<E> applicationProperties(ApplicationProperties applicationProperties) {
+        message.applicationProperties(applicationProperties);
+        return this;
+    }
+
+    @Override
+    public Object footer(String key) {
+        return message.footer(key);
+    }
+
+    @Override
+    public boolean hasFooter(String key) {
+        return message.hasFooter(key);
+    }
+
+    @Override
+    public boolean hasFooters() {
+        return message.hasFooters();
+    }
+
+    @Override
+    public Object removeFooter(String key) {
+        return message.removeFooter(key);
+    }
+
+    @Override
+    public ClientTemplatedMessage<E> forEachFooter(BiConsumer<String, Object> action) {
+        message.forEachFooter(action);
+        return this;
+    }
+
+    @Override
+    public ClientTemplatedMessage<E> footer(String key, Object value) {
+        message.footer(key, value);
+        return this;
+    }
+
+    @Override
+    public Footer footer() {
+        return message.footer();
+    }
+
+    @Override
+    public ClientTemplatedMessage<E> footer(Footer footer) {
+        message.footer(footer);
+        return this;
+    }
+
+    @Override
+    public E body() {
+        return message.body();
+    }
+
+    @Override
+    public ClientTemplatedMessage<E> body(E value) {
+        message.body(value);
+        return this;
+    }
+
+    @Override
+    public int messageFormat() {
+        return message.messageFormat();
+    }
+
+    @Override
+    public ClientTemplatedMessage<E> messageFormat(int messageFormat) {
+        message.messageFormat(messageFormat);
+        return this;
+    }
+
+    @Override
+    public ClientTemplatedMessage<E> addBodySection(Section<?> bodySection) {
+        message.addBodySection(bodySection);
+        return this;
+    }
+
+    @Override
+    public ClientTemplatedMessage<E> bodySections(Collection<Section<?>> sections) {
+        message.bodySections(sections);
+        return this;
+    }
+
+    @Override
+    public Collection<Section<?>> bodySections() {
+        return message.bodySections();
+    }
+
+    @Override
+    public ClientTemplatedMessage<E> forEachBodySection(Consumer<Section<?>> consumer) {
+        message.forEachBodySection(consumer);
+        return this;
+    }
+
+    @Override
+    public ClientTemplatedMessage<E> clearBodySections() {
+        message.clearBodySections();
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer encode(Map<String, Object> deliveryAnnotations, ProtonBufferAllocator allocator) throws ClientException {
+        return ClientMessageSupport.encodeMessage(this, deliveryAnnotations, allocator);
+    }
+
+    //----- Template sections cannot be modified
+
+    @Override
+    public ClientTemplatedMessage<E> durable(boolean durable) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot modify the header of a message created from a MessageTemplate");
+    }
+
+    @Override
+    public ClientTemplatedMessage<E> priority(byte priority) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot modify the header of a message created from a MessageTemplate");
+    }
+
+    @Override
+    public ClientTemplatedMessage<E> timeToLive(long timeToLive) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot modify the header of a message created from a MessageTemplate");
+    }
+
+    @Override
+    public ClientTemplatedMessage<E> firstAcquirer(boolean firstAcquirer) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot modify the header of a message created from a MessageTemplate");
+    }
+
+    @Override
+    public ClientTemplatedMessage<E> deliveryCount(long deliveryCount) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot modify the header of a message created from a MessageTemplate");
+    }
+
+    @Override
+    public ClientTemplatedMessage<E> header(Header header) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot modify the header of a message created from a MessageTemplate");
+    }
+
+    @Override
+    public ClientTemplatedMessage<E> userId(byte[] userId) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot modify the properties of a message created from a MessageTemplate");
+    }
+
+    @Override
+    public ClientTemplatedMessage<E> to(String to) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot modify the properties of a message created from a MessageTemplate");
+    }
+
+    @Override
+    public ClientTemplatedMessage<E> subject(String subject) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot modify the properties of a message created from a MessageTemplate");
+    }
+
+    @Override
+    public ClientTemplatedMessage<E> replyTo(String replyTo) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot modify the properties of a message created from a MessageTemplate");
+    }
+
+    @Override
+    public ClientTemplatedMessage<E> correlationId(Object correlationId) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot modify the properties of a message created from a MessageTemplate");
+    }
+
+    @Override
+    public ClientTemplatedMessage<E> contentType(String contentType) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot modify the properties of a message created from a MessageTemplate");
+    }
+
+    @Override
+    public ClientTemplatedMessage<E> contentEncoding(String contentEncoding) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot modify the properties of a message created from a MessageTemplate");
+    }
+
+    @Override
+    public ClientTemplatedMessage<E> absoluteExpiryTime(long expiryTime) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot modify the properties of a message created from a MessageTemplate");
+    }
+
+    @Override
+    public ClientTemplatedMessage<E> groupId(String groupId) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot modify the properties of a message created from a MessageTemplate");
+    }
+
+    @Override
+    public ClientTemplatedMessage<E> groupSequence(int groupSequence) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot modify the properties of a message created from a MessageTemplate");
+    }
+
+    @Override
+    public ClientTemplatedMessage<E> replyToGroupId(String replyToGroupId) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot modify the properties of a message created from a MessageTemplate");
+    }
+
+    @Override
+    public ClientTemplatedMessage<E> properties(Properties properties) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot modify the properties of a message created from a MessageTemplate");
+    }
+
+    @Override
+    public Object removeAnnotation(String key) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot modify the annotations of a message created from a MessageTemplate");
+    }
+
+    @Override
+    public ClientTemplatedMessage<E> annotation(String key, Object value) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot modify the annotations of a message created from a MessageTemplate");
+    }
+
+    @Override
+    public ClientTemplatedMessage<E> annotations(MessageAnnotations messageAnnotations) throws ClientUnsupportedOperationException {
+        throw new ClientUnsupportedOperationException("Cannot modify the annotations of a message created from a MessageTemplate");
+    }
+
+    //----- Internal API for message encoding
+
+    ClientMessageTemplate template() {
+        return template;
+    }
+
+    Properties variableProperties() {
+        return variableProperties;
+    }
+}
@@ -27,6 +27,7 @@ import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 import org.apache.qpid.protonj2.buffer.ProtonBufferComponent;
 import org.apache.qpid.protonj2.buffer.ProtonBufferComponentAccessor;
+import org.apache.qpid.protonj2.buffer.impl.ProtonDirectByteBuffer;
 import org.apache.qpid.protonj2.buffer.netty.Netty4ProtonBufferAllocator;
 import org.apache.qpid.protonj2.buffer.netty.Netty4ToProtonBufferAdapter;
 import org.apache.qpid.protonj2.client.SslOptions;
@@ -39,6 +40,7 @@ import org.slf4j.LoggerFactory;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
@@ -325,6 +327,9 @@ public class TcpTransport implements Transport {
                     nettyBuf = ((Netty4ToProtonBufferAdapter)output).unwrapAndRelease();
                 } else if (output.unwrap() instanceof ByteBuf) {
                     nettyBuf = (ByteBuf) ReferenceCountUtil.retain(output.unwrap());
+                } else if (output.unwrap() instanceof ProtonDirectByteBuffer) {
+                    // The direct memory is GC managed so the wrapper keeps it alive until written
+                    nettyBuf = Unpooled.wrappedBuffer(output.getReadableBuffer());
                 } else {
                     nettyBuf = channel.alloc().ioBuffer(output.getReadableBytes());
                     if (output.hasReadbleArray()) {
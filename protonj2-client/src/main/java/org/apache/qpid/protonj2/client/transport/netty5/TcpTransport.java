@@ -20,6 +20,8 @@ import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -49,6 +51,7 @@ import io.netty5.channel.ChannelPipeline;
 import io.netty5.channel.SimpleChannelInboundHandler;
 import io.netty5.handler.logging.LoggingHandler;
 import io.netty5.handler.ssl.SslHandler;
+import io.netty5.util.Send;
 import io.netty5.util.concurrent.Future;
 import io.netty5.util.concurrent.FutureListener;
 
@@ -276,41 +279,84 @@ public class TcpTransport implements Transport {
     }
 
     private TcpTransport writeOutputBuffer(final ProtonBuffer buffer, boolean flush, Runnable onComplete) {
-        int writeCount = buffer.componentCount();
-        Future<Void> writeFuture = null;
+        final Buffer nettyBuf;
 
         try (ProtonBuffer ioBuffer = buffer; ProtonBufferComponentAccessor accessor = buffer.componentAccessor()) {
-            for (ProtonBufferComponent output = accessor.firstReadable(); output != null; output = accessor.nextReadable()) {
-                final Buffer nettyBuf;
-
-                if (output instanceof Netty5ToProtonBufferAdapter) {
-                    nettyBuf = ((Netty5ToProtonBufferAdapter)output).unwrapAndRelease();
-                } else if (output.unwrap() instanceof Buffer) {
-                    nettyBuf = ((Buffer) output.unwrap()).copy(true);
-                } else {
-                    nettyBuf = channel.bufferAllocator().allocate(output.getReadableBytes());
-                    if (output.hasReadbleArray()) {
-                        nettyBuf.writeBytes(output.getReadableArray(), output.getReadableArrayOffset(), output.getReadableBytes());
-                    } else {
-                        nettyBuf.writeBytes(output.getReadableBuffer());
-                    }
+            final int readableComponents = buffer.readableComponentCount();
+
+            if (readableComponents == 0) {
+                if (flush) {
+                    channel.flush();
                 }
 
-                if (--writeCount == 0 && flush) {
-                    writeFuture = channel.writeAndFlush(nettyBuf);
-                } else {
-                    writeFuture = channel.write(nettyBuf);
+                // Nothing to write but callers still expect to be told the write completed.
+                if (onComplete != null) {
+                    channel.newSucceededFuture().addListener(onComplete, TcpTransport::handleWriteComplete);
                 }
-            }
 
-            if (onComplete != null) {
-                writeFuture.addListener(onComplete, TcpTransport::handleWriteComplete);
+                return this;
+            } else if (readableComponents == 1) {
+                nettyBuf = toNettyBuffer(accessor.firstReadable());
+            } else {
+                // Each frame segment is handed to Netty as a component of a single composite so that
+                // the frame is written as one message without being flattened into a new buffer.
+                final List<Send<Buffer>> components = new ArrayList<>(readableComponents);
+
+                for (ProtonBufferComponent output = accessor.firstReadable(); output != null; output = accessor.nextReadable()) {
+                    final Buffer component = toNettyBuffer(output);
+                    if (!component.readOnly()) {
+                        component.makeReadOnly();
+                    }
+
+                    components.add(component.send());
+                }
+
+                nettyBuf = channel.bufferAllocator().compose(components);
             }
         }
 
+        final Future<Void> writeFuture;
+
+        if (flush) {
+            writeFuture = channel.writeAndFlush(nettyBuf);
+        } else {
+            writeFuture = channel.write(nettyBuf);
+        }
+
+        if (onComplete != null) {
+            writeFuture.addListener(onComplete, TcpTransport::handleWriteComplete);
+        }
+
         return this;
     }
 
+    /*
+     * Produces a Netty buffer that the channel can own for the readable bytes of the given component
+     * of an outgoing buffer that is owned by this transport. Netty buffers are unwrapped and other
+     * proton buffers are exposed through a read-only view that shares their memory, only components
+     * that are neither are copied.
+     */
+    private Buffer toNettyBuffer(ProtonBufferComponent output) {
+        if (output instanceof Netty5ToProtonBufferAdapter) {
+            return ((Netty5ToProtonBufferAdapter) output).unwrapAndRelease();
+        } else if (output.unwrap() instanceof Buffer) {
+            return ((Buffer) output.unwrap()).copy(true);
+        } else if (output instanceof ProtonBuffer) {
+            final ProtonBuffer component = ((ProtonBuffer) output).convertToReadOnly();
+            return new ProtonBufferToNetty5Adapter(
+                component.copy(component.getReadOffset(), component.getReadableBytes(), true));
+        } else {
+            final Buffer nettyBuf = channel.bufferAllocator().allocate(output.getReadableBytes());
+            if (output.hasReadbleArray()) {
+                nettyBuf.writeBytes(output.getReadableArray(), output.getReadableArrayOffset(), output.getReadableBytes());
+            } else {
+                nettyBuf.writeBytes(output.getReadableBuffer());
+            }
+
+            return nettyBuf;
+        }
+    }
+
     @SuppressWarnings("unused")
     private TcpTransport writeOutputBufferAsWrappedNettyBuffer(final ProtonBuffer buffer, boolean flush, Runnable onComplete) {
         Future<Void> writeFuture = null;
@@ -20,10 +20,13 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.util.HashMap;
 import java.util.Map;
 
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.buffer.impl.ProtonPooledBufferAllocator;
 import org.junit.jupiter.api.Test;
 
 public class ConnectionOptionsTest {
@@ -35,6 +38,9 @@ public class ConnectionOptionsTest {
         assertNull(options.password());
         assertNull(options.user());
         assertNull(options.virtualHost());
+        assertSame(ProtonBufferAllocator.defaultAllocator(), options.bufferAllocator());
+        assertNull(options.largeDeliveryAllocator());
+        assertEquals(ConnectionOptions.DEFAULT_LARGE_DELIVERY_THRESHOLD, options.largeDeliveryThreshold());
     }
 
     @Test
@@ -56,6 +62,7 @@ public class ConnectionOptionsTest {
         final ConnectionOptions options = new ConnectionOptions();
         final String[] offeredCapabilities = new String[] { "one", "two", "three" };
         final String[] desiredCapabilities = new String[] { "four", "five", "six" };
+        final ProtonBufferAllocator allocator = new ProtonPooledBufferAllocator();
         final Map<String, Object> properties = new HashMap<String, Object>();
         properties.put("one", "1");
         properties.put("two", "2");
@@ -72,6 +79,9 @@ public class ConnectionOptionsTest {
         options.channelMax(1);
         options.maxFrameSize(1024);
         options.traceFrames(true);
+        options.bufferAllocator(allocator);
+        options.largeDeliveryAllocator(allocator);
+        options.largeDeliveryThreshold(4096);
         options.defaultNextReceiverPolicy(NextReceiverPolicy.FIRST_AVAILABLE);
         options.offeredCapabilities(offeredCapabilities);
         options.desiredCapabilities(desiredCapabilities);
@@ -108,6 +118,9 @@ public class ConnectionOptionsTest {
         assertEquals(options.channelMax(), copy.channelMax());
         assertEquals(options.maxFrameSize(), copy.maxFrameSize());
         assertEquals(options.traceFrames(), copy.traceFrames());
+        assertSame(options.bufferAllocator(), copy.bufferAllocator());
+        assertSame(options.largeDeliveryAllocator(), copy.largeDeliveryAllocator());
+        assertEquals(options.largeDeliveryThreshold(), copy.largeDeliveryThreshold());
         assertEquals(options.defaultNextReceiverPolicy(), copy.defaultNextReceiverPolicy());
         assertEquals(options.saslOptions().saslEnabled(), copy.saslOptions().saslEnabled());
         assertEquals(options.saslOptions().saslEnabled(), copy.saslOptions().saslEnabled());
@@ -48,4 +48,25 @@ public class ReceiverOptionsTest {
         assertEquals(options.reconnectLocations(), copy.reconnectLocations());
         assertEquals(options.reconnectEnabled(), copy.reconnectEnabled());
     }
+
+    @Test
+    void testCopyReceiverSpecificOptions() {
+        ReceiverOptions options = new ReceiverOptions();
+
+        assertFalse(options.lazyMessageDecoding());
+        assertFalse(options.lazyMapSections());
+
+        options.autoAccept(false);
+        options.creditWindow(100);
+        options.lazyMessageDecoding(true);
+        options.lazyMapSections(true);
+
+        ReceiverOptions copy = options.clone();
+
+        assertNotSame(copy, options);
+        assertEquals(options.autoAccept(), copy.autoAccept());
+        assertEquals(options.creditWindow(), copy.creditWindow());
+        assertEquals(options.lazyMessageDecoding(), copy.lazyMessageDecoding());
+        assertEquals(options.lazyMapSections(), copy.lazyMapSections());
+    }
 }
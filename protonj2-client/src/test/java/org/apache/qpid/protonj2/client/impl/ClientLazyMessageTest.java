@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.buffer.impl.ProtonInstrumentedBufferAllocator;
+import org.apache.qpid.protonj2.buffer.impl.ProtonPooledBufferAllocator;
+import org.apache.qpid.protonj2.client.AdvancedMessage;
+import org.apache.qpid.protonj2.client.Message;
+import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.apache.qpid.protonj2.types.Binary;
+import org.apache.qpid.protonj2.types.Symbol;
+import org.apache.qpid.protonj2.types.messaging.AmqpValue;
+import org.apache.qpid.protonj2.types.messaging.Data;
+import org.apache.qpid.protonj2.types.messaging.DeliveryAnnotations;
+import org.apache.qpid.protonj2.types.messaging.Header;
+import org.junit.jupiter.api.Test;
+
+class ClientLazyMessageTest {
+
+    @Test
+    public void testAccessSectionsOfEncodedMessage() throws Exception {
+        final AdvancedMessage<String> message = createMessage();
+        final Map<String, Object> deliveryAnnotations = new HashMap<>();
+        deliveryAnnotations.put("da", "value");
+
+        final ClientLazyMessage<String> lazy = new ClientLazyMessage<>(ClientMessageSupport.encodeMessage(message, deliveryAnnotations));
+
+        assertTrue(lazy.durable());
+        assertEquals(9, lazy.priority());
+        assertEquals("ID:1", lazy.messageId());
+        assertEquals("test", lazy.subject());
+        assertEquals("ma-value", lazy.annotation("x-opt-ma"));
+        assertEquals("ap-value", lazy.property("ap"));
+        assertEquals("ft-value", lazy.footer("ft"));
+        assertEquals("Hello World", lazy.body());
+        assertEquals("value", lazy.deliveryAnnotations().getValue().get(Symbol.valueOf("da")));
+    }
+
+    @Test
+    public void testDeliveryPayloadIsClosedOnceSectionsAreIndexed() throws Exception {
+        final AdvancedMessage<String> message = createMessage();
+        final ProtonInstrumentedBufferAllocator allocator =
+            new ProtonInstrumentedBufferAllocator(ProtonBufferAllocator.defaultAllocator());
+
+        final ProtonBuffer payload = ClientMessageSupport.encodeMessage(message, null, allocator);
+
+        assertEquals(1, allocator.getLiveBuffers());
+
+        final ClientLazyMessage<String> lazy = new ClientLazyMessage<>(payload);
+
+        assertTrue(payload.isClosed());
+        assertEquals(0, allocator.getLiveBuffers());
+        assertEquals("ID:1", lazy.messageId());
+        assertEquals("Hello World", lazy.body());
+
+        try (ProtonBuffer expected = ClientMessageSupport.encodeMessage(message, null)) {
+            assertEquals(expected, lazy.encode(null, ProtonBufferAllocator.defaultAllocator()));
+        }
+    }
+
+    @Test
+    public void testUnpooledHeapPayloadIsRetainedWithoutCopy() throws Exception {
+        final AdvancedMessage<String> message = createMessage();
+        final ProtonBuffer payload = ClientMessageSupport.encodeMessage(message, null, ProtonBufferAllocator.defaultAllocator());
+
+        final ClientLazyMessage<String> lazy = new ClientLazyMessage<>(payload);
+
+        assertFalse(payload.isClosed());
+        assertTrue(payload.isReadOnly());
+        assertEquals("ID:1", lazy.messageId());
+        assertEquals("Hello World", lazy.body());
+
+        try (ProtonBuffer expected = ClientMessageSupport.encodeMessage(message, null)) {
+            assertEquals(expected, lazy.encode(null, ProtonBufferAllocator.defaultAllocator()));
+        }
+    }
+
+    @Test
+    public void testPooledPayloadIsCopiedAndClosed() throws Exception {
+        final AdvancedMessage<String> message = createMessage();
+
+        try (ProtonPooledBufferAllocator allocator = new ProtonPooledBufferAllocator()) {
+            final ProtonBuffer payload = ClientMessageSupport.encodeMessage(message, null, allocator);
+
+            final ClientLazyMessage<String> lazy = new ClientLazyMessage<>(payload);
+
+            assertTrue(payload.isClosed());
+            assertEquals("ID:1", lazy.messageId());
+            assertEquals("Hello World", lazy.body());
+        }
+    }
+
+    @Test
+    public void testAccessOfMessageWithoutSections() throws Exception {
+        final ClientLazyMessage<String> lazy = new ClientLazyMessage<>(
+            ClientMessageSupport.encodeMessage(new ClientMessage<>(new AmqpValue<>("body")), null));
+
+        assertNull(lazy.header());
+        assertNull(lazy.properties());
+        assertNull(lazy.annotations());
+        assertNull(lazy.applicationProperties());
+        assertNull(lazy.footer());
+        assertNull(lazy.deliveryAnnotations());
+        assertNull(lazy.messageId());
+        assertFalse(lazy.hasProperties());
+        assertEquals(Header.DEFAULT_PRIORITY, lazy.priority());
+        assertEquals("body", lazy.body());
+    }
+
+    @Test
+    public void testMultipleBodySectionsAreDecodedOnAccess() throws Exception {
+        final ClientMessage<byte[]> message = new ClientMessage<>();
+        message.messageFormat(1);
+        message.addBodySection(new Data(new byte[] { 0 }));
+        message.addBodySection(new Data(new byte[] { 1 }));
+        message.addBodySection(new Data(new byte[] { 2 }));
+        message.footer("ft", "value");
+
+        final ClientLazyMessage<byte[]> lazy = new ClientLazyMessage<>(ClientMessageSupport.encodeMessage(message, null));
+        lazy.messageFormat(1);
+
+        assertEquals(3, lazy.bodySections().size());
+        assertEquals("value", lazy.footer("ft"));
+    }
+
+    @Test
+    public void testUnmodifiedMessageEncodesToOriginalBytes() throws Exception {
+        final AdvancedMessage<String> message = createMessage();
+
+        try (ProtonBuffer expected = ClientMessageSupport.encodeMessage(message, null)) {
+            final ClientLazyMessage<String> lazy = new ClientLazyMessage<>(expected.copy());
+
+            assertEquals("ID:1", lazy.messageId());
+            assertEquals("ap-value", lazy.property("ap"));
+
+            assertEquals(expected, lazy.encode(null, ProtonBufferAllocator.defaultAllocator()));
+        }
+    }
+
+    @Test
+    public void testUnmodifiedMessageEncodesWithReplacedDeliveryAnnotations() throws Exception {
+        final AdvancedMessage<String> message = createMessage();
+        final Map<String, Object> original = new HashMap<>();
+        original.put("one", 1);
+        final Map<String, Object> replacement = new HashMap<>();
+        replacement.put("two", 2);
+
+        final ClientLazyMessage<String> lazy = new ClientLazyMessage<>(ClientMessageSupport.encodeMessage(message, original));
+
+        try (ProtonBuffer expected = ClientMessageSupport.encodeMessage(message, replacement);
+             ProtonBuffer expectedWithoutAnnotations = ClientMessageSupport.encodeMessage(message, null)) {
+
+            assertEquals(expected, lazy.encode(replacement, ProtonBufferAllocator.defaultAllocator()));
+            assertEquals(expectedWithoutAnnotations, lazy.encode(null, ProtonBufferAllocator.defaultAllocator()));
+        }
+    }
+
+    @Test
+    public void testModifiedMessageIsReEncoded() throws Exception {
+        final AdvancedMessage<String> message = createMessage();
+        final ClientLazyMessage<String> lazy = new ClientLazyMessage<>(ClientMessageSupport.encodeMessage(message, null));
+
+        lazy.subject("modified");
+        lazy.property("added", true);
+        message.subject("modified");
+        message.property("added", true);
+
+        try (ProtonBuffer expected = ClientMessageSupport.encodeMessage(message, null)) {
+            assertEquals(expected, lazy.encode(null, ProtonBufferAllocator.defaultAllocator()));
+        }
+
+        final ClientLazyMessage<String> decoded = new ClientLazyMessage<>(lazy.encode(null, ProtonBufferAllocator.defaultAllocator()));
+
+        assertEquals("modified", decoded.subject());
+        assertEquals(true, decoded.property("added"));
+        assertEquals("Hello World", decoded.body());
+    }
+
+    @Test
+    public void testBodyReplacedWithoutDecodingOriginal() throws Exception {
+        final ClientLazyMessage<Object> lazy = new ClientLazyMessage<>(
+            ClientMessageSupport.encodeMessage(new ClientMessage<>(new AmqpValue<>("body")), null));
+
+        lazy.body(new Binary(new byte[] { 1, 2, 3 }));
+
+        final ClientLazyMessage<Object> decoded = new ClientLazyMessage<>(lazy.encode(null, ProtonBufferAllocator.defaultAllocator()));
+
+        assertNotNull(decoded.body());
+        assertEquals(new Binary(new byte[] { 1, 2, 3 }), decoded.body());
+    }
+
+    @Test
+    public void testCreateFailsOnDuplicateSections() throws Exception {
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        ClientMessageSupport.encodeSection(new Header().setDurable(true), buffer);
+        ClientMessageSupport.encodeSection(new Header().setDurable(false), buffer);
+
+        assertThrows(ClientException.class, () -> new ClientLazyMessage<>(buffer));
+    }
+
+    @Test
+    public void testCreateFailsOnNonSectionEncoding() throws Exception {
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        buffer.writeByte((byte) 0x41);  // Encoded boolean true
+
+        assertThrows(ClientException.class, () -> new ClientLazyMessage<>(buffer));
+    }
+
+    @Test
+    public void testDeliveryAnnotationsAreNotPartOfTheMessage() throws Exception {
+        final Map<String, Object> deliveryAnnotations = new HashMap<>();
+        deliveryAnnotations.put("da", "value");
+
+        final ClientLazyMessage<String> lazy = new ClientLazyMessage<>(
+            ClientMessageSupport.encodeMessage(createMessage(), deliveryAnnotations));
+
+        final DeliveryAnnotations annotations = lazy.deliveryAnnotations();
+
+        assertNotNull(annotations);
+        assertFalse(lazy.hasAnnotation("da"));
+    }
+
+    private static AdvancedMessage<String> createMessage() throws ClientException {
+        return Message.create("Hello World")
+                      .durable(true)
+                      .priority((byte) 9)
+                      .messageId("ID:1")
+                      .subject("test")
+                      .annotation("x-opt-ma", "ma-value")
+                      .property("ap", "ap-value")
+                      .footer("ft", "ft-value")
+                      .toAdvancedMessage();
+    }
+}
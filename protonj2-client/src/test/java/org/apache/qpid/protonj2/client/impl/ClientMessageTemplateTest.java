@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.client.AdvancedMessage;
+import org.apache.qpid.protonj2.client.Message;
+import org.apache.qpid.protonj2.client.MessageTemplate;
+import org.apache.qpid.protonj2.client.exceptions.ClientUnsupportedOperationException;
+import org.apache.qpid.protonj2.types.Symbol;
+import org.apache.qpid.protonj2.types.messaging.DeliveryAnnotations;
+import org.junit.jupiter.api.Test;
+
+class ClientMessageTemplateTest {
+
+    @Test
+    public void testMessageReadsTemplateSections() throws Exception {
+        final MessageTemplate template = MessageTemplate.create(createTemplateMessage());
+        final AdvancedMessage<String> message = template.newMessage("Hello World");
+
+        assertTrue(message.durable());
+        assertEquals(7, message.priority());
+        assertEquals("queue", message.to());
+        assertEquals("subject", message.subject());
+        assertEquals("text/plain", message.contentType());
+        assertEquals(42, message.groupSequence());
+        assertEquals("value", message.annotation("x-opt-test"));
+        assertTrue(message.hasAnnotations());
+        assertEquals("Hello World", message.body());
+        assertNull(message.messageId());
+        assertEquals(0, message.creationTime());
+    }
+
+    @Test
+    public void testEncodedMessageDecodesWithTemplateAndMessageValues() throws Exception {
+        final MessageTemplate template = MessageTemplate.create(createTemplateMessage());
+        final AdvancedMessage<String> message = template.newMessage("Hello World");
+
+        message.messageId("ID:1").creationTime(1000).property("ap", 1).footer("ft", 2);
+
+        final Message<?> decoded = decode(message.encode(null, ProtonBufferAllocator.defaultAllocator()), null);
+
+        assertTrue(decoded.durable());
+        assertEquals(7, decoded.priority());
+        assertEquals("ID:1", decoded.messageId());
+        assertEquals(1000, decoded.creationTime());
+        assertEquals("queue", decoded.to());
+        assertEquals("subject", decoded.subject());
+        assertEquals("text/plain", decoded.contentType());
+        assertEquals(42, decoded.groupSequence());
+        assertEquals("value", decoded.annotation("x-opt-test"));
+        assertEquals(1, decoded.property("ap"));
+        assertEquals(2, decoded.footer("ft"));
+        assertEquals("Hello World", decoded.body());
+    }
+
+    @Test
+    public void testEncodingMatchesStandardEncodingWhenAllPropertiesAreSet() throws Exception {
+        final AdvancedMessage<String> standard = createTemplateMessage().toAdvancedMessage();
+
+        standard.messageId("ID:1").creationTime(1000).replyToGroupId("group");
+
+        final MessageTemplate template = MessageTemplate.create(standard);
+        final AdvancedMessage<String> message = template.newMessage("Hello World");
+
+        message.messageId("ID:2").creationTime(2000);
+        standard.messageId("ID:2").creationTime(2000).body("Hello World");
+
+        try (ProtonBuffer expected = ClientMessageSupport.encodeMessage(standard, null);
+             ProtonBuffer actual = message.encode(null, ProtonBufferAllocator.defaultAllocator())) {
+
+            assertTrue(actual.isReadOnly());
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void testEncodingMatchesStandardEncodingWhenPropertiesExceedSmallListEncoding() throws Exception {
+        final AdvancedMessage<String> standard = createTemplateMessage().toAdvancedMessage();
+
+        standard.to("a".repeat(300));
+
+        final MessageTemplate template = MessageTemplate.create(standard);
+        final AdvancedMessage<String> message = template.newMessage("Hello World");
+
+        message.messageId("ID:2").creationTime(2000);
+        standard.messageId("ID:2").creationTime(2000).body("Hello World");
+
+        try (ProtonBuffer expected = ClientMessageSupport.encodeMessage(standard, null);
+             ProtonBuffer actual = message.encode(null, ProtonBufferAllocator.defaultAllocator())) {
+
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void testEncodeWithDeliveryAnnotations() throws Exception {
+        final MessageTemplate template = MessageTemplate.create(createTemplateMessage());
+        final AdvancedMessage<String> message = template.newMessage("Hello World");
+        final Map<String, Object> deliveryAnnotations = new HashMap<>();
+        deliveryAnnotations.put("da", "value");
+
+        final AtomicReference<DeliveryAnnotations> decodedAnnotations = new AtomicReference<>();
+        final Message<?> decoded = decode(message.encode(deliveryAnnotations, ProtonBufferAllocator.defaultAllocator()), decodedAnnotations);
+
+        assertNotNull(decodedAnnotations.get());
+        assertEquals("value", decodedAnnotations.get().getValue().get(Symbol.valueOf("da")));
+        assertTrue(decoded.durable());
+        assertEquals("Hello World", decoded.body());
+    }
+
+    @Test
+    public void testTemplateWithoutSections() throws Exception {
+        final MessageTemplate template = MessageTemplate.create(Message.create());
+        final AdvancedMessage<byte[]> message = template.newMessage(new byte[] { 1, 2, 3 });
+
+        assertNull(message.header());
+        assertNull(message.annotations());
+        assertFalse(message.hasAnnotations());
+        assertFalse(message.durable());
+
+        message.messageId("ID:1");
+
+        final Message<?> decoded = decode(message.encode(null, ProtonBufferAllocator.defaultAllocator()), null);
+
+        assertEquals("ID:1", decoded.messageId());
+        assertFalse(decoded.durable());
+        assertArrayEquals(new byte[] { 1, 2, 3 }, (byte[]) decoded.body());
+    }
+
+    @Test
+    public void testMessagesAreIndependent() throws Exception {
+        final MessageTemplate template = MessageTemplate.create(createTemplateMessage().messageId("ID:0"));
+        final AdvancedMessage<String> message1 = template.newMessage("one");
+        final AdvancedMessage<String> message2 = template.newMessage("two");
+
+        assertEquals("ID:0", message1.messageId());
+        assertEquals("ID:0", message2.messageId());
+
+        message1.messageId("ID:1");
+
+        assertEquals("ID:1", message1.messageId());
+        assertEquals("ID:0", message2.messageId());
+        assertEquals("ID:1", message1.properties().getMessageId());
+        assertEquals("queue", message1.properties().getTo());
+        assertEquals("one", message1.body());
+        assertEquals("two", message2.body());
+    }
+
+    @Test
+    public void testTemplateIsNotAffectedByChangesToSourceMessage() throws Exception {
+        final Message<String> source = createTemplateMessage();
+        final MessageTemplate template = MessageTemplate.create(source);
+
+        source.subject("changed");
+        source.durable(false);
+
+        final Message<?> decoded = decode(template.newMessage().encode(null, ProtonBufferAllocator.defaultAllocator()), null);
+
+        assertEquals("subject", decoded.subject());
+        assertTrue(decoded.durable());
+    }
+
+    @Test
+    public void testTemplateSectionsCannotBeModified() throws Exception {
+        final AdvancedMessage<String> message = MessageTemplate.create(createTemplateMessage()).newMessage();
+
+        assertThrows(ClientUnsupportedOperationException.class, () -> message.durable(false));
+        assertThrows(ClientUnsupportedOperationException.class, () -> message.header(null));
+        assertThrows(ClientUnsupportedOperationException.class, () -> message.subject("test"));
+        assertThrows(ClientUnsupportedOperationException.class, () -> message.properties(null));
+        assertThrows(ClientUnsupportedOperationException.class, () -> message.annotation("x-opt-test", 1));
+        assertThrows(ClientUnsupportedOperationException.class, () -> message.removeAnnotation("x-opt-test"));
+        assertThrows(ClientUnsupportedOperationException.class, () -> message.annotations(null));
+    }
+
+    private static Message<String> createTemplateMessage() throws Exception {
+        return Message.<String>create()
+                      .durable(true)
+                      .priority((byte) 7)
+                      .to("queue")
+                      .subject("subject")
+                      .contentType("text/plain")
+                      .groupSequence(42)
+                      .annotation("x-opt-test", "value");
+    }
+
+    private static Message<?> decode(ProtonBuffer encoded, AtomicReference<DeliveryAnnotations> annotations) throws Exception {
+        try (encoded) {
+            return ClientMessageSupport.decodeMessage(encoded, da -> {
+                if (annotations != null) {
+                    annotations.set(da);
+                }
+            });
+        }
+    }
+}
@@ -37,6 +37,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.client.AdvancedMessage;
 import org.apache.qpid.protonj2.client.Message;
 import org.apache.qpid.protonj2.client.exceptions.ClientException;
@@ -810,4 +811,17 @@ class ClientMessageTest {
         assertFalse(message.hasAnnotation("test"));
         assertFalse(message.hasAnnotations());
     }
+
+    @Test
+    public void testEncodeOfLargeDataBodyAllocatesEncodedSize() throws ClientException {
+        final ClientMessage<byte[]> message = ClientMessage.create(new Data(new byte[65536]));
+
+        message.durable(true).messageId("ID:1").subject("test").property("key", "value");
+        message.annotation("x-opt-test", "value");
+        message.footer("footer", 1);
+
+        try (ProtonBuffer buffer = ClientMessageSupport.encodeMessage(message, Collections.singletonMap("da", 1))) {
+            assertEquals(buffer.getReadableBytes(), buffer.capacity());
+        }
+    }
 }
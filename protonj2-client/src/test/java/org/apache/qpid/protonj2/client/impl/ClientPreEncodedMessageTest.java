@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.client.Message;
+import org.apache.qpid.protonj2.client.PreEncodedMessage;
+import org.apache.qpid.protonj2.client.exceptions.ClientIllegalStateException;
+import org.apache.qpid.protonj2.client.exceptions.ClientUnsupportedOperationException;
+import org.junit.jupiter.api.Test;
+
+class ClientPreEncodedMessageTest {
+
+    @Test
+    public void testEncodeMatchesStandardEncoding() throws Exception {
+        final Message<String> message = Message.<String>create("Hello World").durable(true).messageId("ID:1");
+
+        try (PreEncodedMessage<String> encoded = PreEncodedMessage.create(message);
+             ProtonBuffer expected = ClientMessageSupport.encodeMessage(ClientMessageSupport.convertMessage(message), null);
+             ProtonBuffer actual = encoded.encode(null)) {
+
+            assertTrue(actual.isReadOnly());
+            assertEquals(expected.getReadableBytes(), encoded.encodedSize());
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void testEncodeWithDeliveryAnnotationsMatchesStandardEncoding() throws Exception {
+        final Message<String> message = Message.<String>create("Hello World").durable(true).subject("test");
+        final Map<String, Object> deliveryAnnotations = new HashMap<>();
+        deliveryAnnotations.put("one", 1);
+
+        try (PreEncodedMessage<String> encoded = PreEncodedMessage.create(message);
+             ProtonBuffer expected = ClientMessageSupport.encodeMessage(ClientMessageSupport.convertMessage(message), deliveryAnnotations);
+             ProtonBuffer actual = encoded.encode(deliveryAnnotations)) {
+
+            assertTrue(actual.isReadOnly());
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void testEncodedViewsAreIndependent() throws Exception {
+        try (PreEncodedMessage<String> encoded = PreEncodedMessage.create(Message.create("Hello World"));
+             ProtonBuffer view1 = encoded.encode(null);
+             ProtonBuffer view2 = encoded.encode(null)) {
+
+            assertNotSame(view1, view2);
+
+            view1.advanceReadOffset(view1.getReadableBytes());
+
+            assertFalse(view1.isReadable());
+            assertEquals(encoded.encodedSize(), view2.getReadableBytes());
+        }
+    }
+
+    @Test
+    public void testViewRemainsReadableAfterMessageClosed() throws Exception {
+        final ProtonBuffer view;
+        final PreEncodedMessage<String> encoded =
+            PreEncodedMessage.create(Message.create("Hello World"), ProtonBufferAllocator.defaultAllocator());
+
+        try (encoded) {
+            view = encoded.encode(null);
+        }
+
+        assertThrows(ClientIllegalStateException.class, () -> encoded.encode(null));
+        assertEquals(encoded.encodedSize(), view.getReadableBytes());
+
+        view.close();
+    }
+
+    @Test
+    public void testSectionsDecodedBeforeCloseRemainReadable() throws Exception {
+        final Message<String> message = Message.<String>create("Hello World").durable(true).subject("test");
+        final PreEncodedMessage<String> encoded = PreEncodedMessage.create(message);
+
+        try (encoded) {
+            assertEquals("Hello World", encoded.body());
+        }
+
+        assertEquals("Hello World", encoded.body());
+        assertThrows(ClientIllegalStateException.class, () -> encoded.subject());
+        assertThrows(ClientIllegalStateException.class, () -> encoded.durable());
+    }
+
+    @Test
+    public void testMissingSectionsReadableAfterClose() throws Exception {
+        final PreEncodedMessage<String> encoded = PreEncodedMessage.create(Message.create("Hello World"));
+
+        encoded.close();
+
+        assertFalse(encoded.hasProperties());
+        assertFalse(encoded.hasAnnotations());
+        assertNull(encoded.subject());
+    }
+
+    @Test
+    public void testValuesAreNotAffectedByChangesToSourceMessage() throws Exception {
+        final Message<String> message = Message.<String>create("Hello World").durable(true).subject("test").property("key", "value");
+
+        try (PreEncodedMessage<String> encoded = PreEncodedMessage.create(message)) {
+            message.durable(false).subject("changed").property("key", "changed").body("Goodbye");
+            message.annotation("x-opt-test", "added");
+
+            assertTrue(encoded.durable());
+            assertEquals("test", encoded.subject());
+            assertEquals("value", encoded.property("key"));
+            assertEquals("Hello World", encoded.body());
+            assertFalse(encoded.hasAnnotations());
+        }
+    }
+
+    @Test
+    public void testReturnedSectionsCannotModifyMessage() throws Exception {
+        final Message<String> message = Message.<String>create("Hello World").durable(true).subject("test").property("key", "value");
+
+        try (PreEncodedMessage<String> encoded = PreEncodedMessage.create(message)) {
+            encoded.header().setDurable(false);
+            encoded.properties().setSubject("changed");
+            encoded.applicationProperties().getValue().put("key", "changed");
+
+            assertTrue(encoded.durable());
+            assertEquals("test", encoded.subject());
+            assertEquals("value", encoded.property("key"));
+        }
+    }
+
+    @Test
+    public void testMessageCannotBeModified() throws Exception {
+        try (PreEncodedMessage<String> encoded = PreEncodedMessage.create(Message.create("Hello World"))) {
+            assertThrows(ClientUnsupportedOperationException.class, () -> encoded.body("Goodbye"));
+            assertThrows(ClientUnsupportedOperationException.class, () -> encoded.durable(true));
+            assertThrows(ClientUnsupportedOperationException.class, () -> encoded.property("key", "value"));
+            assertThrows(ClientUnsupportedOperationException.class, () -> encoded.messageFormat(1));
+        }
+    }
+}
@@ -33,6 +33,8 @@ import org.apache.qpid.protonj2.client.Client;
 import org.apache.qpid.protonj2.client.Connection;
 import org.apache.qpid.protonj2.client.DeliveryMode;
 import org.apache.qpid.protonj2.client.Message;
+import org.apache.qpid.protonj2.client.MessageTemplate;
+import org.apache.qpid.protonj2.client.PreEncodedMessage;
 import org.apache.qpid.protonj2.client.Sender;
 import org.apache.qpid.protonj2.client.SenderOptions;
 import org.apache.qpid.protonj2.client.Session;
@@ -1290,4 +1292,149 @@ class MessageSendTest extends ImperativeClientTestCase {
             peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
         }
     }
+
+    @Test
+    public void testSendPreEncodedMessageFromMultipleSenders() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofSender().respond();
+            peer.remoteFlow().withLinkCredit(10).queue();
+            peer.expectAttach().ofSender().respond();
+            peer.remoteFlow().withLinkCredit(10).queue();
+            peer.expectAttach().respond();  // Open a receiver to ensure sender link has processed
+            peer.expectFlow();              // the inbound flow frame we sent previously before send.
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Sender test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort()).openFuture().get();
+
+            Session session = connection.openSession().openFuture().get();
+            SenderOptions options = new SenderOptions().deliveryMode(DeliveryMode.AT_MOST_ONCE);
+            Sender sender1 = session.openSender("test-qos-1", options);
+            Sender sender2 = session.openSender("test-qos-2", options);
+
+            // Gates send on remote flow having been sent and received
+            session.openReceiver("dummy").openFuture().get();
+
+            HeaderMatcher headerMatcher = new HeaderMatcher(true);
+            headerMatcher.withDurable(true);
+            headerMatcher.withPriority((byte) 1);
+            EncodedAmqpValueMatcher bodyMatcher = new EncodedAmqpValueMatcher("Hello World");
+            TransferPayloadCompositeMatcher payloadMatcher = new TransferPayloadCompositeMatcher();
+            payloadMatcher.setHeadersMatcher(headerMatcher);
+            payloadMatcher.setMessageContentMatcher(bodyMatcher);
+
+            DeliveryAnnotationsMatcher daMatcher = new DeliveryAnnotationsMatcher(true);
+            daMatcher.withEntry("one", Matchers.equalTo(1));
+            TransferPayloadCompositeMatcher annotatedPayloadMatcher = new TransferPayloadCompositeMatcher();
+            annotatedPayloadMatcher.setHeadersMatcher(headerMatcher);
+            annotatedPayloadMatcher.setDeliveryAnnotationsMatcher(daMatcher);
+            annotatedPayloadMatcher.setMessageContentMatcher(bodyMatcher);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectTransfer().withHandle(0).withPayload(payloadMatcher).accept();
+            peer.expectTransfer().withHandle(1).withPayload(annotatedPayloadMatcher).accept();
+            peer.expectTransfer().withHandle(0).withPayload(payloadMatcher).accept();
+            peer.expectDetach().respond();
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+
+            final Message<String> message = Message.create("Hello World");
+
+            message.durable(true);
+            message.priority((byte) 1);
+
+            final Map<String, Object> deliveryAnnotations = new HashMap<>();
+            deliveryAnnotations.put("one", 1);
+
+            try (PreEncodedMessage<String> encoded = PreEncodedMessage.create(message)) {
+                assertNotNull(sender1.send(encoded).settlementFuture().get());
+                assertNotNull(sender2.send(encoded, deliveryAnnotations).settlementFuture().get());
+                assertNotNull(sender1.send(encoded).settlementFuture().get());
+            }
+
+            sender1.closeAsync().get(10, TimeUnit.SECONDS);
+            sender2.closeAsync().get(10, TimeUnit.SECONDS);
+
+            connection.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testSendMessagesCreatedFromMessageTemplate() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofSender().respond();
+            peer.remoteFlow().withLinkCredit(10).queue();
+            peer.expectAttach().respond();  // Open a receiver to ensure sender link has processed
+            peer.expectFlow();              // the inbound flow frame we sent previously before send.
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Sender test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort()).openFuture().get();
+
+            Session session = connection.openSession().openFuture().get();
+            SenderOptions options = new SenderOptions().deliveryMode(DeliveryMode.AT_MOST_ONCE);
+            Sender sender = session.openSender("test-qos", options);
+
+            // Gates send on remote flow having been sent and received
+            session.openReceiver("dummy").openFuture().get();
+
+            HeaderMatcher headerMatcher = new HeaderMatcher(true);
+            headerMatcher.withDurable(true);
+            MessageAnnotationsMatcher maMatcher = new MessageAnnotationsMatcher(true);
+            maMatcher.withEntry("x-opt-test", Matchers.equalTo("value"));
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+
+            final MessageTemplate template = MessageTemplate.create(
+                Message.create().durable(true).subject("test").annotation("x-opt-test", "value"));
+
+            for (int i = 0; i < 2; ++i) {
+                PropertiesMatcher propertiesMatcher = new PropertiesMatcher(true);
+                propertiesMatcher.withMessageId("ID:" + i);
+                propertiesMatcher.withSubject("test");
+                propertiesMatcher.withCreationTime(1000 + i);
+                TransferPayloadCompositeMatcher payloadMatcher = new TransferPayloadCompositeMatcher();
+                payloadMatcher.setHeadersMatcher(headerMatcher);
+                payloadMatcher.setMessageAnnotationsMatcher(maMatcher);
+                payloadMatcher.setPropertiesMatcher(propertiesMatcher);
+                payloadMatcher.setMessageContentMatcher(new EncodedAmqpValueMatcher("Hello " + i));
+
+                peer.expectTransfer().withPayload(payloadMatcher).accept();
+            }
+
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+
+            for (int i = 0; i < 2; ++i) {
+                final AdvancedMessage<String> message = template.newMessage("Hello " + i);
+
+                message.messageId("ID:" + i);
+                message.creationTime(1000 + i);
+
+                assertNotNull(sender.send(message).settlementFuture().get());
+            }
+
+            sender.closeAsync().get(10, TimeUnit.SECONDS);
+
+            connection.closeAsync().get(10, TimeUnit.SECONDS);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
 }
@@ -32,6 +32,7 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -41,6 +42,8 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.impl.ProtonMappedFileBufferAllocator;
 import org.apache.qpid.protonj2.client.AdvancedMessage;
 import org.apache.qpid.protonj2.client.Client;
 import org.apache.qpid.protonj2.client.Connection;
@@ -65,6 +68,7 @@ import org.apache.qpid.protonj2.client.exceptions.ClientLinkRemotelyClosedExcept
 import org.apache.qpid.protonj2.client.exceptions.ClientOperationTimedOutException;
 import org.apache.qpid.protonj2.client.test.ImperativeClientTestCase;
 import org.apache.qpid.protonj2.client.test.Wait;
+import org.apache.qpid.protonj2.codec.decoders.ProtonEncodedMapView;
 import org.apache.qpid.protonj2.test.driver.ProtonTestServer;
 import org.apache.qpid.protonj2.test.driver.codec.messaging.Modified;
 import org.apache.qpid.protonj2.test.driver.codec.messaging.Released;
@@ -83,6 +87,7 @@ import org.apache.qpid.protonj2.types.transport.SenderSettleMode;
 import org.hamcrest.Matcher;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -1501,6 +1506,69 @@ public class ReceiverTest extends ImperativeClientTestCase {
         }
     }
 
+    @Test
+    public void testReceiveMessageInSplitTransferFramesHeldByLargeDeliveryAllocator(@TempDir Path directory) throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer();
+             ProtonMappedFileBufferAllocator allocator = new ProtonMappedFileBufferAllocator(directory)) {
+
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.expectFlow();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            ConnectionOptions options = new ConnectionOptions().largeDeliveryAllocator(allocator).largeDeliveryThreshold(8);
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort(), options);
+            Session session = connection.openSession();
+            final Receiver receiver = session.openReceiver("test-queue");
+            receiver.openFuture().get();
+
+            final String body = "Hello World".repeat(100);
+            final byte[] payload = createEncodedMessage(new AmqpValue<>(body));
+
+            final byte[] slice1 = Arrays.copyOfRange(payload, 0, 4);
+            final byte[] slice2 = Arrays.copyOfRange(payload, 4, 512);
+            final byte[] slice3 = Arrays.copyOfRange(payload, 512, payload.length);
+
+            peer.remoteTransfer().withHandle(0)
+                                 .withDeliveryId(0)
+                                 .withDeliveryTag(new byte[] { 1 })
+                                 .withMore(true)
+                                 .withMessageFormat(0)
+                                 .withPayload(slice1).now();
+            peer.remoteTransfer().withHandle(0)
+                                 .withMore(true)
+                                 .withMessageFormat(0)
+                                 .withPayload(slice2).now();
+            peer.remoteTransfer().withHandle(0)
+                                 .withMore(false)
+                                 .withMessageFormat(0)
+                                 .withPayload(slice3).now();
+
+            peer.expectDisposition().withSettled(true).withState().accepted();
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+
+            Delivery delivery = receiver.receive();
+            assertNotNull(delivery);
+            Message<?> received = delivery.message();
+            assertNotNull(received);
+            assertEquals(body, received.body());
+
+            delivery.accept();
+            receiver.closeAsync();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
     @Test
     public void testReceiverHandlesAbortedSplitFrameTransfer() throws Exception {
         final byte[] payload = createEncodedMessage(new AmqpValue<>("Hello World"));
@@ -2210,6 +2278,119 @@ public class ReceiverTest extends ImperativeClientTestCase {
         }
     }
 
+    @Test
+    public void testReceiveMessageWithLazyMessageDecoding() throws Exception {
+        final Map<String, Object> deliveryAnnotations = new HashMap<>();
+        deliveryAnnotations.put("da", "value");
+
+        final AdvancedMessage<String> sent = Message.create("Hello World").messageId("ID:1").property("ap", 1).toAdvancedMessage();
+        final ProtonBuffer encoded = ClientMessageSupport.encodeMessage(sent, deliveryAnnotations);
+        final byte[] payload = new byte[encoded.getReadableBytes()];
+        encoded.readBytes(payload, 0, payload.length);
+
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.expectFlow().withLinkCredit(10);
+            peer.remoteTransfer().withHandle(0)
+                                 .withDeliveryId(0)
+                                 .withDeliveryTag(new byte[] { 1 })
+                                 .withMore(false)
+                                 .withSettled(true)
+                                 .withMessageFormat(0)
+                                 .withPayload(payload).queue();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession();
+            Receiver receiver = session.openReceiver("test-queue", new ReceiverOptions().lazyMessageDecoding(true));
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+
+            Delivery delivery = receiver.receive(5, TimeUnit.SECONDS);
+            assertNotNull(delivery);
+
+            Message<String> received = delivery.message();
+            assertTrue(received instanceof ClientLazyMessage);
+            assertEquals("ID:1", received.messageId());
+            assertEquals(1, received.property("ap"));
+            assertEquals("Hello World", received.body());
+            assertEquals(deliveryAnnotations, delivery.annotations());
+
+            receiver.closeAsync();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testReceiveMessageWithLazyMapSections() throws Exception {
+        final AdvancedMessage<String> sent = Message.create("Hello World").property("ap", 1).annotation("x-opt-ma", "value").toAdvancedMessage();
+        final ProtonBuffer encoded = ClientMessageSupport.encodeMessage(sent, null);
+        final byte[] payload = new byte[encoded.getReadableBytes()];
+        encoded.readBytes(payload, 0, payload.length);
+
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().withRole(Role.RECEIVER.getValue()).respond();
+            peer.expectFlow().withLinkCredit(10);
+            peer.remoteTransfer().withHandle(0)
+                                 .withDeliveryId(0)
+                                 .withDeliveryTag(new byte[] { 1 })
+                                 .withMore(false)
+                                 .withSettled(true)
+                                 .withMessageFormat(0)
+                                 .withPayload(payload).queue();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            Session session = connection.openSession();
+            Receiver receiver = session.openReceiver("test-queue", new ReceiverOptions().lazyMapSections(true));
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+
+            Delivery delivery = receiver.receive(5, TimeUnit.SECONDS);
+            assertNotNull(delivery);
+
+            AdvancedMessage<String> received = delivery.<String>message().toAdvancedMessage();
+            assertTrue(received.applicationProperties().getValue() instanceof ProtonEncodedMapView);
+            assertTrue(received.annotations().getValue() instanceof ProtonEncodedMapView);
+            assertEquals(1, received.property("ap"));
+            assertEquals("value", received.annotation("x-opt-ma"));
+
+            received.property("added", 2);
+            received.removeAnnotation("x-opt-ma");
+
+            assertEquals(1, received.property("ap"));
+            assertEquals(2, received.property("added"));
+            assertFalse(received.hasAnnotation("x-opt-ma"));
+
+            receiver.closeAsync();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
     @Test
     public void testDeliveryRefusesRawStreamAfterAnnotations() throws Exception {
         final byte[] payload = createEncodedMessage(new AmqpValue<>("Hello World"));
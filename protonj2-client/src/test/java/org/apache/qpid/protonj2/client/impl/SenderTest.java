@@ -39,6 +39,7 @@ import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.apache.qpid.protonj2.buffer.impl.ProtonPooledBufferAllocator;
 import org.apache.qpid.protonj2.client.Client;
 import org.apache.qpid.protonj2.client.Connection;
 import org.apache.qpid.protonj2.client.ConnectionOptions;
@@ -1573,6 +1574,65 @@ public class SenderTest extends ImperativeClientTestCase {
         }
     }
 
+    @Test
+    public void testSendMultipleMessagesUsingPooledBufferAllocator() throws Exception {
+        final int CREDIT = 20;
+
+        try (ProtonTestServer peer = new ProtonTestServer();
+             ProtonPooledBufferAllocator allocator = new ProtonPooledBufferAllocator()) {
+
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofSender().respond();
+            peer.remoteFlow().withDeliveryCount(0).withLinkCredit(CREDIT).queue();
+            peer.expectAttach().ofReceiver().respond();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Sender test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            ConnectionOptions options = new ConnectionOptions().bufferAllocator(allocator);
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort(), options);
+            Session session = connection.openSession();
+            Sender sender = session.openSender("test-queue");
+            sender.openFuture().get();
+
+            // This ensures that the flow to sender is processed before we try-send
+            Receiver receiver = session.openReceiver("test-queue", new ReceiverOptions().creditWindow(0));
+            receiver.openFuture().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+
+            // Message bodies shrink so any stale bytes left in recycled buffers would be detected
+            for (int i = 0; i < CREDIT; ++i) {
+                TransferPayloadCompositeMatcher payloadMatcher = new TransferPayloadCompositeMatcher();
+                payloadMatcher.setMessageContentMatcher(new EncodedAmqpValueMatcher("Hello World".repeat(CREDIT - i)));
+
+                peer.expectTransfer().withDeliveryId(i)
+                                     .withPayload(payloadMatcher)
+                                     .withSettled(false)
+                                     .respond()
+                                     .withSettled(true)
+                                     .withState().accepted();
+            }
+            peer.expectDetach().respond();
+            peer.expectClose().respond();
+
+            for (int i = 0; i < CREDIT; ++i) {
+                final Tracker tracker = sender.send(Message.create("Hello World".repeat(CREDIT - i)));
+                tracker.settlementFuture().get();
+            }
+
+            sender.closeAsync().get();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
     @Test
     public void testSendBlockedForCreditFailsWhenLinkRemotelyClosed() throws Exception {
         try (ProtonTestServer peer = new ProtonTestServer()) {
@@ -43,6 +43,8 @@ import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.buffer.impl.ProtonInstrumentedBufferAllocator;
 import org.apache.qpid.protonj2.client.Client;
 import org.apache.qpid.protonj2.client.Connection;
 import org.apache.qpid.protonj2.client.ConnectionOptions;
@@ -71,6 +73,7 @@ import org.apache.qpid.protonj2.test.driver.matchers.messaging.HeaderMatcher;
 import org.apache.qpid.protonj2.test.driver.matchers.messaging.MessageAnnotationsMatcher;
 import org.apache.qpid.protonj2.test.driver.matchers.messaging.PropertiesMatcher;
 import org.apache.qpid.protonj2.test.driver.matchers.transport.TransferPayloadCompositeMatcher;
+import org.apache.qpid.protonj2.test.driver.matchers.types.EncodedAmqpSequenceMatcher;
 import org.apache.qpid.protonj2.test.driver.matchers.types.EncodedAmqpValueMatcher;
 import org.apache.qpid.protonj2.test.driver.matchers.types.EncodedCompositingDataSectionMatcher;
 import org.apache.qpid.protonj2.test.driver.matchers.types.EncodedDataMatcher;
@@ -394,6 +397,98 @@ public class StreamSenderTest extends ImperativeClientTestCase {
         }
     }
 
+    @Test
+    void testAddBodySequenceWritesSingleSequenceSection() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofSender().respond();
+            peer.remoteFlow().withLinkCredit(1).queue();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            StreamSender sender = connection.openStreamSender("test-queue");
+            StreamSenderMessage message = sender.beginMessage();
+
+            message.durable(true);
+
+            final List<String> elements = Arrays.asList("one", "two", "three");
+
+            HeaderMatcher headerMatcher = new HeaderMatcher(true);
+            headerMatcher.withDurable(true);
+            EncodedAmqpSequenceMatcher bodyMatcher = new EncodedAmqpSequenceMatcher(elements);
+            TransferPayloadCompositeMatcher payloadMatcher = new TransferPayloadCompositeMatcher();
+            payloadMatcher.setHeadersMatcher(headerMatcher);
+            payloadMatcher.setMessageContentMatcher(bodyMatcher);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectTransfer().withPayload(payloadMatcher).withMore(false).accept();
+            peer.expectDetach().respond();
+            peer.expectEnd().respond();
+            peer.expectClose().respond();
+
+            message.addBodySequence(elements.stream().iterator());
+            message.complete();
+
+            assertThrows(ClientIllegalStateException.class, () -> message.addBodySequence(elements.iterator()));
+
+            sender.closeAsync().get();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void testAddBodySequenceSplitsIntoSectionsBoundedByWriteBufferSize() throws Exception {
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofSender().respond();
+            peer.remoteFlow().withLinkCredit(1).queue();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort());
+            StreamSenderOptions options = new StreamSenderOptions().writeBufferSize(StreamSenderOptions.MIN_BUFFER_SIZE_LIMIT);
+            StreamSender sender = connection.openStreamSender("test-queue", options);
+            StreamSenderMessage message = sender.beginMessage();
+
+            // Each element encodes to 100 bytes so three elements overflow the write buffer size
+            final List<String> elements = new ArrayList<>();
+            for (int i = 0; i < 7; ++i) {
+                elements.add(String.valueOf(i).repeat(98));
+            }
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectTransfer().withPayload(new EncodedAmqpSequenceMatcher(elements.subList(0, 3))).withMore(true);
+            peer.expectTransfer().withPayload(new EncodedAmqpSequenceMatcher(elements.subList(3, 6))).withMore(true);
+            peer.expectTransfer().withPayload(new EncodedAmqpSequenceMatcher(elements.subList(6, 7))).withMore(false).accept();
+            peer.expectDetach().respond();
+            peer.expectEnd().respond();
+            peer.expectClose().respond();
+
+            message.addBodySequence(elements.iterator());
+            message.complete();
+
+            sender.closeAsync().get();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+    }
+
     @Test
     public void testClearBodySectionsIsNoOpForStreamSenderMessage() throws Exception {
         try (ProtonTestServer peer = new ProtonTestServer()) {
@@ -1517,6 +1612,65 @@ public class StreamSenderTest extends ImperativeClientTestCase {
         }
     }
 
+    @Test
+    void testStreamSenderEncodesUsingConfiguredBufferAllocator() throws Exception {
+        final ProtonInstrumentedBufferAllocator allocator =
+            new ProtonInstrumentedBufferAllocator(ProtonBufferAllocator.defaultAllocator());
+
+        try (ProtonTestServer peer = new ProtonTestServer()) {
+            peer.expectSASLAnonymousConnect();
+            peer.expectOpen().respond();
+            peer.expectBegin().respond();
+            peer.expectAttach().ofSender().respond();
+            peer.remoteFlow().withLinkCredit(2).queue();
+            peer.start();
+
+            URI remoteURI = peer.getServerURI();
+
+            LOG.info("Test started, peer listening on: {}", remoteURI);
+
+            Client container = Client.create();
+            ConnectionOptions options = new ConnectionOptions().bufferAllocator(allocator);
+            Connection connection = container.connect(remoteURI.getHost(), remoteURI.getPort(), options);
+            StreamSender sender = connection.openStreamSender("test-queue");
+
+            final List<String> elements = Arrays.asList("one", "two", "three");
+
+            HeaderMatcher headerMatcher = new HeaderMatcher(true);
+            headerMatcher.withDurable(true);
+            EncodedAmqpSequenceMatcher bodyMatcher = new EncodedAmqpSequenceMatcher(elements);
+            TransferPayloadCompositeMatcher payloadMatcher = new TransferPayloadCompositeMatcher();
+            payloadMatcher.setHeadersMatcher(headerMatcher);
+            payloadMatcher.setMessageContentMatcher(bodyMatcher);
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+            peer.expectTransfer().withPayload(payloadMatcher).withMore(false).accept();
+            peer.expectTransfer().withMore(true).withPayload(new byte[] { 0, 1, 2, 3 });
+            peer.expectTransfer().withMore(false).withNullPayload();
+            peer.expectDetach().respond();
+            peer.expectEnd().respond();
+            peer.expectClose().respond();
+
+            StreamSenderMessage message = sender.beginMessage();
+            message.durable(true);
+            message.addBodySequence(elements.iterator());
+            message.complete();
+
+            OutputStream stream = sender.beginMessage().rawOutputStream();
+            stream.write(new byte[] { 0, 1, 2, 3 });
+            stream.flush();
+            stream.close();
+
+            sender.closeAsync().get();
+            connection.closeAsync().get();
+
+            peer.waitForScriptToComplete(5, TimeUnit.SECONDS);
+        }
+
+        assertTrue(allocator.getTotalAllocations() > 0);
+        assertEquals(0, allocator.getLiveBuffers());
+    }
+
     @Test
     public void testStreamSenderMessageWithDeliveryAnnotations() throws Exception {
         try (ProtonTestServer peer = new ProtonTestServer()) {
@@ -36,6 +36,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.buffer.impl.ProtonDirectByteBufferAllocator;
 import org.apache.qpid.protonj2.buffer.netty.Netty4ProtonBufferAllocator;
 import org.apache.qpid.protonj2.client.SslOptions;
 import org.apache.qpid.protonj2.client.TransportOptions;
@@ -606,6 +607,55 @@ public class TcpTransportTest extends ImperativeClientTestCase {
         assertTrue(exceptions.isEmpty());
     }
 
+    @Test
+    public void testDataSentWithinDirectBuffersIsReceived() throws Exception {
+        try (NettyEchoServer server = createEchoServer()) {
+            server.start();
+
+            int port = server.getServerPort();
+
+            Transport transport = createTransport(createTransportOptions(), createSSLOptions());
+            try {
+                transport.connect(HOSTNAME, port, testListener).awaitConnect();
+                LOG.info("Connected to server:{}:{} as expected.", HOSTNAME, port);
+            } catch (Exception e) {
+                fail("Should not have failed to connect to the server at " + HOSTNAME + ":" + port + " but got exception: " + e);
+            }
+
+            assertTrue(transport.isConnected());
+
+            final ProtonBufferAllocator directAllocator = ProtonDirectByteBufferAllocator.allocator();
+
+            ProtonBuffer sendBuffer1 = directAllocator.outputBuffer(SEND_BYTE_COUNT);
+            for (int i = 0; i < SEND_BYTE_COUNT; ++i) {
+                sendBuffer1.writeByte((byte) 'A');
+            }
+            ProtonBuffer sendBuffer2 = directAllocator.outputBuffer(SEND_BYTE_COUNT + 10);
+            for (int i = 0; i < SEND_BYTE_COUNT + 10; ++i) {
+                sendBuffer2.writeByte((byte) 'A');
+            }
+            ProtonBuffer sendBuffer3 = directAllocator.outputBuffer(SEND_BYTE_COUNT);
+            for (int i = 0; i < SEND_BYTE_COUNT; ++i) {
+                sendBuffer3.writeByte((byte) 'A');
+            }
+
+            transport.write(directAllocator.composite(new ProtonBuffer[] { sendBuffer1, sendBuffer2 }));
+            transport.writeAndFlush(sendBuffer3);
+
+            assertTrue(Wait.waitFor(new Wait.Condition() {
+                @Override
+                public boolean isSatisfied() throws Exception {
+                    return bytesRead.get() == SEND_BYTE_COUNT * 3 + 10;
+                }
+            }, 10000, 50));
+
+            transport.close();
+        }
+
+        assertTrue(!transportErrored);  // Normal shutdown does not trigger the event.
+        assertTrue(exceptions.isEmpty());
+    }
+
     @Test
     public void testDataSentWithWriteAndFlushIsReceived() throws Exception {
         try (NettyEchoServer server = createEchoServer()) {
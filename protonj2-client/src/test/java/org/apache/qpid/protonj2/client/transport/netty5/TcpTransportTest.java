@@ -32,6 +32,7 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
@@ -613,6 +614,65 @@ public class TcpTransportTest extends ImperativeClientTestCase {
         assertTrue(exceptions.isEmpty());
     }
 
+    @Test
+    public void testDataSentWithinCompositeOfNettyAndReadOnlyHeapBuffersIsReceived() throws Exception {
+        try (NettyEchoServer server = createEchoServer()) {
+            server.start();
+
+            int port = server.getServerPort();
+
+            Transport transport = createTransport(createTransportOptions(), createSSLOptions());
+            try {
+                transport.connect(HOSTNAME, port, testListener).awaitConnect();
+                LOG.info("Connected to server:{}:{} as expected.", HOSTNAME, port);
+            } catch (Exception e) {
+                fail("Should not have failed to connect to the server at " + HOSTNAME + ":" + port + " but got exception: " + e);
+            }
+
+            assertTrue(transport.isConnected());
+
+            ProtonBuffer header = transport.getBufferAllocator().outputBuffer(8);
+            for (int i = 0; i < 8; ++i) {
+                header.writeByte((byte) 'H');
+            }
+
+            ProtonBuffer payload = ProtonBufferAllocator.defaultAllocator().allocate(SEND_BYTE_COUNT);
+            for (int i = 0; i < SEND_BYTE_COUNT; ++i) {
+                payload.writeByte((byte) ('A' + (i % 10)));
+            }
+            payload.convertToReadOnly();
+
+            ProtonBuffer sendBuffer = transport.getBufferAllocator().composite(
+                new ProtonBuffer[] { header.convertToReadOnly(), payload.copy(true) });
+
+            transport.writeAndFlush(sendBuffer);
+
+            assertTrue(Wait.waitFor(new Wait.Condition() {
+                @Override
+                public boolean isSatisfied() throws Exception {
+                    return bytesRead.get() == SEND_BYTE_COUNT + 8;
+                }
+            }, 10000, 50));
+
+            transport.close();
+
+            ProtonBuffer received = ProtonBufferAllocator.defaultAllocator().allocate(SEND_BYTE_COUNT + 8);
+            for (ProtonBuffer buffer : data) {
+                received.writeBytes(buffer);
+            }
+
+            for (int i = 0; i < 8; ++i) {
+                assertEquals((byte) 'H', received.readByte());
+            }
+
+            assertEquals(payload, received);
+            assertFalse(payload.isClosed());
+        }
+
+        assertTrue(!transportErrored);  // Normal shutdown does not trigger the event.
+        assertTrue(exceptions.isEmpty());
+    }
+
     @Test
     public void testDataSentWithWriteAndFlushIsReceived() throws Exception {
         try (NettyEchoServer server = createEchoServer()) {
@@ -653,6 +713,38 @@ public class TcpTransportTest extends ImperativeClientTestCase {
         assertTrue(exceptions.isEmpty());
     }
 
+    @Test
+    public void testWriteAndFlushOfEmptyBufferRunsCompletionCallback() throws Exception {
+        try (NettyEchoServer server = createEchoServer()) {
+            server.start();
+
+            int port = server.getServerPort();
+
+            Transport transport = createTransport(createTransportOptions(), createSSLOptions());
+            try {
+                transport.connect(HOSTNAME, port, testListener).awaitConnect();
+                LOG.info("Connected to server:{}:{} as expected.", HOSTNAME, port);
+            } catch (Exception e) {
+                fail("Should not have failed to connect to the server at " + HOSTNAME + ":" + port + " but got exception: " + e);
+            }
+
+            assertTrue(transport.isConnected());
+
+            final CountDownLatch writeCompleted = new CountDownLatch(1);
+            final ProtonBuffer sendBuffer = transport.getBufferAllocator().outputBuffer(SEND_BYTE_COUNT);
+
+            transport.writeAndFlush(sendBuffer, writeCompleted::countDown);
+
+            assertTrue(writeCompleted.await(10, TimeUnit.SECONDS));
+            assertTrue(sendBuffer.isClosed());
+
+            transport.close();
+        }
+
+        assertTrue(!transportErrored);  // Normal shutdown does not trigger the event.
+        assertTrue(exceptions.isEmpty());
+    }
+
     @Test
     public void testMultipleDataPacketsSentAreReceived() throws Exception {
         doMultipleDataPacketsSentAndReceive(SEND_BYTE_COUNT, 1);
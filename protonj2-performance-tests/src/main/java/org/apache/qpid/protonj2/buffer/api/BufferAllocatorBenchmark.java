@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.buffer.api;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.buffer.impl.ProtonByteArrayBufferAllocator;
+import org.apache.qpid.protonj2.buffer.impl.ProtonPooledBufferAllocator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the allocate, write and close cycle of the byte array allocator against the
+ * pooled allocator for a range of buffer sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BufferAllocatorBenchmark {
+
+    @Param({"heap", "pooled"})
+    public String allocatorType;
+
+    @Param({"256", "4096", "65536"})
+    public int bufferSize;
+
+    private ProtonBufferAllocator allocator;
+    private byte[] payload;
+
+    @Setup
+    public void init() {
+        if ("pooled".equals(allocatorType)) {
+            allocator = new ProtonPooledBufferAllocator();
+        } else {
+            allocator = new ProtonByteArrayBufferAllocator();
+        }
+
+        payload = new byte[bufferSize];
+    }
+
+    @TearDown
+    public void destroy() {
+        allocator.close();
+    }
+
+    @Benchmark
+    public void allocateWriteAndClose(Blackhole blackhole) {
+        try (ProtonBuffer buffer = allocator.outputBuffer(bufferSize)) {
+            buffer.writeBytes(payload);
+            blackhole.consume(buffer.getReadableBytes());
+        }
+    }
+
+    @Benchmark
+    public void allocateGrowAndClose(Blackhole blackhole) {
+        // Start small and let the buffer grow as message encoding does
+        try (ProtonBuffer buffer = allocator.outputBuffer(128)) {
+            buffer.writeBytes(payload);
+            blackhole.consume(buffer.getReadableBytes());
+        }
+    }
+
+    @Benchmark
+    public void copyAndClose(Blackhole blackhole) {
+        try (ProtonBuffer buffer = allocator.copy(payload)) {
+            blackhole.consume(buffer.getReadableBytes());
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        runBenchmark(BufferAllocatorBenchmark.class);
+    }
+
+    public static void runBenchmark(Class<?> benchmarkClass) throws RunnerException {
+        final Options opt = new OptionsBuilder()
+            .include(benchmarkClass.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .shouldDoGC(true)
+            .warmupIterations(5)
+            .measurementIterations(5)
+            .forks(1)
+            .build();
+
+        new Runner(opt).run();
+    }
+}
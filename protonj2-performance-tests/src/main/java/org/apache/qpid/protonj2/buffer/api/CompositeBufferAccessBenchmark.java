@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.buffer.api;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.buffer.ProtonCompositeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Benchmarks indexed and sequential access to composite buffers made up of many small
+ * components such as a delivery payload that arrived in many transfer frames.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 1)
+public class CompositeBufferAccessBenchmark {
+
+    private static final ProtonBufferAllocator ALLOC = ProtonBufferAllocator.defaultAllocator();
+
+    @Param({"16", "256"})
+    public int components;
+
+    @Param({"64"})
+    public int componentSize;
+
+    private ProtonCompositeBuffer composite;
+    private int[] randomIndices;
+
+    @Setup(Level.Trial)
+    public void init() {
+        composite = appendComponents(ALLOC.composite());
+
+        final Random random = new Random(42);
+
+        randomIndices = new int[1024];
+        for (int i = 0; i < randomIndices.length; ++i) {
+            randomIndices[i] = random.nextInt(composite.capacity() - Long.BYTES);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void destroy() {
+        composite.close();
+    }
+
+    @Benchmark
+    public void sequentialGetByte(Blackhole blackhole) {
+        for (int i = 0; i < composite.capacity(); ++i) {
+            blackhole.consume(composite.getByte(i));
+        }
+    }
+
+    @Benchmark
+    public void sequentialGetLong(Blackhole blackhole) {
+        for (int i = 0; i <= composite.capacity() - Long.BYTES; i += Long.BYTES) {
+            blackhole.consume(composite.getLong(i));
+        }
+    }
+
+    @Benchmark
+    public void sequentialReadInt(Blackhole blackhole) {
+        composite.setReadOffset(0);
+        while (composite.getReadableBytes() >= Integer.BYTES) {
+            blackhole.consume(composite.readInt());
+        }
+    }
+
+    @Benchmark
+    public void randomGetLong(Blackhole blackhole) {
+        for (int index : randomIndices) {
+            blackhole.consume(composite.getLong(index));
+        }
+    }
+
+    @Benchmark
+    public void appendAndReadWithoutConsolidation(Blackhole blackhole) {
+        try (ProtonCompositeBuffer buffer = appendComponents(ALLOC.composite())) {
+            while (buffer.isReadable()) {
+                blackhole.consume(buffer.readLong());
+            }
+        }
+    }
+
+    @Benchmark
+    public void appendAndReadWithConsolidation(Blackhole blackhole) {
+        try (ProtonCompositeBuffer buffer = appendComponents(ALLOC.composite().autoConsolidate(16, componentSize))) {
+            while (buffer.isReadable()) {
+                blackhole.consume(buffer.readLong());
+            }
+        }
+    }
+
+    private ProtonCompositeBuffer appendComponents(ProtonCompositeBuffer target) {
+        for (int i = 0; i < components; ++i) {
+            target.append(ALLOC.allocate(componentSize).fill((byte) i).setWriteOffset(componentSize));
+        }
+
+        return target;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        CompositeBufferImpBenchmark.runBenchmark(CompositeBufferAccessBenchmark.class);
+    }
+}
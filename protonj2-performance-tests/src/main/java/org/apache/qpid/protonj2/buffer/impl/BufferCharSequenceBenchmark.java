@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.buffer.impl;
+
+import java.nio.charset.StandardCharsets;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Benchmarks writing and reading UTF-8 encoded character sequences on each of the buffer implementations.
+ */
+public class BufferCharSequenceBenchmark extends ProtonBufferBenchmarkBase {
+
+    @Param({"ascii", "multibyte"})
+    public String content;
+
+    private String string;
+    private int encodedLength;
+
+    @Override
+    protected void initBuffer() {
+        final String unit = "ascii".equals(content) ? "queue://orders/" : "quéuë-消息/";
+        final StringBuilder builder = new StringBuilder();
+
+        while (builder.toString().getBytes(StandardCharsets.UTF_8).length + unit.getBytes(StandardCharsets.UTF_8).length <= size) {
+            builder.append(unit);
+        }
+
+        string = builder.toString();
+        encodedLength = string.getBytes(StandardCharsets.UTF_8).length;
+
+        buffer.writeCharSequence(string, StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public ProtonBuffer writeCharSequence() {
+        buffer.setWriteOffset(0);
+        buffer.writeCharSequence(string, StandardCharsets.UTF_8);
+        return buffer;
+    }
+
+    @Benchmark
+    public CharSequence readCharSequence() {
+        buffer.setReadOffset(0);
+        return buffer.readCharSequence(encodedLength, StandardCharsets.UTF_8);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        runBenchmark(BufferCharSequenceBenchmark.class);
+    }
+}
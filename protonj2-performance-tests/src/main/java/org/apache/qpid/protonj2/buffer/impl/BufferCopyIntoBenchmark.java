@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.buffer.impl;
+
+import java.nio.ByteBuffer;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Benchmarks copying the contents of each buffer implementation into every other implementation
+ * as well as into arrays and NIO buffers.
+ */
+public class BufferCopyIntoBenchmark extends ProtonBufferBenchmarkBase {
+
+    @Param({"ARRAY", "COMPOSITE", "NETTY4", "NETTY5"})
+    public BufferImplementation destination;
+
+    private ProtonBuffer target;
+    private byte[] array;
+    private ByteBuffer heapByteBuffer;
+    private ByteBuffer directByteBuffer;
+
+    @Override
+    protected void initBuffer() {
+        buffer.fill((byte) 1).setWriteOffset(size);
+
+        target = destination.allocate(size);
+        array = new byte[size];
+        heapByteBuffer = ByteBuffer.allocate(size);
+        directByteBuffer = ByteBuffer.allocateDirect(size);
+    }
+
+    @Override
+    protected void destroyBuffer() {
+        target.close();
+    }
+
+    @Benchmark
+    public ProtonBuffer copyIntoBuffer() {
+        buffer.copyInto(0, target, 0, size);
+        return target;
+    }
+
+    @Benchmark
+    public ProtonBuffer writeBytesFromBuffer() {
+        buffer.setReadOffset(0);
+        target.setWriteOffset(0);
+        target.writeBytes(buffer);
+        return target;
+    }
+
+    @Benchmark
+    public byte[] copyIntoArray() {
+        buffer.copyInto(0, array, 0, size);
+        return array;
+    }
+
+    @Benchmark
+    public ByteBuffer copyIntoHeapByteBuffer() {
+        buffer.copyInto(0, heapByteBuffer, 0, size);
+        return heapByteBuffer;
+    }
+
+    @Benchmark
+    public ByteBuffer copyIntoDirectByteBuffer() {
+        buffer.copyInto(0, directByteBuffer, 0, size);
+        return directByteBuffer;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        runBenchmark(BufferCopyIntoBenchmark.class);
+    }
+}
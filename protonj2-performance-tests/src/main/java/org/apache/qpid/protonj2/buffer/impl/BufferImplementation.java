@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.buffer.impl;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.buffer.ProtonCompositeBuffer;
+import org.apache.qpid.protonj2.buffer.netty.Netty4ProtonBufferAllocator;
+import org.apache.qpid.protonj2.buffer.netty.Netty5ProtonBufferAllocator;
+
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty5.buffer.BufferAllocator;
+
+/**
+ * The {@link ProtonBuffer} implementations that the buffer benchmarks are run against, each
+ * of which allocates unpooled heap memory so that results compare only the implementations.
+ */
+public enum BufferImplementation {
+
+    ARRAY {
+        private final ProtonBufferAllocator allocator = ProtonByteArrayBufferAllocator.allocator();
+
+        @Override
+        public ProtonBuffer allocate(int capacity) {
+            return allocator.allocate(capacity);
+        }
+    },
+    COMPOSITE {
+        private final ProtonBufferAllocator allocator = ProtonByteArrayBufferAllocator.allocator();
+
+        @Override
+        public ProtonBuffer allocate(int capacity) {
+            final ProtonBuffer[] components = new ProtonBuffer[COMPOSITE_COMPONENTS];
+            final int componentSize = Math.max(1, capacity / COMPOSITE_COMPONENTS);
+
+            for (int i = 0; i < COMPOSITE_COMPONENTS; ++i) {
+                final int remaining = capacity - (componentSize * i);
+                components[i] = allocator.allocate(i == COMPOSITE_COMPONENTS - 1 ? remaining : componentSize);
+            }
+
+            return ProtonCompositeBuffer.create(allocator, components);
+        }
+    },
+    NETTY4 {
+        private final ProtonBufferAllocator allocator =
+            new Netty4ProtonBufferAllocator(new UnpooledByteBufAllocator(false));
+
+        @Override
+        public ProtonBuffer allocate(int capacity) {
+            return allocator.allocate(capacity);
+        }
+    },
+    NETTY5 {
+        private final ProtonBufferAllocator allocator =
+            new Netty5ProtonBufferAllocator(BufferAllocator.onHeapUnpooled());
+
+        @Override
+        public ProtonBuffer allocate(int capacity) {
+            return allocator.allocate(capacity);
+        }
+    };
+
+    /**
+     * Number of components the {@link #COMPOSITE} implementation spreads its capacity over.
+     */
+    public static final int COMPOSITE_COMPONENTS = 4;
+
+    /**
+     * Allocates a new buffer of this implementation type with exactly the given capacity.
+     *
+     * @param capacity
+     * 		The capacity of the buffer to allocate
+     *
+     * @return a new buffer of this implementation type.
+     */
+    public abstract ProtonBuffer allocate(int capacity);
+
+}
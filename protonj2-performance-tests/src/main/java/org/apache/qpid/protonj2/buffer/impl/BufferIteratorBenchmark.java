@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.buffer.impl;
+
+import org.apache.qpid.protonj2.buffer.ProtonBufferIterator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Benchmarks forward and reverse iterator traversal of each of the buffer implementations
+ * against the equivalent indexed access loop.
+ */
+public class BufferIteratorBenchmark extends ProtonBufferBenchmarkBase {
+
+    @Override
+    protected void initBuffer() {
+        for (int i = 0; i < size; ++i) {
+            buffer.writeByte((byte) i);
+        }
+    }
+
+    @Benchmark
+    public int indexedTraversal() {
+        int sum = 0;
+        for (int i = buffer.getReadOffset(); i < buffer.getWriteOffset(); ++i) {
+            sum += buffer.getByte(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int forwardIterator() {
+        final ProtonBufferIterator iterator = buffer.bufferIterator();
+
+        int sum = 0;
+        while (iterator.hasNext()) {
+            sum += iterator.next();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int reverseIterator() {
+        final ProtonBufferIterator iterator = buffer.bufferReverseIterator();
+
+        int sum = 0;
+        while (iterator.hasNext()) {
+            sum += iterator.next();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int iteratorForEach() {
+        final int[] sum = new int[1];
+        buffer.bufferIterator().forEach(value -> {
+            sum[0] += value;
+            return true;
+        });
+        return sum[0];
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        runBenchmark(BufferIteratorBenchmark.class);
+    }
+}
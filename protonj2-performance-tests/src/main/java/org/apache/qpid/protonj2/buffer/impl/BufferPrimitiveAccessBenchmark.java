@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.buffer.impl;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Benchmarks indexed and relative primitive access on each of the buffer implementations.
+ */
+public class BufferPrimitiveAccessBenchmark extends ProtonBufferBenchmarkBase {
+
+    @Override
+    protected void initBuffer() {
+        buffer.fill((byte) 1).setWriteOffset(size);
+    }
+
+    @Benchmark
+    public void getByte(Blackhole blackhole) {
+        for (int i = 0; i < size; ++i) {
+            blackhole.consume(buffer.getByte(i));
+        }
+    }
+
+    @Benchmark
+    public void getInt(Blackhole blackhole) {
+        for (int i = 0; i <= size - Integer.BYTES; i += Integer.BYTES) {
+            blackhole.consume(buffer.getInt(i));
+        }
+    }
+
+    @Benchmark
+    public void getLong(Blackhole blackhole) {
+        for (int i = 0; i <= size - Long.BYTES; i += Long.BYTES) {
+            blackhole.consume(buffer.getLong(i));
+        }
+    }
+
+    @Benchmark
+    public ProtonBuffer setByte() {
+        for (int i = 0; i < size; ++i) {
+            buffer.setByte(i, (byte) i);
+        }
+        return buffer;
+    }
+
+    @Benchmark
+    public ProtonBuffer setInt() {
+        for (int i = 0; i <= size - Integer.BYTES; i += Integer.BYTES) {
+            buffer.setInt(i, i);
+        }
+        return buffer;
+    }
+
+    @Benchmark
+    public ProtonBuffer setLong() {
+        for (int i = 0; i <= size - Long.BYTES; i += Long.BYTES) {
+            buffer.setLong(i, i);
+        }
+        return buffer;
+    }
+
+    @Benchmark
+    public void readByte(Blackhole blackhole) {
+        buffer.setReadOffset(0);
+        while (buffer.isReadable()) {
+            blackhole.consume(buffer.readByte());
+        }
+    }
+
+    @Benchmark
+    public void readInt(Blackhole blackhole) {
+        buffer.setReadOffset(0);
+        while (buffer.getReadableBytes() >= Integer.BYTES) {
+            blackhole.consume(buffer.readInt());
+        }
+    }
+
+    @Benchmark
+    public void readLong(Blackhole blackhole) {
+        buffer.setReadOffset(0);
+        while (buffer.getReadableBytes() >= Long.BYTES) {
+            blackhole.consume(buffer.readLong());
+        }
+    }
+
+    @Benchmark
+    public ProtonBuffer writeByte() {
+        buffer.setWriteOffset(0);
+        while (buffer.isWritable()) {
+            buffer.writeByte((byte) 1);
+        }
+        return buffer;
+    }
+
+    @Benchmark
+    public ProtonBuffer writeInt() {
+        buffer.setWriteOffset(0);
+        while (buffer.getWritableBytes() >= Integer.BYTES) {
+            buffer.writeInt(1);
+        }
+        return buffer;
+    }
+
+    @Benchmark
+    public ProtonBuffer writeLong() {
+        buffer.setWriteOffset(0);
+        while (buffer.getWritableBytes() >= Long.BYTES) {
+            buffer.writeLong(1);
+        }
+        return buffer;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        runBenchmark(BufferPrimitiveAccessBenchmark.class);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.buffer.impl;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Benchmarks splitting and compacting each of the buffer implementations, the allocation only
+ * benchmark gives the baseline cost that the split benchmarks include.
+ */
+public class BufferSplitCompactBenchmark extends ProtonBufferBenchmarkBase {
+
+    @Override
+    protected void initBuffer() {
+        buffer.fill((byte) 1).setWriteOffset(size);
+    }
+
+    @Benchmark
+    public void allocateAndClose(Blackhole blackhole) {
+        try (ProtonBuffer allocated = implementation.allocate(size)) {
+            blackhole.consume(allocated.setWriteOffset(size));
+        }
+    }
+
+    @Benchmark
+    public void readSplit(Blackhole blackhole) {
+        try (ProtonBuffer allocated = implementation.allocate(size)) {
+            allocated.setWriteOffset(size);
+
+            try (ProtonBuffer front = allocated.readSplit(size / 2)) {
+                blackhole.consume(front);
+            }
+        }
+    }
+
+    @Benchmark
+    public void splitAtOffset(Blackhole blackhole) {
+        try (ProtonBuffer allocated = implementation.allocate(size)) {
+            allocated.setWriteOffset(size);
+
+            try (ProtonBuffer front = allocated.split(size / 2 + 1)) {
+                blackhole.consume(front);
+            }
+        }
+    }
+
+    @Benchmark
+    public ProtonBuffer compact() {
+        buffer.setWriteOffset(size);
+        buffer.setReadOffset(size / 2);
+        return buffer.compact();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        runBenchmark(BufferSplitCompactBenchmark.class);
+    }
+}
@@ -0,0 +1,178 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.client.impl;
+
+import java.io.ByteArrayInputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.client.AdvancedMessage;
+import org.apache.qpid.protonj2.client.exceptions.ClientException;
+import org.apache.qpid.protonj2.codec.CodecBenchmarkBase;
+import org.apache.qpid.protonj2.codec.StreamDecoder;
+import org.apache.qpid.protonj2.codec.StreamDecoderState;
+import org.apache.qpid.protonj2.codec.decoders.ProtonStreamDecoderFactory;
+import org.apache.qpid.protonj2.types.Symbol;
+import org.apache.qpid.protonj2.types.messaging.ApplicationProperties;
+import org.apache.qpid.protonj2.types.messaging.Footer;
+import org.apache.qpid.protonj2.types.messaging.Header;
+import org.apache.qpid.protonj2.types.messaging.MessageAnnotations;
+import org.apache.qpid.protonj2.types.messaging.Properties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Benchmarks encoding and decoding of complete messages through {@link ClientMessageSupport} for a
+ * range of section mixes and body sizes, decoding the same encoding from a plain buffer, a composite
+ * buffer, a Netty backed buffer and the {@link StreamDecoder}.
+ */
+public class MessageCodecBenchmark extends CodecBenchmarkBase {
+
+    /**
+     * Size of the composite buffer components, roughly the payload of one transfer frame.
+     */
+    private static final int TRANSFER_PAYLOAD_SIZE = 16384;
+
+    public enum SectionMix {
+        BODY_ONLY,
+        TYPICAL,
+        FULL
+    }
+
+    @Param({"BODY_ONLY", "TYPICAL", "FULL"})
+    public SectionMix sections;
+
+    @Param({"0", "1024", "65536", "1048576"})
+    public int bodySize;
+
+    private Blackhole blackhole;
+
+    private AdvancedMessage<byte[]> message;
+    private Map<String, Object> deliveryAnnotations;
+
+    private byte[] encoded;
+    private ProtonBuffer plainInput;
+    private ProtonBuffer compositeInput;
+    private ProtonBuffer nettyInput;
+
+    private StreamDecoder streamDecoder = ProtonStreamDecoderFactory.create();
+    private StreamDecoderState streamDecoderState = streamDecoder.newDecoderState();
+
+    @Setup
+    public void init(Blackhole blackhole) throws ClientException {
+        this.blackhole = blackhole;
+        super.init();
+        initMessage();
+
+        try (ProtonBuffer buffer = ClientMessageSupport.encodeMessage(message, deliveryAnnotations)) {
+            encoded = new byte[buffer.getReadableBytes()];
+            buffer.copyInto(buffer.getReadOffset(), encoded, 0, encoded.length);
+        }
+
+        plainInput = ProtonBufferAllocator.defaultAllocator().copy(encoded).convertToReadOnly();
+        compositeInput = createCompositeCopy(encoded, TRANSFER_PAYLOAD_SIZE);
+        nettyInput = createNettyCopy(encoded);
+    }
+
+    private void initMessage() throws ClientException {
+        message = AdvancedMessage.create();
+        message.body(new byte[bodySize]);
+
+        if (sections == SectionMix.BODY_ONLY) {
+            return;
+        }
+
+        final Header header = new Header();
+        header.setDurable(true);
+        header.setPriority((byte) 6);
+
+        final Properties properties = new Properties();
+        properties.setMessageId("ID:producer-1:1:1:1");
+        properties.setTo("queue://orders");
+        properties.setSubject("orders");
+        properties.setContentType("application/octet-stream");
+        properties.setCreationTime(System.currentTimeMillis());
+
+        final Map<String, Object> applicationProperties = new LinkedHashMap<>();
+        for (int i = 0; i < 10; ++i) {
+            applicationProperties.put("property-" + i, i % 2 == 0 ? "value-" + i : (Object) Long.valueOf(i));
+        }
+
+        message.header(header);
+        message.properties(properties);
+        message.applicationProperties(new ApplicationProperties(applicationProperties));
+
+        if (sections == SectionMix.FULL) {
+            final Map<Symbol, Object> annotations = new LinkedHashMap<>();
+            annotations.put(Symbol.valueOf("x-opt-jms-msg-type"), (byte) 3);
+            annotations.put(Symbol.valueOf("x-opt-jms-dest"), (byte) 0);
+            annotations.put(Symbol.valueOf("x-opt-partition-key"), "partition-1");
+
+            final Map<Symbol, Object> footer = new LinkedHashMap<>();
+            footer.put(Symbol.valueOf("x-opt-checksum"), 0xCAFEBABEL);
+
+            deliveryAnnotations = new LinkedHashMap<>();
+            deliveryAnnotations.put("x-opt-trace-id", "trace-1");
+            deliveryAnnotations.put("x-opt-hops", 2);
+
+            message.annotations(new MessageAnnotations(annotations));
+            message.footer(new Footer(footer));
+        }
+    }
+
+    @Benchmark
+    public void encode() throws ClientException {
+        try (ProtonBuffer buffer = ClientMessageSupport.encodeMessage(message, deliveryAnnotations)) {
+            blackhole.consume(buffer);
+        }
+    }
+
+    @Benchmark
+    public void decodeFromBuffer() throws ClientException {
+        plainInput.setReadOffset(0);
+        blackhole.consume(ClientMessageSupport.decodeMessage(plainInput, blackhole::consume));
+    }
+
+    @Benchmark
+    public void decodeFromCompositeBuffer() throws ClientException {
+        compositeInput.setReadOffset(0);
+        blackhole.consume(ClientMessageSupport.decodeMessage(compositeInput, blackhole::consume));
+    }
+
+    @Benchmark
+    public void decodeFromNettyBuffer() throws ClientException {
+        nettyInput.setReadOffset(0);
+        blackhole.consume(ClientMessageSupport.decodeMessage(nettyInput, blackhole::consume));
+    }
+
+    @Benchmark
+    public void decodeFromStream() {
+        final ByteArrayInputStream stream = new ByteArrayInputStream(encoded);
+        while (stream.available() > 0) {
+            blackhole.consume(streamDecoder.readObject(stream, streamDecoderState));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        runBenchmark(MessageCodecBenchmark.class);
+    }
+}
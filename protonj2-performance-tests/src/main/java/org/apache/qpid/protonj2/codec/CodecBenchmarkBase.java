@@ -20,6 +20,7 @@ import java.util.concurrent.TimeUnit;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.buffer.netty.Netty4ProtonBufferAllocator;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
@@ -33,6 +34,8 @@ import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
+import io.netty.buffer.UnpooledByteBufAllocator;
+
 @State(Scope.Benchmark)
 @BenchmarkMode(Mode.AverageTime)
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
@@ -66,6 +69,43 @@ public abstract class CodecBenchmarkBase {
         initProtonBuffer();
     }
 
+    /**
+     * Creates a read-only composite buffer holding the given encoding split into components
+     * of the given size, such as a delivery payload that arrived in several transfer frames.
+     *
+     * @param encoded the encoded bytes to copy into the composite buffer.
+     * @param componentSize the maximum size of each component in the composite.
+     *
+     * @return a composite buffer containing a copy of the encoded bytes.
+     */
+    protected static ProtonBuffer createCompositeCopy(byte[] encoded, int componentSize) {
+        final ProtonBufferAllocator allocator = ProtonBufferAllocator.defaultAllocator();
+        final ProtonBuffer[] components = new ProtonBuffer[Math.max(1, (encoded.length + componentSize - 1) / componentSize)];
+
+        for (int i = 0; i < components.length; ++i) {
+            final int offset = i * componentSize;
+            final int length = Math.min(componentSize, encoded.length - offset);
+
+            components[i] = allocator.allocate(length).writeBytes(encoded, offset, length);
+        }
+
+        return allocator.composite(components).convertToReadOnly();
+    }
+
+    /**
+     * Creates a read-only Netty 4 backed buffer holding a copy of the given encoding, as seen
+     * by a decoder fed directly from the transport.
+     *
+     * @param encoded the encoded bytes to copy into the Netty backed buffer.
+     *
+     * @return a Netty backed buffer containing a copy of the encoded bytes.
+     */
+    protected static ProtonBuffer createNettyCopy(byte[] encoded) {
+        final ProtonBufferAllocator allocator = new Netty4ProtonBufferAllocator(new UnpooledByteBufAllocator(false));
+
+        return allocator.allocate(encoded.length).writeBytes(encoded).convertToReadOnly();
+    }
+
     public static void main(String[] args) throws RunnerException {
         runBenchmark(CodecBenchmarkBase.class);
     }
@@ -0,0 +1,97 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.codec.filter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.codec.CodecBenchmarkBase;
+import org.apache.qpid.protonj2.types.messaging.AmqpValue;
+import org.apache.qpid.protonj2.types.messaging.ApplicationProperties;
+import org.apache.qpid.protonj2.types.messaging.Header;
+import org.apache.qpid.protonj2.types.messaging.Properties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Compares selecting messages by decoding every section and testing the decoded values
+ * against evaluating a compiled {@link MessageFilter} on the encoded bytes.
+ */
+public class MessageFilterBenchmark extends CodecBenchmarkBase {
+
+    private static final String EXPRESSION = "header.priority > 4 AND properties.subject = 'orders' AND region IN ('east', 'west')";
+
+    private ProtonBuffer message;
+    private MessageFilter filter;
+
+    @Setup
+    public void init() {
+        super.init();
+
+        final Header header = new Header();
+        header.setDurable(true);
+        header.setPriority((byte) 6);
+
+        final Properties properties = new Properties();
+        properties.setMessageId("ID:1");
+        properties.setTo("queue://orders");
+        properties.setSubject("orders");
+
+        final Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < 20; ++i) {
+            map.put("property-" + i, i % 2 == 0 ? "value-" + i : (Object) Long.valueOf(i));
+        }
+        map.put("region", "west");
+
+        message = ProtonBufferAllocator.defaultAllocator().allocate(bufferSize());
+        encoder.writeObject(message, encoderState, header);
+        encoder.writeObject(message, encoderState, properties);
+        encoder.writeObject(message, encoderState, new ApplicationProperties(map));
+        encoder.writeObject(message, encoderState, new AmqpValue<>("message body"));
+        message.convertToReadOnly();
+
+        filter = MessageFilter.compile(EXPRESSION);
+    }
+
+    @Benchmark
+    public boolean decodeAndSelect() {
+        message.setReadOffset(0);
+
+        final Header header = (Header) decoder.readObject(message, decoderState);
+        final Properties properties = (Properties) decoder.readObject(message, decoderState);
+        final ApplicationProperties applicationProperties = (ApplicationProperties) decoder.readObject(message, decoderState);
+        final AmqpValue<?> body = (AmqpValue<?>) decoder.readObject(message, decoderState);
+
+        final Object region = applicationProperties.getValue().get("region");
+
+        return body != null && header.getPriority() > 4 && "orders".equals(properties.getSubject()) &&
+               ("east".equals(region) || "west".equals(region));
+    }
+
+    @Benchmark
+    public boolean filterEncoded() {
+        message.setReadOffset(0);
+        return filter.matches(message);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        runBenchmark(MessageFilterBenchmark.class);
+    }
+}
@@ -18,9 +18,13 @@ package org.apache.qpid.protonj2.codec.messaging;
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 import org.apache.qpid.protonj2.codec.CodecBenchmarkBase;
+import org.apache.qpid.protonj2.codec.decoders.ProtonDecoderState;
 import org.apache.qpid.protonj2.types.UnsignedByte;
 import org.apache.qpid.protonj2.types.UnsignedInteger;
 import org.apache.qpid.protonj2.types.UnsignedShort;
@@ -34,6 +38,8 @@ public class ApplicationPropertiesBenchmark extends CodecBenchmarkBase {
 
     private Blackhole blackhole;
     private ApplicationProperties properties;
+    private ProtonBuffer largePropertiesBuffer;
+    private ProtonDecoderState lazyDecoderState;
 
     @Setup
     public void init(Blackhole blackhole) {
@@ -41,6 +47,20 @@ public class ApplicationPropertiesBenchmark extends CodecBenchmarkBase {
         this.blackhole = blackhole;
         initApplicationProperties();
         encode();
+        initLargeApplicationProperties();
+    }
+
+    private void initLargeApplicationProperties() {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < 20; ++i) {
+            map.put("property-" + i, i % 2 == 0 ? "value-" + i : (Object) Long.valueOf(i));
+        }
+
+        largePropertiesBuffer = ProtonBufferAllocator.defaultAllocator().allocate(bufferSize());
+        encoder.writeObject(largePropertiesBuffer, encoderState, new ApplicationProperties(map));
+        largePropertiesBuffer.convertToReadOnly();
+
+        lazyDecoderState = ((ProtonDecoderState) decoder.newDecoderState()).setLazyMapSections(true);
     }
 
     private void initApplicationProperties() {
@@ -64,6 +84,20 @@ public class ApplicationPropertiesBenchmark extends CodecBenchmarkBase {
         return buffer;
     }
 
+    @Benchmark
+    public Object decodeLargeAndGetOne() throws IOException {
+        largePropertiesBuffer.setReadOffset(0);
+        final ApplicationProperties decoded = (ApplicationProperties) decoder.readObject(largePropertiesBuffer, decoderState);
+        return decoded.getValue().get("property-10");
+    }
+
+    @Benchmark
+    public Object decodeLargeLazilyAndGetOne() throws IOException {
+        largePropertiesBuffer.setReadOffset(0);
+        final ApplicationProperties decoded = (ApplicationProperties) decoder.readObject(largePropertiesBuffer, lazyDecoderState);
+        return decoded.getValue().get("property-10");
+    }
+
     public static void main(String[] args) throws RunnerException {
         runBenchmark(ApplicationPropertiesBenchmark.class);
     }
@@ -0,0 +1,191 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.codec.messaging;
+
+import java.io.ByteArrayInputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.codec.CodecBenchmarkBase;
+import org.apache.qpid.protonj2.codec.StreamDecoder;
+import org.apache.qpid.protonj2.codec.StreamDecoderState;
+import org.apache.qpid.protonj2.codec.decoders.ProtonStreamDecoderFactory;
+import org.apache.qpid.protonj2.types.Symbol;
+import org.apache.qpid.protonj2.types.messaging.Source;
+import org.apache.qpid.protonj2.types.messaging.Target;
+import org.apache.qpid.protonj2.types.transport.Attach;
+import org.apache.qpid.protonj2.types.transport.Begin;
+import org.apache.qpid.protonj2.types.transport.Open;
+import org.apache.qpid.protonj2.types.transport.Performative;
+import org.apache.qpid.protonj2.types.transport.ReceiverSettleMode;
+import org.apache.qpid.protonj2.types.transport.Role;
+import org.apache.qpid.protonj2.types.transport.SenderSettleMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Benchmarks encoding and decoding of the {@link Open}, {@link Begin} and {@link Attach} performatives
+ * carrying large capabilities and properties, decoding the same encoding from a plain buffer, a composite
+ * buffer, a Netty backed buffer and the {@link StreamDecoder}.
+ */
+public class PerformativeCodecBenchmark extends CodecBenchmarkBase {
+
+    /**
+     * Size of the composite buffer components, small enough that each performative spans several.
+     */
+    private static final int COMPONENT_SIZE = 512;
+
+    public enum PerformativeKind {
+        OPEN,
+        BEGIN,
+        ATTACH
+    }
+
+    @Param({"OPEN", "BEGIN", "ATTACH"})
+    public PerformativeKind performativeKind;
+
+    @Param({"4", "64"})
+    public int entries;
+
+    private Blackhole blackhole;
+
+    private Performative performative;
+
+    private byte[] encoded;
+    private ProtonBuffer compositeInput;
+    private ProtonBuffer nettyInput;
+
+    private StreamDecoder streamDecoder = ProtonStreamDecoderFactory.create();
+    private StreamDecoderState streamDecoderState = streamDecoder.newDecoderState();
+
+    @Override
+    protected int bufferSize() {
+        return 65536;
+    }
+
+    @Setup
+    public void init(Blackhole blackhole) {
+        this.blackhole = blackhole;
+        super.init();
+        initPerformative();
+        encode();
+
+        encoded = new byte[buffer.getReadableBytes()];
+        buffer.copyInto(buffer.getReadOffset(), encoded, 0, encoded.length);
+
+        compositeInput = createCompositeCopy(encoded, COMPONENT_SIZE);
+        nettyInput = createNettyCopy(encoded);
+    }
+
+    private void initPerformative() {
+        final Symbol[] offered = createCapabilities("offered");
+        final Symbol[] desired = createCapabilities("desired");
+        final Map<Symbol, Object> properties = createProperties();
+
+        switch (performativeKind) {
+            case OPEN:
+                performative = new Open().setContainerId("container-1")
+                                         .setHostname("broker.example.com")
+                                         .setMaxFrameSize(65536)
+                                         .setChannelMax(32767)
+                                         .setIdleTimeout(30000)
+                                         .setOfferedCapabilities(offered)
+                                         .setDesiredCapabilities(desired)
+                                         .setProperties(properties);
+                break;
+            case BEGIN:
+                performative = new Begin().setRemoteChannel(1)
+                                          .setNextOutgoingId(1)
+                                          .setIncomingWindow(Integer.MAX_VALUE)
+                                          .setOutgoingWindow(Integer.MAX_VALUE)
+                                          .setHandleMax(65535)
+                                          .setOfferedCapabilities(offered)
+                                          .setDesiredCapabilities(desired)
+                                          .setProperties(properties);
+                break;
+            case ATTACH:
+                performative = new Attach().setName("sender-link-1")
+                                           .setHandle(1)
+                                           .setRole(Role.SENDER)
+                                           .setSenderSettleMode(SenderSettleMode.UNSETTLED)
+                                           .setReceiverSettleMode(ReceiverSettleMode.FIRST)
+                                           .setSource(new Source().setAddress("sender-link-1").setCapabilities(offered))
+                                           .setTarget(new Target().setAddress("queue://orders").setCapabilities(desired))
+                                           .setInitialDeliveryCount(0)
+                                           .setMaxMessageSize(1048576)
+                                           .setOfferedCapabilities(offered)
+                                           .setDesiredCapabilities(desired)
+                                           .setProperties(properties);
+                break;
+        }
+    }
+
+    private Symbol[] createCapabilities(String prefix) {
+        final Symbol[] capabilities = new Symbol[entries];
+        for (int i = 0; i < entries; ++i) {
+            capabilities[i] = Symbol.valueOf(prefix + "-capability-" + i);
+        }
+
+        return capabilities;
+    }
+
+    private Map<Symbol, Object> createProperties() {
+        final Map<Symbol, Object> properties = new LinkedHashMap<>();
+        for (int i = 0; i < entries; ++i) {
+            properties.put(Symbol.valueOf("property-" + i), i % 2 == 0 ? "value-" + i : (Object) Long.valueOf(i));
+        }
+
+        return properties;
+    }
+
+    @Benchmark
+    public void encode() {
+        buffer.clear();
+        encoder.writeObject(buffer, encoderState, performative);
+    }
+
+    @Benchmark
+    public void decodeFromBuffer() {
+        buffer.setReadOffset(0);
+        blackhole.consume(decoder.readObject(buffer, decoderState));
+    }
+
+    @Benchmark
+    public void decodeFromCompositeBuffer() {
+        compositeInput.setReadOffset(0);
+        blackhole.consume(decoder.readObject(compositeInput, decoderState));
+    }
+
+    @Benchmark
+    public void decodeFromNettyBuffer() {
+        nettyInput.setReadOffset(0);
+        blackhole.consume(decoder.readObject(nettyInput, decoderState));
+    }
+
+    @Benchmark
+    public void decodeFromStream() {
+        blackhole.consume(streamDecoder.readObject(new ByteArrayInputStream(encoded), streamDecoderState));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        runBenchmark(PerformativeCodecBenchmark.class);
+    }
+}
@@ -0,0 +1,121 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.codec.messaging;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.qpid.protonj2.codec.CodecBenchmarkBase;
+import org.apache.qpid.protonj2.codec.StreamDecoder;
+import org.apache.qpid.protonj2.codec.StreamDecoderState;
+import org.apache.qpid.protonj2.codec.decoders.ProtonReadAheadInputStream;
+import org.apache.qpid.protonj2.codec.decoders.ProtonStreamDecoderFactory;
+import org.apache.qpid.protonj2.types.messaging.AmqpValue;
+import org.apache.qpid.protonj2.types.messaging.ApplicationProperties;
+import org.apache.qpid.protonj2.types.messaging.Header;
+import org.apache.qpid.protonj2.types.messaging.Properties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+
+/**
+ * Compares decoding the same encoded message sections with the buffer based {@code Decoder},
+ * the {@link StreamDecoder} reading a plain {@link java.io.InputStream} and the {@link StreamDecoder}
+ * reading through a {@link ProtonReadAheadInputStream}.
+ */
+public class StreamDecoderBenchmark extends CodecBenchmarkBase {
+
+    private static final int SECTION_COUNT = 4;
+    private static final int READ_AHEAD_SIZE = 1024;
+
+    private Blackhole blackhole;
+    private byte[] encoded;
+
+    private StreamDecoder streamDecoder = ProtonStreamDecoderFactory.create();
+    private StreamDecoderState streamDecoderState = streamDecoder.newDecoderState();
+
+    @Setup
+    public void init(Blackhole blackhole) {
+        this.blackhole = blackhole;
+        super.init();
+        initMessage();
+    }
+
+    private void initMessage() {
+        final Header header = new Header();
+        header.setDurable(true);
+        header.setPriority((byte) 6);
+
+        final Properties properties = new Properties();
+        properties.setMessageId("ID:producer-1:1:1:1");
+        properties.setTo("queue://orders");
+        properties.setSubject("orders");
+        properties.setContentType("application/json");
+        properties.setCreationTime(System.currentTimeMillis());
+
+        final Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < 10; ++i) {
+            map.put("property-" + i, i % 2 == 0 ? "value-" + i : (Object) Long.valueOf(i));
+        }
+
+        final List<Object> body = new ArrayList<>();
+        for (int i = 0; i < 20; ++i) {
+            body.add(i % 2 == 0 ? "body-entry-" + i : (Object) Integer.valueOf(i));
+        }
+
+        encoder.writeObject(buffer, encoderState, header);
+        encoder.writeObject(buffer, encoderState, properties);
+        encoder.writeObject(buffer, encoderState, new ApplicationProperties(map));
+        encoder.writeObject(buffer, encoderState, new AmqpValue<>(body));
+        buffer.convertToReadOnly();
+
+        encoded = new byte[buffer.getReadableBytes()];
+        buffer.copyInto(buffer.getReadOffset(), encoded, 0, encoded.length);
+    }
+
+    @Benchmark
+    public void decodeFromBuffer() {
+        buffer.setReadOffset(0);
+        for (int i = 0; i < SECTION_COUNT; ++i) {
+            blackhole.consume(decoder.readObject(buffer, decoderState));
+        }
+    }
+
+    @Benchmark
+    public void decodeFromStream() {
+        final ByteArrayInputStream stream = new ByteArrayInputStream(encoded);
+        for (int i = 0; i < SECTION_COUNT; ++i) {
+            blackhole.consume(streamDecoder.readObject(stream, streamDecoderState));
+        }
+    }
+
+    @Benchmark
+    public void decodeFromReadAheadStream() {
+        final ProtonReadAheadInputStream stream = new ProtonReadAheadInputStream(new ByteArrayInputStream(encoded), READ_AHEAD_SIZE);
+        for (int i = 0; i < SECTION_COUNT; ++i) {
+            blackhole.consume(streamDecoder.readObject(stream, streamDecoderState));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        runBenchmark(StreamDecoderBenchmark.class);
+    }
+}
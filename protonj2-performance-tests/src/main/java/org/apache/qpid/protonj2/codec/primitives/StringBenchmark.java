@@ -19,7 +19,9 @@ package org.apache.qpid.protonj2.codec.primitives;
 import java.io.IOException;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 import org.apache.qpid.protonj2.codec.CodecBenchmarkBase;
+import org.apache.qpid.protonj2.codec.decoders.ProtonDecoderState;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.infra.Blackhole;
@@ -34,7 +36,12 @@ public class StringBenchmark extends CodecBenchmarkBase {
         + "0123456789012345678901234567890123456789012345678901234567890123456789012345678901234567890123456789"
         + "0123456789012345678901234567890123456789012345678901234567890123456789012345678901234567890123456789";
 
+    private static final String UNICODE_PAYLOAD = "\u00e9" + PAYLOAD.substring(1);
+
     private Blackhole blackhole;
+    private ProtonBuffer largeStringBuffer;
+    private ProtonBuffer unicodeStringBuffer;
+    private ProtonDecoderState cachingDecoderState;
     private String string1;
     private String string2;
     private String string3;
@@ -45,6 +52,13 @@ public class StringBenchmark extends CodecBenchmarkBase {
         super.init();
         initStrings();
         encode();
+
+        largeStringBuffer = ProtonBufferAllocator.defaultAllocator().allocate(bufferSize());
+        encoder.writeString(largeStringBuffer, encoderState, PAYLOAD);
+        unicodeStringBuffer = ProtonBufferAllocator.defaultAllocator().allocate(bufferSize());
+        encoder.writeString(unicodeStringBuffer, encoderState, UNICODE_PAYLOAD);
+
+        cachingDecoderState = ((ProtonDecoderState) decoder.newDecoderState()).setStringCacheSize(1024);
     }
 
     private void initStrings() {
@@ -69,6 +83,13 @@ public class StringBenchmark extends CodecBenchmarkBase {
         return buffer;
     }
 
+    @Benchmark
+    public ProtonBuffer encodeLargeUnicodeString() {
+        buffer.clear();
+        encoder.writeString(buffer, encoderState, UNICODE_PAYLOAD);
+        return buffer;
+    }
+
     @Benchmark
     public ProtonBuffer decode() throws IOException {
         buffer.setReadOffset(0);
@@ -78,6 +99,29 @@ public class StringBenchmark extends CodecBenchmarkBase {
         return buffer;
     }
 
+    @Benchmark
+    public ProtonBuffer decodeWithStringCache() throws IOException {
+        buffer.setReadOffset(0);
+        blackhole.consume(decoder.readString(buffer, cachingDecoderState));
+        blackhole.consume(decoder.readString(buffer, cachingDecoderState));
+        blackhole.consume(decoder.readString(buffer, cachingDecoderState));
+        return buffer;
+    }
+
+    @Benchmark
+    public ProtonBuffer decodeLargeString() throws IOException {
+        largeStringBuffer.setReadOffset(0);
+        blackhole.consume(decoder.readString(largeStringBuffer, decoderState));
+        return largeStringBuffer;
+    }
+
+    @Benchmark
+    public ProtonBuffer decodeLargeUnicodeString() throws IOException {
+        unicodeStringBuffer.setReadOffset(0);
+        blackhole.consume(decoder.readString(unicodeStringBuffer, decoderState));
+        return unicodeStringBuffer;
+    }
+
     public static void main(String[] args) throws RunnerException {
         runBenchmark(StringBenchmark.class);
     }
@@ -18,6 +18,8 @@ package org.apache.qpid.protonj2.codec.primitives;
 
 import java.io.IOException;
 
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 import org.apache.qpid.protonj2.codec.CodecBenchmarkBase;
 import org.apache.qpid.protonj2.types.Symbol;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -32,14 +34,28 @@ public class SymbolBenchmark extends CodecBenchmarkBase {
     private Symbol symbol3;
     private Blackhole blackhole;
 
+    private static final int UNIQUE_SYMBOL_COUNT = 8192;
+
+    private ProtonBuffer uniqueSymbols;
+
     @Setup
     public void init(Blackhole blackhole) {
         this.blackhole = blackhole;
         super.init();
         initSymbols();
+        initUniqueSymbols();
         encode();
     }
 
+    private void initUniqueSymbols() {
+        // More distinct symbols than the symbol cache holds so that decodes miss and evict entries.
+        uniqueSymbols = ProtonBufferAllocator.defaultAllocator().allocate(UNIQUE_SYMBOL_COUNT * 32);
+
+        for (int i = 0; i < UNIQUE_SYMBOL_COUNT; ++i) {
+            encoder.writeSymbol(uniqueSymbols, encoderState, Symbol.valueOf("Unique-Symbol-" + i));
+        }
+    }
+
     private void initSymbols() {
         symbol1 = Symbol.valueOf("Symbol-1");
         symbol2 = Symbol.valueOf("Symbol-2");
@@ -62,6 +78,21 @@ public class SymbolBenchmark extends CodecBenchmarkBase {
         blackhole.consume(decoder.readSymbol(buffer, decoderState));
     }
 
+    @Benchmark
+    public void decodeUniqueSymbols() throws IOException {
+        uniqueSymbols.setReadOffset(0);
+        while (uniqueSymbols.isReadable()) {
+            blackhole.consume(decoder.readSymbol(uniqueSymbols, decoderState));
+        }
+    }
+
+    @Benchmark
+    public void valueOf() {
+        blackhole.consume(Symbol.valueOf("Symbol-1"));
+        blackhole.consume(Symbol.valueOf("Symbol-2"));
+        blackhole.consume(Symbol.valueOf("Symbol-3"));
+    }
+
     public static void main(String[] args) throws RunnerException {
         runBenchmark(SymbolBenchmark.class);
     }
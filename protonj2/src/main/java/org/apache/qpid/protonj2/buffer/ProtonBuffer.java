@@ -21,7 +21,9 @@ import static org.apache.qpid.protonj2.buffer.ProtonBufferUtils.checkIsNotNegati
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.channels.GatheringByteChannel;
 import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.ScatteringByteChannel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 
@@ -612,7 +614,13 @@ public interface ProtonBuffer extends ProtonBufferAccessors, Resource<ProtonBuff
             ensureWritable(length, 1, false);
         }
         advanceWriteOffset(length);
-        for (int i = 0; i < length; i++) {
+
+        // Try to reduce bounds-checking by using larger primitives when possible.
+        int i = 0;
+        for (; length - i >= Long.BYTES; i += Long.BYTES) {
+            setLong(writeOffset + i, ProtonBufferUtils.readLong(source, offset + i));
+        }
+        for (; i < length; i++) {
             setByte(writeOffset + i, source[offset + i]);
         }
 
@@ -752,6 +760,114 @@ public interface ProtonBuffer extends ProtonBufferAccessors, Resource<ProtonBuff
      */
     int transferFrom(FileChannel channel, long position, int length) throws IOException;
 
+    /**
+     * Writes the readable bytes of this buffer into the given gathering channel using a single
+     * vectored write of all the readable components of this buffer.
+     * <p>
+     * The number of bytes actually written to the channel are returned. No more than the given {@code length}
+     * of bytes, or the number of {@linkplain #getReadableBytes() readable bytes}, will be written to the channel,
+     * whichever is smaller. The {@linkplain #getReadOffset() read offset} of this buffer will be advanced by the
+     * number of bytes written.  Buffers composed of multiple components hand each of them to the channel in one
+     * call which avoids copying them into an intermediate buffer prior to the write.
+     *
+     * @param channel The channel to write to.
+     * @param length The maximum number of bytes to write.
+     *
+     * @return The actual number of bytes written, possibly zero.
+     *
+     * @throws IOException If the write-operation on the channel failed for some reason.
+     */
+    default int transferTo(GatheringByteChannel channel, int length) throws IOException {
+        ProtonBufferUtils.checkIsClosed(this);
+        checkIsNotNegative(length, "TransferTo length cannot be negative: " + length);
+
+        int remaining = Math.min(getReadableBytes(), length);
+
+        if (remaining == 0) {
+            return 0;
+        }
+
+        final ByteBuffer[] sources = new ByteBuffer[readableComponentCount()];
+        int count = 0;
+        int bytesWritten = 0;
+
+        try (ProtonBufferComponentAccessor accessor = componentAccessor()) {
+            for (ProtonBufferComponent component = accessor.firstReadable();
+                 component != null && remaining > 0; component = accessor.nextReadable()) {
+
+                final ByteBuffer source = component.getReadableBuffer();
+                if (source.remaining() > remaining) {
+                    source.limit(source.position() + remaining);
+                }
+
+                remaining -= source.remaining();
+                sources[count++] = source;
+            }
+
+            bytesWritten = Math.toIntExact(channel.write(sources, 0, count));
+        } finally {
+            if (bytesWritten > 0) {
+                advanceReadOffset(bytesWritten);
+            }
+        }
+
+        return bytesWritten;
+    }
+
+    /**
+     * Reads a sequence of bytes from the given scattering channel into this buffer using a single
+     * vectored read that fills all the writable components of this buffer.
+     * <p>
+     * The length value given is a maximum limit however the code will adjust this if the number
+     * of writable bytes in this buffer is smaller (or zero) and the result will indicate how many
+     * bytes where actually read.  The write offset of this buffer will be advanced by the number
+     * of bytes read from the buffer as will the channel position index if one exists.
+     *
+     * @param channel The scattering byte channel where the bytes are read
+     * @param length The maximum number of bytes to read from the channel
+     *
+     * @return The number of bytes read, possibly zero, or -1 if the channel has reached end-of-stream
+     *
+     * @throws IOException if the read operation fails
+     */
+    default int transferFrom(ScatteringByteChannel channel, int length) throws IOException {
+        ProtonBufferUtils.checkIsClosed(this);
+        ProtonBufferUtils.checkIsReadOnly(this);
+        ProtonBufferUtils.checkArgumentIsNotNegative(length, "Length given cannot be negative");
+
+        int remaining = Math.min(getWritableBytes(), length);
+
+        if (remaining == 0) {
+            return 0;
+        }
+
+        final ByteBuffer[] targets = new ByteBuffer[writableComponentCount()];
+        int count = 0;
+        int bytesRead = 0;
+
+        try (ProtonBufferComponentAccessor accessor = componentAccessor()) {
+            for (ProtonBufferComponent component = accessor.firstWritable();
+                 component != null && remaining > 0; component = accessor.nextWritable()) {
+
+                final ByteBuffer target = component.getWritableBuffer();
+                if (target.remaining() > remaining) {
+                    target.limit(target.position() + remaining);
+                }
+
+                remaining -= target.remaining();
+                targets[count++] = target;
+            }
+
+            bytesRead = Math.toIntExact(channel.read(targets, 0, count));
+        } finally {
+            if (bytesRead > 0) {
+                advanceWriteOffset(bytesRead);
+            }
+        }
+
+        return bytesRead;
+    }
+
     /**
      * @return true if the buffer is backed by one or more {@link ProtonBuffer} instances.
      */
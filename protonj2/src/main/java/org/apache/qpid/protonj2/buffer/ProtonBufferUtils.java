@@ -20,8 +20,11 @@ import java.lang.ref.Cleaner;
 import java.lang.ref.Cleaner.Cleanable;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.util.Arrays;
 import java.util.Objects;
 
+import org.apache.qpid.protonj2.buffer.impl.ProtonByteArrayBuffer;
+
 /**
  * Set of Utility methods useful when dealing with byte arrays and other
  * primitive types.
@@ -813,6 +816,14 @@ public abstract class ProtonBufferUtils {
             return false;
         }
 
+        if (isOpenByteArrayBuffer(left) && isOpenByteArrayBuffer(right)) {
+            final int leftIndex = arrayIndex((ProtonByteArrayBuffer) left, leftStartIndex);
+            final int rightIndex = arrayIndex((ProtonByteArrayBuffer) right, rightStartIndex);
+
+            return Arrays.equals(((ProtonByteArrayBuffer) left).getReadableArray(), leftIndex, leftIndex + length,
+                                 ((ProtonByteArrayBuffer) right).getReadableArray(), rightIndex, rightIndex + length);
+        }
+
         final int longCount = length >>> 3;
         final int byteCount = length & 7;
 
@@ -846,12 +857,28 @@ public abstract class ProtonBufferUtils {
      * @return the computed hash code for the given buffer
      */
     public static int hashCode(ProtonBuffer buffer) {
-        final int readable = buffer.getReadableBytes();
-        final int readableInts = readable >>> 2;
-        final int remainingBytes = readable & 3;
+        return hashCode(buffer, buffer.getReadOffset(), buffer.getReadableBytes());
+    }
+
+    /**
+     * Compute a hash code from the given region of a {@link ProtonBuffer} which is the same
+     * hash code that would be computed for a buffer whose readable bytes match the region.
+     *
+     * @param buffer
+     * 		The buffer that contains the region to compute the hash code for.
+     * @param offset
+     * 		The offset into the buffer where the region starts.
+     * @param length
+     * 		The number of bytes in the region.
+     *
+     * @return the computed hash code for the given buffer region
+     */
+    public static int hashCode(ProtonBuffer buffer, int offset, int length) {
+        final int readableInts = length >>> 2;
+        final int remainingBytes = length & 3;
 
         int hash = 1;
-        int position = buffer.getReadOffset();
+        int position = offset;
 
         for (int i = readableInts; i > 0; i --) {
             hash = 31 * hash + buffer.getInt(position);
@@ -880,18 +907,56 @@ public abstract class ProtonBufferUtils {
      * @return the value 0 if {@code x == y}; a value less than 0 if {@code x < y}; and a value greater than 0 if {@code x > y}.
      */
     public static int compare(ProtonBuffer lhs, ProtonBuffer rhs) {
-        int length = lhs.getReadOffset() + Math.min(lhs.getReadableBytes(), rhs.getReadableBytes());
+        final int length = Math.min(lhs.getReadableBytes(), rhs.getReadableBytes());
 
-        for (int i = lhs.getReadOffset(), j = rhs.getReadOffset(); i < length; i++, j++) {
-            int cmp = Integer.compare(lhs.getByte(i) & 0xFF, rhs.getByte(j) & 0xFF);
-            if (cmp != 0) {
-                return cmp;
+        if (isOpenByteArrayBuffer(lhs) && isOpenByteArrayBuffer(rhs)) {
+            final byte[] lhsArray = ((ProtonByteArrayBuffer) lhs).getReadableArray();
+            final byte[] rhsArray = ((ProtonByteArrayBuffer) rhs).getReadableArray();
+            final int lhsIndex = arrayIndex((ProtonByteArrayBuffer) lhs, lhs.getReadOffset());
+            final int rhsIndex = arrayIndex((ProtonByteArrayBuffer) rhs, rhs.getReadOffset());
+
+            final int mismatch = Arrays.mismatch(lhsArray, lhsIndex, lhsIndex + length, rhsArray, rhsIndex, rhsIndex + length);
+            if (mismatch >= 0 && mismatch < length) {
+                return Integer.compare(lhsArray[lhsIndex + mismatch] & 0xFF, rhsArray[rhsIndex + mismatch] & 0xFF);
+            }
+        } else {
+            int i = lhs.getReadOffset();
+            int j = rhs.getReadOffset();
+
+            // Big endian reads so an unsigned comparison of the longs orders the same as the bytes
+            for (int longCount = length >>> 3; longCount > 0; longCount--, i += Long.BYTES, j += Long.BYTES) {
+                final int cmp = Long.compareUnsigned(lhs.getLong(i), rhs.getLong(j));
+                if (cmp != 0) {
+                    return cmp < 0 ? -1 : 1;
+                }
+            }
+
+            for (int byteCount = length & 7; byteCount > 0; byteCount--, i++, j++) {
+                final int cmp = Integer.compare(lhs.getByte(i) & 0xFF, rhs.getByte(j) & 0xFF);
+                if (cmp != 0) {
+                    return cmp;
+                }
             }
         }
 
         return lhs.getReadableBytes() - rhs.getReadableBytes();
     }
 
+    /*
+     * Byte array buffers can be compared directly using their backing arrays which allows the
+     * JDK intrinsics for array comparison to be used in place of per index reads.
+     */
+    private static boolean isOpenByteArrayBuffer(ProtonBuffer buffer) {
+        return buffer instanceof ProtonByteArrayBuffer && !buffer.isClosed();
+    }
+
+    /*
+     * Maps an index in the given byte array buffer to the matching index in its backing array.
+     */
+    private static int arrayIndex(ProtonByteArrayBuffer buffer, int index) {
+        return buffer.getReadableArrayOffset() - buffer.getReadOffset() + index;
+    }
+
     /**
      * Writes the bytes that comprise the given {@link CharSequence} into the provided buffer
      * using the given {@link Charset} to map the characters to their bytes encoded values.
@@ -98,6 +98,26 @@ public interface ProtonCompositeBuffer extends ProtonBuffer {
      */
     ProtonCompositeBuffer append(ProtonBuffer buffer);
 
+    /**
+     * Configures this composite to consolidate small trailing buffer components whenever a buffer
+     * is appended. Once the number of trailing components whose capacity is no larger than the given
+     * component size reaches the given count those components are copied into a single newly allocated
+     * buffer which replaces them.  This bounds the number of components that can accumulate when many
+     * small buffers are appended such as when a message arrives in many small transfer frames.
+     * <p>
+     * Consolidation is disabled by default and can be disabled again by passing a count of zero.
+     *
+     * @param componentCount
+     * 		The number of small trailing components that triggers consolidation (zero disables).
+     * @param componentSize
+     * 		The capacity at or below which a component is considered for consolidation.
+     *
+     * @return this composite buffer instance.
+     *
+     * @throws IllegalArgumentException if the count is one or either value is negative.
+     */
+    ProtonCompositeBuffer autoConsolidate(int componentCount, int componentSize);
+
     /**
      * Splits the composite buffer up into a collection of buffers that comprise it and
      * leaves this buffer in what is effectively a closed state.  The returned buffers are
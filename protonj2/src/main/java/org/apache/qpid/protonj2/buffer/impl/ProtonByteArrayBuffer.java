@@ -20,7 +20,9 @@ package org.apache.qpid.protonj2.buffer.impl;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.channels.GatheringByteChannel;
 import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.ScatteringByteChannel;
 import java.nio.channels.WritableByteChannel;
 import java.util.Arrays;
 import java.util.NoSuchElementException;
@@ -86,6 +88,12 @@ public final class ProtonByteArrayBuffer extends SharedResource<ProtonBuffer> im
     private boolean readOnly;
     private boolean closed;
 
+    /**
+     * When the backing array was served from a pooling allocator this tracks the pooled
+     * array which is returned to its pool once all buffers that share it are closed.
+     */
+    private ProtonPooledBufferAllocator.PooledArray pooled;
+
     /**
      * Creates a new {@link ProtonByteArrayBuffer} instance that uses default configuration values for
      * initial capacity and the maximum allowed capacity to which the underlying byte array will
@@ -206,6 +214,15 @@ public final class ProtonByteArrayBuffer extends SharedResource<ProtonBuffer> im
         this.implicitGrowthLimit = implicitGrowthLimit;
     }
 
+    /*
+     * Creates a buffer that uses the given pooled array as its backing store with a capacity that
+     * can be less than the array length as pooled arrays are sized in power of two classes.
+     */
+    ProtonByteArrayBuffer(ProtonPooledBufferAllocator.PooledArray pooled, int capacity, int implicitGrowthLimit) {
+        this(pooled.array(), 0, capacity, implicitGrowthLimit);
+        this.pooled = pooled;
+    }
+
     // For use in transfer to quickly setup the new facade around the array
     private ProtonByteArrayBuffer(byte[] backingArray, int arrayOffset, boolean readOnly) {
         this.array = backingArray;
@@ -213,6 +230,13 @@ public final class ProtonByteArrayBuffer extends SharedResource<ProtonBuffer> im
         this.readOnly = readOnly;
     }
 
+    /**
+     * @return true if the backing array was served from a pooling allocator and is returned to it when closed.
+     */
+    public boolean isPooled() {
+        return pooled != null;
+    }
+
     @Override
     public ProtonBuffer unwrap() {
         return this;
@@ -325,6 +349,8 @@ public final class ProtonByteArrayBuffer extends SharedResource<ProtonBuffer> im
         ProtonByteArrayBuffer front = new ProtonByteArrayBuffer(array, arrayOffset, splitOffset, DEFAULT_MAXIMUM_CAPACITY);
         front.writeOffset = Math.min(writeOffset, splitOffset);
         front.readOffset = Math.min(readOffset, splitOffset);
+        front.pooled = pooled != null ? pooled.retain() : null;
+        shareTrackerWith(front);
         if (isReadOnly()) {
             front.convertToReadOnly();
         }
@@ -512,6 +538,8 @@ public final class ProtonByteArrayBuffer extends SharedResource<ProtonBuffer> im
         if (readOnly && isReadOnly()) {
             result = new ProtonByteArrayBuffer(array, offset(offset), length, implicitGrowthLimit);
             result.writeOffset = length;
+            result.pooled = pooled != null ? pooled.retain() : null;
+            shareTrackerWith(result);
         } else {
             checkGet(offset, length);
             byte[] copyBytes = Arrays.copyOfRange(array, offset(offset), offset(offset) + length);
@@ -581,6 +609,16 @@ public final class ProtonByteArrayBuffer extends SharedResource<ProtonBuffer> im
         return this;
     }
 
+    @Override
+    public ProtonBuffer writeBytes(ByteBuffer source) {
+        final int length = source.remaining();
+        checkWrite(writeOffset, length, true);
+        source.get(array, offset(writeOffset), length);
+        writeOffset += length;
+
+        return this;
+    }
+
     @Override
     public ProtonBuffer writeBytes(ProtonBuffer source) {
         final int length = source.getReadableBytes();
@@ -644,20 +682,29 @@ public final class ProtonByteArrayBuffer extends SharedResource<ProtonBuffer> im
             return compact();
         }
 
-        final long newSize = capacity() + (long) Math.max(size - getWritableBytes(), minimumGrowth);
+        final int previousCapacity = capacity();
+        final long newSize = previousCapacity + (long) Math.max(size - getWritableBytes(), minimumGrowth);
         ProtonBufferUtils.checkIsNotNegative(newSize, "The buffer cannot be resized to a negative value");
         if (newSize > DEFAULT_MAXIMUM_CAPACITY) {
             throw new IllegalArgumentException(
                 "The buffer cannot grow to a size greater than " + DEFAULT_MAXIMUM_CAPACITY + ", requested size was " + newSize);
         }
 
-        byte[] newArray = new byte[(int) newSize];
+        final ProtonPooledBufferAllocator.PooledArray newPooled = pooled != null ? pooled.reallocate((int) newSize) : null;
+        final byte[] newArray = newPooled != null ? newPooled.array() : new byte[(int) newSize];
         copyInto(0, newArray, 0, capacity());
 
+        if (pooled != null) {
+            pooled.release();
+        }
+
+        this.pooled = newPooled;
         this.array = newArray;
         this.arrayOffset = 0;
-        this.readCapacity = array.length;
-        this.writeCapacity = readOnly ? CLOSED_MARKER : array.length;
+        this.readCapacity = (int) newSize;
+        this.writeCapacity = readOnly ? CLOSED_MARKER : (int) newSize;
+
+        trackResize(previousCapacity, (int) newSize);
 
         return this;
     }
@@ -695,7 +742,7 @@ public final class ProtonByteArrayBuffer extends SharedResource<ProtonBuffer> im
             return 0;
         }
 
-        final ByteBuffer ioWrapper = ByteBuffer.wrap(array, readOffset, writableBytes);
+        final ByteBuffer ioWrapper = ByteBuffer.wrap(array, offset(readOffset), writableBytes);
         final int actualWrite = channel.write(ioWrapper);
         readOffset += actualWrite;
 
@@ -744,6 +791,16 @@ public final class ProtonByteArrayBuffer extends SharedResource<ProtonBuffer> im
         return bytesRead;
     }
 
+    @Override
+    public int transferTo(GatheringByteChannel channel, int length) throws IOException {
+        return transferTo((WritableByteChannel) channel, length);
+    }
+
+    @Override
+    public int transferFrom(ScatteringByteChannel channel, int length) throws IOException {
+        return transferFrom((ReadableByteChannel) channel, length);
+    }
+
     //----- Buff component access
 
     @Override
@@ -821,7 +878,7 @@ public final class ProtonByteArrayBuffer extends SharedResource<ProtonBuffer> im
 
     @Override
     public int getReadableArrayOffset() {
-        return arrayOffset;
+        return arrayOffset + readOffset;
     }
 
     @Override
@@ -831,7 +888,7 @@ public final class ProtonByteArrayBuffer extends SharedResource<ProtonBuffer> im
 
     @Override
     public ByteBuffer getReadableBuffer() {
-        return ByteBuffer.wrap(array, arrayOffset + readOffset, readCapacity - readOffset).asReadOnlyBuffer();
+        return ByteBuffer.wrap(array, arrayOffset + readOffset, getReadableBytes()).slice().asReadOnlyBuffer();
     }
 
     @Override
@@ -864,7 +921,7 @@ public final class ProtonByteArrayBuffer extends SharedResource<ProtonBuffer> im
         if (writeCapacity < 0) {
             return ByteBuffer.allocate(0);
         } else {
-            return ByteBuffer.wrap(array, arrayOffset + writeOffset, getWritableBytes());
+            return ByteBuffer.wrap(array, arrayOffset + writeOffset, getWritableBytes()).slice();
         }
     }
 
@@ -933,6 +990,11 @@ public final class ProtonByteArrayBuffer extends SharedResource<ProtonBuffer> im
         readOffset = 0;
         writeOffset = 0;
         array = null;
+
+        if (pooled != null) {
+            pooled.release();
+            pooled = null;
+        }
     }
 
     @Override
@@ -944,6 +1006,10 @@ public final class ProtonByteArrayBuffer extends SharedResource<ProtonBuffer> im
         transfer.writeCapacity = writeCapacity;
         transfer.readOffset = readOffset;
         transfer.writeOffset = writeOffset;
+        transfer.pooled = pooled;
+
+        // The transferred buffer now owns the pooled array reference
+        pooled = null;
 
         return transfer;
     }
@@ -22,6 +22,7 @@ import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.channels.GatheringByteChannel;
 import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.ScatteringByteChannel;
 import java.nio.channels.WritableByteChannel;
 import java.util.Arrays;
 import java.util.Collections;
@@ -73,6 +74,19 @@ public final class ProtonCompositeBufferImpl extends SharedResource<ProtonBuffer
      */
     private int lastAccessedChunk = -1;
 
+    /**
+     * The start index (inclusive) and end index (exclusive) of the most recently used chunk which
+     * allows sequential access to resolve its chunk without consulting the start indices.
+     */
+    private int lastAccessedChunkStart;
+    private int lastAccessedChunkEnd;
+
+    /**
+     * Configuration of the optional merge of small trailing chunks when buffers are appended.
+     */
+    private int consolidationCount;
+    private int consolidationSize;
+
     /**
      * Array containing the buffers included in this composite
      */
@@ -131,6 +145,10 @@ public final class ProtonCompositeBufferImpl extends SharedResource<ProtonBuffer
         this.readOffset = other.readOffset;
         this.writeOffset = other.writeOffset;
         this.lastAccessedChunk = other.lastAccessedChunk;
+        this.lastAccessedChunkStart = other.lastAccessedChunkStart;
+        this.lastAccessedChunkEnd = other.lastAccessedChunkEnd;
+        this.consolidationCount = other.consolidationCount;
+        this.consolidationSize = other.consolidationSize;
     }
 
     /**
@@ -420,7 +438,7 @@ public final class ProtonCompositeBufferImpl extends SharedResource<ProtonBuffer
         if (length != 0) {
             prepareForWrite(writeOffset, length);
 
-            lastAccessedChunk = findChunkWithIndex(writeOffset) - 1;
+            int lastAccessedChunk = findChunkWithIndex(writeOffset) - 1;
 
             while (length > 0) {
                 final ProtonBuffer buffer = buffers[++lastAccessedChunk];
@@ -437,6 +455,37 @@ public final class ProtonCompositeBufferImpl extends SharedResource<ProtonBuffer
         return this;
     }
 
+    @Override
+    public ProtonCompositeBuffer writeBytes(ByteBuffer source) {
+        if (isReadOnly()) {
+            throw new ProtonBufferReadOnlyException();
+        }
+        if (isClosed()) {
+            throw ProtonBufferUtils.genericBufferIsClosed(this);
+        }
+        if (!source.hasRemaining()) {
+            return this;
+        }
+
+        prepareForWrite(writeOffset, source.remaining());
+
+        int lastAccessedChunk = findChunkWithIndex(writeOffset) - 1;
+
+        while (source.hasRemaining()) {
+            final ProtonBuffer buffer = buffers[++lastAccessedChunk];
+            final int writableBytes = Math.min(buffer.getWritableBytes(), source.remaining());
+            final ByteBuffer chunk = source.duplicate();
+
+            chunk.limit(chunk.position() + writableBytes);
+            buffer.writeBytes(chunk);
+
+            source.position(source.position() + writableBytes);
+            writeOffset += writableBytes;
+        }
+
+        return this;
+    }
+
     @Override
     public ProtonCompositeBuffer writeBytes(ProtonBuffer source) {
         if (isReadOnly()) {
@@ -451,7 +500,7 @@ public final class ProtonCompositeBufferImpl extends SharedResource<ProtonBuffer
 
         prepareForWrite(writeOffset, source.getReadableBytes());
 
-        lastAccessedChunk = findChunkWithIndex(writeOffset) - 1;
+        int lastAccessedChunk = findChunkWithIndex(writeOffset) - 1;
 
         while (source.getReadableBytes() > 0) {
             final ProtonBuffer buffer = buffers[++lastAccessedChunk];
@@ -515,6 +564,24 @@ public final class ProtonCompositeBufferImpl extends SharedResource<ProtonBuffer
             }
         }
 
+        if (consolidationCount > 0) {
+            consolidateTrailingChunks();
+        }
+
+        return this;
+    }
+
+    @Override
+    public ProtonCompositeBuffer autoConsolidate(int componentCount, int componentSize) {
+        ProtonBufferUtils.checkArgumentIsNotNegative(componentCount, "The consolidation component count cannot be negative");
+        ProtonBufferUtils.checkArgumentIsNotNegative(componentSize, "The consolidation component size cannot be negative");
+        if (componentCount == 1) {
+            throw new IllegalArgumentException("The consolidation component count must be zero or greater than one");
+        }
+
+        this.consolidationCount = componentCount;
+        this.consolidationSize = componentSize;
+
         return this;
     }
 
@@ -534,6 +601,7 @@ public final class ProtonCompositeBufferImpl extends SharedResource<ProtonBuffer
         buffers = EMPTY_COMPOSITE;
         startIndices = EMPTY_COMPOSITE_INDICES;
         capacity = 0;
+        resetLastAccessedChunk();
 
         try {
             close();
@@ -933,40 +1001,12 @@ public final class ProtonCompositeBufferImpl extends SharedResource<ProtonBuffer
         }
 
         if (channel instanceof GatheringByteChannel) {
-            return transferToGatheringByteChannel((GatheringByteChannel) channel, writableBytes);
+            return transferTo((GatheringByteChannel) channel, writableBytes);
         } else {
             return transferToWritableByteChannel(channel, writableBytes);
         }
     }
 
-    private int transferToGatheringByteChannel(GatheringByteChannel channel, int length) throws IOException {
-        final ByteBuffer[] composingBuffers = new ByteBuffer[readableComponentCount()];
-
-        int count = 0;
-        int bytesWritten = 0;
-
-        try (ProtonBufferComponentAccessor accessor = componentAccessor()) {
-            for (ProtonBufferComponent component = accessor.firstReadable(); component != null; component = accessor.nextReadable()) {
-                composingBuffers[count++] = component.getReadableBuffer();
-            }
-
-            for (count = 0; count < composingBuffers.length && length > 0; ++count) {
-                if ((length -= composingBuffers[count].remaining()) < 0) {
-                    final ByteBuffer buffer = composingBuffers[count];
-                    buffer.limit(buffer.limit() + length);
-                }
-            }
-
-            bytesWritten = Math.toIntExact(channel.write(composingBuffers, 0, count));
-        } finally {
-            if (bytesWritten > 0) {
-                advanceReadOffset(bytesWritten);
-            }
-        }
-
-        return bytesWritten;
-    }
-
     private int transferToWritableByteChannel(WritableByteChannel channel, int length) throws IOException {
         int currentChunkIndex = findChunkWithIndex(readOffset);
         int bytesWritten = 0;
@@ -1003,6 +1043,10 @@ public final class ProtonCompositeBufferImpl extends SharedResource<ProtonBuffer
 
         checkWriteBounds(getWriteOffset(), readableBytes);
 
+        if (channel instanceof ScatteringByteChannel) {
+            return transferFrom((ScatteringByteChannel) channel, readableBytes);
+        }
+
         int lastAccessedChunk = findChunkWithIndex(writeOffset);
 
         int bytesRead = 0;
@@ -1202,22 +1246,26 @@ public final class ProtonCompositeBufferImpl extends SharedResource<ProtonBuffer
 
         checkIndexOfBounds(offset, length);
 
-        int bytesRead = 0;
+        if (length == 0) {
+            return -1;
+        }
+
         int lastAccessedChunk = findChunkWithIndex(offset);
         int readOffset = offset - startIndices[lastAccessedChunk];
 
         while (length > 0 && lastAccessedChunk != buffers.length) {
-            final ProtonBuffer buffer = buffers[lastAccessedChunk++];
-            final int readableBytes = Math.min(buffer.capacity(), length);
+            final ProtonBuffer buffer = buffers[lastAccessedChunk];
+            final int readableBytes = Math.min(buffer.getWriteOffset() - readOffset, length);
 
+            // Each component performs its own word at a time search over its region
             final int result = buffer.indexOf(needle, readOffset, readableBytes);
             if (result != -1) {
-                return bytesRead + result;
+                return startIndices[lastAccessedChunk] + result;
             }
 
-            bytesRead += buffer.getReadableBytes();
-            length -= buffer.getReadableBytes();
+            length -= readableBytes;
             readOffset = 0;
+            lastAccessedChunk++;
         }
 
         return -1;
@@ -1330,6 +1378,7 @@ public final class ProtonCompositeBufferImpl extends SharedResource<ProtonBuffer
         } finally {
             buffers = EMPTY_COMPOSITE;
             startIndices = EMPTY_COMPOSITE_INDICES;
+            resetLastAccessedChunk();
         }
     }
 
@@ -1340,6 +1389,7 @@ public final class ProtonCompositeBufferImpl extends SharedResource<ProtonBuffer
         // Need to ensure any subsequent close doesn't try and close the buffers that are now moved.
         buffers = EMPTY_COMPOSITE;
         startIndices = EMPTY_COMPOSITE_INDICES;
+        resetLastAccessedChunk();
 
         return transfer;
     }
@@ -1480,7 +1530,7 @@ public final class ProtonCompositeBufferImpl extends SharedResource<ProtonBuffer
         final int chunkForIndex = findChunkWithIndex(index);
         final ProtonBufferAccessors accessor;
 
-        if (size > buffers[chunkForIndex].capacity() - (index - startIndices[chunkForIndex])) {
+        if (index + size > lastAccessedChunkEnd) {
             accessor = chunker.prepare(chunkForIndex);
         } else {
             accessor = offseter.prepare(chunkForIndex);
@@ -1520,23 +1570,37 @@ public final class ProtonCompositeBufferImpl extends SharedResource<ProtonBuffer
     }
 
     private int findChunkWithIndex(int index) {
-        if (index < startIndices[lastAccessedChunk]) {
-            do {
-                --lastAccessedChunk;
-            } while (index < startIndices[lastAccessedChunk]);
-        } else if (index >= startIndices[lastAccessedChunk] + buffers[lastAccessedChunk].capacity()) {
-            do {
-                ++lastAccessedChunk;
-            } while (index >= startIndices[lastAccessedChunk] + buffers[lastAccessedChunk].capacity());
+        if (index < lastAccessedChunkStart || index >= lastAccessedChunkEnd) {
+            int chunk = Arrays.binarySearch(startIndices, 0, buffers.length, index);
+            if (chunk < 0) {
+                chunk = -chunk - 2;
+            }
+
+            // Step over any empty chunks that share a start index with the chunk holding the index
+            while (chunk < buffers.length - 1 && index >= startIndices[chunk] + buffers[chunk].capacity()) {
+                chunk++;
+            }
+
+            lastAccessedChunk = chunk;
+            lastAccessedChunkStart = startIndices[chunk];
+            lastAccessedChunkEnd = lastAccessedChunkStart + buffers[chunk].capacity();
         }
 
         return lastAccessedChunk;
     }
 
+    private void resetLastAccessedChunk() {
+        lastAccessedChunk = buffers.length == 0 ? -1 : 0;
+        lastAccessedChunkStart = 0;
+        lastAccessedChunkEnd = 0;
+    }
+
     private void recomputeChunkIndexValues() {
         for (int i = 0, capacity = 0; i < buffers.length; capacity += buffers[i++].capacity()) {
             startIndices[i] = capacity;
         }
+
+        resetLastAccessedChunk();
     }
 
     private void fullRecomputeOfChunkIndexAndOffsetValues() {
@@ -1584,7 +1648,44 @@ public final class ProtonCompositeBufferImpl extends SharedResource<ProtonBuffer
         this.readOffset = readOffset;
         this.writeOffset = writeOffset;
         this.capacity = totalCapcity;
-        this.lastAccessedChunk = 0;
+
+        resetLastAccessedChunk();
+    }
+
+    private void consolidateTrailingChunks() {
+        int firstChunk = buffers.length;
+        int totalCapacity = 0;
+
+        while (firstChunk > 0 && buffers[firstChunk - 1].capacity() <= consolidationSize) {
+            totalCapacity += buffers[--firstChunk].capacity();
+        }
+
+        if (readOnly || buffers.length - firstChunk < consolidationCount) {
+            return;
+        }
+
+        // The chunks are a linear progression so the written and read portions of each copy
+        // into one contiguous region whose offsets are the sums of the chunk offsets.
+        final ProtonBuffer consolidated = allocator.allocate(totalCapacity);
+        int consolidatedReadOffset = 0;
+        int consolidatedWriteOffset = 0;
+
+        for (int i = firstChunk; i < buffers.length; ++i) {
+            final ProtonBuffer chunk = buffers[i];
+
+            chunk.copyInto(0, consolidated, consolidatedWriteOffset, chunk.getWriteOffset());
+            consolidatedReadOffset += chunk.getReadOffset();
+            consolidatedWriteOffset += chunk.getWriteOffset();
+            chunk.close();
+        }
+
+        consolidated.setWriteOffset(consolidatedWriteOffset);
+        consolidated.setReadOffset(consolidatedReadOffset);
+
+        buffers = Arrays.copyOf(buffers, firstChunk + 1);
+        buffers[firstChunk] = consolidated;
+
+        fullRecomputeOfChunkIndexAndOffsetValues();
     }
 
     private ProtonCompositeBuffer appendBuffer(ProtonBuffer buffer) {
@@ -1597,13 +1698,13 @@ public final class ProtonCompositeBufferImpl extends SharedResource<ProtonBuffer
 
         capacity += buffer.capacity();
 
-        if (lastAccessedChunk == -1) {
-            lastAccessedChunk = 0;
-        }
-
         this.buffers = newBuffers;
         this.startIndices = newIndices;
 
+        if (lastAccessedChunk == -1) {
+            resetLastAccessedChunk();
+        }
+
         return this;
     }
 
@@ -0,0 +1,1209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.buffer.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.ScatteringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.NoSuchElementException;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferClosedException;
+import org.apache.qpid.protonj2.buffer.ProtonBufferComponent;
+import org.apache.qpid.protonj2.buffer.ProtonBufferComponentAccessor;
+import org.apache.qpid.protonj2.buffer.ProtonBufferIterator;
+import org.apache.qpid.protonj2.buffer.ProtonBufferUtils;
+import org.apache.qpid.protonj2.resource.SharedResource;
+
+/**
+ * A direct memory buffer implementation that is backed by a JDK direct {@link ByteBuffer}.
+ * <p>
+ * The memory backing this buffer lives outside the JVM heap which allows IO layers to
+ * write the buffer contents to a socket without first copying them into a native buffer.
+ * The memory is reclaimed by the JDK once the backing {@link ByteBuffer} is no longer
+ * reachable which means a closed buffer can still be safely read by any IO wrapper that
+ * obtained a view of the memory before the close.
+ */
+public final class ProtonDirectByteBuffer extends SharedResource<ProtonBuffer> implements ProtonBuffer, ProtonBufferComponent, ProtonBufferComponentAccessor {
+
+    /**
+     * The default initial capacity used for the underlying direct memory region.
+     */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    /**
+     * The default maximum capacity that this buffer can grow to.
+     */
+    public static final int DEFAULT_MAXIMUM_CAPACITY = ProtonBufferUtils.MAX_BUFFER_CAPACITY;
+
+    private static final int CLOSED_MARKER = -1;
+
+    private static final ByteBuffer CLOSED_BUFFER = ByteBuffer.allocateDirect(0);
+
+    /*
+     * Handle used to read the native address from a direct ByteBuffer, null if the
+     * JDK in use does not allow us to access the address in which case we report
+     * a zero address as the ProtonBufferComponent API allows.
+     */
+    private static final MethodHandle ADDRESS_ACCESSOR = createAddressAccessor();
+
+    /**
+     * The direct memory backing this buffer which always exactly covers the region owned by
+     * this buffer, index zero of the buffer is index zero of the backing memory.
+     */
+    private ByteBuffer memory;
+
+    /**
+     * Tracks the readable capacity of this buffer which is the size of the backing memory
+     * region or the closed marker when the buffer is closed.
+     */
+    private int readCapacity;
+
+    /**
+     * Tracks the read capacity for buffers that are both readable and writable and is
+     * set to the closed state for a buffer than has been made read only.
+     */
+    private int writeCapacity;
+
+    /**
+     * The maximum value that the buffer can grow automatically before write operations
+     * that would expand capacity will throw exceptions.
+     */
+    private int implicitGrowthLimit = DEFAULT_MAXIMUM_CAPACITY;
+
+    private int readOffset;
+    private int writeOffset;
+
+    private boolean readOnly;
+    private boolean closed;
+
+    /**
+     * When the backing memory is a mapped file region this tracks the file which is closed
+     * once all buffers that share it are closed, and the file position of index zero.
+     */
+    private ProtonMappedFileBufferAllocator.MappedFile mapped;
+    private long mappedOffset;
+
+    /**
+     * Creates a new {@link ProtonDirectByteBuffer} instance that uses default configuration values for
+     * initial capacity and the maximum allowed capacity to which the underlying memory will grow before
+     * errors will be thrown from operations that would expand the storage.
+     */
+    public ProtonDirectByteBuffer() {
+        this(DEFAULT_CAPACITY, DEFAULT_MAXIMUM_CAPACITY);
+    }
+
+    /**
+     * Creates a new {@link ProtonDirectByteBuffer} with the given initial capacity and uses the default
+     * value for the maximum capacity restriction.
+     *
+     * @param initialCapacity
+     * 		The initial size of the backing memory region.
+     *
+     * @throws IllegalArgumentException if the given value is less than zero.
+     */
+    public ProtonDirectByteBuffer(int initialCapacity) {
+        this(initialCapacity, DEFAULT_MAXIMUM_CAPACITY);
+    }
+
+    /**
+     * Creates a new {@link ProtonDirectByteBuffer} with the given initial capacity and the given maximum
+     * capacity restriction.
+     *
+     * @param initialCapacity
+     * 		The initial size of the backing memory region.
+     * @param implicitGrowthLimit
+     * 		The maximum size the backing memory region is allowed to grow.
+     *
+     * @throws IllegalArgumentException if the given value is less than zero or greater than the maximum.
+     */
+    public ProtonDirectByteBuffer(int initialCapacity, int implicitGrowthLimit) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity cannot be < 0");
+        }
+
+        if (initialCapacity > implicitGrowthLimit) {
+            throw new IllegalArgumentException("Initial capacity cannot exceed maximum capacity.");
+        }
+
+        this.memory = ByteBuffer.allocateDirect(initialCapacity);
+        this.readCapacity = initialCapacity;
+        this.writeCapacity = initialCapacity;
+        this.implicitGrowthLimit = implicitGrowthLimit;
+    }
+
+    /**
+     * Create a new proton direct buffer instance that wraps the given direct {@link ByteBuffer}
+     * whose capacity is taken from the remaining bytes in the given buffer.  The buffer contents
+     * from position to limit are considered to be the region owned by the created buffer and the
+     * provided buffer should not be used by the caller after this point.
+     *
+     * @param backingBuffer
+     * 		The direct {@link ByteBuffer} that will back this buffer.
+     * @param implicitGrowthLimit
+     *      The maximum to which this buffer can grow implicitly (without calls to ensureWritable).
+     *
+     * @throws IllegalArgumentException if the given {@link ByteBuffer} is not direct or is read-only.
+     */
+    public ProtonDirectByteBuffer(ByteBuffer backingBuffer, int implicitGrowthLimit) {
+        if (!backingBuffer.isDirect()) {
+            throw new IllegalArgumentException("The backing buffer must be a direct ByteBuffer");
+        }
+        if (backingBuffer.isReadOnly()) {
+            throw new IllegalArgumentException("The backing buffer cannot be a read-only ByteBuffer");
+        }
+
+        this.memory = backingBuffer.slice();
+        this.readCapacity = memory.capacity();
+        this.writeCapacity = memory.capacity();
+        this.implicitGrowthLimit = Math.max(implicitGrowthLimit, memory.capacity());
+    }
+
+    /*
+     * Creates a buffer whose backing memory is a mapped region of the given file starting at
+     * the beginning of the file and covering the requested capacity.
+     */
+    ProtonDirectByteBuffer(ProtonMappedFileBufferAllocator.MappedFile mapped, int capacity, int implicitGrowthLimit) {
+        this(mapped.map(0, capacity), implicitGrowthLimit);
+        this.mapped = mapped;
+    }
+
+    // For use in transfer to quickly setup the new facade around the memory
+    private ProtonDirectByteBuffer(ByteBuffer memory, boolean readOnly) {
+        this.memory = memory;
+        this.readOnly = readOnly;
+    }
+
+    @Override
+    public ProtonBuffer unwrap() {
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "ProtonDirectByteBuffer" +
+               "{ read:" + readOffset +
+               ", write: " + writeOffset +
+               ", capacity: " + readCapacity + "}";
+    }
+
+    @Override
+    public boolean isDirect() {
+        return true;
+    }
+
+    @Override
+    public boolean isComposite() {
+        return false;
+    }
+
+    @Override
+    public int componentCount() {
+        return 1;
+    }
+
+    @Override
+    public int readableComponentCount() {
+        return isReadable() ? 1 : 0;
+    }
+
+    @Override
+    public int writableComponentCount() {
+        return isWritable() ? 1 : 0;
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    @Override
+    public ProtonDirectByteBuffer convertToReadOnly() {
+        readOnly = true;
+        writeCapacity = CLOSED_MARKER;
+        return this;
+    }
+
+    @Override
+    public int capacity() {
+        return Math.max(0, readCapacity);
+    }
+
+    @Override
+    public int getReadableBytes() {
+        return writeOffset - readOffset;
+    }
+
+    @Override
+    public int getWritableBytes() {
+        return Math.max(0, writeCapacity - writeOffset);
+    }
+
+    @Override
+    public int getReadOffset() {
+        return readOffset;
+    }
+
+    @Override
+    public int getWriteOffset() {
+        return writeOffset;
+    }
+
+    @Override
+    public ProtonBuffer setWriteOffset(int value) {
+        checkWrite(value, 0, false);
+        writeOffset = value;
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer setReadOffset(int value) {
+        checkRead(value, 0);
+        readOffset = value;
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer fill(byte value) {
+        checkSet(0, 1);
+
+        final int capacity = capacity();
+        final long pattern = (value & 0xFFL) * 0x101010101010101L;
+
+        int index = 0;
+        for (; index + Long.BYTES <= capacity; index += Long.BYTES) {
+            memory.putLong(index, pattern);
+        }
+        for (; index < capacity; ++index) {
+            memory.put(index, value);
+        }
+
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer split(int splitOffset) {
+        ProtonBufferUtils.checkIsNotNegative(splitOffset, "The split offset cannot be negative");
+
+        if (capacity() < splitOffset) {
+            throw new IllegalArgumentException(
+                "The split offset cannot be greater than the buffer capacity, " +
+                "but the split offset was " + splitOffset + ", and capacity is " + capacity() + '.');
+        }
+        if (isClosed()) {
+            throw new ProtonBufferClosedException("Cannot split a closed buffer");
+        }
+
+        final ProtonDirectByteBuffer front = new ProtonDirectByteBuffer(region(memory, 0, splitOffset), false);
+        front.readCapacity = splitOffset;
+        front.writeCapacity = splitOffset;
+        front.writeOffset = Math.min(writeOffset, splitOffset);
+        front.readOffset = Math.min(readOffset, splitOffset);
+        front.mapped = mapped != null ? mapped.retain() : null;
+        front.mappedOffset = mappedOffset;
+        shareTrackerWith(front);
+        if (isReadOnly()) {
+            front.convertToReadOnly();
+        }
+
+        // This buffer realigned to house only the tail of the split
+        memory = region(memory, splitOffset, readCapacity - splitOffset);
+        readCapacity -= splitOffset;
+        writeCapacity = isReadOnly() ? CLOSED_MARKER : readCapacity;
+        writeOffset = Math.max(writeOffset, splitOffset) - splitOffset;
+        readOffset = Math.max(readOffset, splitOffset) - splitOffset;
+        mappedOffset += splitOffset;
+
+        return front;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof ProtonBuffer && ProtonBufferUtils.equals(this, (ProtonBuffer) o);
+    }
+
+    @Override
+    public int hashCode() {
+        return ProtonBufferUtils.hashCode(this);
+    }
+
+    //----- Indexed Get operations
+
+    @Override
+    public byte getByte(int index) {
+        checkGet(index, Byte.BYTES);
+        return memory.get(index);
+    }
+
+    @Override
+    public char getChar(int index) {
+        checkGet(index, Character.BYTES);
+        return memory.getChar(index);
+    }
+
+    @Override
+    public short getShort(int index) {
+        checkGet(index, Short.BYTES);
+        return memory.getShort(index);
+    }
+
+    @Override
+    public int getInt(int index) {
+        checkGet(index, Integer.BYTES);
+        return memory.getInt(index);
+    }
+
+    @Override
+    public long getLong(int index) {
+        checkGet(index, Long.BYTES);
+        return memory.getLong(index);
+    }
+
+    //----- Offset based read operations
+
+    @Override
+    public byte readByte() {
+        checkRead(readOffset, Byte.BYTES);
+        return memory.get(readOffset++);
+    }
+
+    @Override
+    public char readChar() {
+        checkRead(readOffset, Character.BYTES);
+        final char result = memory.getChar(readOffset);
+        readOffset += Character.BYTES;
+        return result;
+    }
+
+    @Override
+    public short readShort() {
+        checkRead(readOffset, Short.BYTES);
+        final short result = memory.getShort(readOffset);
+        readOffset += Short.BYTES;
+        return result;
+    }
+
+    @Override
+    public int readInt() {
+        checkRead(readOffset, Integer.BYTES);
+        final int result = memory.getInt(readOffset);
+        readOffset += Integer.BYTES;
+        return result;
+    }
+
+    @Override
+    public long readLong() {
+        checkRead(readOffset, Long.BYTES);
+        final long result = memory.getLong(readOffset);
+        readOffset += Long.BYTES;
+        return result;
+    }
+
+    //----- Indexed Set operations
+
+    @Override
+    public ProtonBuffer setByte(int index, byte value) {
+        checkSet(index, Byte.BYTES);
+        memory.put(index, value);
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer setChar(int index, char value) {
+        checkSet(index, Character.BYTES);
+        memory.putChar(index, value);
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer setShort(int index, short value) {
+        checkSet(index, Short.BYTES);
+        memory.putShort(index, value);
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer setInt(int index, int value) {
+        checkSet(index, Integer.BYTES);
+        memory.putInt(index, value);
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer setLong(int index, long value) {
+        checkSet(index, Long.BYTES);
+        memory.putLong(index, value);
+        return this;
+    }
+
+    //----- Offset based Write operations
+
+    @Override
+    public ProtonBuffer writeByte(byte value) {
+        checkWrite(writeOffset, Byte.BYTES, true);
+        memory.put(writeOffset++, value);
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer writeChar(char value) {
+        checkWrite(writeOffset, Character.BYTES, true);
+        memory.putChar(writeOffset, value);
+        writeOffset += Character.BYTES;
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer writeShort(short value) {
+        checkWrite(writeOffset, Short.BYTES, true);
+        memory.putShort(writeOffset, value);
+        writeOffset += Short.BYTES;
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer writeInt(int value) {
+        checkWrite(writeOffset, Integer.BYTES, true);
+        memory.putInt(writeOffset, value);
+        writeOffset += Integer.BYTES;
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer writeLong(long value) {
+        checkWrite(writeOffset, Long.BYTES, true);
+        memory.putLong(writeOffset, value);
+        writeOffset += Long.BYTES;
+        return this;
+    }
+
+    //----- Buffer Copy and Compaction API
+
+    @Override
+    public ProtonBuffer copy(int offset, int length, boolean readOnly) throws IllegalArgumentException {
+        ProtonBufferUtils.checkLength(length);
+
+        final ProtonDirectByteBuffer result;
+
+        if (readOnly && isReadOnly()) {
+            checkGet(offset, length);
+            result = new ProtonDirectByteBuffer(region(memory, offset, length), false);
+            result.readCapacity = length;
+            result.writeCapacity = length;
+            result.writeOffset = length;
+            result.mapped = mapped != null ? mapped.retain() : null;
+            result.mappedOffset = mappedOffset + offset;
+            shareTrackerWith(result);
+        } else {
+            checkGet(offset, length);
+            final ProtonMappedFileBufferAllocator.MappedFile copyMapped = mapped != null ? mapped.reallocate() : null;
+            final ByteBuffer copyBytes = copyMapped != null ? copyMapped.map(0, length) : ByteBuffer.allocateDirect(length);
+            copyBytes.put(region(memory, offset, length)).clear();
+
+            result = new ProtonDirectByteBuffer(copyBytes, false);
+            result.readCapacity = length;
+            result.writeCapacity = length;
+            result.writeOffset = length;
+            result.mapped = copyMapped;
+        }
+
+        if (readOnly) {
+            result.convertToReadOnly();
+        }
+
+        return result;
+    }
+
+    @Override
+    public void copyInto(int offset, byte[] destination, int destOffset, int length) {
+        checkCopyIntoArgs(offset, length, destOffset, destination.length);
+        region(memory, offset, length).get(destination, destOffset, length);
+    }
+
+    @Override
+    public void copyInto(int offset, ByteBuffer destination, int destOffset, int length) {
+        if (destination.isReadOnly()) {
+            throw ProtonBufferUtils.genericBufferIsReadOnly(this);
+        }
+        checkCopyIntoArgs(offset, length, destOffset, destination.capacity());
+
+        final ByteBuffer target = destination.duplicate();
+        target.clear().position(destOffset);
+        target.put(region(memory, offset, length));
+    }
+
+    @Override
+    public void copyInto(int offset, ProtonBuffer destination, int destOffset, int length) {
+        ProtonBufferUtils.checkIsClosed(destination);
+        ProtonBufferUtils.checkIsReadOnly(destination);
+
+        checkCopyIntoArgs(offset, length, destOffset, destination.capacity());
+
+        final int originalReadOffset = destination.getReadOffset();
+        final int originalWriteOffset = destination.getWriteOffset();
+        destination.setReadOffset(0);
+        destination.setWriteOffset(destOffset);
+        try {
+            destination.writeBytes(region(memory, offset, length));
+        } finally {
+            destination.setReadOffset(originalReadOffset);
+            destination.setWriteOffset(originalWriteOffset);
+        }
+    }
+
+    @Override
+    public ProtonBuffer writeBytes(byte[] source, int offset, int length) {
+        checkWrite(writeOffset, length, true);
+        region(memory, writeOffset, length).put(source, offset, length);
+        writeOffset += length;
+
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer writeBytes(ByteBuffer source) {
+        final int length = source.remaining();
+        checkWrite(writeOffset, length, true);
+        region(memory, writeOffset, length).put(source);
+        writeOffset += length;
+
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer writeBytes(ProtonBuffer source) {
+        final int length = source.getReadableBytes();
+        checkWrite(writeOffset, length, true);
+        source.readBytes(region(memory, writeOffset, length));
+        writeOffset += length;
+
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer readBytes(ByteBuffer destination) {
+        final int byteCount = destination.remaining();
+        checkCopyIntoArgs(readOffset, byteCount, destination.position(), destination.capacity());
+        checkRead(readOffset, byteCount);
+        destination.put(region(memory, readOffset, byteCount));
+        readOffset += byteCount;
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer readBytes(byte[] destination, int offset, int length) {
+        checkCopyIntoArgs(readOffset, length, offset, destination.length);
+        checkRead(readOffset, length);
+        region(memory, readOffset, length).get(destination, offset, length);
+        readOffset += length;
+
+        return this;
+    }
+
+    //----- Buffer size management API
+
+    @Override
+    public int implicitGrowthLimit() {
+        return implicitGrowthLimit;
+    }
+
+    @Override
+    public ProtonBuffer implicitGrowthLimit(int limit) {
+        ProtonBufferUtils.checkImplicitGrowthLimit(limit, capacity());
+        this.implicitGrowthLimit = limit;
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer ensureWritable(int size, int minimumGrowth, boolean allowCompaction) throws IndexOutOfBoundsException, IllegalArgumentException {
+        if (isClosed()) {
+            throw ProtonBufferUtils.genericBufferIsClosed(this);
+        }
+        if (size < 0) {
+            throw new IllegalArgumentException("Cannot ensure writable for a negative size: " + size + '.');
+        }
+        if (minimumGrowth < 0) {
+            throw new IllegalArgumentException("The minimum growth cannot be negative: " + minimumGrowth + '.');
+        }
+        if (writeCapacity == CLOSED_MARKER) {
+            throw ProtonBufferUtils.genericBufferIsReadOnly(this);
+        }
+        if (getWritableBytes() > size) {
+            return this;
+        }
+        if (allowCompaction && getWritableBytes() + getReadOffset() >= size) {
+            return compact();
+        }
+
+        final int previousCapacity = capacity();
+        final long newSize = previousCapacity + (long) Math.max(size - getWritableBytes(), minimumGrowth);
+        ProtonBufferUtils.checkIsNotNegative(newSize, "The buffer cannot be resized to a negative value");
+        if (newSize > DEFAULT_MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException(
+                "The buffer cannot grow to a size greater than " + DEFAULT_MAXIMUM_CAPACITY + ", requested size was " + newSize);
+        }
+
+        final ByteBuffer newMemory;
+
+        if (mapped != null && !mapped.isShared()) {
+            // Mapping a larger region of the file extends it and requires no copy of the contents
+            newMemory = mapped.map(mappedOffset, (int) newSize);
+        } else if (mapped != null) {
+            final ProtonMappedFileBufferAllocator.MappedFile newMapped = mapped.reallocate();
+
+            newMemory = newMapped.map(0, (int) newSize);
+            newMemory.put(region(memory, 0, capacity())).clear();
+
+            mapped.release();
+            mapped = newMapped;
+            mappedOffset = 0;
+        } else {
+            newMemory = ByteBuffer.allocateDirect((int) newSize);
+            newMemory.put(region(memory, 0, capacity())).clear();
+        }
+
+        this.memory = newMemory;
+        this.readCapacity = newMemory.capacity();
+        this.writeCapacity = readOnly ? CLOSED_MARKER : newMemory.capacity();
+
+        trackResize(previousCapacity, newMemory.capacity());
+
+        return this;
+    }
+
+    @Override
+    public ProtonBuffer compact() {
+        if (isClosed()) {
+            throw ProtonBufferUtils.genericBufferIsClosed(this);
+        }
+        if (isReadOnly()) {
+            throw ProtonBufferUtils.genericBufferIsReadOnly(this);
+        }
+
+        if (readOffset != 0) {
+            final ByteBuffer compacted = region(memory, readOffset, writeOffset - readOffset);
+            region(memory, 0, compacted.remaining()).put(compacted);
+            writeOffset -= readOffset;
+            readOffset = 0;
+        }
+
+        return this;
+    }
+
+    //----- Buffer IO interoperability handlers
+
+    @Override
+    public int transferTo(WritableByteChannel channel, int length) throws IOException {
+        ProtonBufferUtils.checkIsClosed(this);
+        ProtonBufferUtils.checkIsNotNegative(length, "TransferTo length cannot be negative: " + length);
+
+        final int writableBytes = Math.min(getReadableBytes(), length);
+
+        checkGet(readOffset, writableBytes);
+
+        if (writableBytes == 0) {
+            return 0;
+        }
+
+        final int actualWrite = channel.write(region(memory, readOffset, writableBytes));
+        readOffset += actualWrite;
+
+        return actualWrite;
+    }
+
+    @Override
+    public int transferFrom(ReadableByteChannel channel, int length) throws IOException {
+        ProtonBufferUtils.checkIsClosed(this);
+        ProtonBufferUtils.checkIsReadOnly(this);
+
+        length = Math.min(getWritableBytes(), length);
+
+        if (length == 0) {
+            return 0;
+        }
+
+        checkSet(getWriteOffset(), length);
+        final int bytesRead = channel.read(region(memory, writeOffset, length));
+        if (bytesRead != -1) {
+            writeOffset += bytesRead;
+        }
+
+        return bytesRead;
+    }
+
+    @Override
+    public int transferFrom(FileChannel channel, long position, int length) throws IOException {
+        ProtonBufferUtils.checkIsClosed(this);
+        ProtonBufferUtils.checkIsReadOnly(this);
+
+        length = Math.min(getWritableBytes(), length);
+
+        if (length == 0) {
+            return 0;
+        }
+
+        checkSet(getWriteOffset(), length);
+        final int bytesRead = channel.read(region(memory, writeOffset, length), position);
+        if (bytesRead != -1) {
+            writeOffset += bytesRead;
+        }
+
+        return bytesRead;
+    }
+
+    @Override
+    public int transferTo(GatheringByteChannel channel, int length) throws IOException {
+        return transferTo((WritableByteChannel) channel, length);
+    }
+
+    @Override
+    public int transferFrom(ScatteringByteChannel channel, int length) throws IOException {
+        return transferFrom((ReadableByteChannel) channel, length);
+    }
+
+    //----- Buff component access
+
+    @Override
+    public ProtonBufferComponentAccessor componentAccessor() {
+        if (isClosed()) {
+            throw ProtonBufferUtils.genericBufferIsClosed(this);
+        }
+
+        return (ProtonBufferComponentAccessor) acquire();
+    }
+
+    @Override
+    public ProtonBufferComponent first() {
+        return this;
+    }
+
+    @Override
+    public ProtonBufferComponent next() {
+        return null; // There is never a next.
+    }
+
+    //----- Buffer iteration API
+
+    @Override
+    public ProtonBufferIterator bufferIterator() {
+        return bufferIterator(getReadOffset(), getReadableBytes());
+    }
+
+    @Override
+    public ProtonBufferIterator bufferIterator(int offset, int length) {
+        ProtonBufferUtils.checkIsClosed(this);
+        ProtonBufferUtils.checkArgumentIsNotNegative(offset, "offset");
+        ProtonBufferUtils.checkArgumentIsNotNegative(length, "length");
+
+        checkGet(offset, length);
+
+        return new ProtonDirectByteBufferIterator(memory, offset, length);
+    }
+
+    @Override
+    public ProtonBufferIterator bufferReverseIterator(int offset, int length) {
+        ProtonBufferUtils.checkIsClosed(this);
+        ProtonBufferUtils.checkArgumentIsNotNegative(offset, "offset");
+        ProtonBufferUtils.checkArgumentIsNotNegative(length, "length");
+
+        if (offset >= capacity()) {
+            throw new IndexOutOfBoundsException(
+                "Read offset must be within the bounds of the buffer: offset = " + offset + ", capacity = " + capacity());
+        }
+
+        if (offset - length < -1) {
+            throw new IndexOutOfBoundsException(
+                "Cannot read past start of buffer: offset = " + offset + ", length = " + length);
+        }
+
+        return new ProtonDirectByteBufferReverseIterator(memory, offset, length);
+    }
+
+    //----- Buffer component API
+
+    @Override
+    public boolean hasReadbleArray() {
+        return false;
+    }
+
+    @Override
+    public ProtonDirectByteBuffer advanceReadOffset(int amount) {
+        return (ProtonDirectByteBuffer) ProtonBuffer.super.advanceReadOffset(amount);
+    }
+
+    @Override
+    public byte[] getReadableArray() {
+        throw new UnsupportedOperationException("Direct buffers are not backed by an array");
+    }
+
+    @Override
+    public int getReadableArrayOffset() {
+        return 0;
+    }
+
+    @Override
+    public int getReadableArrayLength() {
+        return 0;
+    }
+
+    @Override
+    public ByteBuffer getReadableBuffer() {
+        if (readCapacity < 0) {
+            return CLOSED_BUFFER.asReadOnlyBuffer();
+        } else {
+            return region(memory, readOffset, getReadableBytes()).asReadOnlyBuffer();
+        }
+    }
+
+    @Override
+    public ProtonDirectByteBuffer advanceWriteOffset(int amount) {
+        return (ProtonDirectByteBuffer) ProtonBuffer.super.advanceWriteOffset(amount);
+    }
+
+    @Override
+    public boolean hasWritableArray() {
+        return false;
+    }
+
+    @Override
+    public byte[] getWritableArray() {
+        throw new UnsupportedOperationException("Direct buffers are not backed by an array");
+    }
+
+    @Override
+    public int getWritableArrayOffset() {
+        return 0;
+    }
+
+    @Override
+    public int getWritableArrayLength() {
+        return 0;
+    }
+
+    @Override
+    public ByteBuffer getWritableBuffer() {
+        if (writeCapacity < 0) {
+            return CLOSED_BUFFER.duplicate();
+        } else {
+            return region(memory, writeOffset, getWritableBytes());
+        }
+    }
+
+    @Override
+    public long getNativeAddress() {
+        if (ADDRESS_ACCESSOR == null || isClosed()) {
+            return 0;
+        }
+
+        try {
+            return (long) ADDRESS_ACCESSOR.invokeExact((Object) memory);
+        } catch (Throwable e) {
+            return 0;
+        }
+    }
+
+    @Override
+    public long getNativeReadAddress() {
+        final long address = getNativeAddress();
+        return address == 0 ? 0 : address + readOffset;
+    }
+
+    @Override
+    public long getNativeWriteAddress() {
+        final long address = getNativeAddress();
+        return address == 0 ? 0 : address + writeOffset;
+    }
+
+    //----- Buffer search API
+
+    @Override
+    public int indexOf(byte needle, int offset, int length) {
+        ProtonBufferUtils.checkIsClosed(this);
+
+        checkIndexOfBounds(offset, length);
+
+        final int end = offset + length;
+
+        if (length > 7) {
+            final long pattern = (needle & 0xFFL) * 0x101010101010101L;
+            final int stopAfter = offset + (length >>> 3) * Long.BYTES;
+
+            for (; offset < stopAfter; offset += Long.BYTES) {
+                final long word = memory.getLong(offset);
+
+                // Hackers delight chapter six describes this algorithm
+                long input = word ^ pattern;
+                long tmp = (input & 0x7F7F7F7F7F7F7F7FL) + 0x7F7F7F7F7F7F7F7FL;
+                tmp = ~(tmp | input | 0x7F7F7F7F7F7F7F7FL);
+
+                final int index = Long.numberOfLeadingZeros(tmp) >>> 3;
+
+                if (index < Long.BYTES) {
+                    return offset + index;
+                }
+            }
+        }
+
+        for (; offset < end; offset++) {
+            if (memory.get(offset) == needle) {
+                return offset;
+            }
+        }
+
+        return -1;
+    }
+
+    //----- Sharable resource API implementation
+
+    @Override
+    protected void releaseResourceOwnership() {
+        closed = true;
+        readOnly = false;
+        writeCapacity = CLOSED_MARKER;
+        readCapacity = CLOSED_MARKER;
+        readOffset = 0;
+        writeOffset = 0;
+        memory = CLOSED_BUFFER;
+
+        if (mapped != null) {
+            mapped.release();
+            mapped = null;
+        }
+    }
+
+    @Override
+    protected ProtonBuffer transferTheResource() {
+        ProtonDirectByteBuffer transfer = new ProtonDirectByteBuffer(memory, readOnly);
+
+        // Match transfer state to this buffer
+        transfer.readCapacity = readCapacity;
+        transfer.writeCapacity = writeCapacity;
+        transfer.readOffset = readOffset;
+        transfer.writeOffset = writeOffset;
+        transfer.implicitGrowthLimit = implicitGrowthLimit;
+        transfer.mapped = mapped;
+        transfer.mappedOffset = mappedOffset;
+
+        // The transferred buffer now owns the mapped file reference
+        mapped = null;
+
+        return transfer;
+    }
+
+    @Override
+    protected RuntimeException resourceIsClosedException() {
+        return ProtonBufferUtils.genericBufferIsClosed(this);
+    }
+
+    //----- Private ProtonBuffer APIs
+
+    /*
+     * Creates a view of the given region of the backing memory whose position is zero and
+     * whose limit is the length of the region, the view can be used in relative operations
+     * without disturbing the state of the backing memory.
+     */
+    private static ByteBuffer region(ByteBuffer memory, int offset, int length) {
+        final ByteBuffer duplicate = memory.duplicate();
+        duplicate.limit(offset + length).position(offset);
+        return duplicate.slice();
+    }
+
+    private void checkWrite(int index, int size, boolean allowExpansion) {
+        if (index < readOffset || writeCapacity < (index + size)) {
+            expandOrThrowError(index, size, allowExpansion);
+        }
+    }
+
+    private void checkRead(int index, int size) {
+        if (index < 0 || writeOffset < index + size || closed) {
+            if (closed) {
+                throw ProtonBufferUtils.genericBufferIsClosed(this);
+            } else {
+                throw ProtonBufferUtils.genericOutOfBounds(this, index);
+            }
+        }
+    }
+
+    private void checkGet(int index, int size) {
+        if (index < 0 || readCapacity < index + size) {
+            if (closed) {
+                throw ProtonBufferUtils.genericBufferIsClosed(this);
+            } else {
+                throw ProtonBufferUtils.genericOutOfBounds(this, index);
+            }
+        }
+    }
+
+    private void checkSet(int index, int size) {
+        if (index < 0 || writeCapacity < index + size) {
+            expandOrThrowError(index, size, false);
+        }
+    }
+
+    private void checkIndexOfBounds(int index, int size) {
+        if (index < readOffset || writeOffset < index + size) {
+            throw new IndexOutOfBoundsException(
+                "Search range [read " + index + " length " + size  +
+                "] is out of bounds: [read " + readOffset + " length " + getReadableBytes() + "].");
+        }
+    }
+
+    private void expandOrThrowError(int index, int size, boolean mayExpand) {
+        if (readCapacity == CLOSED_MARKER) {
+            throw ProtonBufferUtils.genericBufferIsClosed(this);
+        }
+
+        if (readOnly) {
+            throw ProtonBufferUtils.genericBufferIsReadOnly(this);
+        }
+
+        int capacity = capacity();
+        if (mayExpand && index >= 0 && index <= capacity && writeOffset + size <= implicitGrowthLimit) {
+            int minimumGrowth = Math.min(Math.max(capacity * 2, size), implicitGrowthLimit) - capacity;
+            ensureWritable(size, minimumGrowth, false);
+            checkSet(index, size); // Verify writing is now possible, without recursing.
+            return;
+        }
+
+        throw ProtonBufferUtils.genericOutOfBounds(this, index);
+    }
+
+    private void checkCopyIntoArgs(int srcPos, int length, int destPos, int destLength) {
+        if (readCapacity == CLOSED_MARKER) {
+            throw ProtonBufferUtils.genericBufferIsClosed(this);
+        }
+        if (srcPos < 0) {
+            throw new IndexOutOfBoundsException("The srcPos cannot be negative: " + srcPos + '.');
+        }
+        if (length < 0) {
+            throw new IndexOutOfBoundsException("The length value cannot be negative " + length + ".");
+        }
+        if (readCapacity < srcPos + length) {
+            throw new IndexOutOfBoundsException("The srcPos + length is beyond the end of the buffer: " +
+                    "srcPos = " + srcPos + ", length = " + length + '.');
+        }
+        if (destPos < 0) {
+            throw new IndexOutOfBoundsException("The destPos cannot be negative: " + destPos + '.');
+        }
+        if (destLength < destPos + length) {
+            throw new IndexOutOfBoundsException("The destPos + length is beyond the end of the destination: " +
+                    "destPos = " + destPos + ", length = " + length + '.');
+        }
+    }
+
+    private static MethodHandle createAddressAccessor() {
+        try {
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            final Object unsafe = theUnsafe.get(null);
+            final long addressOffset = (long) unsafeClass.getMethod("objectFieldOffset", Field.class)
+                                                         .invoke(unsafe, Buffer.class.getDeclaredField("address"));
+            final MethodHandle getLong = MethodHandles.lookup().findVirtual(
+                unsafeClass, "getLong", MethodType.methodType(long.class, Object.class, long.class));
+
+            return MethodHandles.insertArguments(getLong.bindTo(unsafe), 1, addressOffset);
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    private static final class ProtonDirectByteBufferIterator implements ProtonBufferIterator {
+
+        private final int endPos;
+        private final ByteBuffer memory;
+
+        private int current;
+
+        public ProtonDirectByteBufferIterator(ByteBuffer memory, int offset, int length) {
+            this.memory = memory;
+            this.current = offset;
+            this.endPos = offset + length; // End position is exclusive
+        }
+
+        @Override
+        public boolean hasNext() {
+            return current != endPos;
+        }
+
+        @Override
+        public byte next() {
+            if (current == endPos) {
+                throw new NoSuchElementException("Buffer iteration complete, no additional bytes available");
+            }
+
+            return memory.get(current++);
+        }
+
+        @Override
+        public int remaining() {
+            return endPos - current;
+        }
+
+        @Override
+        public int offset() {
+            return current;
+        }
+    }
+
+    private static final class ProtonDirectByteBufferReverseIterator implements ProtonBufferIterator {
+
+        private final int endPos;
+        private final ByteBuffer memory;
+
+        private int current;
+
+        public ProtonDirectByteBufferReverseIterator(ByteBuffer memory, int offset, int length) {
+            this.memory = memory;
+            this.current = offset;
+            this.endPos = offset - length; // End position is exclusive
+        }
+
+        @Override
+        public boolean hasNext() {
+            return current != endPos;
+        }
+
+        @Override
+        public byte next() {
+            if (current == endPos) {
+                throw new NoSuchElementException("Buffer iteration complete, no additional bytes available");
+            }
+
+            return memory.get(current--);
+        }
+
+        @Override
+        public int remaining() {
+            return Math.abs(endPos - current);
+        }
+
+        @Override
+        public int offset() {
+            return current;
+        }
+    }
+}
@@ -0,0 +1,491 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.buffer.impl;
+
+import java.lang.ref.Cleaner.Cleanable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.buffer.ProtonBufferUtils;
+import org.apache.qpid.protonj2.buffer.ProtonCompositeBuffer;
+import org.apache.qpid.protonj2.logging.ProtonLogger;
+import org.apache.qpid.protonj2.logging.ProtonLoggerFactory;
+import org.apache.qpid.protonj2.resource.ResourceTracker;
+import org.apache.qpid.protonj2.resource.SharedResource;
+
+/**
+ * A {@link ProtonBufferAllocator} decorator that tracks the buffers allocated by another
+ * allocator in order to report on buffer usage and to detect buffers that are never closed.
+ * <p>
+ * The allocator keeps a count of the buffers and bytes that are currently live along with the
+ * high-water marks of each, a buffer is considered live from the time it is allocated until it
+ * and any buffers split or shared from it have been closed or it has been reclaimed by the GC.
+ * Bytes are accounted for using the capacity that was requested when the buffer was allocated
+ * and are updated as the buffer grows.  The counters are updated without locking so the values
+ * read while allocations are in progress on other threads are approximate.
+ * <p>
+ * When a sampling interval is configured every Nth allocation records the call site that
+ * requested the buffer and registers a {@link java.lang.ref.Cleaner} watch on it, if that buffer
+ * is garbage collected without having been closed a {@link LeakReport} is handed to the configured
+ * leak handler which by default logs a warning.  With sampling disabled the allocator only
+ * attaches a single tracker object to each buffer and maintains striped counters which adds very
+ * little overhead to each allocation even when many threads allocate concurrently.
+ * <p>
+ * Composite buffers created from this allocator are not themselves tracked but the buffers they
+ * allocate when growing are, as are any buffers allocated from this allocator that are appended
+ * to them.
+ */
+public final class ProtonInstrumentedBufferAllocator implements ProtonBufferAllocator {
+
+    private static final ProtonLogger LOG = ProtonLoggerFactory.getLogger(ProtonInstrumentedBufferAllocator.class);
+
+    private static final Consumer<LeakReport> DEFAULT_LEAK_HANDLER = (report) -> {
+        LOG.warn("Buffer of capacity {} was garbage collected without being closed, allocated at: {}",
+                 report.getCapacity(), report.getAllocationSite());
+    };
+
+    private final ProtonBufferAllocator delegate;
+
+    private final LongAdder liveBuffers = new LongAdder();
+    private final LongAdder liveBytes = new LongAdder();
+    private final AtomicLong peakLiveBuffers = new AtomicLong();
+    private final AtomicLong peakLiveBytes = new AtomicLong();
+    private final LongAdder totalAllocations = new LongAdder();
+    private final LongAdder leaksDetected = new LongAdder();
+    private final AtomicLong sampleCounter = new AtomicLong();
+    private final Map<String, LongAdder> allocationSites = new ConcurrentHashMap<>();
+
+    private volatile int samplingInterval;
+    private volatile Consumer<LeakReport> leakHandler = DEFAULT_LEAK_HANDLER;
+
+    /**
+     * Creates a new instrumented allocator that tracks the buffers of the given allocator
+     * with allocation site sampling and leak detection disabled.
+     *
+     * @param delegate
+     * 		The allocator that will perform the actual buffer allocations.
+     */
+    public ProtonInstrumentedBufferAllocator(ProtonBufferAllocator delegate) {
+        this(delegate, 0);
+    }
+
+    /**
+     * Creates a new instrumented allocator that tracks the buffers of the given allocator
+     * and samples every Nth allocation for allocation site tracking and leak detection.
+     *
+     * @param delegate
+     * 		The allocator that will perform the actual buffer allocations.
+     * @param samplingInterval
+     * 		The number of allocations between each sampled allocation (zero disables sampling).
+     */
+    public ProtonInstrumentedBufferAllocator(ProtonBufferAllocator delegate, int samplingInterval) {
+        this.delegate = Objects.requireNonNull(delegate, "The delegate allocator cannot be null");
+
+        setSamplingInterval(samplingInterval);
+    }
+
+    /**
+     * @return the allocator that this instrumented allocator delegates to.
+     */
+    public ProtonBufferAllocator getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * @return the number of allocations between each sampled allocation or zero if disabled.
+     */
+    public int getSamplingInterval() {
+        return samplingInterval;
+    }
+
+    /**
+     * Configures how often allocations are sampled for call site tracking and leak detection, a
+     * value of one samples every allocation while zero disables sampling.  Changes only apply to
+     * buffers allocated after the call.
+     *
+     * @param samplingInterval
+     * 		The number of allocations between each sampled allocation (zero disables sampling).
+     *
+     * @return this allocator instance.
+     */
+    public ProtonInstrumentedBufferAllocator setSamplingInterval(int samplingInterval) {
+        ProtonBufferUtils.checkIsNotNegative(samplingInterval, "The sampling interval cannot be negative");
+        this.samplingInterval = samplingInterval;
+        return this;
+    }
+
+    /**
+     * Configures the handler that is notified when a sampled buffer is found to have been garbage
+     * collected without having been closed, the handler is called from the {@link java.lang.ref.Cleaner}
+     * thread and should not block.
+     *
+     * @param leakHandler
+     * 		The handler to notify of leaked buffers or null to restore the default logging handler.
+     *
+     * @return this allocator instance.
+     */
+    public ProtonInstrumentedBufferAllocator setLeakHandler(Consumer<LeakReport> leakHandler) {
+        this.leakHandler = leakHandler != null ? leakHandler : DEFAULT_LEAK_HANDLER;
+        return this;
+    }
+
+    /**
+     * @return the number of buffers allocated from this allocator that are currently live.
+     */
+    public long getLiveBuffers() {
+        return liveBuffers.sum();
+    }
+
+    /**
+     * @return the number of bytes allocated from this allocator that are currently live.
+     */
+    public long getLiveBytes() {
+        return liveBytes.sum();
+    }
+
+    /**
+     * @return the largest number of buffers that have been live at one time.
+     */
+    public long getPeakLiveBuffers() {
+        return peakLiveBuffers.get();
+    }
+
+    /**
+     * @return the largest number of bytes that have been live at one time.
+     */
+    public long getPeakLiveBytes() {
+        return peakLiveBytes.get();
+    }
+
+    /**
+     * @return the total number of buffers that have been allocated from this allocator.
+     */
+    public long getTotalAllocations() {
+        return totalAllocations.sum();
+    }
+
+    /**
+     * @return the number of sampled buffers that were garbage collected without being closed.
+     */
+    public long getLeaksDetected() {
+        return leaksDetected.sum();
+    }
+
+    /**
+     * Returns a snapshot of the sampled allocation sites and the number of sampled allocations
+     * that each performed, the site is the first stack frame outside of this allocator.
+     *
+     * @return a {@link Map} of allocation site to number of sampled allocations from that site.
+     */
+    public Map<String, Long> getAllocationSites() {
+        final Map<String, Long> snapshot = new HashMap<>(allocationSites.size());
+        allocationSites.forEach((site, count) -> snapshot.put(site, count.sum()));
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    /**
+     * Resets the high-water marks to the current live values and clears the sampled allocation sites.
+     */
+    public void resetStatistics() {
+        peakLiveBuffers.set(liveBuffers.sum());
+        peakLiveBytes.set(liveBytes.sum());
+        allocationSites.clear();
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    @Override
+    public ProtonBuffer outputBuffer(int initialCapacity) {
+        return track(delegate.outputBuffer(initialCapacity), initialCapacity);
+    }
+
+    @Override
+    public ProtonBuffer allocate() {
+        return track(delegate.allocate());
+    }
+
+    @Override
+    public ProtonBuffer allocate(int initialCapacity) {
+        return track(delegate.allocate(initialCapacity), initialCapacity);
+    }
+
+    @Override
+    public ProtonBuffer allocateHeapBuffer() {
+        return track(delegate.allocateHeapBuffer());
+    }
+
+    @Override
+    public ProtonBuffer allocateHeapBuffer(int initialCapacity) {
+        return track(delegate.allocateHeapBuffer(initialCapacity), initialCapacity);
+    }
+
+    @Override
+    public ProtonBuffer copy(byte[] array, int offset, int length) {
+        return track(delegate.copy(array, offset, length), length);
+    }
+
+    @Override
+    public ProtonCompositeBuffer composite() {
+        return ProtonCompositeBuffer.create(this);
+    }
+
+    @Override
+    public ProtonCompositeBuffer composite(ProtonBuffer buffer) {
+        return ProtonCompositeBuffer.create(this, buffer);
+    }
+
+    @Override
+    public ProtonCompositeBuffer composite(ProtonBuffer[] buffers) {
+        return ProtonCompositeBuffer.create(this, buffers);
+    }
+
+    //----- Tracking internals
+
+    private ProtonBuffer track(ProtonBuffer buffer) {
+        return track(buffer, buffer.capacity());
+    }
+
+    private ProtonBuffer track(ProtonBuffer buffer, int capacity) {
+        totalAllocations.increment();
+
+        if (!(buffer instanceof SharedResource)) {
+            return buffer;
+        }
+
+        final Allocation allocation = new Allocation(this, capacity);
+
+        allocated(capacity);
+
+        final int interval = samplingInterval;
+        if (interval > 0 && sampleCounter.incrementAndGet() % interval == 0) {
+            final SampledAllocation sampled = new SampledAllocation(allocation);
+
+            allocation.sample(sampled);
+            allocationSites.computeIfAbsent(allocation.site, (site) -> new LongAdder()).increment();
+
+            ((SharedResource<?>) buffer).track(sampled);
+        } else {
+            ((SharedResource<?>) buffer).track(allocation);
+        }
+
+        return buffer;
+    }
+
+    private void allocated(int capacity) {
+        liveBuffers.increment();
+        liveBytes.add(capacity);
+
+        updatePeak(peakLiveBuffers, liveBuffers.sum());
+        updatePeak(peakLiveBytes, liveBytes.sum());
+    }
+
+    private void resized(int delta) {
+        liveBytes.add(delta);
+
+        if (delta > 0) {
+            updatePeak(peakLiveBytes, liveBytes.sum());
+        }
+    }
+
+    private void released(int capacity) {
+        liveBuffers.decrement();
+        liveBytes.add(-capacity);
+    }
+
+    private static void updatePeak(AtomicLong peak, long value) {
+        // Only write to the shared peak when it is actually exceeded to avoid contention
+        if (value > peak.get()) {
+            peak.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    private void leaked(Allocation allocation) {
+        leaksDetected.increment();
+
+        try {
+            leakHandler.accept(new LeakReport(allocation.capacity, allocation.site, allocation.trace));
+        } catch (Throwable error) {
+            LOG.debug("Buffer leak handler threw unexpected error: {}", error.getMessage());
+        }
+    }
+
+    /*
+     * Reference count and size of an allocation which is attached directly to the buffer as its
+     * tracker when the allocation is not sampled.  Sampled allocations attach a SampledAllocation
+     * instead so that the Cleaner action, which is this object, does not keep the tracker that is
+     * being watched reachable.  When run by the Cleaner with references outstanding the allocation
+     * has leaked.
+     */
+    private static final class Allocation implements ResourceTracker, Runnable {
+
+        private static final AtomicIntegerFieldUpdater<Allocation> REFERENCES =
+            AtomicIntegerFieldUpdater.newUpdater(Allocation.class, "references");
+        private static final AtomicIntegerFieldUpdater<Allocation> CAPACITY =
+            AtomicIntegerFieldUpdater.newUpdater(Allocation.class, "capacity");
+
+        private final ProtonInstrumentedBufferAllocator parent;
+
+        private volatile int references = 1;
+        private volatile int capacity;
+
+        private Throwable trace;
+        private String site;
+        private Cleanable cleanable;
+
+        Allocation(ProtonInstrumentedBufferAllocator parent, int capacity) {
+            this.parent = parent;
+            this.capacity = capacity;
+        }
+
+        void sample(SampledAllocation tracker) {
+            trace = new Throwable("Buffer allocation site");
+            site = allocationSiteOf(trace);
+            cleanable = ProtonBufferUtils.getCleaner().register(tracker, this);
+        }
+
+        @Override
+        public ResourceTracker retain() {
+            REFERENCES.incrementAndGet(this);
+            return this;
+        }
+
+        @Override
+        public void release() {
+            if (REFERENCES.decrementAndGet(this) == 0) {
+                parent.released(capacity);
+                if (cleanable != null) {
+                    cleanable.clean();
+                }
+            }
+        }
+
+        @Override
+        public void resized(int previousCapacity, int newCapacity) {
+            final int delta = newCapacity - previousCapacity;
+
+            if (references > 0) {
+                CAPACITY.addAndGet(this, delta);
+                parent.resized(delta);
+            }
+        }
+
+        @Override
+        public void run() {
+            if (REFERENCES.getAndSet(this, 0) > 0) {
+                parent.released(capacity);
+                parent.leaked(this);
+            }
+        }
+
+        private static String allocationSiteOf(Throwable trace) {
+            for (StackTraceElement element : trace.getStackTrace()) {
+                final String className = element.getClassName();
+                if (!className.equals(ProtonInstrumentedBufferAllocator.class.getName()) &&
+                    !className.equals(Allocation.class.getName()) &&
+                    !className.equals(ProtonCompositeBufferImpl.class.getName())) {
+                    return element.toString();
+                }
+            }
+
+            return "<unknown>";
+        }
+    }
+
+    /*
+     * Tracker attached to each buffer of a sampled allocation, and to every buffer split or shared
+     * from it, the Cleaner watch is registered on this object so it only fires once no buffer that
+     * holds the tracker remains reachable.
+     */
+    private static final class SampledAllocation implements ResourceTracker {
+
+        private final Allocation allocation;
+
+        SampledAllocation(Allocation allocation) {
+            this.allocation = allocation;
+        }
+
+        @Override
+        public ResourceTracker retain() {
+            allocation.retain();
+            return this;
+        }
+
+        @Override
+        public void release() {
+            allocation.release();
+        }
+
+        @Override
+        public void resized(int previousCapacity, int newCapacity) {
+            allocation.resized(previousCapacity, newCapacity);
+        }
+    }
+
+    /**
+     * Describes a sampled buffer that was garbage collected without having been closed.
+     */
+    public static final class LeakReport {
+
+        private final int capacity;
+        private final String allocationSite;
+        private final Throwable allocationTrace;
+
+        LeakReport(int capacity, String allocationSite, Throwable allocationTrace) {
+            this.capacity = capacity;
+            this.allocationSite = allocationSite;
+            this.allocationTrace = allocationTrace;
+        }
+
+        /**
+         * @return the capacity that was requested when the leaked buffer was allocated.
+         */
+        public int getCapacity() {
+            return capacity;
+        }
+
+        /**
+         * @return the first stack frame outside of the allocator that allocated the buffer.
+         */
+        public String getAllocationSite() {
+            return allocationSite;
+        }
+
+        /**
+         * @return a {@link Throwable} whose stack trace is that of the allocation of the leaked buffer.
+         */
+        public Throwable getAllocationTrace() {
+            return allocationTrace;
+        }
+
+        @Override
+        public String toString() {
+            return "LeakReport { capacity = " + capacity + ", allocationSite = " + allocationSite + " }";
+        }
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.buffer.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner.Cleanable;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.buffer.ProtonBufferUtils;
+import org.apache.qpid.protonj2.buffer.ProtonCompositeBuffer;
+
+/**
+ * A Proton built in buffer allocator which creates direct buffers whose memory is a region
+ * of a memory mapped temporary file, the contents of these buffers live in the operating
+ * system page cache and do not count against the JVM heap or direct memory limits.
+ * <p>
+ * Each buffer allocated is backed by its own temporary file which is removed from the file
+ * system as soon as it has been mapped (where the platform allows this) and is otherwise
+ * deleted once the buffer and any buffers split or copied from it are closed.  Growing a
+ * buffer extends the file and maps the larger region which does not copy the existing
+ * contents. The mapped memory is released by the JVM once the buffer becomes unreachable.
+ * <p>
+ * This allocator is intended for holding very large payloads and should not be used as a
+ * general purpose allocator as the cost of creating and mapping a file is high. Heap buffers
+ * requested from this allocator are served as byte array backed buffers.
+ */
+public final class ProtonMappedFileBufferAllocator implements ProtonBufferAllocator {
+
+    private static final String TEMP_FILE_PREFIX = "protonj2-";
+    private static final String TEMP_FILE_SUFFIX = ".buffer";
+
+    private final Path directory;
+
+    private boolean closed;
+
+    /**
+     * Creates a new allocator that creates its backing files in the system temporary directory.
+     */
+    public ProtonMappedFileBufferAllocator() {
+        this(Paths.get(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * Creates a new allocator that creates its backing files in the given directory.
+     *
+     * @param directory
+     * 		The directory where the temporary files that back each buffer are created.
+     */
+    public ProtonMappedFileBufferAllocator(Path directory) {
+        this.directory = Objects.requireNonNull(directory, "The backing file directory cannot be null");
+    }
+
+    /**
+     * @return the directory where this allocator creates the temporary files that back buffers.
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    @Override
+    public ProtonBuffer outputBuffer(int initialCapacity) {
+        return allocate(initialCapacity);
+    }
+
+    @Override
+    public ProtonBuffer allocate() {
+        return allocate(ProtonDirectByteBuffer.DEFAULT_CAPACITY);
+    }
+
+    @Override
+    public ProtonBuffer allocate(int initialCapacity) {
+        checkClosed();
+
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Initial capacity cannot be < 0");
+        }
+
+        return new ProtonDirectByteBuffer(MappedFile.create(directory), initialCapacity, ProtonDirectByteBuffer.DEFAULT_MAXIMUM_CAPACITY);
+    }
+
+    @Override
+    public ProtonBuffer allocateHeapBuffer() {
+        checkClosed();
+        return new ProtonByteArrayBuffer();
+    }
+
+    @Override
+    public ProtonBuffer allocateHeapBuffer(int initialCapacity) {
+        checkClosed();
+        return new ProtonByteArrayBuffer(initialCapacity);
+    }
+
+    @SuppressWarnings("resource")
+    @Override
+    public ProtonBuffer copy(byte[] array, int offset, int length) {
+        return allocate(length).writeBytes(array, offset, length);
+    }
+
+    @Override
+    public ProtonCompositeBuffer composite() {
+        checkClosed();
+        return ProtonCompositeBuffer.create(this);
+    }
+
+    @Override
+    public ProtonCompositeBuffer composite(ProtonBuffer buffer) {
+        checkClosed();
+        return ProtonCompositeBuffer.create(this, buffer);
+    }
+
+    @Override
+    public ProtonCompositeBuffer composite(ProtonBuffer[] buffers) {
+        checkClosed();
+        return ProtonCompositeBuffer.create(this, buffers);
+    }
+
+    private void checkClosed() {
+        if (closed) {
+            throw new IllegalStateException("This allocator instance is closed");
+        }
+    }
+
+    /*
+     * A reference counted handle to an open temporary file whose regions are mapped by the
+     * buffers that share it, the file is closed and removed when the last is released.
+     */
+    static final class MappedFile {
+
+        private static final AtomicIntegerFieldUpdater<MappedFile> REFERENCES =
+            AtomicIntegerFieldUpdater.newUpdater(MappedFile.class, "references");
+
+        private final Path directory;
+        private final FileChannel channel;
+        private final Cleanable cleanable;
+
+        private volatile int references = 1;
+
+        private MappedFile(Path directory, FileChannel channel) {
+            this.directory = directory;
+            this.channel = channel;
+
+            // Ensures the file is closed if the buffers are dropped without being closed
+            this.cleanable = ProtonBufferUtils.getCleaner().register(this, () -> closeQuietly(channel));
+        }
+
+        static MappedFile create(Path directory) {
+            try {
+                final Path file = Files.createTempFile(directory, TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX);
+                final FileChannel channel = FileChannel.open(
+                    file, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+
+                try {
+                    // Unlink now so that the file cannot outlive the process, not all platforms allow this
+                    // in which case the file is removed when the channel is closed.
+                    Files.deleteIfExists(file);
+                } catch (IOException ignore) {}
+
+                return new MappedFile(directory, channel);
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Failed to create the file backing a mapped buffer", ex);
+            }
+        }
+
+        ByteBuffer map(long position, int size) {
+            try {
+                return channel.map(MapMode.READ_WRITE, position, size);
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Failed to map the file region backing a mapped buffer", ex);
+            }
+        }
+
+        boolean isShared() {
+            return references > 1;
+        }
+
+        MappedFile retain() {
+            REFERENCES.incrementAndGet(this);
+            return this;
+        }
+
+        void release() {
+            final int remaining = REFERENCES.decrementAndGet(this);
+            if (remaining == 0) {
+                cleanable.clean();
+            } else if (remaining < 0) {
+                throw new IllegalStateException("Mapped file released more times than it was retained");
+            }
+        }
+
+        MappedFile reallocate() {
+            return create(directory);
+        }
+
+        private static void closeQuietly(FileChannel channel) {
+            try {
+                channel.close();
+            } catch (IOException ignore) {}
+        }
+    }
+}
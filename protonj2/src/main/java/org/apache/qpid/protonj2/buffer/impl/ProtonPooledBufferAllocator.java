@@ -0,0 +1,402 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.buffer.impl;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.buffer.ProtonCompositeBuffer;
+
+/**
+ * A Proton built in pooling buffer allocator which serves byte array backed buffers whose
+ * arrays are recycled once the buffers that use them are closed.
+ * <p>
+ * Arrays are pooled in power of two size classes ranging from {@link #MINIMUM_POOLED_SIZE}
+ * up to a configurable maximum, requests larger than the maximum pooled size are served by a
+ * newly allocated array that is simply left to the garbage collector when the buffer is closed.
+ * Each thread that allocates or releases buffers keeps a small cache of arrays for each size
+ * class so that the common case of a buffer being allocated, written and closed on the same
+ * thread does not require any synchronization. When a thread's cache is full or empty arrays are
+ * moved to or from a bounded shared arena which is accessed without locks.
+ * <p>
+ * Arrays served from the pool are not zeroed and can contain stale data from a previous use,
+ * buffers returned from this allocator should only be read from the regions that were written.
+ * Once this allocator has been closed any arrays released back to it are dropped and left to
+ * the garbage collector.
+ */
+public final class ProtonPooledBufferAllocator implements ProtonBufferAllocator {
+
+    /**
+     * The smallest array size that is pooled, smaller requests are served from this size class.
+     */
+    public static final int MINIMUM_POOLED_SIZE = 64;
+
+    /**
+     * The default largest array size that is pooled by this allocator.
+     */
+    public static final int DEFAULT_MAXIMUM_POOLED_SIZE = 64 * 1024;
+
+    /**
+     * The default number of arrays per size class that each thread can cache locally.
+     */
+    public static final int DEFAULT_THREAD_CACHE_SIZE = 16;
+
+    /**
+     * The default number of arrays per size class that can be held in the shared arena.
+     */
+    public static final int DEFAULT_ARENA_SIZE = 64;
+
+    private static final int MINIMUM_POOLED_SHIFT = Integer.numberOfTrailingZeros(MINIMUM_POOLED_SIZE);
+
+    private final int maximumPooledSize;
+    private final int threadCacheSize;
+    private final SizeClassArena[] arenas;
+    private final ThreadLocal<ThreadCache> threadCaches;
+
+    private volatile boolean closed;
+
+    /**
+     * Creates a new pooled allocator that uses the default pool configuration.
+     */
+    public ProtonPooledBufferAllocator() {
+        this(DEFAULT_MAXIMUM_POOLED_SIZE, DEFAULT_THREAD_CACHE_SIZE, DEFAULT_ARENA_SIZE);
+    }
+
+    /**
+     * Creates a new pooled allocator with the given pool configuration.
+     *
+     * @param maximumPooledSize
+     * 		The largest array size that will be pooled, rounded up to the next power of two.
+     * @param threadCacheSize
+     * 		The number of arrays per size class that each thread can cache.
+     * @param arenaSize
+     * 		The number of arrays per size class that the shared arena can hold.
+     */
+    public ProtonPooledBufferAllocator(int maximumPooledSize, int threadCacheSize, int arenaSize) {
+        if (maximumPooledSize < MINIMUM_POOLED_SIZE || maximumPooledSize > (1 << 30)) {
+            throw new IllegalArgumentException(
+                "Maximum pooled size must be in the range [" + MINIMUM_POOLED_SIZE + ", " + (1 << 30) + "]");
+        }
+        if (threadCacheSize < 0) {
+            throw new IllegalArgumentException("Thread cache size cannot be negative");
+        }
+        if (arenaSize < 0) {
+            throw new IllegalArgumentException("Arena size cannot be negative");
+        }
+
+        final int sizeClasses = sizeClassOf(maximumPooledSize) + 1;
+
+        this.maximumPooledSize = MINIMUM_POOLED_SIZE << (sizeClasses - 1);
+        this.threadCacheSize = threadCacheSize;
+        this.arenas = new SizeClassArena[sizeClasses];
+        this.threadCaches = ThreadLocal.withInitial(() -> new ThreadCache(sizeClasses, this.threadCacheSize));
+
+        for (int i = 0; i < sizeClasses; ++i) {
+            arenas[i] = new SizeClassArena(arenaSize);
+        }
+    }
+
+    /**
+     * @return the largest array size that this allocator will pool.
+     */
+    public int getMaximumPooledSize() {
+        return maximumPooledSize;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+
+        for (SizeClassArena arena : arenas) {
+            arena.clear();
+        }
+    }
+
+    @Override
+    public ProtonBuffer outputBuffer(int initialCapacity) {
+        return allocate(initialCapacity);
+    }
+
+    @Override
+    public ProtonBuffer allocate() {
+        return allocate(ProtonByteArrayBuffer.DEFAULT_CAPACITY);
+    }
+
+    @Override
+    public ProtonBuffer allocate(int initialCapacity) {
+        checkClosed();
+
+        final PooledArray pooled = acquire(initialCapacity);
+        if (pooled != null) {
+            return new ProtonByteArrayBuffer(pooled, initialCapacity, ProtonByteArrayBuffer.DEFAULT_MAXIMUM_CAPACITY);
+        } else {
+            return new ProtonByteArrayBuffer(initialCapacity);
+        }
+    }
+
+    @Override
+    public ProtonBuffer allocateHeapBuffer() {
+        return allocate();
+    }
+
+    @Override
+    public ProtonBuffer allocateHeapBuffer(int initialCapacity) {
+        return allocate(initialCapacity);
+    }
+
+    @SuppressWarnings("resource")
+    @Override
+    public ProtonBuffer copy(byte[] array, int offset, int length) {
+        return allocate(length).writeBytes(array, offset, length);
+    }
+
+    @Override
+    public ProtonCompositeBuffer composite() {
+        checkClosed();
+        return ProtonCompositeBuffer.create(this);
+    }
+
+    @Override
+    public ProtonCompositeBuffer composite(ProtonBuffer buffer) {
+        checkClosed();
+        return ProtonCompositeBuffer.create(this, buffer);
+    }
+
+    @Override
+    public ProtonCompositeBuffer composite(ProtonBuffer[] buffers) {
+        checkClosed();
+        return ProtonCompositeBuffer.create(this, buffers);
+    }
+
+    //----- Pool internals
+
+    /*
+     * Returns a pooled array with a single reference that can hold the given number of bytes
+     * or null if the size is outside the range of sizes that this allocator pools.
+     */
+    PooledArray acquire(int size) {
+        if (size <= 0 || size > maximumPooledSize || closed) {
+            return null;
+        }
+
+        final int sizeClass = sizeClassOf(size);
+        final ThreadCache cache = threadCaches.get();
+
+        PooledArray pooled = cache.poll(sizeClass);
+        if (pooled == null) {
+            pooled = arenas[sizeClass].poll();
+            if (pooled != null) {
+                // Refill half the local cache in one pass so that the next few requests stay local
+                cache.refill(sizeClass, arenas[sizeClass], threadCacheSize >>> 1);
+            }
+        }
+
+        if (pooled == null) {
+            pooled = new PooledArray(this, sizeClass, MINIMUM_POOLED_SIZE << sizeClass);
+        }
+
+        return pooled.reset();
+    }
+
+    /*
+     * Called when the last reference to a pooled array is released.
+     */
+    void recycle(PooledArray pooled) {
+        if (closed) {
+            return;
+        }
+
+        final ThreadCache cache = threadCaches.get();
+
+        if (!cache.offer(pooled.sizeClass, pooled)) {
+            // Local cache is full so spill half of it to the arena to make room
+            cache.drain(pooled.sizeClass, arenas[pooled.sizeClass], threadCacheSize >>> 1);
+            if (!cache.offer(pooled.sizeClass, pooled)) {
+                arenas[pooled.sizeClass].offer(pooled);
+            }
+        }
+    }
+
+    private static int sizeClassOf(int size) {
+        if (size <= MINIMUM_POOLED_SIZE) {
+            return 0;
+        } else {
+            return (32 - Integer.numberOfLeadingZeros(size - 1)) - MINIMUM_POOLED_SHIFT;
+        }
+    }
+
+    private void checkClosed() {
+        if (closed) {
+            throw new IllegalStateException("This allocator instance is closed");
+        }
+    }
+
+    /*
+     * A reference counted handle to an array served from the pool, the buffers that share the
+     * array each hold a reference and the array returns to the pool when the last is released.
+     */
+    static final class PooledArray {
+
+        private static final AtomicIntegerFieldUpdater<PooledArray> REFERENCES =
+            AtomicIntegerFieldUpdater.newUpdater(PooledArray.class, "references");
+
+        private final ProtonPooledBufferAllocator pool;
+        private final byte[] array;
+        private final int sizeClass;
+
+        private volatile int references;
+
+        PooledArray(ProtonPooledBufferAllocator pool, int sizeClass, int size) {
+            this.pool = pool;
+            this.sizeClass = sizeClass;
+            this.array = new byte[size];
+        }
+
+        byte[] array() {
+            return array;
+        }
+
+        PooledArray retain() {
+            REFERENCES.incrementAndGet(this);
+            return this;
+        }
+
+        void release() {
+            final int remaining = REFERENCES.decrementAndGet(this);
+            if (remaining == 0) {
+                pool.recycle(this);
+            } else if (remaining < 0) {
+                throw new IllegalStateException("Pooled array released more times than it was retained");
+            }
+        }
+
+        PooledArray reallocate(int size) {
+            return pool.acquire(size);
+        }
+
+        private PooledArray reset() {
+            REFERENCES.lazySet(this, 1);
+            return this;
+        }
+    }
+
+    /*
+     * Thread confined stacks of cached arrays for each size class.
+     */
+    private static final class ThreadCache {
+
+        private final PooledArray[][] stacks;
+        private final int[] counts;
+
+        ThreadCache(int sizeClasses, int capacity) {
+            this.stacks = new PooledArray[sizeClasses][capacity];
+            this.counts = new int[sizeClasses];
+        }
+
+        PooledArray poll(int sizeClass) {
+            final int count = counts[sizeClass];
+            if (count == 0) {
+                return null;
+            }
+
+            final PooledArray[] stack = stacks[sizeClass];
+            final PooledArray result = stack[count - 1];
+
+            stack[count - 1] = null;
+            counts[sizeClass] = count - 1;
+
+            return result;
+        }
+
+        boolean offer(int sizeClass, PooledArray pooled) {
+            final int count = counts[sizeClass];
+            final PooledArray[] stack = stacks[sizeClass];
+
+            if (count == stack.length) {
+                return false;
+            }
+
+            stack[count] = pooled;
+            counts[sizeClass] = count + 1;
+
+            return true;
+        }
+
+        void refill(int sizeClass, SizeClassArena arena, int amount) {
+            for (int i = 0; i < amount; ++i) {
+                final PooledArray pooled = arena.poll();
+                if (pooled == null || !offer(sizeClass, pooled)) {
+                    if (pooled != null) {
+                        arena.offer(pooled);
+                    }
+                    break;
+                }
+            }
+        }
+
+        void drain(int sizeClass, SizeClassArena arena, int amount) {
+            for (int i = 0; i < amount; ++i) {
+                final PooledArray pooled = poll(sizeClass);
+                if (pooled == null || !arena.offer(pooled)) {
+                    // Arena is full so the array is left to the GC
+                    break;
+                }
+            }
+        }
+    }
+
+    /*
+     * Bounded set of slots shared between threads where each slot is claimed or filled using CAS.
+     */
+    private static final class SizeClassArena {
+
+        private final AtomicReferenceArray<PooledArray> slots;
+
+        SizeClassArena(int capacity) {
+            this.slots = new AtomicReferenceArray<>(capacity);
+        }
+
+        PooledArray poll() {
+            for (int i = 0; i < slots.length(); ++i) {
+                final PooledArray pooled = slots.get(i);
+                if (pooled != null && slots.compareAndSet(i, pooled, null)) {
+                    return pooled;
+                }
+            }
+
+            return null;
+        }
+
+        boolean offer(PooledArray pooled) {
+            for (int i = 0; i < slots.length(); ++i) {
+                if (slots.get(i) == null && slots.compareAndSet(i, null, pooled)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        void clear() {
+            for (int i = 0; i < slots.length(); ++i) {
+                slots.set(i, null);
+            }
+        }
+    }
+}
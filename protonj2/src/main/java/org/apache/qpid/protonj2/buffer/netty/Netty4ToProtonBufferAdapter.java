@@ -20,7 +20,9 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ReadOnlyBufferException;
 import java.nio.channels.FileChannel;
+import java.nio.channels.GatheringByteChannel;
 import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.ScatteringByteChannel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.util.Arrays;
@@ -393,6 +395,7 @@ public final class Netty4ToProtonBufferAdapter extends SharedResource<ProtonBuff
             }
         }
 
+        final int previousCapacity = resource.capacity();
         final int growBy = Math.max(minimumGrowth, size - getWritableBytes());
         resource.setIndex(readOffset, writeOffset).ensureWritable(growBy, true);
 
@@ -425,6 +428,8 @@ public final class Netty4ToProtonBufferAdapter extends SharedResource<ProtonBuff
         // Update our state to keep in touch with the ByteBuf state
         writeCapacity = readCapacity = resource.capacity();
 
+        trackResize(previousCapacity, resource.capacity());
+
         return this;
     }
 
@@ -439,6 +444,7 @@ public final class Netty4ToProtonBufferAdapter extends SharedResource<ProtonBuff
             copy.setReadOffset(0);
             ((ByteBuf) copy.unwrap()).writerIndex(length);
             copy.convertToReadOnly();
+            shareTrackerWith(copy);
         } else {
             copy = allocator.wrap(resource.copy(index, length));
             if (readOnly) {
@@ -465,6 +471,7 @@ public final class Netty4ToProtonBufferAdapter extends SharedResource<ProtonBuff
 
         splitBuffer.setWriteOffset(Math.min(woff, splitOffset));
         splitBuffer.setReadOffset(Math.min(roff, splitOffset));
+        shareTrackerWith(splitBuffer);
         if (readOnly) {
             splitBuffer.convertToReadOnly();
         }
@@ -771,6 +778,16 @@ public final class Netty4ToProtonBufferAdapter extends SharedResource<ProtonBuff
         return bytesRead;
     }
 
+    @Override
+    public int transferTo(GatheringByteChannel channel, int length) throws IOException {
+        return transferTo((WritableByteChannel) channel, length);
+    }
+
+    @Override
+    public int transferFrom(ScatteringByteChannel channel, int length) throws IOException {
+        return transferFrom((ReadableByteChannel) channel, length);
+    }
+
     //----- Buff component access
 
     @Override
@@ -816,7 +833,7 @@ public final class Netty4ToProtonBufferAdapter extends SharedResource<ProtonBuff
 
     @Override
     public int getReadableArrayLength() {
-        return resource.capacity();
+        return getReadableBytes();
     }
 
     @Override
@@ -275,7 +275,9 @@ public final class Netty5ToProtonBufferAdapter extends SharedResource<ProtonBuff
     @Override
     public ProtonBuffer ensureWritable(int size, int minimumGrowth, boolean allowCompaction) throws IndexOutOfBoundsException, IllegalArgumentException {
         try {
+            final int previousCapacity = resource.capacity();
             resource.ensureWritable(size, minimumGrowth, allowCompaction);
+            trackResize(previousCapacity, resource.capacity());
         } catch (RuntimeException e) {
             throw translateToProtonException(e);
         }
@@ -286,7 +288,11 @@ public final class Netty5ToProtonBufferAdapter extends SharedResource<ProtonBuff
     @Override
     public ProtonBuffer copy(int index, int length, boolean readOnly) throws IllegalArgumentException {
         try {
-            return allocator.wrap(resource.copy(index, length, readOnly));
+            final ProtonBuffer copy = allocator.wrap(resource.copy(index, length, readOnly));
+            if (readOnly && isReadOnly()) {
+                shareTrackerWith(copy);
+            }
+            return copy;
         } catch (RuntimeException e) {
             throw translateToProtonException(e);
         }
@@ -295,7 +301,9 @@ public final class Netty5ToProtonBufferAdapter extends SharedResource<ProtonBuff
     @Override
     public ProtonBuffer split(int splitOffset) {
         try {
-            return allocator.wrap(resource.split(splitOffset));
+            final ProtonBuffer split = allocator.wrap(resource.split(splitOffset));
+            shareTrackerWith(split);
+            return split;
         } catch (RuntimeException e) {
             throw translateToProtonException(e);
         }
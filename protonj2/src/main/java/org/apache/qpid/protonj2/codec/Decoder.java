@@ -747,6 +747,77 @@ public interface Decoder {
      */
     UUID readUUID(ProtonBuffer buffer, DecoderState state) throws DecodeException;
 
+    /**
+     * Reads an encoded AMQP array whose elements are int values from the given {@link ProtonBuffer} into
+     * an int array without boxing the elements.  The operation fails if the next encoded type is not an
+     * array of the expected element type.  If the caller wishes to recover from failed decode attempt
+     * they should make a note of the current read position and reset the input to make a further read
+     * attempt.
+     *
+     * @param buffer
+     * 		The {@link ProtonBuffer} where the read operation takes place.
+     * @param state
+     * 		The {@link DecoderState} that the decoder can use when decoding.
+     *
+     * @return the value read from the provided byte source.
+     *
+     * @throws DecodeException if the value fails to decode is not of the expected type,
+     */
+    int[] readIntArray(ProtonBuffer buffer, DecoderState state) throws DecodeException;
+
+    /**
+     * Reads an encoded AMQP array whose elements are long values from the given {@link ProtonBuffer} into
+     * a long array without boxing the elements.  The operation fails if the next encoded type is not an
+     * array of the expected element type.  If the caller wishes to recover from failed decode attempt
+     * they should make a note of the current read position and reset the input to make a further read
+     * attempt.
+     *
+     * @param buffer
+     * 		The {@link ProtonBuffer} where the read operation takes place.
+     * @param state
+     * 		The {@link DecoderState} that the decoder can use when decoding.
+     *
+     * @return the value read from the provided byte source.
+     *
+     * @throws DecodeException if the value fails to decode is not of the expected type,
+     */
+    long[] readLongArray(ProtonBuffer buffer, DecoderState state) throws DecodeException;
+
+    /**
+     * Reads an encoded AMQP array whose elements are double values from the given {@link ProtonBuffer}
+     * into a double array without boxing the elements.  The operation fails if the next encoded type is
+     * not an array of the expected element type.  If the caller wishes to recover from failed decode
+     * attempt they should make a note of the current read position and reset the input to make a further
+     * read attempt.
+     *
+     * @param buffer
+     * 		The {@link ProtonBuffer} where the read operation takes place.
+     * @param state
+     * 		The {@link DecoderState} that the decoder can use when decoding.
+     *
+     * @return the value read from the provided byte source.
+     *
+     * @throws DecodeException if the value fails to decode is not of the expected type,
+     */
+    double[] readDoubleArray(ProtonBuffer buffer, DecoderState state) throws DecodeException;
+
+    /**
+     * Reads an encoded AMQP array whose elements are uuid values from the given {@link ProtonBuffer} into
+     * a {@link UUID} array.  The operation fails if the next encoded type is not an array of the expected
+     * element type.  If the caller wishes to recover from failed decode attempt they should make a note
+     * of the current read position and reset the input to make a further read attempt.
+     *
+     * @param buffer
+     * 		The {@link ProtonBuffer} where the read operation takes place.
+     * @param state
+     * 		The {@link DecoderState} that the decoder can use when decoding.
+     *
+     * @return the value read from the provided byte source.
+     *
+     * @throws DecodeException if the value fails to decode is not of the expected type,
+     */
+    UUID[] readUUIDArray(ProtonBuffer buffer, DecoderState state) throws DecodeException;
+
     /**
      * Reads an encoded value from the given {@link ProtonBuffer} an return it as an {@link Object}
      * which the caller must then interpret.
@@ -873,6 +944,21 @@ public interface Decoder {
      */
     TypeDecoder<?> peekNextTypeDecoder(ProtonBuffer buffer, DecoderState state) throws DecodeException;
 
+    /**
+     * Creates a new {@link DecoderCursor} that walks the encoded AMQP types in the given buffer one
+     * element at a time starting from the current read offset.  The cursor allows the caller to step
+     * into encoded list, map and array types without the decoder building the collection in memory
+     * which allows very large encodings to be processed with a constant memory footprint.
+     *
+     * @param buffer
+     * 		The buffer to read from as the cursor is advanced.
+     * @param state
+     *      The {@link DecoderState} value that can be used for intermediate decoding tasks.
+     *
+     * @return a new {@link DecoderCursor} that reads from the given buffer.
+     */
+    DecoderCursor newCursor(ProtonBuffer buffer, DecoderState state);
+
     /**
      * Allows custom {@link DescribedTypeDecoder} instances to be registered with this {@link Decoder}
      * which will be used if the described type encoding is encountered during decode operations.
@@ -0,0 +1,231 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.codec;
+
+import org.apache.qpid.protonj2.types.Binary;
+import org.apache.qpid.protonj2.types.Symbol;
+
+/**
+ * A forward only pull style cursor over a sequence of encoded AMQP types which allows
+ * the caller to walk into nested list, map and array encodings one element at a time
+ * without the decoder building the collection types in memory.
+ * <p>
+ * Each call to {@link #nextToken()} positions the cursor on the next encoded value and
+ * returns a {@link Token} describing it, the caller can then read the value, skip it or
+ * enter it when it is a compound type.  A value that was neither read nor entered before
+ * the next call to {@link #nextToken()} is skipped automatically.  When all elements of
+ * an entered compound type have been visited the cursor returns {@link Token#END} and the
+ * cursor moves back out to the enclosing compound type.
+ * <p>
+ * A cursor retains positional state and is not safe for use by more than one thread.
+ */
+public interface DecoderCursor {
+
+    /**
+     * The types of encoded value that the cursor can be positioned on.
+     */
+    enum Token {
+
+        /**
+         * A primitive AMQP type that can be read using one of the read methods.
+         */
+        VALUE,
+
+        /**
+         * An AMQP null encoding, the read methods that return an object type return null.
+         */
+        NULL,
+
+        /**
+         * An AMQP list encoding that can be entered with {@link DecoderCursor#enterList()}.
+         */
+        START_LIST,
+
+        /**
+         * An AMQP map encoding that can be entered with {@link DecoderCursor#enterMap()}.
+         */
+        START_MAP,
+
+        /**
+         * An AMQP array encoding that can be entered with {@link DecoderCursor#enterArray()}.
+         */
+        START_ARRAY,
+
+        /**
+         * A described type whose descriptor is available from {@link DecoderCursor#getDescriptor()},
+         * the next call to {@link DecoderCursor#nextToken()} positions the cursor on the described value.
+         */
+        DESCRIBED,
+
+        /**
+         * All the elements of the entered compound type have been visited.
+         */
+        END,
+
+        /**
+         * No further encoded values remain in the source being read.
+         */
+        END_OF_DATA
+    }
+
+    /**
+     * Advances the cursor to the next encoded value, skipping the current value if it was
+     * not read or entered by the caller.
+     *
+     * @return the {@link Token} that describes the value the cursor is now positioned on.
+     *
+     * @throws DecodeException if an error occurs while reading the next encoding.
+     */
+    Token nextToken() throws DecodeException;
+
+    /**
+     * @return the {@link Token} the cursor is currently positioned on or null if not yet advanced.
+     */
+    Token currentToken();
+
+    /**
+     * @return the number of compound types that have been entered and not yet ended.
+     */
+    int getDepth();
+
+    /**
+     * Returns the type that the value the cursor is positioned on would be decoded to, for compound
+     * types this is the collection type that a call to {@link #readObject()} would produce.
+     *
+     * @return the {@link Class} of the value the cursor is positioned on.
+     *
+     * @throws IllegalStateException if the cursor is not positioned on a value.
+     */
+    Class<?> getTypeClass();
+
+    /**
+     * @return the descriptor of the described type the cursor is positioned on.
+     *
+     * @throws IllegalStateException if the cursor is not positioned on a {@link Token#DESCRIBED} token.
+     */
+    Object getDescriptor();
+
+    /**
+     * Enters the list the cursor is positioned on, subsequent calls to {@link #nextToken()}
+     * visit the elements of the list.
+     *
+     * @return the number of elements in the list.
+     *
+     * @throws DecodeException if an error occurs while reading the list encoding.
+     * @throws IllegalStateException if the cursor is not positioned on a {@link Token#START_LIST} token.
+     */
+    int enterList() throws DecodeException;
+
+    /**
+     * Enters the map the cursor is positioned on, subsequent calls to {@link #nextToken()}
+     * visit the keys and values of the map in turn.
+     *
+     * @return the number of encoded elements in the map which counts both the keys and values.
+     *
+     * @throws DecodeException if an error occurs while reading the map encoding.
+     * @throws IllegalStateException if the cursor is not positioned on a {@link Token#START_MAP} token.
+     */
+    int enterMap() throws DecodeException;
+
+    /**
+     * Enters the array the cursor is positioned on, subsequent calls to {@link #nextToken()}
+     * visit the elements of the array.
+     *
+     * @return the number of elements in the array.
+     *
+     * @throws DecodeException if an error occurs while reading the array encoding.
+     * @throws IllegalStateException if the cursor is not positioned on a {@link Token#START_ARRAY} token.
+     */
+    int enterArray() throws DecodeException;
+
+    /**
+     * Skips any remaining elements of the innermost entered compound type and moves the
+     * cursor back out to the enclosing compound type.
+     *
+     * @throws DecodeException if an error occurs while skipping the remaining elements.
+     * @throws IllegalStateException if no compound type has been entered.
+     */
+    void exit() throws DecodeException;
+
+    /**
+     * Skips the value the cursor is positioned on, a compound type that was not entered is skipped
+     * in full as is the value of a described type.
+     *
+     * @throws DecodeException if an error occurs while skipping the value.
+     * @throws IllegalStateException if the cursor is not positioned on a value.
+     */
+    void skip() throws DecodeException;
+
+    /**
+     * Reads the value the cursor is positioned on fully decoding any compound type.
+     *
+     * @return the decoded value which can be null.
+     *
+     * @throws DecodeException if an error occurs while reading the value.
+     * @throws IllegalStateException if the cursor is not positioned on a value.
+     */
+    Object readObject() throws DecodeException;
+
+    /**
+     * @return the boolean value the cursor is positioned on.
+     *
+     * @throws DecodeException if the value is not an AMQP boolean or an error occurs while reading it.
+     * @throws IllegalStateException if the cursor is not positioned on a value.
+     */
+    boolean readBoolean() throws DecodeException;
+
+    /**
+     * @return the int value the cursor is positioned on.
+     *
+     * @throws DecodeException if the value is not an AMQP int or an error occurs while reading it.
+     * @throws IllegalStateException if the cursor is not positioned on a value.
+     */
+    int readInt() throws DecodeException;
+
+    /**
+     * @return the long value the cursor is positioned on.
+     *
+     * @throws DecodeException if the value is not an AMQP long or an error occurs while reading it.
+     * @throws IllegalStateException if the cursor is not positioned on a value.
+     */
+    long readLong() throws DecodeException;
+
+    /**
+     * @return the String value the cursor is positioned on or null if the value is an AMQP null.
+     *
+     * @throws DecodeException if the value is not an AMQP string or an error occurs while reading it.
+     * @throws IllegalStateException if the cursor is not positioned on a value.
+     */
+    String readString() throws DecodeException;
+
+    /**
+     * @return the Symbol value the cursor is positioned on or null if the value is an AMQP null.
+     *
+     * @throws DecodeException if the value is not an AMQP symbol or an error occurs while reading it.
+     * @throws IllegalStateException if the cursor is not positioned on a value.
+     */
+    Symbol readSymbol() throws DecodeException;
+
+    /**
+     * @return the Binary value the cursor is positioned on or null if the value is an AMQP null.
+     *
+     * @throws DecodeException if the value is not an AMQP binary or an error occurs while reading it.
+     * @throws IllegalStateException if the cursor is not positioned on a value.
+     */
+    Binary readBinary() throws DecodeException;
+
+}
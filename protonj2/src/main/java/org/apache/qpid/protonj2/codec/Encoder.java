@@ -17,6 +17,7 @@
 package org.apache.qpid.protonj2.codec;
 
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -667,6 +668,26 @@ public interface Encoder {
      */
     <T> void writeList(ProtonBuffer buffer, EncoderState state, List<T> value) throws EncodeException;
 
+    /**
+     * Write a {@link List} type encoding to the given buffer using the elements provided by the
+     * given {@link Iterator}.
+     * <p>
+     * The elements are encoded as they are read from the {@link Iterator} so the full set of values
+     * never needs to be held in memory, the encoded size and element count are written into the
+     * buffer once the {@link Iterator} has been exhausted.  A {@link java.util.stream.Stream} can
+     * be written by passing the result of its {@link java.util.stream.Stream#iterator()} method.
+     *
+     * @param buffer
+     * 		The buffer where the write operation is targeted
+     * @param state
+     *      The {@link EncoderState} to use for any intermediate encoding work.
+     * @param elements
+     * 		The {@link Iterator} that provides the list elements to be encoded into the provided buffer.
+     *
+     * @throws EncodeException if an error occurs during the encode operation.
+     */
+    void writeList(ProtonBuffer buffer, EncoderState state, Iterator<?> elements) throws EncodeException;
+
     /**
      * Write a {@link Map} type encoding to the given buffer.
      *
@@ -730,6 +751,21 @@ public interface Encoder {
      */
     void writeObject(ProtonBuffer buffer, EncoderState state, Object value) throws EncodeException;
 
+    /**
+     * Computes the number of bytes that a call to {@link #writeObject(ProtonBuffer, EncoderState, Object)}
+     * would write for the given value without encoding it, a null value is sized as the AMQP null encoding.
+     *
+     * @param state
+     *      The {@link EncoderState} to use for any intermediate encoding work.
+     * @param value
+     * 		The value whose encoded size should be computed.
+     *
+     * @return the number of bytes the encoding of the given value occupies.
+     *
+     * @throws EncodeException if an error occurs while computing the encoded size.
+     */
+    int getEncodedSize(EncoderState state, Object value) throws EncodeException;
+
     /**
      * Write the given array as with the proper array type encoding to the given buffer.
      *
@@ -17,6 +17,7 @@
 package org.apache.qpid.protonj2.codec;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 
 /**
  * Retains Encoder state information either between calls or across encode iterations.
@@ -49,4 +50,21 @@ public interface EncoderState {
      */
     ProtonBuffer encodeUTF8(ProtonBuffer buffer, CharSequence sequence) throws EncodeException;
 
+    /**
+     * Computes the number of bytes that {@link #encodeUTF8(ProtonBuffer, CharSequence)} would
+     * write for the given sequence of characters.
+     *
+     * @param sequence
+     *      A {@link CharSequence} whose UTF-8 encoded length is to be computed.
+     *
+     * @return the number of bytes the UTF-8 encoding of the sequence occupies.
+     *
+     * @throws EncodeException if an error occurs while computing the encoded length
+     */
+    default int getEncodedUTF8Length(CharSequence sequence) throws EncodeException {
+        try (ProtonBuffer scratch = ProtonBufferAllocator.defaultAllocator().allocate(sequence.length())) {
+            return encodeUTF8(scratch, sequence).getReadableBytes();
+        }
+    }
+
 }
@@ -17,6 +17,8 @@
 
 package org.apache.qpid.protonj2.codec;
 
+import java.util.Iterator;
+
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.types.messaging.AmqpSequence;
 import org.apache.qpid.protonj2.types.messaging.AmqpValue;
@@ -36,6 +38,10 @@ import org.apache.qpid.protonj2.types.messaging.Section;
  */
 public final class SectionEncoder {
 
+    private static final byte[] SEQUENCE_PREAMBLE = new byte[] {
+            EncodingCodes.DESCRIBED_TYPE_INDICATOR, EncodingCodes.SMALLULONG, AmqpSequence.DESCRIPTOR_CODE.byteValue()
+        };
+
     private final TypeEncoder<ApplicationProperties> apEncoder;
     private final TypeEncoder<MessageAnnotations> maEncoder;
     private final TypeEncoder<DeliveryAnnotations> daEncoder;
@@ -111,6 +117,63 @@ public final class SectionEncoder {
         }
     }
 
+    /**
+     * Writes an {@link AmqpSequence} section whose list elements are read from the given
+     * {@link Iterator} and encoded as they are read instead of first being collected into
+     * a {@link java.util.List}.
+     *
+     * @param buffer
+     * 		The buffer to write the encoding to
+     * @param elements
+     *      The {@link Iterator} that provides the elements of the encoded sequence
+     */
+    public void writeSequence(ProtonBuffer buffer, Iterator<?> elements) {
+        try {
+            buffer.writeBytes(SEQUENCE_PREAMBLE);
+            encoderState.getEncoder().writeList(buffer, encoderState, elements);
+        } finally {
+            encoderState.reset();
+        }
+    }
+
+    /**
+     * Computes the number of bytes that writing the given section would produce using the
+     * cached encoder for that section type.
+     *
+     * @param section
+     *      The section whose encoded size should be computed
+     *
+     * @return the number of bytes the encoding of the given section occupies.
+     */
+    public int getEncodedSize(Section<?> section) {
+        try {
+            switch (section.getType()) {
+            case AmqpSequence:
+                return sequenceEncoder.getEncodedSize(encoderState, (AmqpSequence<?>) section);
+            case AmqpValue:
+                return valueEncoder.getEncodedSize(encoderState, (AmqpValue<?>) section);
+            case ApplicationProperties:
+                return apEncoder.getEncodedSize(encoderState, (ApplicationProperties) section);
+            case Data:
+                return dataEncoder.getEncodedSize(encoderState, (Data) section);
+            case DeliveryAnnotations:
+                return daEncoder.getEncodedSize(encoderState, (DeliveryAnnotations) section);
+            case Footer:
+                return footerEncoder.getEncodedSize(encoderState, (Footer) section);
+            case Header:
+                return headerEncoder.getEncodedSize(encoderState, (Header) section);
+            case MessageAnnotations:
+                return maEncoder.getEncodedSize(encoderState, (MessageAnnotations) section);
+            case Properties:
+                return propertiesEncoder.getEncodedSize(encoderState, (Properties) section);
+            default:
+                return 0;
+            }
+        } finally {
+            encoderState.reset();
+        }
+    }
+
     /**
      * Writes the given section using the cached encoder for that section types
      *
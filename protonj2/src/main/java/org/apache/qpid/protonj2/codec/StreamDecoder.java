@@ -749,6 +749,77 @@ public interface StreamDecoder {
      */
     UUID readUUID(InputStream stream, StreamDecoderState state) throws DecodeException;
 
+    /**
+     * Reads an encoded AMQP array whose elements are int values from the given {@link InputStream} into an
+     * int array without boxing the elements.  The operation fails if the next encoded type is not an
+     * array of the expected element type.  If the caller wishes to recover from failed decode attempt
+     * they should make a note of the current read position and reset the input to make a further read
+     * attempt.
+     *
+     * @param stream
+     * 		The {@link InputStream} where the read operation takes place.
+     * @param state
+     * 		The {@link StreamDecoderState} that the decoder can use when decoding.
+     *
+     * @return the value read from the provided byte source.
+     *
+     * @throws DecodeException if the value fails to decode is not of the expected type,
+     */
+    int[] readIntArray(InputStream stream, StreamDecoderState state) throws DecodeException;
+
+    /**
+     * Reads an encoded AMQP array whose elements are long values from the given {@link InputStream} into a
+     * long array without boxing the elements.  The operation fails if the next encoded type is not an
+     * array of the expected element type.  If the caller wishes to recover from failed decode attempt
+     * they should make a note of the current read position and reset the input to make a further read
+     * attempt.
+     *
+     * @param stream
+     * 		The {@link InputStream} where the read operation takes place.
+     * @param state
+     * 		The {@link StreamDecoderState} that the decoder can use when decoding.
+     *
+     * @return the value read from the provided byte source.
+     *
+     * @throws DecodeException if the value fails to decode is not of the expected type,
+     */
+    long[] readLongArray(InputStream stream, StreamDecoderState state) throws DecodeException;
+
+    /**
+     * Reads an encoded AMQP array whose elements are double values from the given {@link InputStream} into
+     * a double array without boxing the elements.  The operation fails if the next encoded type is not an
+     * array of the expected element type.  If the caller wishes to recover from failed decode attempt
+     * they should make a note of the current read position and reset the input to make a further read
+     * attempt.
+     *
+     * @param stream
+     * 		The {@link InputStream} where the read operation takes place.
+     * @param state
+     * 		The {@link StreamDecoderState} that the decoder can use when decoding.
+     *
+     * @return the value read from the provided byte source.
+     *
+     * @throws DecodeException if the value fails to decode is not of the expected type,
+     */
+    double[] readDoubleArray(InputStream stream, StreamDecoderState state) throws DecodeException;
+
+    /**
+     * Reads an encoded AMQP array whose elements are uuid values from the given {@link InputStream} into a
+     * {@link UUID} array.  The operation fails if the next encoded type is not an array of the expected
+     * element type.  If the caller wishes to recover from failed decode attempt they should make a note
+     * of the current read position and reset the input to make a further read attempt.
+     *
+     * @param stream
+     * 		The {@link InputStream} where the read operation takes place.
+     * @param state
+     * 		The {@link StreamDecoderState} that the decoder can use when decoding.
+     *
+     * @return the value read from the provided byte source.
+     *
+     * @throws DecodeException if the value fails to decode is not of the expected type,
+     */
+    UUID[] readUUIDArray(InputStream stream, StreamDecoderState state) throws DecodeException;
+
     /**
      * Reads an encoded value from the given {@link InputStream} an return it as an {@link Object}
      * which the caller must then interpret.
@@ -876,6 +947,21 @@ public interface StreamDecoder {
      */
     StreamTypeDecoder<?> peekNextTypeDecoder(InputStream stream, StreamDecoderState state) throws DecodeException;
 
+    /**
+     * Creates a new {@link DecoderCursor} that walks the encoded AMQP types in the given stream one
+     * element at a time.  The cursor allows the caller to step into encoded list, map and array types
+     * without the decoder building the collection in memory which allows very large encodings to be
+     * processed with a constant memory footprint as the bytes arrive.
+     *
+     * @param stream
+     * 		The {@link InputStream} to read from as the cursor is advanced.
+     * @param state
+     *      The {@link StreamDecoderState} value that can be used for intermediate decoding tasks.
+     *
+     * @return a new {@link DecoderCursor} that reads from the given stream.
+     */
+    DecoderCursor newCursor(InputStream stream, StreamDecoderState state);
+
     /**
      * Allows custom {@link StreamDescribedTypeDecoder} instances to be registered with this {@link StreamDecoder}
      * which will be used if the described type encoding is encountered during decode operations.
@@ -0,0 +1,452 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.codec.decoders;
+
+import java.util.Arrays;
+
+import org.apache.qpid.protonj2.codec.DecodeException;
+import org.apache.qpid.protonj2.codec.DecoderCursor;
+import org.apache.qpid.protonj2.codec.EncodingCodes;
+import org.apache.qpid.protonj2.codec.decoders.primitives.BooleanFalseTypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.primitives.BooleanTrueTypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.primitives.BooleanTypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.primitives.Integer32TypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.primitives.Integer8TypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.primitives.ListTypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.primitives.Long8TypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.primitives.LongTypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.primitives.MapTypeDecoder;
+import org.apache.qpid.protonj2.types.Binary;
+import org.apache.qpid.protonj2.types.Symbol;
+
+/**
+ * Base implementation of the {@link DecoderCursor} which tracks the stack of entered compound
+ * types and the value the cursor is positioned on leaving the reads of the encoded bytes to the
+ * buffer and stream specific implementations.
+ */
+abstract class AbstractDecoderCursor implements DecoderCursor {
+
+    private static final int INITIAL_DEPTH = 8;
+
+    private Token token;
+    private PrimitiveTypeDecoder<?> current;
+    private Object descriptor;
+
+    // The current token value has not yet been read, skipped or entered.
+    private boolean pending;
+    // A descriptor was read and the constructor of the described value follows.
+    private boolean describedPending;
+    private boolean describedArrayElement;
+
+    private int depth;
+    private int[] remaining = new int[INITIAL_DEPTH];
+    private PrimitiveTypeDecoder<?>[] elementDecoders = new PrimitiveTypeDecoder<?>[INITIAL_DEPTH];
+    private Object[] elementDescriptors = new Object[INITIAL_DEPTH];
+
+    @Override
+    public Token nextToken() throws DecodeException {
+        // A described type that was not read moves on to its value rather than skipping it.
+        if (pending && !describedPending) {
+            skip();
+        }
+
+        if (describedPending) {
+            describedPending = false;
+
+            if (describedArrayElement) {
+                return positionOn(elementDecoders[depth - 1]);
+            } else {
+                return readConstructor(readEncodingCode());
+            }
+        }
+
+        if (depth > 0) {
+            final int index = depth - 1;
+
+            if (remaining[index] == 0) {
+                depth--;
+                elementDecoders[index] = null;
+                elementDescriptors[index] = null;
+                current = null;
+                return token = Token.END;
+            }
+
+            remaining[index]--;
+
+            // Array elements share the constructor that was read when the array was entered.
+            if (elementDecoders[index] != null) {
+                if (elementDescriptors[index] != null) {
+                    return positionOnDescribed(elementDescriptors[index], true);
+                } else {
+                    return positionOn(elementDecoders[index]);
+                }
+            }
+
+            return readConstructor(readEncodingCode());
+        }
+
+        final int encodingCode = readNextEncodingCode();
+
+        if (encodingCode < 0) {
+            current = null;
+            return token = Token.END_OF_DATA;
+        } else {
+            return readConstructor(encodingCode);
+        }
+    }
+
+    @Override
+    public Token currentToken() {
+        return token;
+    }
+
+    @Override
+    public int getDepth() {
+        return depth;
+    }
+
+    @Override
+    public Class<?> getTypeClass() {
+        if (token == Token.DESCRIBED) {
+            return getDescribedTypeClass(descriptor);
+        }
+
+        checkPositionedOnValue();
+
+        return current.getTypeClass();
+    }
+
+    @Override
+    public Object getDescriptor() {
+        if (token != Token.DESCRIBED) {
+            throw new IllegalStateException("Cursor is not positioned on a described type: " + token);
+        }
+
+        return descriptor;
+    }
+
+    @Override
+    public int enterList() throws DecodeException {
+        checkPendingToken(Token.START_LIST);
+
+        containerEntered(readSize(current));
+
+        final int count = readCount((ListTypeDecoder) current);
+
+        pushContainer(count, null, null);
+
+        return count;
+    }
+
+    @Override
+    public int enterMap() throws DecodeException {
+        checkPendingToken(Token.START_MAP);
+
+        containerEntered(readSize(current));
+
+        final int count = readCount((MapTypeDecoder) current);
+
+        pushContainer(count, null, null);
+
+        return count;
+    }
+
+    @Override
+    public int enterArray() throws DecodeException {
+        checkPendingToken(Token.START_ARRAY);
+
+        containerEntered(readSize(current));
+
+        final int count = readCount((PrimitiveArrayTypeDecoder) current);
+
+        int encodingCode = readEncodingCode() & 0xff;
+        Object elementDescriptor = null;
+
+        if (encodingCode == EncodingCodes.DESCRIBED_TYPE_INDICATOR) {
+            elementDescriptor = readDescriptor();
+            encodingCode = readEncodingCode() & 0xff;
+        }
+
+        pushContainer(count, checkTypeDecoder(lookupPrimitiveTypeDecoder(encodingCode), encodingCode), elementDescriptor);
+
+        return count;
+    }
+
+    @Override
+    public void exit() throws DecodeException {
+        checkEntered();
+
+        final int exitDepth = depth;
+
+        while (depth >= exitDepth) {
+            nextToken();
+        }
+    }
+
+    @Override
+    public void skip() throws DecodeException {
+        if (token == Token.DESCRIBED && pending) {
+            pending = false;
+            nextToken();
+            skip();
+        } else {
+            checkPositionedOnValue();
+            pending = false;
+            skipValue(current);
+        }
+    }
+
+    @Override
+    public Object readObject() throws DecodeException {
+        if (token == Token.DESCRIBED && pending) {
+            if (describedArrayElement) {
+                throw new DecodeException("Described array elements must be read using the element value");
+            }
+
+            pending = false;
+            describedPending = false;
+
+            return readDescribedValue(descriptor);
+        }
+
+        checkPositionedOnValue();
+        pending = false;
+
+        return readValue(current);
+    }
+
+    @Override
+    public boolean readBoolean() throws DecodeException {
+        checkPositionedOnValue();
+
+        if (current instanceof BooleanTypeDecoder ||
+            current instanceof BooleanTrueTypeDecoder ||
+            current instanceof BooleanFalseTypeDecoder) {
+
+            pending = false;
+            return readBooleanValue(current);
+        } else {
+            throw signalUnexpectedType(Boolean.class);
+        }
+    }
+
+    @Override
+    public int readInt() throws DecodeException {
+        checkPositionedOnValue();
+
+        if (current instanceof Integer32TypeDecoder || current instanceof Integer8TypeDecoder) {
+            pending = false;
+            return readIntValue(current);
+        } else {
+            throw signalUnexpectedType(Integer.class);
+        }
+    }
+
+    @Override
+    public long readLong() throws DecodeException {
+        checkPositionedOnValue();
+
+        if (current instanceof LongTypeDecoder || current instanceof Long8TypeDecoder) {
+            pending = false;
+            return readLongValue(current);
+        } else {
+            throw signalUnexpectedType(Long.class);
+        }
+    }
+
+    @Override
+    public String readString() throws DecodeException {
+        return readTypedValue(String.class);
+    }
+
+    @Override
+    public Symbol readSymbol() throws DecodeException {
+        return readTypedValue(Symbol.class);
+    }
+
+    @Override
+    public Binary readBinary() throws DecodeException {
+        return readTypedValue(Binary.class);
+    }
+
+    //----- Reads of the encoded data implemented by buffer and stream cursors
+
+    /**
+     * @return the next encoding code or -1 if no further encoded values remain at the top level.
+     */
+    protected abstract int readNextEncodingCode() throws DecodeException;
+
+    protected abstract byte readEncodingCode() throws DecodeException;
+
+    protected abstract Object readDescriptor() throws DecodeException;
+
+    protected abstract PrimitiveTypeDecoder<?> lookupPrimitiveTypeDecoder(int encodingCode);
+
+    protected abstract Class<?> getDescribedTypeClass(Object descriptor);
+
+    protected abstract Object readDescribedValue(Object descriptor) throws DecodeException;
+
+    protected abstract int readSize(PrimitiveTypeDecoder<?> decoder) throws DecodeException;
+
+    protected abstract Object readValue(PrimitiveTypeDecoder<?> decoder) throws DecodeException;
+
+    protected abstract void skipValue(PrimitiveTypeDecoder<?> decoder) throws DecodeException;
+
+    protected abstract boolean readBooleanValue(PrimitiveTypeDecoder<?> decoder) throws DecodeException;
+
+    protected abstract int readIntValue(PrimitiveTypeDecoder<?> decoder) throws DecodeException;
+
+    protected abstract long readLongValue(PrimitiveTypeDecoder<?> decoder) throws DecodeException;
+
+    /**
+     * Reads the element count of the given list, map or array decoder which follows its size.
+     */
+    protected abstract int readCount(ListTypeDecoder decoder) throws DecodeException;
+
+    protected abstract int readCount(MapTypeDecoder decoder) throws DecodeException;
+
+    protected abstract int readCount(PrimitiveArrayTypeDecoder decoder) throws DecodeException;
+
+    /**
+     * Called once the encoded size of a compound type being entered has been read and before
+     * its element count is read.
+     *
+     * @param size
+     * 		the encoded size in bytes of the compound type that follows the size value.
+     */
+    protected void containerEntered(int size) throws DecodeException {
+    }
+
+    //----- Internal cursor state management
+
+    /**
+     * Pops the innermost entered compound type after its remaining bytes were consumed
+     * directly by the implementation.
+     */
+    protected final void containerExited() {
+        checkEntered();
+
+        depth--;
+        elementDecoders[depth] = null;
+        elementDescriptors[depth] = null;
+        current = null;
+        pending = false;
+        describedPending = false;
+        token = Token.END;
+    }
+
+    protected final void checkEntered() {
+        if (depth == 0) {
+            throw new IllegalStateException("Cursor has not entered a compound type");
+        }
+    }
+
+    private Token readConstructor(int encodingCode) throws DecodeException {
+        if ((encodingCode & 0xff) == EncodingCodes.DESCRIBED_TYPE_INDICATOR) {
+            return positionOnDescribed(readDescriptor(), false);
+        } else {
+            return positionOn(checkTypeDecoder(lookupPrimitiveTypeDecoder(encodingCode & 0xff), encodingCode));
+        }
+    }
+
+    private static PrimitiveTypeDecoder<?> checkTypeDecoder(PrimitiveTypeDecoder<?> decoder, int encodingCode) throws DecodeException {
+        if (decoder == null) {
+            throw new DecodeException("Unknown type encoding code found: " + EncodingCodes.toString((byte) encodingCode));
+        }
+
+        return decoder;
+    }
+
+    private Token positionOnDescribed(Object descriptor, boolean arrayElement) {
+        this.descriptor = descriptor;
+        this.current = null;
+        this.pending = true;
+        this.describedPending = true;
+        this.describedArrayElement = arrayElement;
+
+        return token = Token.DESCRIBED;
+    }
+
+    private Token positionOn(PrimitiveTypeDecoder<?> decoder) {
+        current = decoder;
+        pending = true;
+
+        if (decoder.isNull()) {
+            token = Token.NULL;
+        } else if (decoder instanceof ListTypeDecoder) {
+            token = Token.START_LIST;
+        } else if (decoder instanceof MapTypeDecoder) {
+            token = Token.START_MAP;
+        } else if (decoder.isArrayType()) {
+            token = Token.START_ARRAY;
+        } else {
+            token = Token.VALUE;
+        }
+
+        return token;
+    }
+
+    private void pushContainer(int count, PrimitiveTypeDecoder<?> elementDecoder, Object elementDescriptor) {
+        if (depth == remaining.length) {
+            remaining = Arrays.copyOf(remaining, depth * 2);
+            elementDecoders = Arrays.copyOf(elementDecoders, depth * 2);
+            elementDescriptors = Arrays.copyOf(elementDescriptors, depth * 2);
+        }
+
+        remaining[depth] = count;
+        elementDecoders[depth] = elementDecoder;
+        elementDescriptors[depth] = elementDescriptor;
+
+        depth++;
+        current = null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T readTypedValue(Class<T> typeClass) throws DecodeException {
+        checkPositionedOnValue();
+
+        if (token == Token.NULL) {
+            pending = false;
+            skipValue(current);
+            return null;
+        } else if (current.getTypeClass() == typeClass) {
+            pending = false;
+            return (T) readValue(current);
+        } else {
+            throw signalUnexpectedType(typeClass);
+        }
+    }
+
+    private void checkPendingToken(Token expected) {
+        if (token != expected || !pending) {
+            throw new IllegalStateException("Cursor is not positioned on a " + expected + " token: " + token);
+        }
+
+        pending = false;
+    }
+
+    private void checkPositionedOnValue() {
+        if (current == null || !pending) {
+            throw new IllegalStateException("Cursor is not positioned on an unread value: " + token);
+        }
+    }
+
+    private DecodeException signalUnexpectedType(Class<?> expected) {
+        return new DecodeException("Expected " + expected.getSimpleName() + " type but found encoding for: " +
+                                   current.getTypeClass().getSimpleName());
+    }
+}
@@ -27,6 +27,7 @@ import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.codec.DecodeEOFException;
 import org.apache.qpid.protonj2.codec.DecodeException;
 import org.apache.qpid.protonj2.codec.Decoder;
+import org.apache.qpid.protonj2.codec.DecoderCursor;
 import org.apache.qpid.protonj2.codec.DecoderState;
 import org.apache.qpid.protonj2.codec.DescribedTypeDecoder;
 import org.apache.qpid.protonj2.codec.EncodingCodes;
@@ -143,6 +144,8 @@ public final class ProtonDecoder implements Decoder {
         map32Decoder = (Map32TypeDecoder) primitiveDecoders[EncodingCodes.MAP32 & 0xFF];
         string32Decoder = (String32TypeDecoder) primitiveDecoders[EncodingCodes.STR32 & 0xFF];
         string8Decoder = (String8TypeDecoder) primitiveDecoders[EncodingCodes.STR8 & 0xFF];
+        array8Decoder = (Array8TypeDecoder) primitiveDecoders[EncodingCodes.ARRAY8 & 0xFF];
+        array32Decoder = (Array32TypeDecoder) primitiveDecoders[EncodingCodes.ARRAY32 & 0xFF];
     }
 
     // Registry of decoders for described types which can be updated with user defined
@@ -165,6 +168,8 @@ public final class ProtonDecoder implements Decoder {
     private static final Map32TypeDecoder map32Decoder;
     private static final String8TypeDecoder string8Decoder;
     private static final String32TypeDecoder string32Decoder;
+    private static final Array8TypeDecoder array8Decoder;
+    private static final Array32TypeDecoder array32Decoder;
 
     @Override
     public ProtonDecoderState newDecoderState() {
@@ -262,12 +267,7 @@ public final class ProtonDecoder implements Decoder {
             descriptor = readObject(buffer, state);
         }
 
-        TypeDecoder<?> typeDecoder = describedTypeDecoders.get(descriptor);
-        if (typeDecoder == null) {
-            typeDecoder = handleUnknownDescribedType(descriptor);
-        }
-
-        return typeDecoder;
+        return lookupDescribedTypeDecoder(descriptor);
     }
 
     @Override
@@ -280,6 +280,24 @@ public final class ProtonDecoder implements Decoder {
         }
     }
 
+    @Override
+    public DecoderCursor newCursor(ProtonBuffer buffer, DecoderState state) {
+        return new ProtonDecoderCursor(this, buffer, state);
+    }
+
+    PrimitiveTypeDecoder<?> lookupPrimitiveTypeDecoder(int encodingCode) {
+        return primitiveDecoders[encodingCode & 0xff];
+    }
+
+    TypeDecoder<?> lookupDescribedTypeDecoder(Object descriptor) {
+        TypeDecoder<?> typeDecoder = describedTypeDecoders.get(descriptor);
+        if (typeDecoder == null) {
+            typeDecoder = handleUnknownDescribedType(descriptor);
+        }
+
+        return typeDecoder;
+    }
+
     @Override
     public <V> ProtonDecoder registerDescribedTypeDecoder(DescribedTypeDecoder<V> decoder) {
         DescribedTypeDecoder<?> describedTypeDecoder = decoder;
@@ -535,7 +553,7 @@ public final class ProtonDecoder implements Decoder {
 
         switch (encodingCode) {
             case EncodingCodes.SMALLINT:
-                return buffer.readByte() & 0xff;
+                return (int) buffer.readByte();
             case EncodingCodes.INT:
                 return buffer.readInt();
             case EncodingCodes.NULL:
@@ -551,7 +569,7 @@ public final class ProtonDecoder implements Decoder {
 
         switch (encodingCode) {
             case EncodingCodes.SMALLINT:
-                return buffer.readByte() & 0xff;
+                return (int) buffer.readByte();
             case EncodingCodes.INT:
                 return buffer.readInt();
             case EncodingCodes.NULL:
@@ -621,7 +639,7 @@ public final class ProtonDecoder implements Decoder {
 
         switch (encodingCode) {
             case EncodingCodes.SMALLLONG:
-                return (long) buffer.readByte() & 0xff;
+                return (long) buffer.readByte();
             case EncodingCodes.LONG:
                 return buffer.readLong();
             case EncodingCodes.NULL:
@@ -637,7 +655,7 @@ public final class ProtonDecoder implements Decoder {
 
         switch (encodingCode) {
             case EncodingCodes.SMALLLONG:
-                return (long) buffer.readByte() & 0xff;
+                return (long) buffer.readByte();
             case EncodingCodes.LONG:
                 return buffer.readLong();
             case EncodingCodes.NULL:
@@ -777,8 +795,14 @@ public final class ProtonDecoder implements Decoder {
 
         switch (encodingCode) {
             case EncodingCodes.VBIN8:
+                if (isRecyclingState(state)) {
+                    return readDeliveryTagView(buffer, (ProtonDecoderState) state, binary8Decoder.readSize(buffer, state));
+                }
                 return new DeliveryTag.ProtonDeliveryTag(binary8Decoder.readValueAsArray(buffer, state));
             case EncodingCodes.VBIN32:
+                if (isRecyclingState(state)) {
+                    return readDeliveryTagView(buffer, (ProtonDecoderState) state, binary32Decoder.readSize(buffer, state));
+                }
                 return new DeliveryTag.ProtonDeliveryTag(binary32Decoder.readValueAsArray(buffer, state));
             case EncodingCodes.NULL:
                 return null;
@@ -787,6 +811,24 @@ public final class ProtonDecoder implements Decoder {
         }
     }
 
+    private static boolean isRecyclingState(DecoderState state) {
+        return state instanceof ProtonDecoderState && ((ProtonDecoderState) state).isRecyclePerformatives();
+    }
+
+    private static DeliveryTag readDeliveryTagView(ProtonBuffer buffer, ProtonDecoderState state, int length) throws DecodeException {
+        if (length > buffer.getReadableBytes()) {
+            throw new DecodeException(
+                String.format("Binary data size %d is specified to be greater than the amount " +
+                              "of data available (%d)", length, buffer.getReadableBytes()));
+        }
+
+        final DeliveryTag tag = state.recycledDeliveryTag().reset(buffer, buffer.getReadOffset(), length);
+
+        buffer.advanceReadOffset(length);
+
+        return tag;
+    }
+
     @Override
     public String readString(ProtonBuffer buffer, DecoderState state) throws DecodeException {
         final byte encodingCode = readEncodingCode(buffer);
@@ -877,6 +919,70 @@ public final class ProtonDecoder implements Decoder {
         }
     }
 
+    @Override
+    public int[] readIntArray(ProtonBuffer buffer, DecoderState state) throws DecodeException {
+        final byte encodingCode = readEncodingCode(buffer);
+
+        switch (encodingCode) {
+            case EncodingCodes.ARRAY8:
+                return array8Decoder.readIntArray(buffer, state);
+            case EncodingCodes.ARRAY32:
+                return array32Decoder.readIntArray(buffer, state);
+            case EncodingCodes.NULL:
+                return null;
+            default:
+                throw new DecodeException("Expected Array type but found encoding: " + EncodingCodes.toString(encodingCode));
+        }
+    }
+
+    @Override
+    public long[] readLongArray(ProtonBuffer buffer, DecoderState state) throws DecodeException {
+        final byte encodingCode = readEncodingCode(buffer);
+
+        switch (encodingCode) {
+            case EncodingCodes.ARRAY8:
+                return array8Decoder.readLongArray(buffer, state);
+            case EncodingCodes.ARRAY32:
+                return array32Decoder.readLongArray(buffer, state);
+            case EncodingCodes.NULL:
+                return null;
+            default:
+                throw new DecodeException("Expected Array type but found encoding: " + EncodingCodes.toString(encodingCode));
+        }
+    }
+
+    @Override
+    public double[] readDoubleArray(ProtonBuffer buffer, DecoderState state) throws DecodeException {
+        final byte encodingCode = readEncodingCode(buffer);
+
+        switch (encodingCode) {
+            case EncodingCodes.ARRAY8:
+                return array8Decoder.readDoubleArray(buffer, state);
+            case EncodingCodes.ARRAY32:
+                return array32Decoder.readDoubleArray(buffer, state);
+            case EncodingCodes.NULL:
+                return null;
+            default:
+                throw new DecodeException("Expected Array type but found encoding: " + EncodingCodes.toString(encodingCode));
+        }
+    }
+
+    @Override
+    public UUID[] readUUIDArray(ProtonBuffer buffer, DecoderState state) throws DecodeException {
+        final byte encodingCode = readEncodingCode(buffer);
+
+        switch (encodingCode) {
+            case EncodingCodes.ARRAY8:
+                return array8Decoder.readUUIDArray(buffer, state);
+            case EncodingCodes.ARRAY32:
+                return array32Decoder.readUUIDArray(buffer, state);
+            case EncodingCodes.NULL:
+                return null;
+            default:
+                throw new DecodeException("Expected Array type but found encoding: " + EncodingCodes.toString(encodingCode));
+        }
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <K, V> Map<K, V> readMap(ProtonBuffer buffer, DecoderState state) throws DecodeException {
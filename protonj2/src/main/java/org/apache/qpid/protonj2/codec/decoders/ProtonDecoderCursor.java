@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.codec.decoders;
+
+import java.util.Arrays;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.codec.DecodeEOFException;
+import org.apache.qpid.protonj2.codec.DecodeException;
+import org.apache.qpid.protonj2.codec.DecoderCursor;
+import org.apache.qpid.protonj2.codec.DecoderState;
+import org.apache.qpid.protonj2.codec.decoders.primitives.BooleanFalseTypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.primitives.BooleanTrueTypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.primitives.BooleanTypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.primitives.Integer32TypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.primitives.Integer8TypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.primitives.ListTypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.primitives.Long8TypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.primitives.LongTypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.primitives.MapTypeDecoder;
+
+/**
+ * {@link DecoderCursor} that reads the encoded AMQP types from a {@link ProtonBuffer}, the
+ * cursor reads until the buffer has no more readable bytes.
+ */
+final class ProtonDecoderCursor extends AbstractDecoderCursor {
+
+    private final ProtonDecoder decoder;
+    private final ProtonBuffer buffer;
+    private final DecoderState state;
+
+    // Read offset at which each entered compound type ends
+    private int[] containerEnds = new int[8];
+
+    ProtonDecoderCursor(ProtonDecoder decoder, ProtonBuffer buffer, DecoderState state) {
+        this.decoder = decoder;
+        this.buffer = buffer;
+        this.state = state;
+    }
+
+    @Override
+    public void exit() throws DecodeException {
+        checkEntered();
+
+        // The encoded size of the compound type allows a direct jump to its end.
+        buffer.setReadOffset(containerEnds[getDepth() - 1]);
+
+        containerExited();
+    }
+
+    @Override
+    protected int readNextEncodingCode() {
+        if (buffer.isReadable()) {
+            return buffer.readByte() & 0xff;
+        } else {
+            return -1;
+        }
+    }
+
+    @Override
+    protected byte readEncodingCode() throws DecodeException {
+        if (buffer.isReadable()) {
+            return buffer.readByte();
+        } else {
+            throw new DecodeEOFException("Read of new type failed because buffer exhausted.");
+        }
+    }
+
+    @Override
+    protected Object readDescriptor() throws DecodeException {
+        return decoder.readObject(buffer, state);
+    }
+
+    @Override
+    protected PrimitiveTypeDecoder<?> lookupPrimitiveTypeDecoder(int encodingCode) {
+        return decoder.lookupPrimitiveTypeDecoder(encodingCode);
+    }
+
+    @Override
+    protected Class<?> getDescribedTypeClass(Object descriptor) {
+        return decoder.lookupDescribedTypeDecoder(descriptor).getTypeClass();
+    }
+
+    @Override
+    protected Object readDescribedValue(Object descriptor) throws DecodeException {
+        return decoder.lookupDescribedTypeDecoder(descriptor).readValue(buffer, state);
+    }
+
+    @Override
+    protected int readSize(PrimitiveTypeDecoder<?> typeDecoder) throws DecodeException {
+        return typeDecoder.readSize(buffer, state);
+    }
+
+    @Override
+    protected int readCount(ListTypeDecoder typeDecoder) throws DecodeException {
+        return typeDecoder.readCount(buffer, state);
+    }
+
+    @Override
+    protected int readCount(MapTypeDecoder typeDecoder) throws DecodeException {
+        return typeDecoder.readCount(buffer, state);
+    }
+
+    @Override
+    protected int readCount(PrimitiveArrayTypeDecoder typeDecoder) throws DecodeException {
+        return typeDecoder.readCount(buffer, state);
+    }
+
+    @Override
+    protected void containerEntered(int size) throws DecodeException {
+        if (size > buffer.getReadableBytes()) {
+            throw new DecodeException(String.format(
+                "Encoded size %d is specified to be greater than the amount of data available (%d)",
+                size, buffer.getReadableBytes()));
+        }
+
+        final int depth = getDepth();
+
+        if (depth == containerEnds.length) {
+            containerEnds = Arrays.copyOf(containerEnds, depth * 2);
+        }
+
+        containerEnds[depth] = buffer.getReadOffset() + size;
+    }
+
+    @Override
+    protected Object readValue(PrimitiveTypeDecoder<?> typeDecoder) throws DecodeException {
+        return typeDecoder.readValue(buffer, state);
+    }
+
+    @Override
+    protected void skipValue(PrimitiveTypeDecoder<?> typeDecoder) throws DecodeException {
+        typeDecoder.skipValue(buffer, state);
+    }
+
+    @Override
+    protected boolean readBooleanValue(PrimitiveTypeDecoder<?> typeDecoder) throws DecodeException {
+        if (typeDecoder instanceof BooleanTypeDecoder) {
+            return ((BooleanTypeDecoder) typeDecoder).readPrimitiveValue(buffer, state);
+        } else if (typeDecoder instanceof BooleanTrueTypeDecoder) {
+            return ((BooleanTrueTypeDecoder) typeDecoder).readPrimitiveValue(buffer, state);
+        } else {
+            return ((BooleanFalseTypeDecoder) typeDecoder).readPrimitiveValue(buffer, state);
+        }
+    }
+
+    @Override
+    protected int readIntValue(PrimitiveTypeDecoder<?> typeDecoder) throws DecodeException {
+        if (typeDecoder instanceof Integer32TypeDecoder) {
+            return ((Integer32TypeDecoder) typeDecoder).readPrimitiveValue(buffer, state);
+        } else {
+            return ((Integer8TypeDecoder) typeDecoder).readPrimitiveValue(buffer, state);
+        }
+    }
+
+    @Override
+    protected long readLongValue(PrimitiveTypeDecoder<?> typeDecoder) throws DecodeException {
+        if (typeDecoder instanceof LongTypeDecoder) {
+            return ((LongTypeDecoder) typeDecoder).readPrimitiveValue(buffer, state);
+        } else {
+            return ((Long8TypeDecoder) typeDecoder).readPrimitiveValue(buffer, state);
+        }
+    }
+}
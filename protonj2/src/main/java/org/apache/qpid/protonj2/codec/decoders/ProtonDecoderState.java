@@ -16,7 +16,10 @@
  */
 package org.apache.qpid.protonj2.codec.decoders;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.CharBuffer;
 import java.nio.charset.CharacterCodingException;
 import java.nio.charset.CharsetDecoder;
@@ -24,9 +27,15 @@ import java.nio.charset.CoderResult;
 import java.nio.charset.StandardCharsets;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferComponent;
+import org.apache.qpid.protonj2.buffer.ProtonBufferComponentAccessor;
+import org.apache.qpid.protonj2.buffer.ProtonBufferUtils;
 import org.apache.qpid.protonj2.codec.DecodeException;
 import org.apache.qpid.protonj2.codec.Decoder;
 import org.apache.qpid.protonj2.codec.DecoderState;
+import org.apache.qpid.protonj2.types.transport.Disposition;
+import org.apache.qpid.protonj2.types.transport.Flow;
+import org.apache.qpid.protonj2.types.transport.Transfer;
 
 /**
  * State object used by the Built in Decoder implementation.
@@ -34,12 +43,26 @@ import org.apache.qpid.protonj2.codec.DecoderState;
 public final class ProtonDecoderState implements DecoderState {
 
     private static final int MAX_CHAR_BUFFER_CACHE_SIZE = 100;
+    private static final int MAX_STRING_CACHE_SIZE = 1 << 16;
+
+    private static final VarHandle LONG_ARRAY_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.nativeOrder());
+    private static final long NON_ASCII_MASK = 0x8080808080808080L;
 
-    private final CharsetDecoder STRING_DECODER = StandardCharsets.UTF_8.newDecoder();
     private final ProtonDecoder decoder;
-    private final char[] decodeCache = new char[MAX_CHAR_BUFFER_CACHE_SIZE];
+
+    // Only needed for strings with non-ASCII content so created on demand
+    private CharsetDecoder utf8Decoder;
+    private char[] decodeCache;
 
     private UTF8Decoder stringDecoder;
+    private ProtonStringCache stringCache;
+
+    private boolean recyclePerformatives;
+    private boolean lazyMapSections;
+    private Transfer transfer;
+    private Flow flow;
+    private Disposition disposition;
+    private ProtonDeliveryTagView deliveryTag;
 
     /**
      * Create a new {@link DecoderState} instance that is joined forever to the given {@link Decoder}.
@@ -84,10 +107,150 @@ public final class ProtonDecoderState implements DecoderState {
         return this;
     }
 
+    /**
+     * @return the number of entries in the decoded string cache or zero if string caching is disabled.
+     */
+    public int getStringCacheSize() {
+        return stringCache == null ? 0 : stringCache.capacity();
+    }
+
+    /**
+     * Enables a bounded cache of decoded {@link String} values which is consulted before a short
+     * UTF-8 string is decoded so that repeated values such as application property keys or message
+     * addresses decode to the same {@link String} instance instead of a new copy each time.  The
+     * cache is keyed by the encoded bytes and only strings whose encoding is no larger than 64 bytes
+     * are cached.  The requested size is rounded up to a power of two, a size of zero disables the
+     * cache.  The cache is only used when no custom {@link UTF8Decoder} has been set.
+     *
+     * @param size
+     * 		the number of decoded strings to retain or zero to disable string caching.
+     *
+     * @return this {@link ProtonDecoderState} instance.
+     *
+     * @throws IllegalArgumentException if the size is negative or larger than 65536.
+     */
+    public ProtonDecoderState setStringCacheSize(int size) {
+        if (size < 0 || size > MAX_STRING_CACHE_SIZE) {
+            throw new IllegalArgumentException("String cache size must be in the range [0, " + MAX_STRING_CACHE_SIZE + "]: " + size);
+        }
+
+        this.stringCache = size == 0 ? null : new ProtonStringCache(size);
+        return this;
+    }
+
+    /**
+     * @return true if ApplicationProperties and MessageAnnotations decoded with this state carry a lazy map view.
+     */
+    public boolean isLazyMapSections() {
+        return lazyMapSections;
+    }
+
+    /**
+     * Controls if the ApplicationProperties and MessageAnnotations sections decoded using this state
+     * carry a read-only {@link ProtonEncodedMapView} of the encoded map instead of a fully decoded map.
+     * The view indexes the encoded keys when the section is decoded but only decodes the keys and values
+     * that are actually accessed, which avoids nearly all allocation when only a few entries are read.
+     * Attempts to modify the map of a section decoded this way will fail.
+     *
+     * @param lazyMapSections
+     * 		should ApplicationProperties and MessageAnnotations sections decode to a lazy map view.
+     *
+     * @return this {@link ProtonDecoderState} instance.
+     */
+    public ProtonDecoderState setLazyMapSections(boolean lazyMapSections) {
+        this.lazyMapSections = lazyMapSections;
+        return this;
+    }
+
+    /**
+     * @return true if the high volume transport performatives decoded with this state are recycled.
+     */
+    public boolean isRecyclePerformatives() {
+        return recyclePerformatives;
+    }
+
+    /**
+     * Controls if the {@link Transfer}, {@link Flow} and {@link Disposition} performatives decoded using
+     * this state are single instances that are reset and reused for each decode instead of new instances.
+     * When enabled delivery tags decoded with this state are a {@link ProtonDeliveryTagView} of the bytes
+     * in the buffer being decoded. A recycled performative and its delivery tag are only valid until the
+     * next performative is decoded with this state (or the source buffer is released) so callers that need
+     * to retain either must copy them.
+     *
+     * @param recyclePerformatives
+     * 		should the high volume transport performatives be recycled.
+     *
+     * @return this {@link ProtonDecoderState} instance.
+     */
+    public ProtonDecoderState setRecyclePerformatives(boolean recyclePerformatives) {
+        this.recyclePerformatives = recyclePerformatives;
+        return this;
+    }
+
+    /**
+     * @return a reset recycled {@link Transfer} if performative recycling is enabled or null if not.
+     */
+    public Transfer recycledTransfer() {
+        if (recyclePerformatives) {
+            if (transfer == null) {
+                transfer = new Transfer();
+            }
+
+            return transfer.reset();
+        }
+
+        return null;
+    }
+
+    /**
+     * @return a reset recycled {@link Flow} if performative recycling is enabled or null if not.
+     */
+    public Flow recycledFlow() {
+        if (recyclePerformatives) {
+            if (flow == null) {
+                flow = new Flow();
+            }
+
+            return flow.reset();
+        }
+
+        return null;
+    }
+
+    /**
+     * @return a reset recycled {@link Disposition} if performative recycling is enabled or null if not.
+     */
+    public Disposition recycledDisposition() {
+        if (recyclePerformatives) {
+            if (disposition == null) {
+                disposition = new Disposition();
+            }
+
+            return disposition.reset();
+        }
+
+        return null;
+    }
+
+    /**
+     * @return the recycled delivery tag view cleared of its previous contents.
+     */
+    ProtonDeliveryTagView recycledDeliveryTag() {
+        if (deliveryTag == null) {
+            deliveryTag = new ProtonDeliveryTagView();
+        }
+
+        return deliveryTag.clear();
+    }
+
     @Override
     public String decodeUTF8(ProtonBuffer buffer, int length) throws DecodeException {
         if (stringDecoder == null) {
-            return internalDecode(buffer, length, STRING_DECODER, length > MAX_CHAR_BUFFER_CACHE_SIZE ? new char[length] : decodeCache);
+            if (stringCache != null && length <= ProtonStringCache.MAX_CACHED_STRING_SIZE) {
+                return cachedDecode(buffer, length);
+            } else {
+                return internalDecode(buffer, length);
+            }
         } else {
             final int originalPosition = buffer.getReadOffset();
 
@@ -101,7 +264,36 @@ public final class ProtonDecoderState implements DecoderState {
         }
     }
 
-    private static String internalDecode(ProtonBuffer buffer, final int length, CharsetDecoder decoder, char[] scratch) {
+    private String cachedDecode(ProtonBuffer buffer, int length) {
+        final int offset = buffer.getReadOffset();
+        final int hash = ProtonBufferUtils.hashCode(buffer, offset, length);
+
+        String result = stringCache.lookup(hash, buffer, offset, length);
+
+        if (result == null) {
+            result = internalDecode(buffer, length);
+            stringCache.cache(hash, buffer, offset, length, result);
+        } else {
+            buffer.advanceReadOffset(length);
+        }
+
+        return result;
+    }
+
+    private String internalDecode(ProtonBuffer buffer, final int length) {
+        final String asciiString = decodeASCII(buffer, length);
+        if (asciiString != null) {
+            return asciiString;
+        }
+
+        if (utf8Decoder == null) {
+            utf8Decoder = StandardCharsets.UTF_8.newDecoder();
+            decodeCache = new char[MAX_CHAR_BUFFER_CACHE_SIZE];
+        }
+
+        final CharsetDecoder decoder = utf8Decoder;
+        final char[] scratch = length > MAX_CHAR_BUFFER_CACHE_SIZE ? new char[length] : decodeCache;
+
         final int bufferInitialPosition = buffer.getReadOffset();
 
         int offset;
@@ -128,7 +320,7 @@ public final class ProtonDecoderState implements DecoderState {
 
         // Create a buffer from the remaining portion of the buffer and then use the decoder to complete the work
         // remember to move the main buffer position to consume the data processed.
-        ByteBuffer byteBuffer = ByteBuffer.allocate(buffer.getReadableBytes());
+        ByteBuffer byteBuffer = ByteBuffer.allocate(length - offset);
 
         buffer.copyInto(buffer.getReadOffset(), byteBuffer, 0, length - offset);
         buffer.advanceReadOffset(length - offset);
@@ -155,4 +347,74 @@ public final class ProtonDecoderState implements DecoderState {
             decoder.reset();
         }
     }
+
+    private static String decodeASCII(ProtonBuffer buffer, int length) {
+        final int offset = buffer.getReadOffset();
+
+        String result = null;
+
+        try (ProtonBufferComponentAccessor accessor = buffer.componentAccessor()) {
+            final ProtonBufferComponent component = accessor.firstReadable();
+
+            if (component != null && component.hasReadbleArray() && component.getReadableBytes() >= length) {
+                final byte[] array = component.getReadableArray();
+                final int arrayOffset = component.getReadableArrayOffset();
+
+                if (isASCII(array, arrayOffset, length)) {
+                    result = new String(array, arrayOffset, length, StandardCharsets.ISO_8859_1);
+                }
+            } else if (isASCII(buffer, offset, length)) {
+                final byte[] bytes = new byte[length];
+
+                buffer.copyInto(offset, bytes, 0, length);
+                result = new String(bytes, StandardCharsets.ISO_8859_1);
+            }
+        }
+
+        if (result != null) {
+            buffer.advanceReadOffset(length);
+        }
+
+        return result;
+    }
+
+    static boolean isASCII(byte[] array, int offset, int length) {
+        final int end = offset + length;
+
+        int index = offset;
+
+        for (; index <= end - Long.BYTES; index += Long.BYTES) {
+            if (((long) LONG_ARRAY_VIEW.get(array, index) & NON_ASCII_MASK) != 0) {
+                return false;
+            }
+        }
+
+        for (; index < end; ++index) {
+            if (array[index] < 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isASCII(ProtonBuffer buffer, int offset, int length) {
+        final int end = offset + length;
+
+        int index = offset;
+
+        for (; index <= end - Long.BYTES; index += Long.BYTES) {
+            if ((buffer.getLong(index) & NON_ASCII_MASK) != 0) {
+                return false;
+            }
+        }
+
+        for (; index < end; ++index) {
+            if (buffer.getByte(index) < 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
 }
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.codec.decoders;
+
+import java.util.Arrays;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.types.DeliveryTag;
+
+/**
+ * A {@link DeliveryTag} that is a view of the tag bytes in the buffer it was decoded from
+ * and is reused by a {@link ProtonDecoderState} that recycles performatives. The view is only
+ * valid until the next performative is decoded with the same state, callers that need to keep
+ * the tag must call {@link #copy()}.
+ */
+public final class ProtonDeliveryTagView implements DeliveryTag {
+
+    private ProtonBuffer source;
+    private int offset;
+    private int length;
+
+    private byte[] tagBytes;
+
+    /**
+     * Points this view at the tag bytes contained in the given buffer.
+     *
+     * @param source
+     * 		The buffer that contains the tag bytes.
+     * @param offset
+     * 		The offset into the buffer where the tag bytes begin.
+     * @param length
+     * 		The number of bytes that make up the tag.
+     *
+     * @return this {@link ProtonDeliveryTagView} instance.
+     */
+    public ProtonDeliveryTagView reset(ProtonBuffer source, int offset, int length) {
+        this.source = source;
+        this.offset = offset;
+        this.length = length;
+        this.tagBytes = null;
+
+        return this;
+    }
+
+    /**
+     * Drops the reference to the buffer last viewed so that it is not held beyond its use.
+     *
+     * @return this {@link ProtonDeliveryTagView} instance.
+     */
+    public ProtonDeliveryTagView clear() {
+        return reset(null, 0, 0);
+    }
+
+    @Override
+    public int tagLength() {
+        return length;
+    }
+
+    @Override
+    public byte[] tagBytes() {
+        if (tagBytes == null) {
+            tagBytes = new byte[length];
+            if (length > 0) {
+                source.copyInto(offset, tagBytes, 0, length);
+            }
+        }
+
+        return tagBytes;
+    }
+
+    @Override
+    public ProtonBuffer tagBuffer() {
+        return source.copy(offset, length, true);
+    }
+
+    @Override
+    public DeliveryTag copy() {
+        final byte[] copy = new byte[length];
+        if (length > 0) {
+            source.copyInto(offset, copy, 0, length);
+        }
+
+        return new DeliveryTag.ProtonDeliveryTag(copy);
+    }
+
+    @Override
+    public void writeTo(ProtonBuffer buffer) {
+        buffer.ensureWritable(length);
+        source.copyInto(offset, buffer, buffer.getWriteOffset(), length);
+        buffer.advanceWriteOffset(length);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < length; ++i) {
+            result = 31 * result + source.getByte(offset + i);
+        }
+
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof DeliveryTag)) {
+            return false;
+        }
+
+        final DeliveryTag otherTag = (DeliveryTag) other;
+        if (otherTag.tagLength() != length) {
+            return false;
+        }
+
+        final byte[] otherBytes = otherTag.tagBytes();
+        for (int i = 0; i < length; ++i) {
+            if (otherBytes[i] != source.getByte(offset + i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "DeliveryTag: {" + Arrays.toString(tagBytes()) + "}";
+    }
+}
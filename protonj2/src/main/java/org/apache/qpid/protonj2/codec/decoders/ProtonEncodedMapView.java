@@ -0,0 +1,444 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.codec.decoders;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.codec.DecodeException;
+import org.apache.qpid.protonj2.codec.Decoder;
+import org.apache.qpid.protonj2.codec.DecoderState;
+import org.apache.qpid.protonj2.codec.EncodingCodes;
+import org.apache.qpid.protonj2.codec.decoders.primitives.MapTypeDecoder;
+import org.apache.qpid.protonj2.types.Symbol;
+
+/**
+ * A read-only {@link Map} view over an encoded AMQP map whose keys are all {@link String} or all
+ * {@link Symbol} values such as the map carried in an ApplicationProperties or MessageAnnotations
+ * section.  The view holds a read-only heap copy of the encoded map entries along with a small open
+ * addressing index of the encoded key bytes, keys and values are only decoded when accessed and
+ * once decoded are retained so that repeated access returns the same instance.  The view does not
+ * retain the buffer the map was read from so no release of the view is required.
+ * <p>
+ * The view is safe for concurrent reads, decoding of keys and values that have not yet been accessed
+ * is synchronized on the view so that the shared encoding and decoded values are never observed in an
+ * inconsistent state.
+ *
+ * @param <K> The key type of the encoded map which is either {@link String} or {@link Symbol}
+ */
+public final class ProtonEncodedMapView<K> extends AbstractMap<K, Object> {
+
+    private static final Object UNDECODED = new Object();
+
+    private final Class<K> keyType;
+    private final Decoder decoder;
+    private final ProtonBuffer encoded;
+    private final int size;
+    private final int[] keyOffsets;
+    private final int[] keyDataOffsets;
+    private final int[] keyDataLengths;
+    private final int[] valueOffsets;
+    private final int[] index;
+
+    private DecoderState valueState;
+    private Object[] keys;
+    private Object[] values;
+    private volatile Set<Map.Entry<K, Object>> entrySet;
+
+    private ProtonEncodedMapView(Class<K> keyType, Decoder decoder, ProtonBuffer encoded, int size,
+                                 int[] keyOffsets, int[] keyDataOffsets, int[] keyDataLengths, int[] valueOffsets) {
+        this.keyType = keyType;
+        this.decoder = decoder;
+        this.encoded = encoded;
+        this.size = size;
+        this.keyOffsets = keyOffsets;
+        this.keyDataOffsets = keyDataOffsets;
+        this.keyDataLengths = keyDataLengths;
+        this.valueOffsets = valueOffsets;
+
+        // Index is kept at most half full so that probe sequences remain short
+        this.index = new int[Integer.highestOneBit(Math.max(1, size)) << 2];
+
+        for (int i = 0; i < size; ++i) {
+            int slot = hash(encoded, keyDataOffsets[i], keyDataLengths[i]) & (index.length - 1);
+            while (index[slot] != 0) {
+                slot = (slot + 1) & (index.length - 1);
+            }
+            index[slot] = i + 1;
+        }
+    }
+
+    /**
+     * Reads the body of an encoded map whose type code has already been consumed and creates a view of
+     * its entries.  If any key in the encoded map is not of the requested key type the buffer read offset
+     * is restored to where it was when this method was called and null is returned so that the caller can
+     * decode the map in full.
+     *
+     * @param <K> The key type of the encoded map
+     *
+     * @param keyType
+     * 		The type of the keys in the encoded map which must be {@link String} or {@link Symbol}.
+     * @param buffer
+     * 		The buffer that contains the encoded map.
+     * @param state
+     * 		The {@link DecoderState} used to skip the encoded values.
+     * @param mapDecoder
+     * 		The {@link MapTypeDecoder} whose type code was read from the buffer.
+     *
+     * @return a new map view or null if the encoded map keys are not of the given type.
+     *
+     * @throws DecodeException if an error occurs while reading the encoded map.
+     */
+    public static <K> ProtonEncodedMapView<K> readMap(Class<K> keyType, ProtonBuffer buffer, DecoderState state, MapTypeDecoder mapDecoder) throws DecodeException {
+        final byte smallKeyCode;
+        final byte largeKeyCode;
+
+        if (String.class.equals(keyType)) {
+            smallKeyCode = EncodingCodes.STR8;
+            largeKeyCode = EncodingCodes.STR32;
+        } else if (Symbol.class.equals(keyType)) {
+            smallKeyCode = EncodingCodes.SYM8;
+            largeKeyCode = EncodingCodes.SYM32;
+        } else {
+            throw new IllegalArgumentException("Unsupported map key type: " + keyType);
+        }
+
+        final int initialOffset = buffer.getReadOffset();
+        final int size = mapDecoder.readSize(buffer, state);
+        final int count = mapDecoder.readCount(buffer, state);
+
+        if (count > buffer.getReadableBytes()) {
+            throw new DecodeException(String.format(
+                    "Map encoded size %d is specified to be greater than the amount " +
+                    "of data available (%d)", size, buffer.getReadableBytes()));
+        }
+
+        final int entries = count / 2;
+        final int start = buffer.getReadOffset();
+        final int[] keyOffsets = new int[entries];
+        final int[] keyDataOffsets = new int[entries];
+        final int[] keyDataLengths = new int[entries];
+        final int[] valueOffsets = new int[entries];
+
+        for (int i = 0; i < entries; ++i) {
+            final int keyOffset = buffer.getReadOffset();
+            final byte keyCode = buffer.readByte();
+            final int keyLength;
+
+            if (keyCode == smallKeyCode) {
+                keyLength = buffer.readByte() & 0xff;
+            } else if (keyCode == largeKeyCode) {
+                keyLength = buffer.readInt();
+            } else {
+                buffer.setReadOffset(initialOffset);
+                return null;
+            }
+
+            if (keyLength < 0 || keyLength > buffer.getReadableBytes()) {
+                throw new DecodeException(String.format(
+                    "Encoded map key length %d is greater than the amount of data available (%d)",
+                    keyLength, buffer.getReadableBytes()));
+            }
+
+            keyOffsets[i] = keyOffset - start;
+            keyDataOffsets[i] = buffer.getReadOffset() - start;
+            keyDataLengths[i] = keyLength;
+
+            buffer.advanceReadOffset(keyLength);
+
+            valueOffsets[i] = buffer.getReadOffset() - start;
+
+            state.getDecoder().readNextTypeDecoder(buffer, state).skipValue(buffer, state);
+        }
+
+        // Use a heap buffer to avoid retaining any pooled buffers for prolonged periods of time.
+        final int length = buffer.getReadOffset() - start;
+        final ProtonBuffer encoded = ProtonBufferAllocator.defaultAllocator().allocateHeapBuffer(length);
+
+        buffer.copyInto(start, encoded, 0, length);
+        encoded.advanceWriteOffset(length).convertToReadOnly();
+
+        return new ProtonEncodedMapView<>(keyType, state.getDecoder(), encoded, entries, keyOffsets, keyDataOffsets, keyDataLengths, valueOffsets);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        final int entry = indexOf(key);
+
+        return entry < 0 ? null : valueAt(entry);
+    }
+
+    @Override
+    public Set<Map.Entry<K, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+
+        return entrySet;
+    }
+
+    //----- Internal implementation
+
+    private int indexOf(Object key) {
+        final byte[] keyBytes;
+
+        if (key instanceof String && String.class.equals(keyType)) {
+            keyBytes = isASCII((String) key) ? null : ((String) key).getBytes(StandardCharsets.UTF_8);
+        } else if (key instanceof Symbol && Symbol.class.equals(keyType)) {
+            keyBytes = null;
+            key = key.toString();
+        } else {
+            return -1;
+        }
+
+        final String keyString = (String) key;
+        final int keyHash = keyBytes == null ? hash(keyString) : hash(keyBytes);
+
+        int slot = keyHash & (index.length - 1);
+
+        for (int entry = index[slot]; entry != 0; entry = index[slot]) {
+            if (keyBytes == null ? matches(entry - 1, keyString) : matches(entry - 1, keyBytes)) {
+                return entry - 1;
+            }
+
+            slot = (slot + 1) & (index.length - 1);
+        }
+
+        return -1;
+    }
+
+    private boolean matches(int entry, String key) {
+        final int length = keyDataLengths[entry];
+
+        if (length != key.length()) {
+            return false;
+        }
+
+        final int keyStart = keyDataOffsets[entry];
+        for (int i = 0; i < length; ++i) {
+            if (encoded.getByte(keyStart + i) != key.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean matches(int entry, byte[] key) {
+        final int length = keyDataLengths[entry];
+
+        if (length != key.length) {
+            return false;
+        }
+
+        final int keyStart = keyDataOffsets[entry];
+        for (int i = 0; i < length; ++i) {
+            if (encoded.getByte(keyStart + i) != key[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized K keyAt(int entry) {
+        if (keys == null) {
+            keys = new Object[size];
+        }
+
+        Object key = keys[entry];
+
+        if (key == null) {
+            encoded.setReadOffset(keyOffsets[entry]);
+            if (String.class.equals(keyType)) {
+                key = decoder.readString(encoded, decoderState());
+            } else {
+                key = decoder.readSymbol(encoded, decoderState());
+            }
+
+            keys[entry] = key;
+        }
+
+        return (K) key;
+    }
+
+    private synchronized Object valueAt(int entry) {
+        if (values == null) {
+            values = new Object[size];
+            Arrays.fill(values, UNDECODED);
+        }
+
+        Object value = values[entry];
+
+        if (value == UNDECODED) {
+            encoded.setReadOffset(valueOffsets[entry]);
+            value = decoder.readObject(encoded, decoderState());
+            values[entry] = value;
+        }
+
+        return value;
+    }
+
+    private DecoderState decoderState() {
+        if (valueState == null) {
+            valueState = decoder.newDecoderState();
+        }
+
+        return valueState;
+    }
+
+    private static boolean isASCII(String value) {
+        for (int i = 0; i < value.length(); ++i) {
+            if (value.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static int hash(ProtonBuffer buffer, int offset, int length) {
+        int hash = 1;
+        for (int i = 0; i < length; ++i) {
+            hash = 31 * hash + buffer.getByte(offset + i);
+        }
+
+        return mix(hash);
+    }
+
+    private static int hash(String value) {
+        int hash = 1;
+        for (int i = 0; i < value.length(); ++i) {
+            hash = 31 * hash + value.charAt(i);
+        }
+
+        return mix(hash);
+    }
+
+    private static int hash(byte[] value) {
+        int hash = 1;
+        for (int i = 0; i < value.length; ++i) {
+            hash = 31 * hash + value[i];
+        }
+
+        return mix(hash);
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<K, Object>> {
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Iterator<Map.Entry<K, Object>> iterator() {
+            return new Iterator<Map.Entry<K, Object>>() {
+
+                private int next;
+
+                @Override
+                public boolean hasNext() {
+                    return next < size;
+                }
+
+                @Override
+                public Map.Entry<K, Object> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+
+                    return new ViewEntry(next++);
+                }
+            };
+        }
+    }
+
+    private final class ViewEntry implements Map.Entry<K, Object> {
+
+        private final int entry;
+
+        ViewEntry(int entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public K getKey() {
+            return keyAt(entry);
+        }
+
+        @Override
+        public Object getValue() {
+            return valueAt(entry);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            throw new UnsupportedOperationException("Encoded map view is read-only");
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Map.Entry)) {
+                return false;
+            }
+
+            final Map.Entry<?, ?> entry = (Map.Entry<?, ?>) other;
+
+            return getKey().equals(entry.getKey()) && Objects.equals(getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return getKey().hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
@@ -0,0 +1,322 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.codec.decoders;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+import org.apache.qpid.protonj2.codec.DecodeEOFException;
+import org.apache.qpid.protonj2.codec.DecodeException;
+import org.apache.qpid.protonj2.codec.StreamDecoder;
+
+/**
+ * An {@link InputStream} that reads ahead from a source stream in bulk chunks so that the
+ * {@link StreamDecoder} can read encoding codes, primitive values and string content from an
+ * internal array instead of making a {@link InputStream#read()} call for each byte.  Mark and
+ * reset are supported by retaining the bytes read since the mark which allows the decoder to
+ * peek at the next type without requiring the source stream to support marks.  Beyond what a
+ * read requires only the bytes the source reports as {@link InputStream#available()} are read
+ * ahead so a stream over a delivery that is still arriving does not block awaiting more data.
+ * <p>
+ * Because bytes are read from the source before they are needed all subsequent reads must be
+ * made through this stream and not the source stream.  This stream is not thread safe.
+ */
+public final class ProtonReadAheadInputStream extends InputStream {
+
+    /**
+     * Default size of the buffer that holds bytes read ahead from the source stream.
+     */
+    public static final int DEFAULT_READ_AHEAD_SIZE = 8192;
+
+    private static final VarHandle SHORT_VIEW = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT_VIEW = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    private final InputStream source;
+
+    private byte[] buffer;
+    private int position;
+    private int limit;
+    private int markPosition = -1;
+    private int markLimit;
+
+    /**
+     * Creates a new read ahead stream using the default read ahead size.
+     *
+     * @param source
+     * 		The {@link InputStream} that bytes are read from.
+     */
+    public ProtonReadAheadInputStream(InputStream source) {
+        this(source, DEFAULT_READ_AHEAD_SIZE);
+    }
+
+    /**
+     * Creates a new read ahead stream using the given read ahead size.
+     *
+     * @param source
+     * 		The {@link InputStream} that bytes are read from.
+     * @param readAheadSize
+     * 		The initial size of the read ahead buffer.
+     */
+    public ProtonReadAheadInputStream(InputStream source, int readAheadSize) {
+        Objects.requireNonNull(source, "The source stream cannot be null");
+
+        if (readAheadSize <= 0) {
+            throw new IllegalArgumentException("Read ahead size must be greater than zero: " + readAheadSize);
+        }
+
+        this.source = source;
+        this.buffer = new byte[readAheadSize];
+    }
+
+    /**
+     * Returns the given stream if it is already a {@link ProtonReadAheadInputStream} or otherwise
+     * a new {@link ProtonReadAheadInputStream} that reads from the given stream.
+     *
+     * @param source
+     * 		The {@link InputStream} that bytes are read from.
+     *
+     * @return a {@link ProtonReadAheadInputStream} that reads from the given stream.
+     */
+    public static ProtonReadAheadInputStream wrap(InputStream source) {
+        if (source instanceof ProtonReadAheadInputStream) {
+            return (ProtonReadAheadInputStream) source;
+        } else {
+            return new ProtonReadAheadInputStream(source);
+        }
+    }
+
+    /**
+     * @return the number of bytes that have been read from the source stream but not yet consumed.
+     */
+    public int getBufferedBytes() {
+        return limit - position;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (position == limit && fill(1) == 0) {
+            return -1;
+        }
+
+        return buffer[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] target, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, target.length);
+
+        if (length == 0) {
+            return 0;
+        }
+
+        int buffered = limit - position;
+        if (buffered == 0) {
+            // Large reads bypass the buffer entirely unless the bytes must be retained for a reset
+            if (length >= buffer.length && markPosition < 0) {
+                return source.read(target, offset, length);
+            }
+
+            if ((buffered = fill(1)) == 0) {
+                return -1;
+            }
+        }
+
+        final int count = Math.min(buffered, length);
+
+        System.arraycopy(buffer, position, target, offset, count);
+        position += count;
+
+        return count;
+    }
+
+    @Override
+    public long skip(long amount) throws IOException {
+        if (amount <= 0) {
+            return 0;
+        }
+
+        int buffered = limit - position;
+        if (buffered == 0) {
+            if (markPosition < 0) {
+                return source.skip(amount);
+            }
+
+            if ((buffered = fill(1)) == 0) {
+                return 0;
+            }
+        }
+
+        final int count = (int) Math.min(buffered, amount);
+
+        position += count;
+
+        return count;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return (limit - position) + source.available();
+    }
+
+    @Override
+    public void mark(int readLimit) {
+        markPosition = position;
+        markLimit = readLimit;
+    }
+
+    @Override
+    public void reset() throws IOException {
+        if (markPosition < 0) {
+            throw new IOException("Cannot reset a stream that has not been marked or whose mark was invalidated");
+        }
+
+        position = markPosition;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        position = limit = 0;
+        markPosition = -1;
+        source.close();
+    }
+
+    //----- Bulk access used by the stream decoder
+
+    byte readEncodingCode() throws DecodeException {
+        if (!request(Byte.BYTES)) {
+            throw new DecodeEOFException("Cannot read more type information from stream that has reached its end.");
+        }
+
+        return buffer[position++];
+    }
+
+    byte readByteValue() throws DecodeException {
+        require(Byte.BYTES);
+        return buffer[position++];
+    }
+
+    short readShortValue() throws DecodeException {
+        require(Short.BYTES);
+        final short result = (short) SHORT_VIEW.get(buffer, position);
+        position += Short.BYTES;
+        return result;
+    }
+
+    int readIntValue() throws DecodeException {
+        require(Integer.BYTES);
+        final int result = (int) INT_VIEW.get(buffer, position);
+        position += Integer.BYTES;
+        return result;
+    }
+
+    long readLongValue() throws DecodeException {
+        require(Long.BYTES);
+        final long result = (long) LONG_VIEW.get(buffer, position);
+        position += Long.BYTES;
+        return result;
+    }
+
+    /**
+     * Ensures that the given number of bytes are buffered contiguously, the bytes can then be read
+     * from the {@link #array()} starting at {@link #arrayOffset()} and consumed with {@link #advance(int)}.
+     *
+     * @param length
+     * 		The number of bytes that must be buffered.
+     *
+     * @throws DecodeException if an IO error occurs or the source stream ends before enough bytes are read.
+     */
+    void require(int length) throws DecodeException {
+        if (!request(length)) {
+            throw new DecodeException("Unexpectedly reached the end of the provided stream");
+        }
+    }
+
+    byte[] array() {
+        return buffer;
+    }
+
+    int arrayOffset() {
+        return position;
+    }
+
+    void advance(int amount) {
+        position += amount;
+    }
+
+    private boolean request(int length) throws DecodeException {
+        if (limit - position >= length) {
+            return true;
+        }
+
+        try {
+            return fill(length) >= length;
+        } catch (IOException ex) {
+            throw new DecodeException("Caught IO error reading from provided stream", ex);
+        }
+    }
+
+    private int fill(int required) throws IOException {
+        if (markPosition >= 0 && position - markPosition > markLimit) {
+            markPosition = -1;
+        }
+
+        if (position == limit && markPosition < 0) {
+            position = limit = 0;
+        }
+
+        if (buffer.length - position < required) {
+            final int retainFrom = markPosition >= 0 ? markPosition : position;
+            final int capacity = position - retainFrom + required;
+            final byte[] target = capacity > buffer.length ? new byte[Math.max(capacity, buffer.length << 1)] : buffer;
+
+            System.arraycopy(buffer, retainFrom, target, 0, limit - retainFrom);
+
+            buffer = target;
+            position -= retainFrom;
+            limit -= retainFrom;
+            if (markPosition >= 0) {
+                markPosition = 0;
+            }
+        }
+
+        // Only read ahead what the source reports as available without blocking so that a source
+        // whose bulk reads wait for the full requested length is never asked for more than needed.
+        int readAhead = Math.max(required - (limit - position), Math.min(source.available(), buffer.length - limit));
+
+        while (readAhead > 0) {
+            final int read = source.read(buffer, limit, readAhead);
+            if (read < 0) {
+                break;
+            }
+
+            limit += read;
+            readAhead -= read;
+        }
+
+        return limit - position;
+    }
+}
@@ -27,6 +27,7 @@ import java.util.UUID;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.codec.DecodeException;
+import org.apache.qpid.protonj2.codec.DecoderCursor;
 import org.apache.qpid.protonj2.codec.EncodingCodes;
 import org.apache.qpid.protonj2.codec.StreamDecoder;
 import org.apache.qpid.protonj2.codec.StreamDecoderState;
@@ -146,6 +147,8 @@ public final class ProtonStreamDecoder implements StreamDecoder {
         map32Decoder = (Map32TypeDecoder) primitiveDecoders[EncodingCodes.MAP32 & 0xFF];
         string32Decoder = (String32TypeDecoder) primitiveDecoders[EncodingCodes.STR32 & 0xFF];
         string8Decoder = (String8TypeDecoder) primitiveDecoders[EncodingCodes.STR8 & 0xFF];
+        array8Decoder = (Array8TypeDecoder) primitiveDecoders[EncodingCodes.ARRAY8 & 0xFF];
+        array32Decoder = (Array32TypeDecoder) primitiveDecoders[EncodingCodes.ARRAY32 & 0xFF];
     }
 
     // Registry of decoders for described types which can be updated with user defined
@@ -168,6 +171,8 @@ public final class ProtonStreamDecoder implements StreamDecoder {
     private static final Map32TypeDecoder map32Decoder;
     private static final String8TypeDecoder string8Decoder;
     private static final String32TypeDecoder string32Decoder;
+    private static final Array8TypeDecoder array8Decoder;
+    private static final Array32TypeDecoder array32Decoder;
 
     @Override
     public ProtonStreamDecoderState newDecoderState() {
@@ -236,50 +241,40 @@ public final class ProtonStreamDecoder implements StreamDecoder {
         final byte encodingCode = ProtonStreamUtils.readEncodingCode(stream);
 
         if (encodingCode == EncodingCodes.DESCRIBED_TYPE_INDICATOR) {
-            if (stream.markSupported()) {
-                stream.mark(STREAM_PEEK_MARK_LIMIT);
-                try {
-                    final long result = readUnsignedLong(stream, state, amqpTypeDecoders.length);
-
-                    if (result > 0 && result < amqpTypeDecoders.length && amqpTypeDecoders[(int) result] != null) {
-                        return amqpTypeDecoders[(int) result];
-                    } else {
-                        ProtonStreamUtils.reset(stream);
-                        return slowReadNextTypeDecoder(stream, state);
-                    }
-                } catch (Exception e) {
-                    ProtonStreamUtils.reset(stream);
-                    return slowReadNextTypeDecoder(stream, state);
-                }
-            } else {
-                return slowReadNextTypeDecoder(stream, state);
-            }
+            return readDescribedTypeDecoder(stream, state);
         } else {
             return primitiveDecoders[encodingCode & 0xff];
         }
     }
 
-    private StreamTypeDecoder<?> slowReadNextTypeDecoder(InputStream stream, StreamDecoderState state) throws DecodeException {
+    private StreamTypeDecoder<?> readDescribedTypeDecoder(InputStream stream, StreamDecoderState state) throws DecodeException {
+        // The descriptor encoding is read directly rather than using a stream mark to retry
+        // a failed lookup which would clobber any mark the caller has set to peek the type.
         final byte encodingCode = ProtonStreamUtils.readEncodingCode(stream);
-        final Object descriptor;
 
         switch (encodingCode) {
             case EncodingCodes.SMALLULONG:
-                descriptor = UnsignedLong.valueOf(ProtonStreamUtils.readByte(stream) & 0xffl);
-                break;
+                return lookupDescribedTypeDecoder(ProtonStreamUtils.readByte(stream) & 0xffl);
             case EncodingCodes.ULONG:
-                descriptor = UnsignedLong.valueOf(ProtonStreamUtils.readLong(stream));
-                break;
+                return lookupDescribedTypeDecoder(ProtonStreamUtils.readLong(stream));
             case EncodingCodes.SYM8:
-                descriptor = symbol8Decoder.readValue(stream, state);
-                break;
+                return lookupDescribedTypeDecoder(symbol8Decoder.readValue(stream, state));
             case EncodingCodes.SYM32:
-                descriptor = symbol32Decoder.readValue(stream, state);
-                break;
+                return lookupDescribedTypeDecoder(symbol32Decoder.readValue(stream, state));
             default:
                 throw new DecodeException("Expected Descriptor type but found encoding: " + EncodingCodes.toString(encodingCode));
         }
+    }
+
+    private StreamTypeDecoder<?> lookupDescribedTypeDecoder(long descriptorCode) {
+        if (descriptorCode > 0 && descriptorCode < amqpTypeDecoders.length && amqpTypeDecoders[(int) descriptorCode] != null) {
+            return amqpTypeDecoders[(int) descriptorCode];
+        } else {
+            return lookupDescribedTypeDecoder(UnsignedLong.valueOf(descriptorCode));
+        }
+    }
 
+    StreamTypeDecoder<?> lookupDescribedTypeDecoder(Object descriptor) {
         StreamTypeDecoder<?> streamTypeDecoder = describedTypeDecoders.get(descriptor);
         if (streamTypeDecoder == null) {
             streamTypeDecoder = handleUnknownDescribedType(descriptor);
@@ -288,6 +283,15 @@ public final class ProtonStreamDecoder implements StreamDecoder {
         return streamTypeDecoder;
     }
 
+    @Override
+    public DecoderCursor newCursor(InputStream stream, StreamDecoderState state) {
+        return new ProtonStreamDecoderCursor(this, stream, state);
+    }
+
+    PrimitiveTypeDecoder<?> lookupPrimitiveTypeDecoder(int encodingCode) {
+        return primitiveDecoders[encodingCode & 0xff];
+    }
+
     @Override
     public StreamTypeDecoder<?> peekNextTypeDecoder(InputStream stream, StreamDecoderState state) throws DecodeException {
         if (stream.markSupported()) {
@@ -645,7 +649,7 @@ public final class ProtonStreamDecoder implements StreamDecoder {
 
         switch (encodingCode) {
             case EncodingCodes.SMALLLONG:
-                return Long.valueOf(ProtonStreamUtils.readByte(stream) & 0xffl);
+                return Long.valueOf(ProtonStreamUtils.readByte(stream));
             case EncodingCodes.LONG:
                 return ProtonStreamUtils.readLong(stream);
             case EncodingCodes.NULL:
@@ -661,7 +665,7 @@ public final class ProtonStreamDecoder implements StreamDecoder {
 
         switch (encodingCode) {
             case EncodingCodes.SMALLLONG:
-                return ProtonStreamUtils.readByte(stream) & 0xffl;
+                return (long) ProtonStreamUtils.readByte(stream);
             case EncodingCodes.LONG:
                 return ProtonStreamUtils.readLong(stream);
             case EncodingCodes.NULL:
@@ -901,6 +905,70 @@ public final class ProtonStreamDecoder implements StreamDecoder {
         }
     }
 
+    @Override
+    public int[] readIntArray(InputStream stream, StreamDecoderState state) throws DecodeException {
+        final byte encodingCode = ProtonStreamUtils.readEncodingCode(stream);
+
+        switch (encodingCode) {
+            case EncodingCodes.ARRAY8:
+                return array8Decoder.readIntArray(stream, state);
+            case EncodingCodes.ARRAY32:
+                return array32Decoder.readIntArray(stream, state);
+            case EncodingCodes.NULL:
+                return null;
+            default:
+                throw new DecodeException("Expected Array type but found encoding: " + EncodingCodes.toString(encodingCode));
+        }
+    }
+
+    @Override
+    public long[] readLongArray(InputStream stream, StreamDecoderState state) throws DecodeException {
+        final byte encodingCode = ProtonStreamUtils.readEncodingCode(stream);
+
+        switch (encodingCode) {
+            case EncodingCodes.ARRAY8:
+                return array8Decoder.readLongArray(stream, state);
+            case EncodingCodes.ARRAY32:
+                return array32Decoder.readLongArray(stream, state);
+            case EncodingCodes.NULL:
+                return null;
+            default:
+                throw new DecodeException("Expected Array type but found encoding: " + EncodingCodes.toString(encodingCode));
+        }
+    }
+
+    @Override
+    public double[] readDoubleArray(InputStream stream, StreamDecoderState state) throws DecodeException {
+        final byte encodingCode = ProtonStreamUtils.readEncodingCode(stream);
+
+        switch (encodingCode) {
+            case EncodingCodes.ARRAY8:
+                return array8Decoder.readDoubleArray(stream, state);
+            case EncodingCodes.ARRAY32:
+                return array32Decoder.readDoubleArray(stream, state);
+            case EncodingCodes.NULL:
+                return null;
+            default:
+                throw new DecodeException("Expected Array type but found encoding: " + EncodingCodes.toString(encodingCode));
+        }
+    }
+
+    @Override
+    public UUID[] readUUIDArray(InputStream stream, StreamDecoderState state) throws DecodeException {
+        final byte encodingCode = ProtonStreamUtils.readEncodingCode(stream);
+
+        switch (encodingCode) {
+            case EncodingCodes.ARRAY8:
+                return array8Decoder.readUUIDArray(stream, state);
+            case EncodingCodes.ARRAY32:
+                return array32Decoder.readUUIDArray(stream, state);
+            case EncodingCodes.NULL:
+                return null;
+            default:
+                throw new DecodeException("Expected Array type but found encoding: " + EncodingCodes.toString(encodingCode));
+        }
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <K, V> Map<K, V> readMap(InputStream stream, StreamDecoderState state) throws DecodeException {
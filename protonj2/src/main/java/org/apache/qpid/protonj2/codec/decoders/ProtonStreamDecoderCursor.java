@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.codec.decoders;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apache.qpid.protonj2.codec.DecodeException;
+import org.apache.qpid.protonj2.codec.DecoderCursor;
+import org.apache.qpid.protonj2.codec.StreamDecoderState;
+import org.apache.qpid.protonj2.codec.decoders.primitives.BooleanFalseTypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.primitives.BooleanTrueTypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.primitives.BooleanTypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.primitives.Integer32TypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.primitives.Integer8TypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.primitives.ListTypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.primitives.Long8TypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.primitives.LongTypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.primitives.MapTypeDecoder;
+
+/**
+ * {@link DecoderCursor} that reads the encoded AMQP types from an {@link InputStream}, the
+ * cursor reads until the stream reports that it has reached its end.
+ */
+final class ProtonStreamDecoderCursor extends AbstractDecoderCursor {
+
+    private final ProtonStreamDecoder decoder;
+    private final InputStream stream;
+    private final StreamDecoderState state;
+
+    ProtonStreamDecoderCursor(ProtonStreamDecoder decoder, InputStream stream, StreamDecoderState state) {
+        this.decoder = decoder;
+        this.stream = stream;
+        this.state = state;
+    }
+
+    @Override
+    protected int readNextEncodingCode() throws DecodeException {
+        try {
+            return stream.read();
+        } catch (IOException ex) {
+            throw new DecodeException("Caught IO error reading from provided stream", ex);
+        }
+    }
+
+    @Override
+    protected byte readEncodingCode() throws DecodeException {
+        return ProtonStreamUtils.readEncodingCode(stream);
+    }
+
+    @Override
+    protected Object readDescriptor() throws DecodeException {
+        return decoder.readObject(stream, state);
+    }
+
+    @Override
+    protected PrimitiveTypeDecoder<?> lookupPrimitiveTypeDecoder(int encodingCode) {
+        return decoder.lookupPrimitiveTypeDecoder(encodingCode);
+    }
+
+    @Override
+    protected Class<?> getDescribedTypeClass(Object descriptor) {
+        return decoder.lookupDescribedTypeDecoder(descriptor).getTypeClass();
+    }
+
+    @Override
+    protected Object readDescribedValue(Object descriptor) throws DecodeException {
+        return decoder.lookupDescribedTypeDecoder(descriptor).readValue(stream, state);
+    }
+
+    @Override
+    protected int readSize(PrimitiveTypeDecoder<?> typeDecoder) throws DecodeException {
+        return typeDecoder.readSize(stream, state);
+    }
+
+    @Override
+    protected int readCount(ListTypeDecoder typeDecoder) throws DecodeException {
+        return typeDecoder.readCount(stream, state);
+    }
+
+    @Override
+    protected int readCount(MapTypeDecoder typeDecoder) throws DecodeException {
+        return typeDecoder.readCount(stream, state);
+    }
+
+    @Override
+    protected int readCount(PrimitiveArrayTypeDecoder typeDecoder) throws DecodeException {
+        return typeDecoder.readCount(stream, state);
+    }
+
+    @Override
+    protected Object readValue(PrimitiveTypeDecoder<?> typeDecoder) throws DecodeException {
+        return typeDecoder.readValue(stream, state);
+    }
+
+    @Override
+    protected void skipValue(PrimitiveTypeDecoder<?> typeDecoder) throws DecodeException {
+        typeDecoder.skipValue(stream, state);
+    }
+
+    @Override
+    protected boolean readBooleanValue(PrimitiveTypeDecoder<?> typeDecoder) throws DecodeException {
+        if (typeDecoder instanceof BooleanTypeDecoder) {
+            return ((BooleanTypeDecoder) typeDecoder).readPrimitiveValue(stream, state);
+        } else if (typeDecoder instanceof BooleanTrueTypeDecoder) {
+            return ((BooleanTrueTypeDecoder) typeDecoder).readPrimitiveValue(stream, state);
+        } else {
+            return ((BooleanFalseTypeDecoder) typeDecoder).readPrimitiveValue(stream, state);
+        }
+    }
+
+    @Override
+    protected int readIntValue(PrimitiveTypeDecoder<?> typeDecoder) throws DecodeException {
+        if (typeDecoder instanceof Integer32TypeDecoder) {
+            return ((Integer32TypeDecoder) typeDecoder).readPrimitiveValue(stream, state);
+        } else {
+            return ((Integer8TypeDecoder) typeDecoder).readPrimitiveValue(stream, state);
+        }
+    }
+
+    @Override
+    protected long readLongValue(PrimitiveTypeDecoder<?> typeDecoder) throws DecodeException {
+        if (typeDecoder instanceof LongTypeDecoder) {
+            return ((LongTypeDecoder) typeDecoder).readPrimitiveValue(stream, state);
+        } else {
+            return ((Long8TypeDecoder) typeDecoder).readPrimitiveValue(stream, state);
+        }
+    }
+}
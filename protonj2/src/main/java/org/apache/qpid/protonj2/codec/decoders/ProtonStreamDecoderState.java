@@ -87,7 +87,9 @@ public final class ProtonStreamDecoderState implements StreamDecoderState {
     @Override
     public String decodeUTF8(InputStream stream, int length) throws DecodeException {
         try {
-            if (stringDecoder == null) {
+            if (stringDecoder == null && stream instanceof ProtonReadAheadInputStream) {
+                return internalDecode((ProtonReadAheadInputStream) stream, length, STRING_DECODER, decodeCache);
+            } else if (stringDecoder == null) {
                 return internalDecode(stream, length, STRING_DECODER, length > MAX_CHAR_BUFFER_CACHE_SIZE ? new char[length] : decodeCache);
             } else {
                 return stringDecoder.decodeUTF8(stream);
@@ -97,6 +99,37 @@ public final class ProtonStreamDecoderState implements StreamDecoderState {
         }
     }
 
+    private static String internalDecode(ProtonReadAheadInputStream stream, final int length, CharsetDecoder decoder, char[] scratch) throws IOException {
+        stream.require(length);
+
+        final byte[] array = stream.array();
+        final int offset = stream.arrayOffset();
+
+        try {
+            if (ProtonDecoderState.isASCII(array, offset, length)) {
+                return new String(array, offset, length, StandardCharsets.ISO_8859_1);
+            }
+
+            final CharBuffer out = CharBuffer.wrap(length > scratch.length ? new char[length] : scratch);
+            final ByteBuffer in = ByteBuffer.wrap(array, offset, length);
+
+            CoderResult cr = decoder.decode(in, out, true);
+            if (cr.isUnderflow()) {
+                cr = decoder.flush(out);
+            }
+            if (!cr.isUnderflow()) {
+                cr.throwException();
+            }
+
+            return out.flip().toString();
+        } catch (CharacterCodingException e) {
+            throw new DecodeException("Cannot parse encoded UTF8 String", e);
+        } finally {
+            decoder.reset();
+            stream.advance(length);
+        }
+    }
+
     private static String internalDecode(InputStream stream, final int length, CharsetDecoder decoder, char[] scratch) throws IOException {
         int offset;
         int lastRead = 0;
@@ -126,7 +159,10 @@ public final class ProtonStreamDecoderState implements StreamDecoderState {
         // remember to move the main buffer position to consume the data processed.
         final byte[] trailingBytes = new byte[length - offset];
         trailingBytes[0] = stoppageByte;
-        stream.read(trailingBytes, 1, trailingBytes.length - 1);
+        if (stream.readNBytes(trailingBytes, 1, trailingBytes.length - 1) < trailingBytes.length - 1) {
+            throw new EOFException("Reached end of stream before decoding the full String content");
+        }
+
         ByteBuffer byteBuffer = ByteBuffer.wrap(trailingBytes);
 
         try {
@@ -139,14 +139,11 @@ public abstract class ProtonStreamUtils {
                 return EMPTY_ARRAY;
             } else {
                 final byte[] payload = new byte[length];
+                final int read = stream.readNBytes(payload, 0, length);
 
-                // NOTE: In JDK 11 we could use stream.readNBytes(length) which would allow
-                //       the stream to more efficiently provide the resulting bytes possibly
-                //       without a memory copy.
-
-                if (stream.read(payload) < length) {
+                if (read < length) {
                     throw new DecodeException(String.format(
-                        "Failed to read requested number of bytes %d: instead only %d bytes were read.", length, payload.length));
+                        "Failed to read requested number of bytes %d: instead only %d bytes were read.", length, read));
                 }
 
                 return payload;
@@ -168,6 +165,10 @@ public abstract class ProtonStreamUtils {
      * @throws DecodeException if an error occurs during the read or EOF is reached.
      */
     public static byte readEncodingCode(InputStream stream) throws DecodeException {
+        if (stream instanceof ProtonReadAheadInputStream) {
+            return ((ProtonReadAheadInputStream) stream).readEncodingCode();
+        }
+
         try {
             int result = stream.read();
             if (result >= 0) {
@@ -192,6 +193,10 @@ public abstract class ProtonStreamUtils {
      * @throws DecodeException if an error occurs during the read or EOF is reached.
      */
     public static byte readByte(InputStream stream) throws DecodeException {
+        if (stream instanceof ProtonReadAheadInputStream) {
+            return ((ProtonReadAheadInputStream) stream).readByteValue();
+        }
+
         try {
             int result = stream.read();
             if (result >= 0) {
@@ -216,6 +221,10 @@ public abstract class ProtonStreamUtils {
      * @throws DecodeException if an error occurs during the read or EOF is reached.
      */
     public static short readShort(InputStream stream) {
+        if (stream instanceof ProtonReadAheadInputStream) {
+            return ((ProtonReadAheadInputStream) stream).readShortValue();
+        }
+
         return (short) ((readByte(stream) & 0xFF) << 8 |
                         (readByte(stream) & 0xFF) << 0);
     }
@@ -232,6 +241,10 @@ public abstract class ProtonStreamUtils {
      * @throws DecodeException if an error occurs during the read or EOF is reached.
      */
     public static int readInt(InputStream stream) {
+        if (stream instanceof ProtonReadAheadInputStream) {
+            return ((ProtonReadAheadInputStream) stream).readIntValue();
+        }
+
         return (readByte(stream) & 0xFF) << 24 |
                (readByte(stream) & 0xFF) << 16 |
                (readByte(stream) & 0xFF) << 8 |
@@ -250,6 +263,10 @@ public abstract class ProtonStreamUtils {
      * @throws DecodeException if an error occurs during the read or EOF is reached.
      */
     public static long readLong(InputStream stream) {
+        if (stream instanceof ProtonReadAheadInputStream) {
+            return ((ProtonReadAheadInputStream) stream).readLongValue();
+        }
+
         return (long) (readByte(stream) & 0xFF) << 56 |
                (long) (readByte(stream) & 0xFF) << 48 |
                (long) (readByte(stream) & 0xFF) << 40 |
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.codec.decoders;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.buffer.ProtonBufferUtils;
+
+/**
+ * A bounded cache of decoded {@link String} values keyed by their encoded UTF-8 bytes which
+ * allows a decoder to return a previously decoded instance when the same short string is seen
+ * again instead of creating a new copy.  The cache is a two way set associative table where the
+ * least recently used entry of a set is evicted, it is not thread safe and is intended to be owned
+ * by a single {@link ProtonDecoderState}.
+ */
+final class ProtonStringCache {
+
+    /**
+     * Encoded strings larger than this are never cached.
+     */
+    static final int MAX_CACHED_STRING_SIZE = 64;
+
+    private final int mask;
+    private final int[] hashes;
+    private final ProtonBuffer[] keys;
+    private final String[] values;
+
+    ProtonStringCache(int size) {
+        final int capacity = Math.max(2, Integer.highestOneBit(size - 1) << 1);
+
+        this.mask = capacity - 2;
+        this.hashes = new int[capacity];
+        this.keys = new ProtonBuffer[capacity];
+        this.values = new String[capacity];
+    }
+
+    /**
+     * @return the number of entries the cache can hold.
+     */
+    int capacity() {
+        return values.length;
+    }
+
+    /**
+     * Looks up a previously cached {@link String} whose encoding matches the given buffer region.
+     *
+     * @param hash
+     * 		The hash code of the buffer region as computed by {@link ProtonBufferUtils#hashCode(ProtonBuffer, int, int)}
+     * @param buffer
+     * 		The buffer that holds the encoded string bytes.
+     * @param offset
+     * 		The offset into the buffer where the encoded string starts.
+     * @param length
+     * 		The number of bytes in the encoded string.
+     *
+     * @return the cached {@link String} or null if there is no cached match.
+     */
+    String lookup(int hash, ProtonBuffer buffer, int offset, int length) {
+        final int index = tableIndex(hash);
+
+        if (matches(index, hash, buffer, offset, length)) {
+            return values[index];
+        }
+
+        if (matches(index + 1, hash, buffer, offset, length)) {
+            swap(index);
+            return values[index];
+        }
+
+        return null;
+    }
+
+    /**
+     * Caches the decoded {@link String} as the most recently used entry of its set evicting the
+     * least recently used entry.  The encoded bytes are copied from the given buffer.
+     *
+     * @param hash
+     * 		The hash code of the buffer region as computed by {@link ProtonBufferUtils#hashCode(ProtonBuffer, int, int)}
+     * @param buffer
+     * 		The buffer that holds the encoded string bytes.
+     * @param offset
+     * 		The offset into the buffer where the encoded string starts.
+     * @param length
+     * 		The number of bytes in the encoded string.
+     * @param value
+     * 		The decoded string value to cache.
+     */
+    void cache(int hash, ProtonBuffer buffer, int offset, int length, String value) {
+        final int index = tableIndex(hash);
+
+        hashes[index + 1] = hashes[index];
+        keys[index + 1] = keys[index];
+        values[index + 1] = values[index];
+
+        // Copy to a known heap based buffer to avoid issue with life-cycle of pooled buffer types.
+        final ProtonBuffer key = ProtonBufferAllocator.defaultAllocator().allocateHeapBuffer(length);
+
+        buffer.copyInto(offset, key, 0, length);
+        key.setWriteOffset(length);
+
+        hashes[index] = hash;
+        keys[index] = key;
+        values[index] = value;
+    }
+
+    private boolean matches(int index, int hash, ProtonBuffer buffer, int offset, int length) {
+        final ProtonBuffer key = keys[index];
+
+        return key != null && hashes[index] == hash && key.getReadableBytes() == length &&
+               ProtonBufferUtils.equals(key, 0, buffer, offset, length);
+    }
+
+    private void swap(int index) {
+        final int hash = hashes[index];
+        final ProtonBuffer key = keys[index];
+        final String value = values[index];
+
+        hashes[index] = hashes[index + 1];
+        keys[index] = keys[index + 1];
+        values[index] = values[index + 1];
+
+        hashes[index + 1] = hash;
+        keys[index + 1] = key;
+        values[index + 1] = value;
+    }
+
+    private int tableIndex(int hash) {
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
@@ -31,6 +31,8 @@ import org.apache.qpid.protonj2.codec.StreamDecoderState;
 import org.apache.qpid.protonj2.codec.StreamTypeDecoder;
 import org.apache.qpid.protonj2.codec.TypeDecoder;
 import org.apache.qpid.protonj2.codec.decoders.AbstractDescribedMapTypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.ProtonDecoderState;
+import org.apache.qpid.protonj2.codec.decoders.ProtonEncodedMapView;
 import org.apache.qpid.protonj2.codec.decoders.ProtonScanningContext;
 import org.apache.qpid.protonj2.codec.decoders.ScanningContext;
 import org.apache.qpid.protonj2.codec.decoders.StreamScanningContext;
@@ -67,7 +69,7 @@ public final class ApplicationPropertiesTypeDecoder extends AbstractDescribedMap
             return new ApplicationProperties(null);
         }
 
-        return new ApplicationProperties(readMap(buffer, state, checkIsExpectedTypeAndCast(MapTypeDecoder.class, decoder)));
+        return new ApplicationProperties(readMapView(buffer, state, checkIsExpectedTypeAndCast(MapTypeDecoder.class, decoder)));
     }
 
     @Override
@@ -90,6 +92,17 @@ public final class ApplicationPropertiesTypeDecoder extends AbstractDescribedMap
         return result;
     }
 
+    private Map<String, Object> readMapView(ProtonBuffer buffer, DecoderState state, MapTypeDecoder mapDecoder) throws DecodeException {
+        if (state instanceof ProtonDecoderState && ((ProtonDecoderState) state).isLazyMapSections()) {
+            final Map<String, Object> view = ProtonEncodedMapView.readMap(String.class, buffer, state, mapDecoder);
+            if (view != null) {
+                return view;
+            }
+        }
+
+        return readMap(buffer, state, mapDecoder);
+    }
+
     private Map<String, Object> readMap(ProtonBuffer buffer, DecoderState state, MapTypeDecoder mapDecoder) throws DecodeException {
         final int size = mapDecoder.readSize(buffer, state);
         final int count = mapDecoder.readCount(buffer, state);
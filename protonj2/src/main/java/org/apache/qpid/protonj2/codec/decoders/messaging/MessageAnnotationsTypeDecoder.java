@@ -29,6 +29,8 @@ import org.apache.qpid.protonj2.codec.StreamDecoderState;
 import org.apache.qpid.protonj2.codec.StreamTypeDecoder;
 import org.apache.qpid.protonj2.codec.TypeDecoder;
 import org.apache.qpid.protonj2.codec.decoders.AbstractDescribedMapTypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.ProtonDecoderState;
+import org.apache.qpid.protonj2.codec.decoders.ProtonEncodedMapView;
 import org.apache.qpid.protonj2.codec.decoders.ProtonScanningContext;
 import org.apache.qpid.protonj2.codec.decoders.ScanningContext;
 import org.apache.qpid.protonj2.codec.decoders.StreamScanningContext;
@@ -65,7 +67,7 @@ public final class MessageAnnotationsTypeDecoder extends AbstractDescribedMapTyp
             return new MessageAnnotations(null);
         }
 
-        return new MessageAnnotations(readMap(buffer, state, checkIsExpectedTypeAndCast(MapTypeDecoder.class, decoder)));
+        return new MessageAnnotations(readMapView(buffer, state, checkIsExpectedTypeAndCast(MapTypeDecoder.class, decoder)));
     }
 
     @Override
@@ -89,6 +91,17 @@ public final class MessageAnnotationsTypeDecoder extends AbstractDescribedMapTyp
         return result;
     }
 
+    private Map<Symbol, Object> readMapView(ProtonBuffer buffer, DecoderState state, MapTypeDecoder mapDecoder) throws DecodeException {
+        if (state instanceof ProtonDecoderState && ((ProtonDecoderState) state).isLazyMapSections()) {
+            final Map<Symbol, Object> view = ProtonEncodedMapView.readMap(Symbol.class, buffer, state, mapDecoder);
+            if (view != null) {
+                return view;
+            }
+        }
+
+        return readMap(buffer, state, mapDecoder);
+    }
+
     private Map<Symbol, Object> readMap(ProtonBuffer buffer, DecoderState state, MapTypeDecoder mapDecoder) throws DecodeException {
         final int size = mapDecoder.readSize(buffer, state);
         final int count = mapDecoder.readCount(buffer, state);
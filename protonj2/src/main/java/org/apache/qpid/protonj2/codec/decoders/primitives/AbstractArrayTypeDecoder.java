@@ -17,6 +17,7 @@
 package org.apache.qpid.protonj2.codec.decoders.primitives;
 
 import java.io.InputStream;
+import java.util.UUID;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.codec.DecodeException;
@@ -50,6 +51,301 @@ public abstract class AbstractArrayTypeDecoder extends AbstractPrimitiveTypeDeco
 
     @Override
     public Object readValue(ProtonBuffer buffer, DecoderState state) throws DecodeException {
+        return decodeArray(buffer, state, readArrayHeader(buffer, state));
+    }
+
+    @Override
+    public Object readValue(InputStream stream, StreamDecoderState state) throws DecodeException {
+        readSize(stream, state);
+
+        return decodeAsObject(stream, state, readCount(stream, state));
+    }
+
+    @Override
+    public void skipValue(ProtonBuffer buffer, DecoderState state) throws DecodeException {
+        buffer.advanceReadOffset(readSize(buffer, state));
+    }
+
+    @Override
+    public void skipValue(InputStream stream, StreamDecoderState state) throws DecodeException {
+        ProtonStreamUtils.skipBytes(stream, readSize(stream, state));
+    }
+
+    /**
+     * Reads the encoded array into an int array without boxing the elements, the array elements
+     * must be encoded as AMQP int values.
+     *
+     * @param buffer
+     * 		The buffer to read the array from.
+     * @param state
+     * 		The {@link DecoderState} that can be used when decoding.
+     *
+     * @return a new int array containing the decoded array elements.
+     *
+     * @throws DecodeException if the array elements are not AMQP int values or the array is malformed.
+     */
+    public int[] readIntArray(ProtonBuffer buffer, DecoderState state) throws DecodeException {
+        final int count = readArrayHeader(buffer, state);
+        final byte elementCode = readElementEncodingCode(buffer);
+
+        if (elementCode == EncodingCodes.INT) {
+            checkElementsAvailable(buffer, count, Integer.BYTES);
+
+            final int[] array = new int[count];
+            for (int i = 0; i < count; i++) {
+                array[i] = buffer.readInt();
+            }
+
+            return array;
+        } else if (elementCode == EncodingCodes.SMALLINT) {
+            checkElementsAvailable(buffer, count, Byte.BYTES);
+
+            final int[] array = new int[count];
+            for (int i = 0; i < count; i++) {
+                array[i] = buffer.readByte();
+            }
+
+            return array;
+        } else {
+            throw unexpectedElementEncoding("int", elementCode);
+        }
+    }
+
+    /**
+     * Reads the encoded array into a long array without boxing the elements, the array elements
+     * must be encoded as AMQP long values.
+     *
+     * @param buffer
+     * 		The buffer to read the array from.
+     * @param state
+     * 		The {@link DecoderState} that can be used when decoding.
+     *
+     * @return a new long array containing the decoded array elements.
+     *
+     * @throws DecodeException if the array elements are not AMQP long values or the array is malformed.
+     */
+    public long[] readLongArray(ProtonBuffer buffer, DecoderState state) throws DecodeException {
+        final int count = readArrayHeader(buffer, state);
+        final byte elementCode = readElementEncodingCode(buffer);
+
+        if (elementCode == EncodingCodes.LONG) {
+            checkElementsAvailable(buffer, count, Long.BYTES);
+
+            final long[] array = new long[count];
+            for (int i = 0; i < count; i++) {
+                array[i] = buffer.readLong();
+            }
+
+            return array;
+        } else if (elementCode == EncodingCodes.SMALLLONG) {
+            checkElementsAvailable(buffer, count, Byte.BYTES);
+
+            final long[] array = new long[count];
+            for (int i = 0; i < count; i++) {
+                array[i] = buffer.readByte();
+            }
+
+            return array;
+        } else {
+            throw unexpectedElementEncoding("long", elementCode);
+        }
+    }
+
+    /**
+     * Reads the encoded array into a double array without boxing the elements, the array elements
+     * must be encoded as AMQP double values.
+     *
+     * @param buffer
+     * 		The buffer to read the array from.
+     * @param state
+     * 		The {@link DecoderState} that can be used when decoding.
+     *
+     * @return a new double array containing the decoded array elements.
+     *
+     * @throws DecodeException if the array elements are not AMQP double values or the array is malformed.
+     */
+    public double[] readDoubleArray(ProtonBuffer buffer, DecoderState state) throws DecodeException {
+        final int count = readArrayHeader(buffer, state);
+        final byte elementCode = readElementEncodingCode(buffer);
+
+        if (elementCode == EncodingCodes.DOUBLE) {
+            checkElementsAvailable(buffer, count, Double.BYTES);
+
+            final double[] array = new double[count];
+            for (int i = 0; i < count; i++) {
+                array[i] = buffer.readDouble();
+            }
+
+            return array;
+        } else {
+            throw unexpectedElementEncoding("double", elementCode);
+        }
+    }
+
+    /**
+     * Reads the encoded array into a {@link UUID} array, the array elements must be encoded as
+     * AMQP uuid values.
+     *
+     * @param buffer
+     * 		The buffer to read the array from.
+     * @param state
+     * 		The {@link DecoderState} that can be used when decoding.
+     *
+     * @return a new {@link UUID} array containing the decoded array elements.
+     *
+     * @throws DecodeException if the array elements are not AMQP uuid values or the array is malformed.
+     */
+    public UUID[] readUUIDArray(ProtonBuffer buffer, DecoderState state) throws DecodeException {
+        final int count = readArrayHeader(buffer, state);
+        final byte elementCode = readElementEncodingCode(buffer);
+
+        if (elementCode == EncodingCodes.UUID) {
+            checkElementsAvailable(buffer, count, Long.BYTES * 2);
+
+            final UUID[] array = new UUID[count];
+            for (int i = 0; i < count; i++) {
+                array[i] = new UUID(buffer.readLong(), buffer.readLong());
+            }
+
+            return array;
+        } else {
+            throw unexpectedElementEncoding("uuid", elementCode);
+        }
+    }
+
+    /**
+     * Reads the encoded array into an int array without boxing the elements, the array elements
+     * must be encoded as AMQP int values.
+     *
+     * @param stream
+     * 		The stream to read the array from.
+     * @param state
+     * 		The {@link StreamDecoderState} that can be used when decoding.
+     *
+     * @return a new int array containing the decoded array elements.
+     *
+     * @throws DecodeException if the array elements are not AMQP int values or the array is malformed.
+     */
+    public int[] readIntArray(InputStream stream, StreamDecoderState state) throws DecodeException {
+        readSize(stream, state);
+
+        final int count = readCount(stream, state);
+        final byte elementCode = ProtonStreamUtils.readEncodingCode(stream);
+        final int[] array = new int[count];
+
+        if (elementCode == EncodingCodes.INT) {
+            for (int i = 0; i < count; i++) {
+                array[i] = ProtonStreamUtils.readInt(stream);
+            }
+        } else if (elementCode == EncodingCodes.SMALLINT) {
+            for (int i = 0; i < count; i++) {
+                array[i] = ProtonStreamUtils.readByte(stream);
+            }
+        } else {
+            throw unexpectedElementEncoding("int", elementCode);
+        }
+
+        return array;
+    }
+
+    /**
+     * Reads the encoded array into a long array without boxing the elements, the array elements
+     * must be encoded as AMQP long values.
+     *
+     * @param stream
+     * 		The stream to read the array from.
+     * @param state
+     * 		The {@link StreamDecoderState} that can be used when decoding.
+     *
+     * @return a new long array containing the decoded array elements.
+     *
+     * @throws DecodeException if the array elements are not AMQP long values or the array is malformed.
+     */
+    public long[] readLongArray(InputStream stream, StreamDecoderState state) throws DecodeException {
+        readSize(stream, state);
+
+        final int count = readCount(stream, state);
+        final byte elementCode = ProtonStreamUtils.readEncodingCode(stream);
+        final long[] array = new long[count];
+
+        if (elementCode == EncodingCodes.LONG) {
+            for (int i = 0; i < count; i++) {
+                array[i] = ProtonStreamUtils.readLong(stream);
+            }
+        } else if (elementCode == EncodingCodes.SMALLLONG) {
+            for (int i = 0; i < count; i++) {
+                array[i] = ProtonStreamUtils.readByte(stream);
+            }
+        } else {
+            throw unexpectedElementEncoding("long", elementCode);
+        }
+
+        return array;
+    }
+
+    /**
+     * Reads the encoded array into a double array without boxing the elements, the array elements
+     * must be encoded as AMQP double values.
+     *
+     * @param stream
+     * 		The stream to read the array from.
+     * @param state
+     * 		The {@link StreamDecoderState} that can be used when decoding.
+     *
+     * @return a new double array containing the decoded array elements.
+     *
+     * @throws DecodeException if the array elements are not AMQP double values or the array is malformed.
+     */
+    public double[] readDoubleArray(InputStream stream, StreamDecoderState state) throws DecodeException {
+        readSize(stream, state);
+
+        final int count = readCount(stream, state);
+        final byte elementCode = ProtonStreamUtils.readEncodingCode(stream);
+
+        if (elementCode != EncodingCodes.DOUBLE) {
+            throw unexpectedElementEncoding("double", elementCode);
+        }
+
+        final double[] array = new double[count];
+        for (int i = 0; i < count; i++) {
+            array[i] = ProtonStreamUtils.readDouble(stream);
+        }
+
+        return array;
+    }
+
+    /**
+     * Reads the encoded array into a {@link UUID} array, the array elements must be encoded as
+     * AMQP uuid values.
+     *
+     * @param stream
+     * 		The stream to read the array from.
+     * @param state
+     * 		The {@link StreamDecoderState} that can be used when decoding.
+     *
+     * @return a new {@link UUID} array containing the decoded array elements.
+     *
+     * @throws DecodeException if the array elements are not AMQP uuid values or the array is malformed.
+     */
+    public UUID[] readUUIDArray(InputStream stream, StreamDecoderState state) throws DecodeException {
+        readSize(stream, state);
+
+        final int count = readCount(stream, state);
+        final byte elementCode = ProtonStreamUtils.readEncodingCode(stream);
+
+        if (elementCode != EncodingCodes.UUID) {
+            throw unexpectedElementEncoding("uuid", elementCode);
+        }
+
+        final UUID[] array = new UUID[count];
+        for (int i = 0; i < count; i++) {
+            array[i] = new UUID(ProtonStreamUtils.readLong(stream), ProtonStreamUtils.readLong(stream));
+        }
+
+        return array;
+    }
+
+    private int readArrayHeader(ProtonBuffer buffer, DecoderState state) throws DecodeException {
         int size = readSize(buffer, state);
         int count = readCount(buffer, state);
 
@@ -65,24 +361,27 @@ public abstract class AbstractArrayTypeDecoder extends AbstractPrimitiveTypeDeco
                 size, buffer.getReadableBytes()));
         }
 
-        return decodeArray(buffer, state, count);
+        return count;
     }
 
-    @Override
-    public Object readValue(InputStream stream, StreamDecoderState state) throws DecodeException {
-        readSize(stream, state);
+    private static byte readElementEncodingCode(ProtonBuffer buffer) throws DecodeException {
+        if (!buffer.isReadable()) {
+            throw new DecodeException("Array element encoding code missing from encoded array");
+        }
 
-        return decodeAsObject(stream, state, readCount(stream, state));
+        return buffer.readByte();
     }
 
-    @Override
-    public void skipValue(ProtonBuffer buffer, DecoderState state) throws DecodeException {
-        buffer.advanceReadOffset(readSize(buffer, state));
+    private static void checkElementsAvailable(ProtonBuffer buffer, int count, int elementSize) throws DecodeException {
+        if ((long) count * elementSize > buffer.getReadableBytes()) {
+            throw new DecodeException(String.format(
+                "Array element count %d is specified to be greater than the amount of data available (%d)",
+                count, buffer.getReadableBytes()));
+        }
     }
 
-    @Override
-    public void skipValue(InputStream stream, StreamDecoderState state) throws DecodeException {
-        ProtonStreamUtils.skipBytes(stream, readSize(stream, state));
+    private static DecodeException unexpectedElementEncoding(String expected, byte elementCode) {
+        return new DecodeException("Expected array of " + expected + " elements but found encoding: " + EncodingCodes.toString(elementCode));
     }
 
     private static Object decodeArray(ProtonBuffer buffer, DecoderState state, int count) throws DecodeException {
@@ -26,6 +26,7 @@ import org.apache.qpid.protonj2.codec.DecoderState;
 import org.apache.qpid.protonj2.codec.EncoderState;
 import org.apache.qpid.protonj2.codec.StreamDecoderState;
 import org.apache.qpid.protonj2.codec.decoders.AbstractPrimitiveTypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.ProtonStreamUtils;
 import org.apache.qpid.protonj2.types.Binary;
 
 /**
@@ -128,16 +129,7 @@ public abstract class AbstractBinaryTypeDecoder extends AbstractPrimitiveTypeDec
      * @throws DecodeException if an error occurs while reading the Binary value.
      */
     public byte[] readValueAsArray(InputStream stream, StreamDecoderState state) throws DecodeException {
-        final int length = readSize(stream, state);
-        final byte[] payload = new byte[length];
-
-        try {
-            stream.read(payload);
-        } catch (IOException ex) {
-            throw new DecodeException("Error while reading Binary payload bytes", ex);
-        }
-
-        return payload;
+        return ProtonStreamUtils.readBytes(stream, readSize(stream, state));
     }
 
     @Override
@@ -21,6 +21,7 @@ import java.io.InputStream;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.codec.DecodeException;
@@ -96,18 +97,17 @@ public abstract class AbstractMapTypeDecoder extends AbstractPrimitiveTypeDecode
                 "Map encoded number of elements %d is not an even number.", encodedEntries));
         }
 
+        // A single handler is used for the whole scan instead of a capturing lambda for each key
+        final KeyMatchHandler<KeyType> matchHandler = new KeyMatchHandler<>(buffer, state, matchConsumer);
+
         try {
             for (int i = 0; i < encodedEntries / 2 && !context.isComplete(); ++i) {
                 final TypeDecoder<?> keyDecoder = state.getDecoder().readNextTypeDecoder(buffer, state);
                 final int keySize = keyDecoder.readSize(buffer, state);
 
-                final boolean matched = context.matches(keyDecoder, buffer, keySize, (key) -> {
-                    // Consume the key without decoding.
-                    buffer.advanceReadOffset(keySize);
-                    // Signal the callback with the decoded value and the key that was provided
-                    // which avoid a decode of the key here.
-                    matchConsumer.accept(key, decoder.readObject(buffer, state));
-                });
+                matchHandler.keySize = keySize;
+
+                final boolean matched = context.matches(keyDecoder, buffer, keySize, matchHandler);
 
                 if (!matched) {
                     // Consume the key without decoding since it didn't match the search criteria
@@ -196,4 +196,28 @@ public abstract class AbstractMapTypeDecoder extends AbstractPrimitiveTypeDecode
             context.reset();
         }
     }
+
+    private static final class KeyMatchHandler<KeyType> implements Consumer<KeyType> {
+
+        private final ProtonBuffer buffer;
+        private final DecoderState state;
+        private final BiConsumer<KeyType, Object> matchConsumer;
+
+        private int keySize;
+
+        KeyMatchHandler(ProtonBuffer buffer, DecoderState state, BiConsumer<KeyType, Object> matchConsumer) {
+            this.buffer = buffer;
+            this.state = state;
+            this.matchConsumer = matchConsumer;
+        }
+
+        @Override
+        public void accept(KeyType key) {
+            // Consume the key without decoding.
+            buffer.advanceReadOffset(keySize);
+            // Signal the callback with the decoded value and the key that was provided
+            // which avoid a decode of the key here.
+            matchConsumer.accept(key, state.getDecoder().readObject(buffer, state));
+        }
+    }
 }
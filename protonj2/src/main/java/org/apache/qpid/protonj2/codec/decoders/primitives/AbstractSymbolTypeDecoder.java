@@ -25,6 +25,7 @@ import org.apache.qpid.protonj2.codec.DecodeException;
 import org.apache.qpid.protonj2.codec.DecoderState;
 import org.apache.qpid.protonj2.codec.StreamDecoderState;
 import org.apache.qpid.protonj2.codec.decoders.AbstractPrimitiveTypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.ProtonStreamUtils;
 import org.apache.qpid.protonj2.types.Symbol;
 
 /**
@@ -46,10 +47,11 @@ public abstract class AbstractSymbolTypeDecoder extends AbstractPrimitiveTypeDec
                     "of data available (%d)", length, buffer.getReadableBytes()));
         }
 
-        try (ProtonBuffer symbolBuffer = buffer.copy(buffer.getReadOffset(), length, true)) {
-            buffer.advanceReadOffset(length);
-            return Symbol.getSymbol(symbolBuffer, true);
-        }
+        final Symbol symbol = Symbol.getSymbol(buffer, buffer.getReadOffset(), length);
+
+        buffer.advanceReadOffset(length);
+
+        return symbol;
     }
 
     /**
@@ -80,13 +82,7 @@ public abstract class AbstractSymbolTypeDecoder extends AbstractPrimitiveTypeDec
             return Symbol.valueOf("");
         }
 
-        final byte[] symbolBytes = new byte[length];
-
-        try {
-            stream.read(symbolBytes);
-        } catch (IOException ex) {
-            throw new DecodeException("Error while reading Symbol payload bytes", ex);
-        }
+        final byte[] symbolBytes = ProtonStreamUtils.readBytes(stream, length);
 
         return Symbol.getSymbol(ProtonBufferAllocator.defaultAllocator().copy(symbolBytes).convertToReadOnly());
     }
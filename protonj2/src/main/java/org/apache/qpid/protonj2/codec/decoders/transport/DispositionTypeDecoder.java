@@ -28,6 +28,7 @@ import org.apache.qpid.protonj2.codec.StreamDecoderState;
 import org.apache.qpid.protonj2.codec.StreamTypeDecoder;
 import org.apache.qpid.protonj2.codec.TypeDecoder;
 import org.apache.qpid.protonj2.codec.decoders.AbstractDescribedListTypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.ProtonDecoderState;
 import org.apache.qpid.protonj2.codec.decoders.ProtonStreamUtils;
 import org.apache.qpid.protonj2.codec.decoders.primitives.ListTypeDecoder;
 import org.apache.qpid.protonj2.types.Symbol;
@@ -63,7 +64,7 @@ public final class DispositionTypeDecoder extends AbstractDescribedListTypeDecod
     public Disposition readValue(ProtonBuffer buffer, DecoderState state) throws DecodeException {
         final TypeDecoder<?> decoder = state.getDecoder().readNextTypeDecoder(buffer, state);
 
-        return readDisposition(buffer, state.getDecoder(), state, checkIsExpectedTypeAndCast(ListTypeDecoder.class, decoder));
+        return readDisposition(buffer, state.getDecoder(), state, checkIsExpectedTypeAndCast(ListTypeDecoder.class, decoder), recycledDisposition(state));
     }
 
     @Override
@@ -72,15 +73,24 @@ public final class DispositionTypeDecoder extends AbstractDescribedListTypeDecod
 
         Disposition[] result = new Disposition[count];
         for (int i = 0; i < count; ++i) {
-            result[i] = readDisposition(buffer, state.getDecoder(), state, checkIsExpectedTypeAndCast(ListTypeDecoder.class, decoder));
+            result[i] = readDisposition(buffer, state.getDecoder(), state, checkIsExpectedTypeAndCast(ListTypeDecoder.class, decoder), new Disposition());
         }
 
         return result;
     }
 
-    private Disposition readDisposition(ProtonBuffer buffer, Decoder decoder, DecoderState state, ListTypeDecoder listDecoder) throws DecodeException {
-        final Disposition disposition = new Disposition();
+    private static Disposition recycledDisposition(DecoderState state) {
+        if (state instanceof ProtonDecoderState) {
+            final Disposition recycled = ((ProtonDecoderState) state).recycledDisposition();
+            if (recycled != null) {
+                return recycled;
+            }
+        }
+
+        return new Disposition();
+    }
 
+    private Disposition readDisposition(ProtonBuffer buffer, Decoder decoder, DecoderState state, ListTypeDecoder listDecoder, Disposition disposition) throws DecodeException {
         @SuppressWarnings("unused")
         final int size = listDecoder.readSize(buffer, state);
         final int count = listDecoder.readCount(buffer, state);
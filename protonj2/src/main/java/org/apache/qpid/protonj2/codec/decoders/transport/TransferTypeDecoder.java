@@ -28,6 +28,8 @@ import org.apache.qpid.protonj2.codec.StreamDecoderState;
 import org.apache.qpid.protonj2.codec.StreamTypeDecoder;
 import org.apache.qpid.protonj2.codec.TypeDecoder;
 import org.apache.qpid.protonj2.codec.decoders.AbstractDescribedListTypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.ProtonDecoderState;
+import org.apache.qpid.protonj2.codec.decoders.ProtonDeliveryTagView;
 import org.apache.qpid.protonj2.codec.decoders.ProtonStreamUtils;
 import org.apache.qpid.protonj2.codec.decoders.primitives.ListTypeDecoder;
 import org.apache.qpid.protonj2.types.Symbol;
@@ -64,7 +66,7 @@ public final class TransferTypeDecoder extends AbstractDescribedListTypeDecoder<
     public Transfer readValue(ProtonBuffer buffer, DecoderState state) throws DecodeException {
         final TypeDecoder<?> decoder = state.getDecoder().readNextTypeDecoder(buffer, state);
 
-        return readTransfer(buffer, state.getDecoder(), state, checkIsExpectedTypeAndCast(ListTypeDecoder.class, decoder));
+        return readTransfer(buffer, state.getDecoder(), state, checkIsExpectedTypeAndCast(ListTypeDecoder.class, decoder), recycledTransfer(state));
     }
 
     @Override
@@ -73,15 +75,29 @@ public final class TransferTypeDecoder extends AbstractDescribedListTypeDecoder<
 
         final Transfer[] result = new Transfer[count];
         for (int i = 0; i < count; ++i) {
-            result[i] = readTransfer(buffer, state.getDecoder(), state, checkIsExpectedTypeAndCast(ListTypeDecoder.class, decoder));
+            result[i] = readTransfer(buffer, state.getDecoder(), state, checkIsExpectedTypeAndCast(ListTypeDecoder.class, decoder), new Transfer());
+
+            // Array elements outlive the next decode so they cannot hold a recycled tag view.
+            if (result[i].getDeliveryTag() instanceof ProtonDeliveryTagView) {
+                result[i].setDeliveryTag(result[i].getDeliveryTag().copy());
+            }
         }
 
         return result;
     }
 
-    private Transfer readTransfer(ProtonBuffer buffer, Decoder decoder, DecoderState state, ListTypeDecoder listDecoder) throws DecodeException {
-        final Transfer transfer = new Transfer();
+    private static Transfer recycledTransfer(DecoderState state) {
+        if (state instanceof ProtonDecoderState) {
+            final Transfer recycled = ((ProtonDecoderState) state).recycledTransfer();
+            if (recycled != null) {
+                return recycled;
+            }
+        }
+
+        return new Transfer();
+    }
 
+    private Transfer readTransfer(ProtonBuffer buffer, Decoder decoder, DecoderState state, ListTypeDecoder listDecoder, Transfer transfer) throws DecodeException {
         @SuppressWarnings("unused")
         final int size = listDecoder.readSize(buffer, state);
         final int count = listDecoder.readCount(buffer, state);
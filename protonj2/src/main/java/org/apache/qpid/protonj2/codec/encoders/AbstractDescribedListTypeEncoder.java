@@ -17,6 +17,7 @@
 package org.apache.qpid.protonj2.codec.encoders;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 import org.apache.qpid.protonj2.codec.EncodeException;
 import org.apache.qpid.protonj2.codec.Encoder;
 import org.apache.qpid.protonj2.codec.EncoderState;
@@ -47,6 +48,61 @@ public abstract class AbstractDescribedListTypeEncoder<V> extends AbstractDescri
         return EncodingCodes.LIST32;
     }
 
+    /**
+     * Determine the list type the given value can be encoded to using the provided
+     * {@link EncoderState} which allows the encoder to compute the size of the list
+     * elements when selecting the encoding.
+     * <p>
+     * By default this returns the result of {@link #getListEncoding(Object)}, encoders
+     * that can size their elements directly can override this method and use the
+     * {@link #getSizedListEncoding(EncoderState, Object)} helper to select LIST8 when
+     * the encoded elements fit.
+     *
+     * @param state
+     *      The {@link EncoderState} in use for the current encode.
+     * @param value
+     *      The value that is to be encoded.
+     *
+     * @return the encoding code of the list type encoding needed for this object.
+     */
+    public byte getListEncoding(EncoderState state, V value) {
+        return getListEncoding(value);
+    }
+
+    /**
+     * Selects LIST8 if the encoded elements of the given value will fit within that encoding
+     * or LIST32 if not.  Elements are sized using
+     * {@link #getElementEncodedSize(Object, int, Encoder, EncoderState)} and sizing stops once
+     * the elements are known not to fit so that a large value is not walked in full.
+     *
+     * @param state
+     *      The {@link EncoderState} in use for the current encode.
+     * @param value
+     *      The value that is to be encoded.
+     *
+     * @return the smallest list encoding code that can hold the encoded elements.
+     */
+    protected final byte getSizedListEncoding(EncoderState state, V value) {
+        final Encoder encoder = state.getEncoder();
+        final int count = getElementCount(value);
+
+        if (count > 255) {
+            return EncodingCodes.LIST32;
+        }
+
+        int size = Byte.BYTES;
+
+        for (int i = 0; i < count; ++i) {
+            size += getElementEncodedSize(value, i, encoder, state);
+
+            if (size > 255) {
+                return EncodingCodes.LIST32;
+            }
+        }
+
+        return EncodingCodes.LIST8;
+    }
+
     /**
      * Instructs the encoder to write the element identified with the given index
      *
@@ -63,6 +119,31 @@ public abstract class AbstractDescribedListTypeEncoder<V> extends AbstractDescri
      */
     public abstract void writeElement(V source, int index, ProtonBuffer buffer, Encoder encoder, EncoderState state);
 
+    /**
+     * Computes the number of bytes that {@link #writeElement(Object, int, ProtonBuffer, Encoder, EncoderState)}
+     * would write for the element identified with the given index.
+     * <p>
+     * The default implementation writes the element to a scratch buffer to measure it, encoders
+     * that can compute the size of their elements directly should override this method.
+     *
+     * @param source
+     *      the source of the list elements to size
+     * @param index
+     *      the element index that needs to be sized
+     * @param encoder
+     *      the current Encoder value to use.
+     * @param state
+     *      the current EncoderState value to use.
+     *
+     * @return the number of bytes the encoding of the indicated element occupies.
+     */
+    public int getElementEncodedSize(V source, int index, Encoder encoder, EncoderState state) {
+        try (ProtonBuffer scratch = ProtonBufferAllocator.defaultAllocator().allocate()) {
+            writeElement(source, index, scratch, encoder, state);
+            return scratch.getReadableBytes();
+        }
+    }
+
     /**
      * Gets the number of elements that will result when this type is encoded
      * into an AMQP List type.
@@ -89,10 +170,10 @@ public abstract class AbstractDescribedListTypeEncoder<V> extends AbstractDescri
         final Encoder encoder = state.getEncoder();
 
         buffer.writeByte(EncodingCodes.DESCRIBED_TYPE_INDICATOR);
-        encoder.writeUnsignedLong(buffer, state, getDescriptorCode().byteValue());
+        encoder.writeUnsignedLong(buffer, state, getDescriptorCode().longValue());
 
         final int count = getElementCount(value);
-        final byte encodingCode = getListEncoding(value);
+        final byte encodingCode = getListEncoding(state, value);
 
         if (count < getMinElementCount()) {
             throw new EncodeException("Incomplete Type cannot be encoded");
@@ -110,6 +191,49 @@ public abstract class AbstractDescribedListTypeEncoder<V> extends AbstractDescri
         }
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, V value) {
+        final Encoder encoder = state.getEncoder();
+
+        final int count = getElementCount(value);
+        final byte encodingCode = getListEncoding(state, value);
+
+        if (count < getMinElementCount()) {
+            throw new EncodeException("Incomplete Type cannot be encoded");
+        }
+
+        int size = Byte.BYTES + getDescriptorEncodedSize() + Byte.BYTES;
+
+        switch (encodingCode) {
+            case EncodingCodes.LIST8:
+                size += Byte.BYTES + Byte.BYTES;
+                break;
+            case EncodingCodes.LIST32:
+                size += Integer.BYTES + Integer.BYTES;
+                break;
+            default:
+                return size;
+        }
+
+        for (int i = 0; i < count; ++i) {
+            size += getElementEncodedSize(value, i, encoder, state);
+        }
+
+        return size;
+    }
+
+    private int getDescriptorEncodedSize() {
+        final long descriptorCode = getDescriptorCode().longValue();
+
+        if (descriptorCode == 0) {
+            return Byte.BYTES;
+        } else if (descriptorCode > 0 && descriptorCode <= 255) {
+            return Byte.BYTES + Byte.BYTES;
+        } else {
+            return Byte.BYTES + Long.BYTES;
+        }
+    }
+
     private void writeSmallType(ProtonBuffer buffer, Encoder encoder, EncoderState state, V value, int elementCount) {
         final int startIndex = buffer.getWriteOffset();
 
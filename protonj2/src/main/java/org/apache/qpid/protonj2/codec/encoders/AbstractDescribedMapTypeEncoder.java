@@ -16,7 +16,10 @@
  */
 package org.apache.qpid.protonj2.codec.encoders;
 
+import java.util.Map;
+
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 import org.apache.qpid.protonj2.codec.Encoder;
 import org.apache.qpid.protonj2.codec.EncoderState;
 import org.apache.qpid.protonj2.codec.EncodingCodes;
@@ -48,6 +51,61 @@ public abstract class AbstractDescribedMapTypeEncoder<K, V, M> extends AbstractD
         return EncodingCodes.MAP32;
     }
 
+    /**
+     * Determine the map type the given value can be encoded to using the provided
+     * {@link EncoderState} which allows the encoder to compute the size of the map
+     * entries when selecting the encoding.
+     * <p>
+     * By default this returns the result of {@link #getMapEncoding(Object)}, encoders
+     * that can size their entries directly can override this method and use the
+     * {@link #getSizedMapEncoding(EncoderState, Map)} helper to select MAP8 when
+     * the encoded entries fit.
+     *
+     * @param state
+     *      The {@link EncoderState} in use for the current encode.
+     * @param value
+     *      The value that is to be encoded.
+     *
+     * @return the encoding code of the map type encoding needed for this object.
+     */
+    public byte getMapEncoding(EncoderState state, M value) {
+        return getMapEncoding(value);
+    }
+
+    /**
+     * Selects MAP8 if the encoded entries of the given map will fit within that encoding
+     * or MAP32 if not.  Entries are sized using the {@link Encoder} from the given state
+     * and sizing stops once the entries are known not to fit so that a large map is not
+     * walked in full.
+     *
+     * @param state
+     *      The {@link EncoderState} in use for the current encode.
+     * @param map
+     *      The map whose entries are to be encoded.
+     *
+     * @return the smallest map encoding code that can hold the encoded entries.
+     */
+    protected static byte getSizedMapEncoding(EncoderState state, Map<?, ?> map) {
+        if (map.size() * 2 > 255) {
+            return EncodingCodes.MAP32;
+        }
+
+        final Encoder encoder = state.getEncoder();
+
+        int size = Byte.BYTES;
+
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            size += encoder.getEncodedSize(state, entry.getKey());
+            size += encoder.getEncodedSize(state, entry.getValue());
+
+            if (size > 255) {
+                return EncodingCodes.MAP32;
+            }
+        }
+
+        return EncodingCodes.MAP8;
+    }
+
     /**
      * Returns false when the value to be encoded has no Map body and can be
      * written as a Null body type instead of a Map type.
@@ -86,16 +144,59 @@ public abstract class AbstractDescribedMapTypeEncoder<K, V, M> extends AbstractD
      */
     public abstract void writeMapEntries(ProtonBuffer buffer, Encoder encoder, EncoderState state, M value);
 
+    /**
+     * Computes the number of bytes that {@link #writeMapEntries(ProtonBuffer, Encoder, EncoderState, Object)}
+     * would write for the given value.
+     * <p>
+     * The default implementation writes the entries to a scratch buffer to measure them, encoders
+     * that can compute the size of their entries directly should override this method.
+     *
+     * @param encoder
+     *      the current encoder.
+     * @param state
+     *      the current encoder state.
+     * @param value
+     * 		the value whose map entries are to be sized.
+     *
+     * @return the number of bytes the encoded map entries occupy.
+     */
+    public int getMapEntriesEncodedSize(Encoder encoder, EncoderState state, M value) {
+        try (ProtonBuffer scratch = ProtonBufferAllocator.defaultAllocator().allocate()) {
+            writeMapEntries(scratch, encoder, state, value);
+            return scratch.getReadableBytes();
+        }
+    }
+
+    @Override
+    public int getEncodedSize(EncoderState state, M value) {
+        final int descriptorSize = getDescriptorEncodedSize();
+
+        if (hasMap(value)) {
+            final int entriesSize = getMapEntriesEncodedSize(state.getEncoder(), state, value);
+
+            switch (getMapEncoding(state, value)) {
+                case EncodingCodes.MAP8:
+                    return Byte.BYTES + descriptorSize + Byte.BYTES + Byte.BYTES + Byte.BYTES + entriesSize;
+                case EncodingCodes.MAP32:
+                    return Byte.BYTES + descriptorSize + Byte.BYTES + Integer.BYTES + Integer.BYTES + entriesSize;
+                default:
+                    return Byte.BYTES + descriptorSize + Byte.BYTES;
+            }
+        } else {
+            return Byte.BYTES + descriptorSize + Byte.BYTES;
+        }
+    }
+
     @Override
     public void writeType(ProtonBuffer buffer, EncoderState state, M value) {
         final Encoder encoder = state.getEncoder();
 
         buffer.writeByte(EncodingCodes.DESCRIBED_TYPE_INDICATOR);
-        encoder.writeUnsignedLong(buffer, state, getDescriptorCode().byteValue());
+        encoder.writeUnsignedLong(buffer, state, getDescriptorCode().longValue());
 
         if (hasMap(value)) {
             final int count = getMapSize(value);
-            final byte encodingCode = getMapEncoding(value);
+            final byte encodingCode = getMapEncoding(state, value);
 
             buffer.writeByte(encodingCode);
 
@@ -112,6 +213,18 @@ public abstract class AbstractDescribedMapTypeEncoder<K, V, M> extends AbstractD
         }
     }
 
+    private int getDescriptorEncodedSize() {
+        final long descriptorCode = getDescriptorCode().longValue();
+
+        if (descriptorCode == 0) {
+            return Byte.BYTES;
+        } else if (descriptorCode > 0 && descriptorCode <= 255) {
+            return Byte.BYTES + Byte.BYTES;
+        } else {
+            return Byte.BYTES + Long.BYTES;
+        }
+    }
+
     private void writeSmallType(ProtonBuffer buffer, Encoder encoder, EncoderState state, M value, int elementCount) {
         final int startIndex = buffer.getWriteOffset();
 
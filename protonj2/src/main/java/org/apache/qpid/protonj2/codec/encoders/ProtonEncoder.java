@@ -18,11 +18,13 @@ package org.apache.qpid.protonj2.codec.encoders;
 
 import java.util.Date;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 import org.apache.qpid.protonj2.codec.DescribedTypeEncoder;
 import org.apache.qpid.protonj2.codec.EncodeException;
 import org.apache.qpid.protonj2.codec.Encoder;
@@ -470,6 +472,15 @@ public final class ProtonEncoder implements Encoder {
         }
     }
 
+    @Override
+    public void writeList(ProtonBuffer buffer, EncoderState state, Iterator<?> elements) throws EncodeException {
+        if (elements == null) {
+            buffer.writeByte(EncodingCodes.NULL);
+        } else {
+            listEncoder.writeType(buffer, state, elements);
+        }
+    }
+
     @Override
     public <K, V> void writeMap(ProtonBuffer buffer, EncoderState state, Map<K, V> value) throws EncodeException {
         if (value == null) {
@@ -666,6 +677,37 @@ public final class ProtonEncoder implements Encoder {
         }
     }
 
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    @Override
+    public int getEncodedSize(EncoderState state, Object value) throws EncodeException {
+        if (value != null) {
+            TypeEncoder encoder = typeEncoders.get(value.getClass());
+
+            if (encoder == null) {
+                if (value instanceof List) {
+                    encoder = listEncoder;
+                } else if (value instanceof Map) {
+                    encoder = mapEncoder;
+                } else if (value instanceof DescribedType) {
+                    encoder = unknownTypeEncoder;
+                } else {
+                    return getUnregisteredTypeEncodedSize(state, value);
+                }
+            }
+
+            return encoder.getEncodedSize(state, value);
+        } else {
+            return Byte.BYTES;
+        }
+    }
+
+    private int getUnregisteredTypeEncodedSize(EncoderState state, Object value) {
+        try (ProtonBuffer scratch = ProtonBufferAllocator.defaultAllocator().allocate()) {
+            writeUnregisteredType(scratch, state, value);
+            return scratch.getReadableBytes();
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private void writeUnregisteredType(ProtonBuffer buffer, EncoderState state, Object value) {
         if (value.getClass().isArray()) {
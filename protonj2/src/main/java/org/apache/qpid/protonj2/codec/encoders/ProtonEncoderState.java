@@ -17,6 +17,8 @@
 package org.apache.qpid.protonj2.codec.encoders;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferComponent;
+import org.apache.qpid.protonj2.buffer.ProtonBufferComponentAccessor;
 import org.apache.qpid.protonj2.codec.Encoder;
 import org.apache.qpid.protonj2.codec.EncoderState;
 
@@ -82,6 +84,15 @@ public final class ProtonEncoderState implements EncoderState {
         return buffer;
     }
 
+    @Override
+    public int getEncodedUTF8Length(CharSequence sequence) {
+        if (utf8Encoder == null) {
+            return calculateUTF8Length(0, sequence);
+        } else {
+            return EncoderState.super.getEncodedUTF8Length(sequence);
+        }
+    }
+
     private static void encodeUTF8Sequence(ProtonBuffer buffer, CharSequence sequence) {
         final int length = sequence.length();
 
@@ -92,6 +103,10 @@ public final class ProtonEncoderState implements EncoderState {
         // Assume ASCII and just reserve what we need for that case.
         buffer.ensureWritable(length);
 
+        if (sequence instanceof String && encodeASCIIString(buffer, (String) sequence, length)) {
+            return;
+        }
+
         // ASCII Optimized path U+0000..U+007F
         for (; index < length && (ch = sequence.charAt(index)) < 0x80; ++index) {
             buffer.setByte(position++, (byte) ch);
@@ -105,6 +120,32 @@ public final class ProtonEncoderState implements EncoderState {
         buffer.setWriteOffset(position);
     }
 
+    @SuppressWarnings("deprecation")
+    private static boolean encodeASCIIString(ProtonBuffer buffer, String value, int length) {
+        try (ProtonBufferComponentAccessor accessor = buffer.componentAccessor()) {
+            final ProtonBufferComponent component = accessor.firstWritable();
+
+            if (component != null && component.hasWritableArray() && component.getWritableBytes() >= length && isASCII(value, length)) {
+                // Copies the low order byte of each char which for ASCII is the UTF-8 encoding
+                value.getBytes(0, length, component.getWritableArray(), component.getWritableArrayOffset());
+                buffer.advanceWriteOffset(length);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isASCII(String value, int length) {
+        int bits = 0;
+
+        for (int i = 0; i < length; ++i) {
+            bits |= value.charAt(i);
+        }
+
+        return bits < 0x80;
+    }
+
     private static int extendedEncodeUTF8Sequence(ProtonBuffer buffer, CharSequence value, int index, int position) {
         // Size buffer to what we know we will need to complete this encode.
         buffer.ensureWritable(calculateUTF8Length(index, value));
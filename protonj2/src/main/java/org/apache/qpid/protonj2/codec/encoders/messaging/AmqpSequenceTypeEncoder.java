@@ -59,6 +59,11 @@ public final class AmqpSequenceTypeEncoder extends AbstractDescribedTypeEncoder<
         state.getEncoder().writeList(buffer, state, value.getValue());
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, AmqpSequence value) {
+        return SEQUENCE_PREAMBLE.length + state.getEncoder().getEncodedSize(state, value.getValue());
+    }
+
     @Override
     public void writeArray(ProtonBuffer buffer, EncoderState state, Object[] values) {
         // Write the Array Type encoding code, we don't optimize here.
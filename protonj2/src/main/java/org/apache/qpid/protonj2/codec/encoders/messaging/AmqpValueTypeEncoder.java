@@ -57,6 +57,11 @@ public final class AmqpValueTypeEncoder extends AbstractDescribedTypeEncoder<Amq
         state.getEncoder().writeObject(buffer, state, value.getValue());
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, AmqpValue value) {
+        return VALUE_PREAMBLE.length + state.getEncoder().getEncodedSize(state, value.getValue());
+    }
+
     @Override
     public void writeArray(ProtonBuffer buffer, EncoderState state, Object[] values) {
         // Write the Array Type encoding code, we don't optimize here.
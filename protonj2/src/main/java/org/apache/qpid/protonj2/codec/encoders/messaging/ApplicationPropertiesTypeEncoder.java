@@ -16,6 +16,8 @@
  */
 package org.apache.qpid.protonj2.codec.encoders.messaging;
 
+import java.util.Map;
+
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.codec.Encoder;
 import org.apache.qpid.protonj2.codec.EncoderState;
@@ -61,6 +63,23 @@ public final class ApplicationPropertiesTypeEncoder extends AbstractDescribedMap
         }
     }
 
+    @Override
+    public byte getMapEncoding(EncoderState state, ApplicationProperties value) {
+        return getSizedMapEncoding(state, value.getValue());
+    }
+
+    @Override
+    public int getMapEntriesEncodedSize(Encoder encoder, EncoderState state, ApplicationProperties properties) {
+        int size = 0;
+
+        for (Map.Entry<String, Object> entry : properties.getValue().entrySet()) {
+            size += STRING_ENCODER.getEncodedSize(state, entry.getKey());
+            size += encoder.getEncodedSize(state, entry.getValue());
+        }
+
+        return size;
+    }
+
     @Override
     public void writeMapEntries(ProtonBuffer buffer, Encoder encoder, EncoderState state, ApplicationProperties properties) {
         // Write the Map elements and then compute total size written.
@@ -55,11 +55,11 @@ public final class DataTypeEncoder extends AbstractDescribedTypeEncoder<Data> {
         final int dataLength = value.getDataLength();
 
         if (dataLength > 255) {
-            buffer.ensureWritable(dataLength + Long.BYTES);
+            buffer.ensureWritable(Byte.BYTES + Integer.BYTES + dataLength);
             buffer.writeByte(EncodingCodes.VBIN32);
             buffer.writeInt(dataLength);
         } else {
-            buffer.ensureWritable(dataLength + Short.BYTES);
+            buffer.ensureWritable(Byte.BYTES + Byte.BYTES + dataLength);
             buffer.writeByte(EncodingCodes.VBIN8);
             buffer.writeByte((byte) dataLength);
         }
@@ -67,6 +67,17 @@ public final class DataTypeEncoder extends AbstractDescribedTypeEncoder<Data> {
         value.copyTo(buffer);
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, Data value) {
+        final int dataLength = value.getDataLength();
+
+        if (dataLength > 255) {
+            return DATA_PREAMBLE.length + Byte.BYTES + Integer.BYTES + dataLength;
+        } else {
+            return DATA_PREAMBLE.length + Byte.BYTES + Byte.BYTES + dataLength;
+        }
+    }
+
     @Override
     public void writeArray(ProtonBuffer buffer, EncoderState state, Object[] values) {
         // Write the Array Type encoding code, we don't optimize here.
@@ -16,6 +16,8 @@
  */
 package org.apache.qpid.protonj2.codec.encoders.messaging;
 
+import java.util.Map;
+
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.codec.Encoder;
 import org.apache.qpid.protonj2.codec.EncoderState;
@@ -58,6 +60,23 @@ public final class FooterTypeEncoder extends AbstractDescribedMapTypeEncoder<Obj
         }
     }
 
+    @Override
+    public byte getMapEncoding(EncoderState state, Footer value) {
+        return getSizedMapEncoding(state, value.getValue());
+    }
+
+    @Override
+    public int getMapEntriesEncodedSize(Encoder encoder, EncoderState state, Footer footers) {
+        int size = 0;
+
+        for (Map.Entry<Symbol, Object> entry : footers.getValue().entrySet()) {
+            size += encoder.getEncodedSize(state, entry.getKey());
+            size += encoder.getEncodedSize(state, entry.getValue());
+        }
+
+        return size;
+    }
+
     @Override
     public void writeMapEntries(ProtonBuffer buffer, Encoder encoder, EncoderState state, Footer footers) {
         // Write the Map elements and then compute total size written.
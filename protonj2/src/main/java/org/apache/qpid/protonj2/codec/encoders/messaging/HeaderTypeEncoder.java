@@ -96,6 +96,33 @@ public final class HeaderTypeEncoder extends AbstractDescribedListTypeEncoder<He
         }
     }
 
+    @Override
+    public int getElementEncodedSize(Header header, int index, Encoder encoder, EncoderState state) {
+        switch (index) {
+            case 0:
+            case 3:
+                return Byte.BYTES;
+            case 1:
+                return header.hasPriority() ? Byte.BYTES + Byte.BYTES : Byte.BYTES;
+            case 2:
+                return header.hasTimeToLive() ? getUnsignedIntegerEncodedSize(header.getTimeToLive()) : Byte.BYTES;
+            case 4:
+                return header.hasDeliveryCount() ? getUnsignedIntegerEncodedSize(header.getDeliveryCount()) : Byte.BYTES;
+            default:
+                throw new IllegalArgumentException("Unknown Header value index: " + index);
+        }
+    }
+
+    private static int getUnsignedIntegerEncodedSize(long value) {
+        if (value == 0) {
+            return Byte.BYTES;
+        } else if (value > 0 && value <= 255) {
+            return Byte.BYTES + Byte.BYTES;
+        } else {
+            return Byte.BYTES + Integer.BYTES;
+        }
+    }
+
     @Override
     public int getElementCount(Header header) {
         return header.getElementCount();
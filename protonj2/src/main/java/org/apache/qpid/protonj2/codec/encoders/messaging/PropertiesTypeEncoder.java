@@ -104,11 +104,66 @@ public final class PropertiesTypeEncoder extends AbstractDescribedListTypeEncode
         }
     }
 
+    @Override
+    public int getElementEncodedSize(Properties properties, int index, Encoder encoder, EncoderState state) {
+        switch (index) {
+            case 0:
+                return encoder.getEncodedSize(state, properties.getMessageId());
+            case 1:
+                return encoder.getEncodedSize(state, properties.getUserId());
+            case 2:
+                return encoder.getEncodedSize(state, properties.getTo());
+            case 3:
+                return encoder.getEncodedSize(state, properties.getSubject());
+            case 4:
+                return encoder.getEncodedSize(state, properties.getReplyTo());
+            case 5:
+                return encoder.getEncodedSize(state, properties.getCorrelationId());
+            case 6:
+                return getSymbolEncodedSize(encoder, state, properties.getContentType());
+            case 7:
+                return getSymbolEncodedSize(encoder, state, properties.getContentEncoding());
+            case 8:
+                return properties.hasAbsoluteExpiryTime() ? Byte.BYTES + Long.BYTES : Byte.BYTES;
+            case 9:
+                return properties.hasCreationTime() ? Byte.BYTES + Long.BYTES : Byte.BYTES;
+            case 10:
+                return encoder.getEncodedSize(state, properties.getGroupId());
+            case 11:
+                if (properties.hasGroupSequence()) {
+                    final long groupSequence = properties.getGroupSequence();
+
+                    if (groupSequence == 0) {
+                        return Byte.BYTES;
+                    } else if (groupSequence > 0 && groupSequence <= 255) {
+                        return Byte.BYTES + Byte.BYTES;
+                    } else {
+                        return Byte.BYTES + Integer.BYTES;
+                    }
+                } else {
+                    return Byte.BYTES;
+                }
+            case 12:
+                return encoder.getEncodedSize(state, properties.getReplyToGroupId());
+            default:
+                throw new IllegalArgumentException("Unknown Properties value index: " + index);
+        }
+    }
+
+    private static int getSymbolEncodedSize(Encoder encoder, EncoderState state, String value) {
+        return value == null ? Byte.BYTES : encoder.getEncodedSize(state, Symbol.valueOf(value));
+    }
+
     @Override
     public byte getListEncoding(Properties value) {
         return EncodingCodes.LIST32;
     }
 
+    @Override
+    public byte getListEncoding(EncoderState state, Properties value) {
+        return getSizedListEncoding(state, value);
+    }
+
     @Override
     public int getElementCount(Properties properties) {
         return properties.getElementCount();
@@ -37,6 +37,17 @@ public final class BinaryTypeEncoder extends AbstractPrimitiveTypeEncoder<Binary
         writeType(buffer, state, value.asProtonBuffer());
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, Binary value) {
+        final int length = value.getLength();
+
+        if (length > 255) {
+            return Byte.BYTES + Integer.BYTES + length;
+        } else {
+            return Byte.BYTES + Byte.BYTES + length;
+        }
+    }
+
     /**
      * Shortcut API that allows a {@link ProtonBuffer} to be directly encoded as an AMQP Binary
      * type without the need to create a {@link Binary} instance.  The encoder will attempt
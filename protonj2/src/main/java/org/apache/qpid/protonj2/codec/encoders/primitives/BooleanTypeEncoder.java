@@ -36,6 +36,11 @@ public final class BooleanTypeEncoder extends AbstractPrimitiveTypeEncoder<Boole
         buffer.writeByte(value == Boolean.TRUE ? EncodingCodes.BOOLEAN_TRUE : EncodingCodes.BOOLEAN_FALSE);
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, Boolean value) {
+        return Byte.BYTES;
+    }
+
     /**
      * Write the full AMQP type data for the boolean to the given byte buffer.
      *
@@ -37,6 +37,11 @@ public final class ByteTypeEncoder extends AbstractPrimitiveTypeEncoder<Byte> {
         buffer.writeByte(value.byteValue());
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, Byte value) {
+        return Byte.BYTES + Byte.BYTES;
+    }
+
     /**
      * Write the full AMQP type data for the byte to the given byte buffer.
      *
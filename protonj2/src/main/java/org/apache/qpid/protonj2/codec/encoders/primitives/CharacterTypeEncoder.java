@@ -37,6 +37,11 @@ public final class CharacterTypeEncoder extends AbstractPrimitiveTypeEncoder<Cha
         buffer.writeInt(value.charValue() & 0xffff);
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, Character value) {
+        return Byte.BYTES + Integer.BYTES;
+    }
+
     @Override
     public void writeRawArray(ProtonBuffer buffer, EncoderState state, Object[] values) {
         buffer.writeByte(EncodingCodes.CHAR);
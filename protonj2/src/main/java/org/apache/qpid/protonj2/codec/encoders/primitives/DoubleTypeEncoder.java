@@ -37,6 +37,11 @@ public final class DoubleTypeEncoder extends AbstractPrimitiveTypeEncoder<Double
         buffer.writeDouble(value.doubleValue());
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, Double value) {
+        return Byte.BYTES + Double.BYTES;
+    }
+
     /**
      * Write the full AMQP type data for the double to the given byte buffer.
      *
@@ -37,6 +37,11 @@ public final class FloatTypeEncoder extends AbstractPrimitiveTypeEncoder<Float>
         buffer.writeFloat(value.floatValue());
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, Float value) {
+        return Byte.BYTES + Float.BYTES;
+    }
+
     /**
      * Write the full AMQP type data for the float to the given byte buffer.
      *
@@ -36,6 +36,17 @@ public final class IntegerTypeEncoder extends AbstractPrimitiveTypeEncoder<Integ
         writeType(buffer, state, value.intValue());
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, Integer value) {
+        final int intValue = value.intValue();
+
+        if (intValue >= -128 && intValue <= 127) {
+            return Byte.BYTES + Byte.BYTES;
+        } else {
+            return Byte.BYTES + Integer.BYTES;
+        }
+    }
+
     /**
      * Write the full AMQP type data for the int to the given byte buffer.
      *
@@ -16,10 +16,12 @@
  */
 package org.apache.qpid.protonj2.codec.encoders.primitives;
 
+import java.util.Iterator;
 import java.util.List;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.codec.EncodeException;
+import org.apache.qpid.protonj2.codec.Encoder;
 import org.apache.qpid.protonj2.codec.EncoderState;
 import org.apache.qpid.protonj2.codec.EncodingCodes;
 import org.apache.qpid.protonj2.codec.TypeEncoder;
@@ -46,6 +48,70 @@ public final class ListTypeEncoder extends AbstractPrimitiveTypeEncoder<List> {
         }
     }
 
+    /**
+     * Writes a list encoding whose elements are read from the given {@link Iterator} as they are
+     * encoded, the size and count values are written back once all elements have been consumed.
+     *
+     * @param buffer
+     * 		The buffer where the write operation is targeted
+     * @param state
+     *      The {@link EncoderState} to use for any intermediate encoding work.
+     * @param elements
+     * 		The {@link Iterator} that provides the list elements to be encoded.
+     */
+    public void writeType(ProtonBuffer buffer, EncoderState state, Iterator<?> elements) {
+        if (!elements.hasNext()) {
+            buffer.writeByte(EncodingCodes.LIST0);
+            return;
+        }
+
+        buffer.writeByte(EncodingCodes.LIST32);
+
+        final int startIndex = buffer.getWriteOffset();
+
+        // Reserve space for the size and the count which are unknown until the end.
+        buffer.writeLong(0);
+
+        TypeEncoder encoder = null;
+        int count = 0;
+
+        while (elements.hasNext()) {
+            final Object entry = elements.next();
+
+            if (entry == null || encoder == null || !encoder.getTypeClass().equals(entry.getClass())) {
+                encoder = state.getEncoder().getTypeEncoder(entry);
+            }
+
+            if (encoder == null) {
+                throw new EncodeException("Cannot find encoder for type " + entry);
+            }
+
+            encoder.writeType(buffer, state, entry);
+            count++;
+        }
+
+        // Move back and write the size and count
+        buffer.setInt(startIndex, buffer.getWriteOffset() - startIndex - Integer.BYTES);
+        buffer.setInt(startIndex + Integer.BYTES, count);
+    }
+
+    @Override
+    public int getEncodedSize(EncoderState state, List value) {
+        if (value.isEmpty()) {
+            return Byte.BYTES;
+        }
+
+        final Encoder encoder = state.getEncoder();
+
+        int size = Byte.BYTES + Integer.BYTES + Integer.BYTES;
+
+        for (int i = 0; i < value.size(); ++i) {
+            size += encoder.getEncodedSize(state, value.get(i));
+        }
+
+        return size;
+    }
+
     @Override
     public void writeRawArray(ProtonBuffer buffer, EncoderState state, Object[] values) {
         buffer.writeByte(EncodingCodes.LIST32);
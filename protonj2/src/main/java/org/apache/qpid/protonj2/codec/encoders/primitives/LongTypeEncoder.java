@@ -36,6 +36,17 @@ public final class LongTypeEncoder extends AbstractPrimitiveTypeEncoder<Long> {
         writeType(buffer, state, value.longValue());
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, Long value) {
+        final long longValue = value.longValue();
+
+        if (longValue >= -128 && longValue <= 127) {
+            return Byte.BYTES + Byte.BYTES;
+        } else {
+            return Byte.BYTES + Long.BYTES;
+        }
+    }
+
     /**
      * Write the full AMQP type data for the long to the given byte buffer.
      *
@@ -20,6 +20,7 @@ import java.util.Map;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.codec.EncodeException;
+import org.apache.qpid.protonj2.codec.Encoder;
 import org.apache.qpid.protonj2.codec.EncoderState;
 import org.apache.qpid.protonj2.codec.EncodingCodes;
 import org.apache.qpid.protonj2.codec.TypeEncoder;
@@ -42,6 +43,22 @@ public final class MapTypeEncoder extends AbstractPrimitiveTypeEncoder<Map> {
         writeValue(buffer, state, value);
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, Map value) {
+        final Encoder encoder = state.getEncoder();
+
+        int size = Byte.BYTES + Integer.BYTES + Integer.BYTES;
+
+        for (Object entry : value.entrySet()) {
+            final Map.Entry mapEntry = (Map.Entry) entry;
+
+            size += encoder.getEncodedSize(state, mapEntry.getKey());
+            size += encoder.getEncodedSize(state, mapEntry.getValue());
+        }
+
+        return size;
+    }
+
     @Override
     public void writeRawArray(ProtonBuffer buffer, EncoderState state, Object[] values) {
         buffer.writeByte(EncodingCodes.MAP32);
@@ -36,6 +36,11 @@ public final class NullTypeEncoder extends AbstractPrimitiveTypeEncoder<Void> {
         buffer.writeByte(EncodingCodes.NULL);
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, Void value) {
+        return Byte.BYTES;
+    }
+
     @Override
     public void writeArray(ProtonBuffer buffer, EncoderState state, Object[] value) {
         throw new IllegalArgumentException("Cannot write an array of nulls");
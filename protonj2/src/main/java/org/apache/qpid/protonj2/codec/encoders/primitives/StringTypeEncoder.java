@@ -42,6 +42,18 @@ public final class StringTypeEncoder extends AbstractPrimitiveTypeEncoder<String
         }
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, String value) {
+        final int length = state.getEncodedUTF8Length(value);
+
+        // Mirrors the pessimistic encoding selection made when the value is written
+        if (value.length() > 64) {
+            return Byte.BYTES + Integer.BYTES + length;
+        } else {
+            return Byte.BYTES + Byte.BYTES + length;
+        }
+    }
+
     private static void writeSmallString(ProtonBuffer buffer, EncoderState state, String value) {
         buffer.writeByte(EncodingCodes.STR8);
         buffer.writeByte((byte) 0);
@@ -47,6 +47,17 @@ public final class SymbolTypeEncoder extends AbstractPrimitiveTypeEncoder<Symbol
         value.writeTo(buffer);
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, Symbol value) {
+        final int length = value.getLength();
+
+        if (length <= 255) {
+            return Byte.BYTES + Byte.BYTES + length;
+        } else {
+            return Byte.BYTES + Integer.BYTES + length;
+        }
+    }
+
     @Override
     public void writeRawArray(ProtonBuffer buffer, EncoderState state, Object[] values) {
         buffer.writeByte(EncodingCodes.SYM32);
@@ -39,6 +39,11 @@ public final class TimestampTypeEncoder extends AbstractPrimitiveTypeEncoder<Dat
         buffer.writeLong(value.getTime());
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, Date value) {
+        return Byte.BYTES + Long.BYTES;
+    }
+
     /**
      * Write the full AMQP type data for the time-stamp to the given byte buffer.
      *
@@ -38,6 +38,11 @@ public final class UnsignedByteTypeEncoder extends AbstractPrimitiveTypeEncoder<
         buffer.writeByte(value.byteValue());
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, UnsignedByte value) {
+        return Byte.BYTES + Byte.BYTES;
+    }
+
     /**
      * Write the full AMQP type data for the byte to the given byte buffer.
      *
@@ -47,6 +47,19 @@ public final class UnsignedIntegerTypeEncoder extends AbstractPrimitiveTypeEncod
         }
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, UnsignedInteger value) {
+        final int intValue = value.intValue();
+
+        if (intValue == 0) {
+            return Byte.BYTES;
+        } else if (intValue > 0 && intValue <= 255) {
+            return Byte.BYTES + Byte.BYTES;
+        } else {
+            return Byte.BYTES + Integer.BYTES;
+        }
+    }
+
     /**
      * Write the full AMQP type data for the unsigned int to the given byte buffer.
      *
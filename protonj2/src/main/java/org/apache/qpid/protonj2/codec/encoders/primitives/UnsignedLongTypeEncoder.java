@@ -37,6 +37,19 @@ public final class UnsignedLongTypeEncoder extends AbstractPrimitiveTypeEncoder<
         writeType(buffer, state, value.longValue());
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, UnsignedLong value) {
+        final long longValue = value.longValue();
+
+        if (longValue == 0) {
+            return Byte.BYTES;
+        } else if (longValue > 0 && longValue <= 255) {
+            return Byte.BYTES + Byte.BYTES;
+        } else {
+            return Byte.BYTES + Long.BYTES;
+        }
+    }
+
     /**
      * Write the full AMQP type data for the unsigned long to the given byte buffer.
      *
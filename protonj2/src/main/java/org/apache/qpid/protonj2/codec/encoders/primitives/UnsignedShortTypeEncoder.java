@@ -38,6 +38,11 @@ public final class UnsignedShortTypeEncoder extends AbstractPrimitiveTypeEncoder
         buffer.writeShort(value.shortValue());
     }
 
+    @Override
+    public int getEncodedSize(EncoderState state, UnsignedShort value) {
+        return Byte.BYTES + Short.BYTES;
+    }
+
     /**
      * Write the full AMQP type data for the unsigned short to the given byte buffer.
      *
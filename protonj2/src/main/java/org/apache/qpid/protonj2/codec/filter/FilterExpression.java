@@ -0,0 +1,382 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.codec.filter;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.apache.qpid.protonj2.types.Symbol;
+import org.apache.qpid.protonj2.types.UnsignedByte;
+import org.apache.qpid.protonj2.types.UnsignedInteger;
+import org.apache.qpid.protonj2.types.UnsignedLong;
+import org.apache.qpid.protonj2.types.UnsignedShort;
+
+/**
+ * A node in a compiled {@link MessageFilter} expression.  Predicates evaluate to {@link Boolean#TRUE},
+ * {@link Boolean#FALSE} or null when the outcome is unknown which follows the three valued logic of
+ * SQL where comparisons against a missing value are unknown and only a true outcome is a match.
+ */
+interface FilterExpression {
+
+    /**
+     * Evaluates this expression against the field values gathered from an encoded message.
+     *
+     * @param values
+     * 		The field values indexed by the slot assigned to each referenced field.
+     *
+     * @return the value of the expression which is a {@link Boolean} or null for predicates.
+     */
+    Object evaluate(Object[] values);
+
+    //----- Operands
+
+    final class Literal implements FilterExpression {
+
+        private final Object value;
+
+        Literal(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public Object evaluate(Object[] values) {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return value instanceof String ? "'" + ((String) value).replace("'", "''") + "'" : String.valueOf(value).toUpperCase();
+        }
+    }
+
+    final class Field implements FilterExpression {
+
+        private final String name;
+        private final int slot;
+
+        Field(String name, int slot) {
+            this.name = name;
+            this.slot = slot;
+        }
+
+        @Override
+        public Object evaluate(Object[] values) {
+            return normalize(values[slot]);
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    //----- Predicates
+
+    enum Operator {
+        EQUAL("="),
+        NOT_EQUAL("<>"),
+        LESS_THAN("<"),
+        LESS_THAN_OR_EQUAL("<="),
+        GREATER_THAN(">"),
+        GREATER_THAN_OR_EQUAL(">=");
+
+        private final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        @Override
+        public String toString() {
+            return symbol;
+        }
+    }
+
+    final class Comparison implements FilterExpression {
+
+        private final Operator operator;
+        private final FilterExpression left;
+        private final FilterExpression right;
+
+        Comparison(Operator operator, FilterExpression left, FilterExpression right) {
+            this.operator = operator;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public Object evaluate(Object[] values) {
+            final Object lhs = left.evaluate(values);
+            final Object rhs = right.evaluate(values);
+
+            if (lhs == null || rhs == null) {
+                return null;
+            }
+
+            if (operator == Operator.EQUAL || operator == Operator.NOT_EQUAL) {
+                final Boolean equal = equal(lhs, rhs);
+                if (equal == null) {
+                    return null;
+                }
+
+                return operator == Operator.EQUAL ? equal : !equal;
+            }
+
+            final Integer result = compare(lhs, rhs);
+            if (result == null) {
+                return null;
+            }
+
+            switch (operator) {
+                case LESS_THAN:
+                    return result < 0;
+                case LESS_THAN_OR_EQUAL:
+                    return result <= 0;
+                case GREATER_THAN:
+                    return result > 0;
+                default:
+                    return result >= 0;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return left + " " + operator + " " + right;
+        }
+    }
+
+    final class In implements FilterExpression {
+
+        private final FilterExpression operand;
+        private final List<Object> candidates;
+        private final boolean negated;
+
+        In(FilterExpression operand, List<Object> candidates, boolean negated) {
+            this.operand = operand;
+            this.candidates = candidates;
+            this.negated = negated;
+        }
+
+        @Override
+        public Object evaluate(Object[] values) {
+            final Object value = operand.evaluate(values);
+
+            if (value == null) {
+                return null;
+            }
+
+            for (Object candidate : candidates) {
+                if (Boolean.TRUE.equals(equal(value, candidate))) {
+                    return !negated;
+                }
+            }
+
+            return negated;
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder builder = new StringBuilder();
+
+            builder.append(operand).append(negated ? " NOT IN (" : " IN (");
+            for (int i = 0; i < candidates.size(); ++i) {
+                builder.append(i == 0 ? "" : ", ").append(new Literal(candidates.get(i)));
+            }
+
+            return builder.append(')').toString();
+        }
+    }
+
+    final class IsNull implements FilterExpression {
+
+        private final FilterExpression operand;
+        private final boolean negated;
+
+        IsNull(FilterExpression operand, boolean negated) {
+            this.operand = operand;
+            this.negated = negated;
+        }
+
+        @Override
+        public Object evaluate(Object[] values) {
+            return (operand.evaluate(values) == null) != negated;
+        }
+
+        @Override
+        public String toString() {
+            return operand + (negated ? " IS NOT NULL" : " IS NULL");
+        }
+    }
+
+    final class BooleanValue implements FilterExpression {
+
+        private final FilterExpression operand;
+
+        BooleanValue(FilterExpression operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        public Object evaluate(Object[] values) {
+            final Object value = operand.evaluate(values);
+
+            return value instanceof Boolean ? value : null;
+        }
+
+        @Override
+        public String toString() {
+            return operand.toString();
+        }
+    }
+
+    final class Not implements FilterExpression {
+
+        private final FilterExpression operand;
+
+        Not(FilterExpression operand) {
+            this.operand = operand;
+        }
+
+        @Override
+        public Object evaluate(Object[] values) {
+            final Object value = operand.evaluate(values);
+
+            return value == null ? null : !((Boolean) value);
+        }
+
+        @Override
+        public String toString() {
+            return "NOT (" + operand + ")";
+        }
+    }
+
+    final class And implements FilterExpression {
+
+        private final FilterExpression left;
+        private final FilterExpression right;
+
+        And(FilterExpression left, FilterExpression right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public Object evaluate(Object[] values) {
+            final Object lhs = left.evaluate(values);
+            if (Boolean.FALSE.equals(lhs)) {
+                return Boolean.FALSE;
+            }
+
+            final Object rhs = right.evaluate(values);
+            if (Boolean.FALSE.equals(rhs)) {
+                return Boolean.FALSE;
+            }
+
+            return lhs == null || rhs == null ? null : Boolean.TRUE;
+        }
+
+        @Override
+        public String toString() {
+            return "(" + left + ") AND (" + right + ")";
+        }
+    }
+
+    final class Or implements FilterExpression {
+
+        private final FilterExpression left;
+        private final FilterExpression right;
+
+        Or(FilterExpression left, FilterExpression right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public Object evaluate(Object[] values) {
+            final Object lhs = left.evaluate(values);
+            if (Boolean.TRUE.equals(lhs)) {
+                return Boolean.TRUE;
+            }
+
+            final Object rhs = right.evaluate(values);
+            if (Boolean.TRUE.equals(rhs)) {
+                return Boolean.TRUE;
+            }
+
+            return lhs == null || rhs == null ? null : Boolean.FALSE;
+        }
+
+        @Override
+        public String toString() {
+            return "(" + left + ") OR (" + right + ")";
+        }
+    }
+
+    //----- Value support
+
+    /**
+     * Converts a decoded AMQP value into one of the types the expression operators understand, which
+     * are {@link String}, {@link Long}, {@link Double} and {@link Boolean}, or null if the value is missing.
+     *
+     * @param value
+     * 		The decoded value to normalize.
+     *
+     * @return the normalized value.
+     */
+    static Object normalize(Object value) {
+        if (value == null || value instanceof String || value instanceof Boolean || value instanceof Long || value instanceof Double) {
+            return value;
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        } else if (value instanceof Float) {
+            return ((Float) value).doubleValue();
+        } else if (value instanceof UnsignedByte || value instanceof UnsignedShort ||
+                   value instanceof UnsignedInteger || value instanceof UnsignedLong) {
+            return ((Number) value).longValue();
+        } else if (value instanceof Symbol || value instanceof UUID || value instanceof Character) {
+            return value.toString();
+        } else if (value instanceof Date) {
+            return ((Date) value).getTime();
+        } else {
+            return value;
+        }
+    }
+
+    private static Boolean equal(Object lhs, Object rhs) {
+        if (lhs instanceof Number && rhs instanceof Number) {
+            return compare(lhs, rhs) == 0;
+        } else if (lhs.getClass().equals(rhs.getClass()) && (lhs instanceof String || lhs instanceof Boolean)) {
+            return Objects.equals(lhs, rhs);
+        } else {
+            return null;
+        }
+    }
+
+    private static Integer compare(Object lhs, Object rhs) {
+        if (lhs instanceof Long && rhs instanceof Long) {
+            return Long.compare((Long) lhs, (Long) rhs);
+        } else if (lhs instanceof Number && rhs instanceof Number) {
+            return Double.compare(((Number) lhs).doubleValue(), ((Number) rhs).doubleValue());
+        } else if (lhs instanceof String && rhs instanceof String) {
+            return ((String) lhs).compareTo((String) rhs);
+        } else {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,338 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.codec.filter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.apache.qpid.protonj2.codec.filter.FilterExpression.Operator;
+
+/**
+ * Recursive descent parser for {@link MessageFilter} expressions which assigns each field that the
+ * expression references a value slot in the order the field first appears.
+ */
+final class FilterParser {
+
+    private final String expression;
+    private final Map<String, Integer> fields = new LinkedHashMap<>();
+
+    private int position;
+
+    FilterParser(String expression) {
+        this.expression = expression;
+    }
+
+    /**
+     * @return the fields referenced by the parsed expression mapped to their assigned value slot.
+     */
+    Map<String, Integer> getFields() {
+        return fields;
+    }
+
+    /**
+     * Parses the full expression.
+     *
+     * @return the root of the parsed expression.
+     *
+     * @throws IllegalArgumentException if the expression is not valid.
+     */
+    FilterExpression parse() {
+        final FilterExpression result = parseOr();
+
+        skipWhitespace();
+        if (position < expression.length()) {
+            throw error("Unexpected input '" + expression.charAt(position) + "'");
+        }
+
+        return result;
+    }
+
+    private FilterExpression parseOr() {
+        FilterExpression left = parseAnd();
+        while (acceptKeyword("OR")) {
+            left = new FilterExpression.Or(left, parseAnd());
+        }
+
+        return left;
+    }
+
+    private FilterExpression parseAnd() {
+        FilterExpression left = parseNot();
+        while (acceptKeyword("AND")) {
+            left = new FilterExpression.And(left, parseNot());
+        }
+
+        return left;
+    }
+
+    private FilterExpression parseNot() {
+        if (acceptKeyword("NOT")) {
+            return new FilterExpression.Not(parseNot());
+        }
+
+        return parsePredicate();
+    }
+
+    private FilterExpression parsePredicate() {
+        if (accept("(")) {
+            final FilterExpression nested = parseOr();
+            expect(")");
+            return nested;
+        }
+
+        final FilterExpression operand = parseOperand();
+
+        if (acceptKeyword("IS")) {
+            final boolean negated = acceptKeyword("NOT");
+            expectKeyword("NULL");
+            return new FilterExpression.IsNull(operand, negated);
+        }
+
+        final int start = position;
+        final boolean negated = acceptKeyword("NOT");
+        if (acceptKeyword("IN")) {
+            return new FilterExpression.In(operand, parseInList(), negated);
+        } else if (negated) {
+            position = start;
+            throw error("Expected IN after NOT");
+        }
+
+        final Operator operator = acceptOperator();
+        if (operator != null) {
+            return new FilterExpression.Comparison(operator, operand, parseOperand());
+        }
+
+        return new FilterExpression.BooleanValue(operand);
+    }
+
+    private List<Object> parseInList() {
+        final List<Object> candidates = new ArrayList<>();
+
+        expect("(");
+        do {
+            candidates.add(parseLiteral());
+        } while (accept(","));
+        expect(")");
+
+        return candidates;
+    }
+
+    private FilterExpression parseOperand() {
+        skipWhitespace();
+
+        if (position < expression.length() && isIdentifierStart(expression.charAt(position))) {
+            final int start = position;
+            final String identifier = readIdentifier();
+            final String upper = identifier.toUpperCase(Locale.ROOT);
+
+            if (upper.equals("TRUE") || upper.equals("FALSE")) {
+                return new FilterExpression.Literal(Boolean.valueOf(upper.equals("TRUE")));
+            } else if (isKeyword(upper)) {
+                position = start;
+                throw error("Expected an identifier or literal but found keyword " + upper);
+            }
+
+            return new FilterExpression.Field(identifier, fields.computeIfAbsent(identifier, (key) -> fields.size()));
+        }
+
+        return new FilterExpression.Literal(parseLiteral());
+    }
+
+    private Object parseLiteral() {
+        skipWhitespace();
+
+        if (position >= expression.length()) {
+            throw error("Unexpected end of expression");
+        }
+
+        final char next = expression.charAt(position);
+
+        if (next == '\'') {
+            return readString();
+        } else if (next == '-' || next == '+' || next == '.' || Character.isDigit(next)) {
+            return readNumber();
+        } else if (isIdentifierStart(next)) {
+            final int start = position;
+            final String upper = readIdentifier().toUpperCase(Locale.ROOT);
+            if (upper.equals("TRUE") || upper.equals("FALSE")) {
+                return Boolean.valueOf(upper.equals("TRUE"));
+            }
+
+            position = start;
+        }
+
+        throw error("Expected a literal value");
+    }
+
+    private String readString() {
+        final StringBuilder builder = new StringBuilder();
+        final int start = position++;
+
+        while (position < expression.length()) {
+            final char next = expression.charAt(position++);
+            if (next == '\'') {
+                if (position < expression.length() && expression.charAt(position) == '\'') {
+                    builder.append('\'');
+                    position++;
+                } else {
+                    return builder.toString();
+                }
+            } else {
+                builder.append(next);
+            }
+        }
+
+        position = start;
+        throw error("Unterminated string literal");
+    }
+
+    private Object readNumber() {
+        final int start = position;
+
+        if (expression.charAt(position) == '-' || expression.charAt(position) == '+') {
+            position++;
+        }
+
+        boolean decimal = false;
+        while (position < expression.length()) {
+            final char next = expression.charAt(position);
+            if (Character.isDigit(next)) {
+                position++;
+            } else if (next == '.' || next == 'e' || next == 'E') {
+                decimal = true;
+                position++;
+                if (next != '.' && position < expression.length() &&
+                    (expression.charAt(position) == '-' || expression.charAt(position) == '+')) {
+                    position++;
+                }
+            } else {
+                break;
+            }
+        }
+
+        final String text = expression.substring(start, position);
+
+        try {
+            return decimal ? (Object) Double.valueOf(text) : (Object) Long.valueOf(text);
+        } catch (NumberFormatException ex) {
+            position = start;
+            throw error("Invalid numeric literal '" + text + "'");
+        }
+    }
+
+    private String readIdentifier() {
+        final int start = position;
+
+        while (position < expression.length() && isIdentifierPart(expression.charAt(position))) {
+            position++;
+        }
+
+        return expression.substring(start, position);
+    }
+
+    private Operator acceptOperator() {
+        skipWhitespace();
+
+        if (accept("<>")) {
+            return Operator.NOT_EQUAL;
+        } else if (accept("<=")) {
+            return Operator.LESS_THAN_OR_EQUAL;
+        } else if (accept(">=")) {
+            return Operator.GREATER_THAN_OR_EQUAL;
+        } else if (accept("=")) {
+            return Operator.EQUAL;
+        } else if (accept("<")) {
+            return Operator.LESS_THAN;
+        } else if (accept(">")) {
+            return Operator.GREATER_THAN;
+        }
+
+        return null;
+    }
+
+    private boolean accept(String token) {
+        skipWhitespace();
+
+        if (expression.startsWith(token, position)) {
+            position += token.length();
+            return true;
+        }
+
+        return false;
+    }
+
+    private void expect(String token) {
+        if (!accept(token)) {
+            throw error("Expected '" + token + "'");
+        }
+    }
+
+    private boolean acceptKeyword(String keyword) {
+        skipWhitespace();
+
+        final int end = position + keyword.length();
+
+        if (expression.regionMatches(true, position, keyword, 0, keyword.length()) &&
+            (end == expression.length() || !isIdentifierPart(expression.charAt(end)))) {
+            position = end;
+            return true;
+        }
+
+        return false;
+    }
+
+    private void expectKeyword(String keyword) {
+        if (!acceptKeyword(keyword)) {
+            throw error("Expected " + keyword);
+        }
+    }
+
+    private void skipWhitespace() {
+        while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+            position++;
+        }
+    }
+
+    private IllegalArgumentException error(String message) {
+        return new IllegalArgumentException(message + " at position " + position + " of filter expression: " + expression);
+    }
+
+    private static boolean isKeyword(String upper) {
+        switch (upper) {
+            case "AND":
+            case "OR":
+            case "NOT":
+            case "IN":
+            case "IS":
+            case "NULL":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isIdentifierStart(char value) {
+        return Character.isLetter(value) || value == '_' || value == '$';
+    }
+
+    private static boolean isIdentifierPart(char value) {
+        return Character.isLetterOrDigit(value) || value == '_' || value == '$' || value == '.' || value == '-';
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.codec.filter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.codec.CodecFactory;
+import org.apache.qpid.protonj2.codec.DecodeException;
+import org.apache.qpid.protonj2.codec.Decoder;
+import org.apache.qpid.protonj2.codec.DecoderState;
+import org.apache.qpid.protonj2.codec.TypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.ProtonScanningContext;
+import org.apache.qpid.protonj2.codec.decoders.messaging.ApplicationPropertiesTypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.primitives.ListTypeDecoder;
+import org.apache.qpid.protonj2.types.messaging.ApplicationProperties;
+import org.apache.qpid.protonj2.types.messaging.DeliveryAnnotations;
+import org.apache.qpid.protonj2.types.messaging.Header;
+import org.apache.qpid.protonj2.types.messaging.MessageAnnotations;
+import org.apache.qpid.protonj2.types.messaging.Properties;
+
+/**
+ * A compiled selector style expression that is evaluated directly against the encoded bytes of
+ * an AMQP message without decoding the message into its section types.
+ * <p>
+ * An expression is built from comparisons ({@code =, <>, <, <=, >, >=}), {@code [NOT] IN (...)},
+ * {@code IS [NOT] NULL} and boolean identifiers combined with {@code AND}, {@code OR}, {@code NOT}
+ * and parentheses.  Keywords are not case sensitive while identifiers are.  Literals may be quoted
+ * strings with {@code ''} used to escape a quote, integer or decimal numbers and {@code TRUE} or
+ * {@code FALSE}.  The identifiers {@code header.durable},
+ * {@code header.priority}, {@code header.ttl}, {@code header.first_acquirer} and
+ * {@code header.delivery_count} select fields of the message {@link Header} and take the default
+ * value the specification defines when not present, identifiers of the form {@code properties.<field>}
+ * such as {@code properties.subject} or {@code properties.group_id} select fields of the message
+ * {@link Properties} and any other identifier selects the {@link ApplicationProperties} entry with
+ * that key.  A field that is not present is null and comparisons against null are unknown which
+ * does not match, as is a comparison of two values of incompatible types.
+ * <p>
+ * When evaluated only the fields the expression references are decoded, other fields and the
+ * annotations sections are skipped over and the body is never read.  A filter instance retains
+ * decoding state between calls and is not safe for use from multiple threads.
+ */
+public final class MessageFilter {
+
+    private static final String HEADER_PREFIX = "header.";
+    private static final String PROPERTIES_PREFIX = "properties.";
+
+    private static final List<String> HEADER_FIELDS = Arrays.asList(
+        "durable", "priority", "ttl", "first_acquirer", "delivery_count");
+
+    private static final Object[] HEADER_DEFAULTS = { Boolean.FALSE, Long.valueOf(Header.DEFAULT_PRIORITY), null, Boolean.FALSE, Long.valueOf(0) };
+
+    private static final List<String> PROPERTIES_FIELDS = Arrays.asList(
+        "message_id", "user_id", "to", "subject", "reply_to", "correlation_id", "content_type", "content_encoding",
+        "absolute_expiry_time", "creation_time", "group_id", "group_sequence", "reply_to_group_id");
+
+    private final String expression;
+    private final FilterExpression root;
+    private final Object[] values;
+
+    private final int[] headerSlots;
+    private final int[] propertiesSlots;
+    private final String[] applicationPropertyKeys;
+    private final int[] applicationPropertySlots;
+    private final ProtonScanningContext<String> applicationPropertiesContext;
+    private final BiConsumer<String, Object> applicationPropertyConsumer = this::applicationPropertyMatched;
+
+    private final Decoder decoder = CodecFactory.getDefaultDecoder();
+    private final DecoderState decoderState = decoder.newDecoderState();
+
+    private MessageFilter(String expression, FilterExpression root, Map<String, Integer> fields) {
+        this.expression = expression;
+        this.root = root;
+        this.values = new Object[fields.size()];
+
+        final int[] headerSlots = new int[HEADER_FIELDS.size()];
+        final int[] propertiesSlots = new int[PROPERTIES_FIELDS.size()];
+        final List<String> keys = new ArrayList<>();
+        final List<Integer> keySlots = new ArrayList<>();
+
+        Arrays.fill(headerSlots, -1);
+        Arrays.fill(propertiesSlots, -1);
+
+        boolean hasHeaderFields = false;
+        boolean hasPropertiesFields = false;
+
+        for (Map.Entry<String, Integer> field : fields.entrySet()) {
+            final String name = field.getKey();
+
+            if (name.startsWith(HEADER_PREFIX) && HEADER_FIELDS.contains(name.substring(HEADER_PREFIX.length()))) {
+                headerSlots[HEADER_FIELDS.indexOf(name.substring(HEADER_PREFIX.length()))] = field.getValue();
+                hasHeaderFields = true;
+            } else if (name.startsWith(PROPERTIES_PREFIX) && PROPERTIES_FIELDS.contains(name.substring(PROPERTIES_PREFIX.length()))) {
+                propertiesSlots[PROPERTIES_FIELDS.indexOf(name.substring(PROPERTIES_PREFIX.length()))] = field.getValue();
+                hasPropertiesFields = true;
+            } else {
+                keys.add(name);
+                keySlots.add(field.getValue());
+            }
+        }
+
+        this.headerSlots = hasHeaderFields ? headerSlots : null;
+        this.propertiesSlots = hasPropertiesFields ? propertiesSlots : null;
+        this.applicationPropertyKeys = keys.toArray(new String[keys.size()]);
+        this.applicationPropertySlots = keySlots.stream().mapToInt(Integer::intValue).toArray();
+        this.applicationPropertiesContext = keys.isEmpty() ? null : ProtonScanningContext.createStringScanContext(keys);
+    }
+
+    /**
+     * Compiles the given filter expression into a {@link MessageFilter} that can be applied to
+     * encoded messages.
+     *
+     * @param expression
+     * 		The filter expression to compile.
+     *
+     * @return a new {@link MessageFilter} that evaluates the given expression.
+     *
+     * @throws IllegalArgumentException if the expression is null or not a valid filter expression.
+     */
+    public static MessageFilter compile(String expression) {
+        if (expression == null) {
+            throw new IllegalArgumentException("Filter expression cannot be null");
+        }
+
+        final FilterParser parser = new FilterParser(expression);
+        final FilterExpression root = parser.parse();
+
+        return new MessageFilter(expression, root, parser.getFields());
+    }
+
+    /**
+     * @return the expression that this filter was compiled from.
+     */
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * Evaluates this filter against the encoded message sections in the readable bytes of the given
+     * buffer.  The read offset of the buffer is unchanged when this method returns.
+     *
+     * @param payload
+     * 		The buffer containing the encoded message sections.
+     *
+     * @return true if the encoded message matches this filter.
+     *
+     * @throws DecodeException if an error occurs while reading the encoded message sections.
+     */
+    public boolean matches(ProtonBuffer payload) throws DecodeException {
+        final int startOffset = payload.getReadOffset();
+
+        Arrays.fill(values, null);
+
+        try {
+            readSections(payload);
+        } finally {
+            payload.setReadOffset(startOffset);
+            decoderState.reset();
+        }
+
+        if (headerSlots != null) {
+            for (int i = 0; i < headerSlots.length; ++i) {
+                if (headerSlots[i] >= 0 && values[headerSlots[i]] == null) {
+                    values[headerSlots[i]] = HEADER_DEFAULTS[i];
+                }
+            }
+        }
+
+        return Boolean.TRUE.equals(root.evaluate(values));
+    }
+
+    @Override
+    public String toString() {
+        return "MessageFilter { " + root + " }";
+    }
+
+    private void readSections(ProtonBuffer payload) throws DecodeException {
+        boolean headerNeeded = headerSlots != null;
+        boolean propertiesNeeded = propertiesSlots != null;
+
+        while (payload.isReadable() && (headerNeeded || propertiesNeeded || applicationPropertiesContext != null)) {
+            final TypeDecoder<?> typeDecoder = decoder.readNextTypeDecoder(payload, decoderState);
+            final Class<?> typeClass = typeDecoder.getTypeClass();
+
+            if (typeClass == Header.class && headerNeeded) {
+                readListFields(payload, headerSlots);
+            } else if (typeClass == Properties.class && propertiesNeeded) {
+                readListFields(payload, propertiesSlots);
+            } else if (typeClass == ApplicationProperties.class && applicationPropertiesContext != null) {
+                ((ApplicationPropertiesTypeDecoder) typeDecoder).scanProperties(
+                    payload, decoderState, applicationPropertiesContext, applicationPropertyConsumer);
+                return;
+            } else if (typeClass == Header.class || typeClass == DeliveryAnnotations.class ||
+                       typeClass == MessageAnnotations.class || typeClass == Properties.class) {
+                typeDecoder.skipValue(payload, decoderState);
+            } else {
+                return; // Body or Footer, nothing further can be selected.
+            }
+
+            if (typeClass != Header.class) {
+                headerNeeded = false;
+            }
+            if (typeClass == Properties.class) {
+                propertiesNeeded = false;
+            }
+        }
+    }
+
+    private void readListFields(ProtonBuffer payload, int[] slots) throws DecodeException {
+        final TypeDecoder<?> typeDecoder = decoder.readNextTypeDecoder(payload, decoderState);
+
+        if (!(typeDecoder instanceof ListTypeDecoder)) {
+            typeDecoder.skipValue(payload, decoderState);
+            return;
+        }
+
+        final ListTypeDecoder listDecoder = (ListTypeDecoder) typeDecoder;
+        final int size = listDecoder.readSize(payload, decoderState);
+        final int endOffset = payload.getReadOffset() + size;
+        final int count = Math.min(listDecoder.readCount(payload, decoderState), slots.length);
+
+        int remaining = 0;
+        for (int slot : slots) {
+            remaining += slot >= 0 ? 1 : 0;
+        }
+
+        for (int index = 0; index < count && remaining > 0; ++index) {
+            if (slots[index] >= 0) {
+                values[slots[index]] = decoder.readObject(payload, decoderState);
+                remaining--;
+            } else {
+                decoder.readNextTypeDecoder(payload, decoderState).skipValue(payload, decoderState);
+            }
+        }
+
+        payload.setReadOffset(endOffset);
+    }
+
+    private void applicationPropertyMatched(String key, Object value) {
+        for (int i = 0; i < applicationPropertyKeys.length; ++i) {
+            if (applicationPropertyKeys[i].equals(key)) {
+                values[applicationPropertySlots[i]] = value;
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.codec.generator;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.apache.qpid.protonj2.codec.decoders.AbstractDescribedListTypeDecoder;
+import org.apache.qpid.protonj2.codec.encoders.AbstractDescribedListTypeEncoder;
+
+/**
+ * Marks a class as an AMQP described type that is encoded as a list of the fields annotated
+ * with {@link DescribedListElement}.
+ * <p>
+ * When the {@link DescribedListTypeProcessor} is enabled during compilation it generates an
+ * {@link AbstractDescribedListTypeEncoder} named {@code <Type>TypeEncoder} and an
+ * {@link AbstractDescribedListTypeDecoder} named {@code <Type>TypeDecoder} in the package of
+ * the annotated class.  The generated codecs are registered the same way as hand written ones:
+ *
+ * <pre>
+ * encoder.registerDescribedTypeEncoder(new OrderTypeEncoder());
+ * decoder.registerDescribedTypeDecoder(new OrderTypeDecoder());
+ * streamDecoder.registerDescribedTypeDecoder(new OrderTypeDecoder());
+ * </pre>
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface DescribedListType {
+
+    /**
+     * @return the numeric descriptor code of the described type.
+     */
+    long descriptorCode();
+
+    /**
+     * @return the symbolic descriptor of the described type.
+     */
+    String descriptorSymbol();
+
+}
@@ -0,0 +1,764 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.codec.generator;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+import org.apache.qpid.protonj2.codec.decoders.AbstractDescribedListTypeDecoder;
+import org.apache.qpid.protonj2.codec.encoders.AbstractDescribedListTypeEncoder;
+
+/**
+ * Annotation processor that generates an {@link AbstractDescribedListTypeEncoder} and an
+ * {@link AbstractDescribedListTypeDecoder} for each class annotated with {@link DescribedListType}.
+ * <p>
+ * The generated codecs access the annotated elements directly and use the typed primitive read
+ * and write methods of the codec so that no reflection is needed and primitive values are never
+ * boxed.  The processor is not registered as a service and must be enabled explicitly, for example
+ * using the javac {@code -processor} option or the {@code annotationProcessors} configuration of the
+ * maven compiler plugin.
+ */
+@SupportedAnnotationTypes("org.apache.qpid.protonj2.codec.generator.DescribedListType")
+public final class DescribedListTypeProcessor extends AbstractProcessor {
+
+    private static final String GENERATED_ANNOTATION =
+        "@javax.annotation.processing.Generated(\"" + DescribedListTypeProcessor.class.getName() + "\")";
+
+    private static final String ENCODED_SIZE = "encoder.getEncodedSize(state, %1$s)";
+
+    /*
+     * The write, read and size expressions used for each supported element type.  Write and size
+     * expressions are given the element accessor, read expressions are given the name of the source
+     * buffer or stream and the erased type of the element.
+     */
+    private enum ElementCodec {
+        BOOLEAN("encoder.writeBoolean(buffer, state, %1$s)", "decoder.readBoolean(%1$s, state, false)", "Byte.BYTES", "false"),
+        BYTE("encoder.writeByte(buffer, state, %1$s)", "decoder.readByte(%1$s, state, (byte) 0)", "Byte.BYTES + Byte.BYTES", "(byte) 0"),
+        SHORT("encoder.writeShort(buffer, state, %1$s)", "decoder.readShort(%1$s, state, (short) 0)", "Byte.BYTES + Short.BYTES", "(short) 0"),
+        INT("encoder.writeInteger(buffer, state, %1$s)", "decoder.readInteger(%1$s, state, 0)", "getIntegerEncodedSize(%1$s)", "0"),
+        LONG("encoder.writeLong(buffer, state, %1$s)", "decoder.readLong(%1$s, state, 0L)", "getLongEncodedSize(%1$s)", "0L"),
+        FLOAT("encoder.writeFloat(buffer, state, %1$s)", "decoder.readFloat(%1$s, state, 0F)", "Byte.BYTES + Float.BYTES", "0F"),
+        DOUBLE("encoder.writeDouble(buffer, state, %1$s)", "decoder.readDouble(%1$s, state, 0D)", "Byte.BYTES + Double.BYTES", "0D"),
+        CHAR("encoder.writeCharacter(buffer, state, %1$s)", "decoder.readCharacter(%1$s, state, '\\0')", "Byte.BYTES + Integer.BYTES", "'\\0'"),
+        BOXED_BOOLEAN("encoder.writeBoolean(buffer, state, %1$s)", "decoder.readBoolean(%1$s, state)"),
+        BOXED_BYTE("encoder.writeByte(buffer, state, %1$s)", "decoder.readByte(%1$s, state)"),
+        BOXED_SHORT("encoder.writeShort(buffer, state, %1$s)", "decoder.readShort(%1$s, state)"),
+        BOXED_INT("encoder.writeInteger(buffer, state, %1$s)", "decoder.readInteger(%1$s, state)"),
+        BOXED_LONG("encoder.writeLong(buffer, state, %1$s)", "decoder.readLong(%1$s, state)"),
+        BOXED_FLOAT("encoder.writeFloat(buffer, state, %1$s)", "decoder.readFloat(%1$s, state)"),
+        BOXED_DOUBLE("encoder.writeDouble(buffer, state, %1$s)", "decoder.readDouble(%1$s, state)"),
+        BOXED_CHAR("encoder.writeCharacter(buffer, state, %1$s)", "decoder.readCharacter(%1$s, state)"),
+        UNSIGNED_BYTE("encoder.writeUnsignedByte(buffer, state, %1$s)", "decoder.readUnsignedByte(%1$s, state)"),
+        UNSIGNED_SHORT("encoder.writeUnsignedShort(buffer, state, %1$s)", "decoder.readUnsignedShort(%1$s, state)"),
+        UNSIGNED_INT("encoder.writeUnsignedInteger(buffer, state, %1$s)", "decoder.readUnsignedInteger(%1$s, state)"),
+        UNSIGNED_LONG("encoder.writeUnsignedLong(buffer, state, %1$s)", "decoder.readUnsignedLong(%1$s, state)"),
+        STRING("encoder.writeString(buffer, state, %1$s)", "decoder.readString(%1$s, state)"),
+        SYMBOL("encoder.writeSymbol(buffer, state, %1$s)", "decoder.readSymbol(%1$s, state)"),
+        BINARY("encoder.writeBinary(buffer, state, %1$s)", "decoder.readBinary(%1$s, state)"),
+        BYTE_ARRAY("encoder.writeBinary(buffer, state, %1$s)", "toByteArray(decoder.readBinary(%1$s, state))", "getBinaryEncodedSize(%1$s)", "null"),
+        UUID("encoder.writeUUID(buffer, state, %1$s)", "decoder.readUUID(%1$s, state)"),
+        INT_ARRAY("encoder.writeArray(buffer, state, %1$s)", "decoder.readIntArray(%1$s, state)"),
+        LONG_ARRAY("encoder.writeArray(buffer, state, %1$s)", "decoder.readLongArray(%1$s, state)"),
+        DOUBLE_ARRAY("encoder.writeArray(buffer, state, %1$s)", "decoder.readDoubleArray(%1$s, state)"),
+        OBJECT("encoder.writeObject(buffer, state, %1$s)", "decoder.readObject(%1$s, state, %2$s.class)");
+
+        private final String write;
+        private final String read;
+        private final String size;
+        private final String defaultValue;
+
+        ElementCodec(String write, String read) {
+            this(write, read, ENCODED_SIZE, "null");
+        }
+
+        ElementCodec(String write, String read, String size, String defaultValue) {
+            this.write = write;
+            this.read = read;
+            this.size = size;
+            this.defaultValue = defaultValue;
+        }
+    }
+
+    private static final class ElementModel {
+
+        private final VariableElement field;
+        private final int index;
+        private final String typeName;
+        private final String erasedTypeName;
+        private final ElementCodec codec;
+
+        private String getter;
+        private String setter;
+
+        ElementModel(VariableElement field, int index, String typeName, String erasedTypeName, ElementCodec codec) {
+            this.field = field;
+            this.index = index;
+            this.typeName = typeName;
+            this.erasedTypeName = erasedTypeName;
+            this.codec = codec;
+        }
+
+        String localName() {
+            return "element" + index;
+        }
+    }
+
+    private static final class TypeModel {
+
+        private final TypeElement type;
+        private final String packageName;
+        private final String typeName;
+        private final String codecPrefix;
+        private final List<ElementModel> elements;
+        private final boolean useConstructor;
+        private final int elementCount;
+
+        TypeModel(TypeElement type, String packageName, List<ElementModel> elements, boolean useConstructor) {
+            final String qualifiedName = type.getQualifiedName().toString();
+
+            this.type = type;
+            this.packageName = packageName;
+            this.typeName = packageName.isEmpty() ? qualifiedName : qualifiedName.substring(packageName.length() + 1);
+            this.codecPrefix = typeName.replace('.', '_');
+            this.elements = elements;
+            this.useConstructor = useConstructor;
+            this.elementCount = elements.stream().mapToInt(element -> element.index + 1).max().orElse(0);
+        }
+
+        ElementModel elementAt(int index) {
+            for (ElementModel element : elements) {
+                if (element.index == index) {
+                    return element;
+                }
+            }
+
+            return null;
+        }
+
+        boolean hasElementCodec(ElementCodec codec) {
+            return elements.stream().anyMatch(element -> element.codec == codec);
+        }
+
+        boolean hasUncheckedReads() {
+            return elements.stream().anyMatch(element -> element.codec == ElementCodec.OBJECT &&
+                                                         !element.typeName.equals(element.erasedTypeName));
+        }
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(DescribedListType.class)) {
+            // Records are accepted by name as the RECORD kind is not available in all supported releases
+            if (element.getKind() != ElementKind.CLASS && !element.getKind().name().equals("RECORD")) {
+                error(element, "@DescribedListType can only be applied to a class or record");
+                continue;
+            }
+
+            final TypeElement type = (TypeElement) element;
+            final TypeModel model = createTypeModel(type);
+
+            if (model != null) {
+                try {
+                    writeEncoder(model);
+                    writeDecoder(model);
+                } catch (IOException e) {
+                    error(type, "Failed to write generated codec for " + type.getQualifiedName() + ": " + e.getMessage());
+                }
+            }
+        }
+
+        return true;
+    }
+
+    //----- Model creation and validation
+
+    private TypeModel createTypeModel(TypeElement type) {
+        if (!type.getTypeParameters().isEmpty()) {
+            error(type, "@DescribedListType cannot be applied to a generic type");
+            return null;
+        }
+
+        if (type.getModifiers().contains(Modifier.PRIVATE) || type.getModifiers().contains(Modifier.ABSTRACT)) {
+            error(type, "@DescribedListType cannot be applied to a private or abstract type");
+            return null;
+        }
+
+        if (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC) && type.getKind() == ElementKind.CLASS) {
+            error(type, "@DescribedListType cannot be applied to a non-static inner class");
+            return null;
+        } else if (type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS) {
+            error(type, "@DescribedListType cannot be applied to a local or anonymous class");
+            return null;
+        }
+
+        final Elements elementUtils = processingEnv.getElementUtils();
+        final List<ElementModel> elements = new ArrayList<>();
+
+        boolean valid = true;
+
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            final DescribedListElement annotation = field.getAnnotation(DescribedListElement.class);
+
+            if (annotation == null) {
+                continue;
+            }
+
+            if (field.getModifiers().contains(Modifier.STATIC)) {
+                error(field, "@DescribedListElement cannot be applied to a static field");
+                valid = false;
+                continue;
+            }
+
+            if (annotation.index() < 0) {
+                error(field, "@DescribedListElement index cannot be negative: " + annotation.index());
+                valid = false;
+                continue;
+            }
+
+            for (ElementModel existing : elements) {
+                if (existing.index == annotation.index()) {
+                    error(field, "@DescribedListElement index " + annotation.index() + " is already used by " + existing.field.getSimpleName());
+                    valid = false;
+                }
+            }
+
+            final TypeMirror fieldType = field.asType();
+            final ElementCodec codec = selectElementCodec(fieldType);
+
+            if (codec == null) {
+                error(field, "Unsupported @DescribedListElement type: " + fieldType);
+                valid = false;
+                continue;
+            }
+
+            final ElementModel element = new ElementModel(
+                field, annotation.index(), fieldType.toString(), processingEnv.getTypeUtils().erasure(fieldType).toString(), codec);
+
+            element.getter = findGetter(type, field);
+
+            if (element.getter == null) {
+                error(field, "@DescribedListElement " + field.getSimpleName() + " must be non-private or have a non-private accessor method");
+                valid = false;
+                continue;
+            }
+
+            element.setter = findSetter(type, field, element.localName());
+            elements.add(element);
+        }
+
+        if (!valid) {
+            return null;
+        }
+
+        final boolean hasNoArgConstructor = ElementFilter.constructorsIn(elementUtils.getAllMembers(type)).stream()
+            .anyMatch(constructor -> !constructor.getModifiers().contains(Modifier.PRIVATE) && constructor.getParameters().isEmpty());
+
+        if (hasNoArgConstructor && elements.stream().allMatch(element -> element.setter != null)) {
+            elements.sort(Comparator.comparingInt(element -> element.index));
+            return new TypeModel(type, elementUtils.getPackageOf(type).getQualifiedName().toString(), elements, false);
+        } else if (hasElementsConstructor(type, elements)) {
+            return new TypeModel(type, elementUtils.getPackageOf(type).getQualifiedName().toString(), elements, true);
+        } else {
+            error(type, "@DescribedListType requires a no-argument constructor and writable elements or " +
+                        "a constructor that accepts every element in declaration order");
+            return null;
+        }
+    }
+
+    private ElementCodec selectElementCodec(TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+                return ElementCodec.BOOLEAN;
+            case BYTE:
+                return ElementCodec.BYTE;
+            case SHORT:
+                return ElementCodec.SHORT;
+            case INT:
+                return ElementCodec.INT;
+            case LONG:
+                return ElementCodec.LONG;
+            case FLOAT:
+                return ElementCodec.FLOAT;
+            case DOUBLE:
+                return ElementCodec.DOUBLE;
+            case CHAR:
+                return ElementCodec.CHAR;
+            case ARRAY:
+                switch (((ArrayType) type).getComponentType().getKind()) {
+                    case BYTE:
+                        return ElementCodec.BYTE_ARRAY;
+                    case INT:
+                        return ElementCodec.INT_ARRAY;
+                    case LONG:
+                        return ElementCodec.LONG_ARRAY;
+                    case DOUBLE:
+                        return ElementCodec.DOUBLE_ARRAY;
+                    default:
+                        return ElementCodec.OBJECT;
+                }
+            case DECLARED:
+                break;
+            default:
+                return null;
+        }
+
+        switch (processingEnv.getTypeUtils().erasure(type).toString()) {
+            case "java.lang.Boolean":
+                return ElementCodec.BOXED_BOOLEAN;
+            case "java.lang.Byte":
+                return ElementCodec.BOXED_BYTE;
+            case "java.lang.Short":
+                return ElementCodec.BOXED_SHORT;
+            case "java.lang.Integer":
+                return ElementCodec.BOXED_INT;
+            case "java.lang.Long":
+                return ElementCodec.BOXED_LONG;
+            case "java.lang.Float":
+                return ElementCodec.BOXED_FLOAT;
+            case "java.lang.Double":
+                return ElementCodec.BOXED_DOUBLE;
+            case "java.lang.Character":
+                return ElementCodec.BOXED_CHAR;
+            case "java.lang.String":
+                return ElementCodec.STRING;
+            case "java.util.UUID":
+                return ElementCodec.UUID;
+            case "org.apache.qpid.protonj2.types.Symbol":
+                return ElementCodec.SYMBOL;
+            case "org.apache.qpid.protonj2.types.Binary":
+                return ElementCodec.BINARY;
+            case "org.apache.qpid.protonj2.types.UnsignedByte":
+                return ElementCodec.UNSIGNED_BYTE;
+            case "org.apache.qpid.protonj2.types.UnsignedShort":
+                return ElementCodec.UNSIGNED_SHORT;
+            case "org.apache.qpid.protonj2.types.UnsignedInteger":
+                return ElementCodec.UNSIGNED_INT;
+            case "org.apache.qpid.protonj2.types.UnsignedLong":
+                return ElementCodec.UNSIGNED_LONG;
+            default:
+                return ElementCodec.OBJECT;
+        }
+    }
+
+    private String findGetter(TypeElement type, VariableElement field) {
+        final String name = field.getSimpleName().toString();
+
+        if (!field.getModifiers().contains(Modifier.PRIVATE)) {
+            return "value." + name;
+        }
+
+        final Types typeUtils = processingEnv.getTypeUtils();
+        final String capitalized = capitalize(name);
+
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            final String methodName = method.getSimpleName().toString();
+
+            if (method.getModifiers().contains(Modifier.PRIVATE) || method.getModifiers().contains(Modifier.STATIC) ||
+                !method.getParameters().isEmpty() || !typeUtils.isSameType(method.getReturnType(), field.asType())) {
+                continue;
+            }
+
+            if (methodName.equals("get" + capitalized) || methodName.equals("is" + capitalized) || methodName.equals(name)) {
+                return "value." + methodName + "()";
+            }
+        }
+
+        return null;
+    }
+
+    private String findSetter(TypeElement type, VariableElement field, String localName) {
+        final String name = field.getSimpleName().toString();
+
+        if (!field.getModifiers().contains(Modifier.PRIVATE) && !field.getModifiers().contains(Modifier.FINAL)) {
+            return "result." + name + " = " + localName;
+        }
+
+        final Types typeUtils = processingEnv.getTypeUtils();
+        final String setterName = "set" + capitalize(name);
+
+        for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+            if (method.getModifiers().contains(Modifier.PRIVATE) || method.getModifiers().contains(Modifier.STATIC) ||
+                method.getParameters().size() != 1 || !method.getSimpleName().contentEquals(setterName)) {
+                continue;
+            }
+
+            if (typeUtils.isSameType(method.getParameters().get(0).asType(), field.asType())) {
+                return "result." + setterName + "(" + localName + ")";
+            }
+        }
+
+        return null;
+    }
+
+    private boolean hasElementsConstructor(TypeElement type, List<ElementModel> elements) {
+        final Types typeUtils = processingEnv.getTypeUtils();
+
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getModifiers().contains(Modifier.PRIVATE) || constructor.getParameters().size() != elements.size()) {
+                continue;
+            }
+
+            boolean matches = true;
+
+            for (int i = 0; i < elements.size() && matches; ++i) {
+                matches = typeUtils.isSameType(constructor.getParameters().get(i).asType(), elements.get(i).field.asType());
+            }
+
+            if (matches) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    //----- Source generation
+
+    private void writeEncoder(TypeModel model) throws IOException {
+        final DescribedListType annotation = model.type.getAnnotation(DescribedListType.class);
+        final String className = model.codecPrefix + "TypeEncoder";
+        final StringBuilder source = new StringBuilder();
+
+        writePackage(source, model);
+
+        source.append("import org.apache.qpid.protonj2.buffer.ProtonBuffer;\n");
+        source.append("import org.apache.qpid.protonj2.codec.Encoder;\n");
+        source.append("import org.apache.qpid.protonj2.codec.EncoderState;\n");
+        source.append("import org.apache.qpid.protonj2.codec.EncodingCodes;\n");
+        source.append("import org.apache.qpid.protonj2.codec.encoders.AbstractDescribedListTypeEncoder;\n");
+        source.append("import org.apache.qpid.protonj2.types.Symbol;\n");
+        source.append("import org.apache.qpid.protonj2.types.UnsignedLong;\n");
+        source.append("\n");
+        source.append("/**\n");
+        source.append(" * Encoder of {@link ").append(model.typeName).append("} type values generated from its described type annotations.\n");
+        source.append(" */\n");
+        source.append(GENERATED_ANNOTATION).append("\n");
+        source.append("public final class ").append(className)
+              .append(" extends AbstractDescribedListTypeEncoder<").append(model.typeName).append("> {\n");
+        source.append("\n");
+
+        writeDescriptorConstants(source, annotation);
+
+        source.append("    private static final int ELEMENT_COUNT = ").append(model.elementCount).append(";\n");
+        source.append("\n");
+
+        writeTypeMethods(source, model);
+
+        source.append("    @Override\n");
+        source.append("    public byte getListEncoding(EncoderState state, ").append(model.typeName).append(" value) {\n");
+        source.append("        return getSizedListEncoding(state, value);\n");
+        source.append("    }\n");
+        source.append("\n");
+        source.append("    @Override\n");
+        source.append("    public int getElementCount(").append(model.typeName).append(" value) {\n");
+        source.append("        return ELEMENT_COUNT;\n");
+        source.append("    }\n");
+        source.append("\n");
+        source.append("    @Override\n");
+        source.append("    public void writeElement(").append(model.typeName)
+              .append(" value, int index, ProtonBuffer buffer, Encoder encoder, EncoderState state) {\n");
+        source.append("        switch (index) {\n");
+
+        for (int index = 0; index < model.elementCount; ++index) {
+            final ElementModel element = model.elementAt(index);
+
+            source.append("            case ").append(index).append(":\n");
+            if (element == null) {
+                source.append("                buffer.writeByte(EncodingCodes.NULL);\n");
+            } else {
+                source.append("                ").append(String.format(element.codec.write, element.getter)).append(";\n");
+            }
+            source.append("                break;\n");
+        }
+
+        source.append("            default:\n");
+        source.append("                throw new IllegalArgumentException(\"Unknown ").append(model.typeName).append(" value index: \" + index);\n");
+        source.append("        }\n");
+        source.append("    }\n");
+        source.append("\n");
+        source.append("    @Override\n");
+        source.append("    public int getElementEncodedSize(").append(model.typeName)
+              .append(" value, int index, Encoder encoder, EncoderState state) {\n");
+        source.append("        switch (index) {\n");
+
+        for (int index = 0; index < model.elementCount; ++index) {
+            final ElementModel element = model.elementAt(index);
+
+            source.append("            case ").append(index).append(":\n");
+            if (element == null) {
+                source.append("                return Byte.BYTES;\n");
+            } else {
+                source.append("                return ").append(String.format(element.codec.size, element.getter)).append(";\n");
+            }
+        }
+
+        source.append("            default:\n");
+        source.append("                throw new IllegalArgumentException(\"Unknown ").append(model.typeName).append(" value index: \" + index);\n");
+        source.append("        }\n");
+        source.append("    }\n");
+
+        if (model.hasElementCodec(ElementCodec.INT)) {
+            source.append("\n");
+            source.append("    private static int getIntegerEncodedSize(int value) {\n");
+            source.append("        return value >= -128 && value <= 127 ? Byte.BYTES + Byte.BYTES : Byte.BYTES + Integer.BYTES;\n");
+            source.append("    }\n");
+        }
+
+        if (model.hasElementCodec(ElementCodec.BYTE_ARRAY)) {
+            source.append("\n");
+            source.append("    private static int getBinaryEncodedSize(byte[] value) {\n");
+            source.append("        if (value == null) {\n");
+            source.append("            return Byte.BYTES;\n");
+            source.append("        } else {\n");
+            source.append("            return value.length > 255 ? Byte.BYTES + Integer.BYTES + value.length : Byte.BYTES + Byte.BYTES + value.length;\n");
+            source.append("        }\n");
+            source.append("    }\n");
+        }
+
+        if (model.hasElementCodec(ElementCodec.LONG)) {
+            source.append("\n");
+            source.append("    private static int getLongEncodedSize(long value) {\n");
+            source.append("        return value >= -128 && value <= 127 ? Byte.BYTES + Byte.BYTES : Byte.BYTES + Long.BYTES;\n");
+            source.append("    }\n");
+        }
+
+        source.append("}\n");
+
+        writeSourceFile(model, className, source);
+    }
+
+    private void writeDecoder(TypeModel model) throws IOException {
+        final DescribedListType annotation = model.type.getAnnotation(DescribedListType.class);
+        final String className = model.codecPrefix + "TypeDecoder";
+        final StringBuilder source = new StringBuilder();
+
+        writePackage(source, model);
+
+        source.append("import java.io.InputStream;\n");
+        source.append("\n");
+        source.append("import org.apache.qpid.protonj2.buffer.ProtonBuffer;\n");
+        source.append("import org.apache.qpid.protonj2.codec.DecodeException;\n");
+        source.append("import org.apache.qpid.protonj2.codec.Decoder;\n");
+        source.append("import org.apache.qpid.protonj2.codec.DecoderState;\n");
+        source.append("import org.apache.qpid.protonj2.codec.StreamDecoder;\n");
+        source.append("import org.apache.qpid.protonj2.codec.StreamDecoderState;\n");
+        source.append("import org.apache.qpid.protonj2.codec.StreamTypeDecoder;\n");
+        source.append("import org.apache.qpid.protonj2.codec.TypeDecoder;\n");
+        source.append("import org.apache.qpid.protonj2.codec.decoders.AbstractDescribedListTypeDecoder;\n");
+        source.append("import org.apache.qpid.protonj2.codec.decoders.primitives.ListTypeDecoder;\n");
+        if (model.hasElementCodec(ElementCodec.BYTE_ARRAY)) {
+            source.append("import org.apache.qpid.protonj2.types.Binary;\n");
+        }
+        source.append("import org.apache.qpid.protonj2.types.Symbol;\n");
+        source.append("import org.apache.qpid.protonj2.types.UnsignedLong;\n");
+        source.append("\n");
+        source.append("/**\n");
+        source.append(" * Decoder of {@link ").append(model.typeName).append("} type values generated from its described type annotations.\n");
+        source.append(" */\n");
+        source.append(GENERATED_ANNOTATION).append("\n");
+        source.append("public final class ").append(className)
+              .append(" extends AbstractDescribedListTypeDecoder<").append(model.typeName).append("> {\n");
+        source.append("\n");
+
+        writeDescriptorConstants(source, annotation);
+        writeTypeMethods(source, model);
+        writeReadMethods(source, model, "ProtonBuffer buffer", "DecoderState state", "TypeDecoder", "Decoder", "buffer");
+        source.append("\n");
+        writeReadMethods(source, model, "InputStream stream", "StreamDecoderState state", "StreamTypeDecoder", "StreamDecoder", "stream");
+
+        if (model.hasElementCodec(ElementCodec.BYTE_ARRAY)) {
+            source.append("\n");
+            source.append("    private static byte[] toByteArray(Binary binary) {\n");
+            source.append("        return binary != null ? binary.asByteArray() : null;\n");
+            source.append("    }\n");
+        }
+
+        source.append("}\n");
+
+        writeSourceFile(model, className, source);
+    }
+
+    private void writeReadMethods(StringBuilder source, TypeModel model, String sourceParameter, String stateParameter,
+                                  String typeDecoder, String decoder, String sourceName) {
+        final String typeName = model.typeName;
+
+        source.append("    @Override\n");
+        source.append("    public ").append(typeName).append(" readValue(").append(sourceParameter).append(", ")
+              .append(stateParameter).append(") throws DecodeException {\n");
+        source.append("        final ").append(typeDecoder).append("<?> decoder = state.getDecoder().readNextTypeDecoder(")
+              .append(sourceName).append(", state);\n");
+        source.append("\n");
+        source.append("        return readType(").append(sourceName)
+              .append(", state, checkIsExpectedTypeAndCast(ListTypeDecoder.class, decoder));\n");
+        source.append("    }\n");
+        source.append("\n");
+        source.append("    @Override\n");
+        source.append("    public ").append(typeName).append("[] readArrayElements(").append(sourceParameter).append(", ")
+              .append(stateParameter).append(", int count) throws DecodeException {\n");
+        source.append("        final ").append(typeDecoder).append("<?> decoder = state.getDecoder().readNextTypeDecoder(")
+              .append(sourceName).append(", state);\n");
+        source.append("        final ListTypeDecoder listDecoder = checkIsExpectedTypeAndCast(ListTypeDecoder.class, decoder);\n");
+        source.append("\n");
+        source.append("        final ").append(typeName).append("[] result = new ").append(typeName).append("[count];\n");
+        source.append("        for (int i = 0; i < count; ++i) {\n");
+        source.append("            result[i] = readType(").append(sourceName).append(", state, listDecoder);\n");
+        source.append("        }\n");
+        source.append("\n");
+        source.append("        return result;\n");
+        source.append("    }\n");
+        source.append("\n");
+
+        if (model.hasUncheckedReads()) {
+            source.append("    @SuppressWarnings(\"unchecked\")\n");
+        }
+
+        source.append("    private ").append(typeName).append(" readType(").append(sourceParameter).append(", ")
+              .append(stateParameter).append(", ListTypeDecoder listDecoder) throws DecodeException {\n");
+        source.append("        final ").append(decoder).append(" decoder = state.getDecoder();\n");
+        source.append("\n");
+        source.append("        listDecoder.readSize(").append(sourceName).append(", state);\n");
+        source.append("        final int count = listDecoder.readCount(").append(sourceName).append(", state);\n");
+        source.append("\n");
+
+        for (ElementModel element : model.elements) {
+            source.append("        ").append(element.typeName).append(" ").append(element.localName())
+                  .append(" = ").append(element.codec.defaultValue).append(";\n");
+        }
+
+        if (!model.elements.isEmpty()) {
+            source.append("\n");
+        }
+
+        source.append("        for (int index = 0; index < count; ++index) {\n");
+        source.append("            switch (index) {\n");
+
+        for (ElementModel element : model.elements) {
+            source.append("                case ").append(element.index).append(":\n");
+            source.append("                    ").append(element.localName()).append(" = ")
+                  .append(String.format(element.codec.read, sourceName, element.erasedTypeName)).append(";\n");
+            source.append("                    break;\n");
+        }
+
+        // Elements this type does not know about are skipped to allow for newer versions of the type
+        source.append("                default:\n");
+        source.append("                    decoder.readNextTypeDecoder(").append(sourceName).append(", state).skipValue(")
+              .append(sourceName).append(", state);\n");
+        source.append("                    break;\n");
+        source.append("            }\n");
+        source.append("        }\n");
+        source.append("\n");
+
+        if (model.useConstructor) {
+            source.append("        return new ").append(typeName).append("(");
+            for (int i = 0; i < model.elements.size(); ++i) {
+                source.append(i > 0 ? ", " : "").append(model.elements.get(i).localName());
+            }
+            source.append(");\n");
+        } else {
+            source.append("        final ").append(typeName).append(" result = new ").append(typeName).append("();\n");
+            source.append("\n");
+            for (ElementModel element : model.elements) {
+                source.append("        ").append(element.setter).append(";\n");
+            }
+            source.append("\n");
+            source.append("        return result;\n");
+        }
+
+        source.append("    }\n");
+    }
+
+    private void writePackage(StringBuilder source, TypeModel model) {
+        if (!model.packageName.isEmpty()) {
+            source.append("package ").append(model.packageName).append(";\n");
+            source.append("\n");
+        }
+    }
+
+    private void writeDescriptorConstants(StringBuilder source, DescribedListType annotation) {
+        final Elements elementUtils = processingEnv.getElementUtils();
+
+        source.append("    private static final UnsignedLong DESCRIPTOR_CODE = UnsignedLong.valueOf(")
+              .append(elementUtils.getConstantExpression(annotation.descriptorCode())).append(");\n");
+        source.append("    private static final Symbol DESCRIPTOR_SYMBOL = Symbol.valueOf(")
+              .append(elementUtils.getConstantExpression(annotation.descriptorSymbol())).append(");\n");
+        source.append("\n");
+    }
+
+    private void writeTypeMethods(StringBuilder source, TypeModel model) {
+        source.append("    @Override\n");
+        source.append("    public Class<").append(model.typeName).append("> getTypeClass() {\n");
+        source.append("        return ").append(model.typeName).append(".class;\n");
+        source.append("    }\n");
+        source.append("\n");
+        source.append("    @Override\n");
+        source.append("    public UnsignedLong getDescriptorCode() {\n");
+        source.append("        return DESCRIPTOR_CODE;\n");
+        source.append("    }\n");
+        source.append("\n");
+        source.append("    @Override\n");
+        source.append("    public Symbol getDescriptorSymbol() {\n");
+        source.append("        return DESCRIPTOR_SYMBOL;\n");
+        source.append("    }\n");
+        source.append("\n");
+    }
+
+    private void writeSourceFile(TypeModel model, String className, StringBuilder source) throws IOException {
+        final String qualifiedName = model.packageName.isEmpty() ? className : model.packageName + "." + className;
+        final JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, model.type);
+
+        try (Writer writer = file.openWriter()) {
+            writer.write(source.toString());
+        }
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+}
@@ -42,6 +42,71 @@ public interface EngineConfiguration {
      */
     ProtonBufferAllocator getBufferAllocator();
 
+    /**
+     * Sets the ProtonBufferAllocator used to hold the payload of incoming deliveries whose size
+     * exceeds the configured large delivery threshold.
+     * <p>
+     * By default incoming transfer payloads are accumulated in the buffers read from the transport
+     * until the delivery is read.  When a large delivery allocator is assigned the payload of a
+     * delivery that grows beyond the threshold is moved into a single buffer from this allocator
+     * and subsequent transfers are appended to it, an allocator whose buffers are not held on the
+     * heap (such as one backed by memory mapped files) can then bound the heap used by very large
+     * deliveries. If no allocator is assigned (the default) no such policy is applied.
+     * <p>
+     * Receivers capture the large delivery settings when they are created so this should be
+     * configured before any receiver links are created.
+     *
+     * @param allocator
+     *      The Allocator instance used to hold large delivery payloads or null to disable.
+     *
+     * @return this {@link EngineConfiguration} for chaining.
+     */
+    EngineConfiguration setLargeDeliveryAllocator(ProtonBufferAllocator allocator);
+
+    /**
+     * @return the currently assigned large delivery {@link ProtonBufferAllocator} or null if none set.
+     */
+    ProtonBufferAllocator getLargeDeliveryAllocator();
+
+    /**
+     * Sets the size in bytes above which the payload of an incoming delivery is moved into a
+     * buffer from the assigned large delivery allocator. Receivers capture the threshold when
+     * they are created so this should be configured before any receiver links are created.
+     *
+     * @param threshold
+     *      The payload size in bytes above which deliveries are held in large delivery buffers.
+     *
+     * @return this {@link EngineConfiguration} for chaining.
+     */
+    EngineConfiguration setLargeDeliveryThreshold(int threshold);
+
+    /**
+     * @return the payload size in bytes above which deliveries are held in large delivery buffers.
+     */
+    int getLargeDeliveryThreshold();
+
+    /**
+     * Controls if the engine decodes incoming Transfer, Flow and Disposition performatives into
+     * per-connection instances that are reset and reused for every frame instead of allocating new
+     * ones, with the Transfer delivery tag being a view of the received frame bytes.
+     * <p>
+     * A recycled performative is only valid until the engine handler that it was passed to returns,
+     * handlers that need any part of it after that point must copy it.  The engine itself copies the
+     * delivery tag of a new incoming delivery.  The setting is applied when the AMQP header is read
+     * and so should be configured before the engine is started, it is disabled by default.
+     *
+     * @param recyclePerformatives
+     *      true to decode into recycled performative instances, false to allocate new ones.
+     *
+     * @return this {@link EngineConfiguration} for chaining.
+     */
+    EngineConfiguration setRecyclePerformatives(boolean recyclePerformatives);
+
+    /**
+     * @return true if the engine decodes incoming high volume performatives into recycled instances.
+     */
+    boolean isRecyclePerformatives();
+
     /**
      * Enables AMQP frame tracing from engine to the system output.  Depending
      * on the underlying engine composition frame tracing may not be possible
@@ -31,9 +31,17 @@ public class ProtonEngineConfiguration implements EngineConfiguration {
 
     private static final ProtonLogger LOG = ProtonLoggerFactory.getLogger(ProtonEngineConfiguration.class);
 
+    /**
+     * Default payload size above which deliveries move to the large delivery allocator if one is set.
+     */
+    public static final int DEFAULT_LARGE_DELIVERY_THRESHOLD = 8 * 1024 * 1024;
+
     private final ProtonEngine engine;
 
     private ProtonBufferAllocator allocator = ProtonBufferAllocator.defaultAllocator();
+    private ProtonBufferAllocator largeDeliveryAllocator;
+    private int largeDeliveryThreshold = DEFAULT_LARGE_DELIVERY_THRESHOLD;
+    private boolean recyclePerformatives;
 
     private long effectiveMaxInboundFrameSize = ProtonConstants.MIN_MAX_AMQP_FRAME_SIZE;
     private long effectiveMaxOutboundFrameSize = ProtonConstants.MIN_MAX_AMQP_FRAME_SIZE;
@@ -53,6 +61,43 @@ public class ProtonEngineConfiguration implements EngineConfiguration {
         return this;
     }
 
+    @Override
+    public ProtonBufferAllocator getLargeDeliveryAllocator() {
+        return largeDeliveryAllocator;
+    }
+
+    @Override
+    public ProtonEngineConfiguration setLargeDeliveryAllocator(ProtonBufferAllocator allocator) {
+        this.largeDeliveryAllocator = allocator;
+        return this;
+    }
+
+    @Override
+    public int getLargeDeliveryThreshold() {
+        return largeDeliveryThreshold;
+    }
+
+    @Override
+    public ProtonEngineConfiguration setLargeDeliveryThreshold(int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("The large delivery threshold cannot be negative");
+        }
+
+        this.largeDeliveryThreshold = threshold;
+        return this;
+    }
+
+    @Override
+    public ProtonEngineConfiguration setRecyclePerformatives(boolean recyclePerformatives) {
+        this.recyclePerformatives = recyclePerformatives;
+        return this;
+    }
+
+    @Override
+    public boolean isRecyclePerformatives() {
+        return recyclePerformatives;
+    }
+
     @Override
     public EngineConfiguration setTraceFrames(boolean traceFrames) {
         // If the frame logging handler wasn't added or was removed for less overhead then
@@ -22,6 +22,7 @@ import org.apache.qpid.protonj2.codec.CodecFactory;
 import org.apache.qpid.protonj2.codec.DecodeException;
 import org.apache.qpid.protonj2.codec.Decoder;
 import org.apache.qpid.protonj2.codec.DecoderState;
+import org.apache.qpid.protonj2.codec.decoders.ProtonDecoderState;
 import org.apache.qpid.protonj2.engine.AMQPPerformativeEnvelopePool;
 import org.apache.qpid.protonj2.engine.EmptyEnvelope;
 import org.apache.qpid.protonj2.engine.EngineHandler;
@@ -221,6 +222,9 @@ public class ProtonFrameDecodingHandler implements EngineHandler, SaslPerformati
                 } else {
                     decoder = CodecFactory.getDecoder();
                     decoderState = decoder.newDecoderState();
+                    if (decoderState instanceof ProtonDecoderState) {
+                        ((ProtonDecoderState) decoderState).setRecyclePerformatives(configuration.isRecyclePerformatives());
+                    }
                     // Once we've read an AMQP header we no longer care if any SASL work
                     // occurs as that would be erroneous behavior which this handler doesn't
                     // deal with.
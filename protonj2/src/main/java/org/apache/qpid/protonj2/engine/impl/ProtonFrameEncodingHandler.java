@@ -46,6 +46,9 @@ public class ProtonFrameEncodingHandler implements EngineHandler {
     public static final byte SASL_FRAME_TYPE = (byte) 1;
 
     private static final int AMQP_PERFORMATIVE_PAD = 128;
+
+    // Payloads smaller than this are cheaper to copy than to reference from a composite frame
+    private static final int SHARED_PAYLOAD_THRESHOLD = 1024;
     private static final int FRAME_HEADER_SIZE = 8;
     private static final byte FRAME_DOFF_SIZE = 2;
 
@@ -126,6 +129,16 @@ public class ProtonFrameEncodingHandler implements EngineHandler {
     }
 
     private void writePerformativeWithPayload(EngineHandlerContext context, OutgoingAMQPEnvelope envelope) {
+        final ProtonBuffer payload = envelope.getPayload();
+
+        if (payload.isReadOnly() && payload.getReadableBytes() >= SHARED_PAYLOAD_THRESHOLD) {
+            writePerformativeWithSharedPayload(context, envelope);
+        } else {
+            writePerformativeWithCopiedPayload(context, envelope);
+        }
+    }
+
+    private void writePerformativeWithCopiedPayload(EngineHandlerContext context, OutgoingAMQPEnvelope envelope) {
         final int maxFrameSize = (int) configuration.getOutboundMaxFrameSize();
         final ProtonBuffer payload = envelope.getPayload();
         final int estimatedCapacity = Math.min(maxFrameSize, AMQP_PERFORMATIVE_PAD + payload.getReadableBytes());
@@ -159,45 +172,44 @@ public class ProtonFrameEncodingHandler implements EngineHandler {
         context.fireWrite(output, envelope::handleOutgoingFrameWriteComplete);
     }
 
-    // TODO:
-    //-----------------------------------
-    // Eventual optimizations should allow for no copy of the incoming data into the
-    // output buffer by using a composite write similar to the below. Likely this will
-    // work best if the output buffer is written directly using a Netty 5 buffer proxy.
-    //
-    // @SuppressWarnings("resource")
-    // private void writePerformativeWithPayload(EngineHandlerContext context, OutgoingAMQPEnvelope envelope) {
-    //     final int maxFrameSize = (int) configuration.getOutboundMaxFrameSize();
-    //     final ProtonBuffer performativeBuffer = configuration.getBufferAllocator()
-    //                                                          .outputBuffer(AMQP_PERFORMATIVE_PAD)
-    //                                                          .implicitGrowthLimit(maxFrameSize);
-    //
-    //     ProtonBuffer payload = envelope.getPayload();
-    //
-    //     try (performativeBuffer) {
-    //         writePerformative(performativeBuffer, encoder, envelope.getChannel(), envelope.getBody());
-    //
-    //         if (payload.getReadableBytes() > (maxFrameSize - performativeBuffer.getWriteOffset())) {
-    //             envelope.handlePayloadToLarge();
-    //
-    //             writePerformative(performativeBuffer.setWriteOffset(0), encoder, envelope.getChannel(), envelope.getBody());
-    //
-    //             payload = payload.readSplit(maxFrameSize - performativeBuffer.getWriteOffset()).convertToReadOnly();
-    //         } else {
-    //             payload = payload.split().convertToReadOnly();
-    //         }
-    //
-    //         // Now fill in the frame header with the specified information
-    //         performativeBuffer.setInt(FRAME_START_BYTE, performativeBuffer.getReadableBytes() + payload.getReadableBytes());
-    //         performativeBuffer.setInt(FRAME_DOFF_BYTE, FRAME_HEADER_PREFIX | envelope.getChannel());
-    //         performativeBuffer.convertToReadOnly();
-    //
-    //         final ProtonCompositeBuffer output =
-    //             configuration.getBufferAllocator().composite(new ProtonBuffer[] { performativeBuffer, payload });
-    //
-    //         context.fireWrite(output, envelope::handleOutgoingFrameWriteComplete);
-    //     }
-    // }
+    /*
+     * A read-only payload cannot change once handed to the engine so rather than copying it into
+     * the frame buffer a read-only view of the payload bytes that fit in this frame is appended to
+     * a composite after the encoded performative. The view shares the memory of the payload which
+     * allows the IO layer to hand both halves of the frame to the socket without any copying.
+     */
+    private void writePerformativeWithSharedPayload(EngineHandlerContext context, OutgoingAMQPEnvelope envelope) {
+        final int maxFrameSize = (int) configuration.getOutboundMaxFrameSize();
+        final ProtonBuffer payload = envelope.getPayload();
+        final ProtonBuffer performative = configuration.getBufferAllocator().outputBuffer(AMQP_PERFORMATIVE_PAD)
+                                                                            .implicitGrowthLimit(maxFrameSize);
+
+        writePerformative(performative, encoder, envelope.getChannel(), envelope.getBody());
+
+        int payloadBytes = payload.getReadableBytes();
+
+        if (payloadBytes > maxFrameSize - performative.getWriteOffset()) {
+            envelope.handlePayloadToLarge();
+
+            writePerformative(performative, encoder, envelope.getChannel(), envelope.getBody());
+
+            payloadBytes = maxFrameSize - performative.getWriteOffset();
+        }
+
+        final ProtonBuffer payloadView = payload.copy(payload.getReadOffset(), payloadBytes, true);
+
+        payload.advanceReadOffset(payloadBytes);
+
+        // Now fill in the frame header with the specified information
+        performative.setInt(FRAME_START_BYTE, performative.getReadableBytes() + payloadBytes);
+        performative.setInt(FRAME_DOFF_BYTE, FRAME_HEADER_PREFIX | envelope.getChannel());
+        performative.convertToReadOnly();
+
+        final ProtonBuffer output =
+            configuration.getBufferAllocator().composite(new ProtonBuffer[] { performative, payloadView });
+
+        context.fireWrite(output, envelope::handleOutgoingFrameWriteComplete);
+    }
 
     private static void writePerformative(ProtonBuffer target, PerformativeEncoder encoder, int channel, Performative performative) {
         target.setWriteOffset(FRAME_HEADER_SIZE);
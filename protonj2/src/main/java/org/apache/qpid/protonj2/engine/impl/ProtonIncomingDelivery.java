@@ -17,6 +17,8 @@
 package org.apache.qpid.protonj2.engine.impl;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.buffer.ProtonBufferUtils;
 import org.apache.qpid.protonj2.buffer.ProtonCompositeBuffer;
 import org.apache.qpid.protonj2.engine.EventHandler;
 import org.apache.qpid.protonj2.engine.IncomingDelivery;
@@ -47,6 +49,7 @@ public class ProtonIncomingDelivery implements IncomingDelivery {
     private boolean remotelySettled;
 
     private ProtonBuffer payload;
+    private boolean payloadSpooled;
 
     private ProtonAttachments attachments;
     private Object linkedResource;
@@ -190,6 +193,7 @@ public class ProtonIncomingDelivery implements IncomingDelivery {
             final int bytesRead = claimedBytes -= payload.getReadableBytes();
             result = payload.transfer();
             payload = null;
+            payloadSpooled = false;
 
             if (bytesRead < 0) {
                 claimedBytes = 0;
@@ -208,7 +212,7 @@ public class ProtonIncomingDelivery implements IncomingDelivery {
             payload.advanceReadOffset(bytesRead);
 
             if (complete && !payload.isReadable()) {
-                payload = null;
+                releasePayload();
             }
 
             bytesRead = claimedBytes -= bytesRead;
@@ -227,7 +231,7 @@ public class ProtonIncomingDelivery implements IncomingDelivery {
             payload.readBytes(array, offset, length);
             bytesRead -= payload.getReadableBytes();
             if (complete && !payload.isReadable()) {
-                payload = null;
+                releasePayload();
             }
 
             bytesRead = claimedBytes -= bytesRead;
@@ -311,8 +315,7 @@ public class ProtonIncomingDelivery implements IncomingDelivery {
         if (payload != null) {
             final int bytesRead = payload.getReadableBytes();
 
-            payload.close();
-            payload = null;
+            releasePayload();
 
             // Ensure Session no longer records these in the window metrics
             link.deliveryRead(this, bytesRead);
@@ -347,9 +350,16 @@ public class ProtonIncomingDelivery implements IncomingDelivery {
     }
 
     ProtonIncomingDelivery appendTransferPayload(ProtonBuffer buffer) {
+        return appendTransferPayload(buffer, null, 0);
+    }
+
+    ProtonIncomingDelivery appendTransferPayload(ProtonBuffer buffer, ProtonBufferAllocator largeDeliveryAllocator, int largeDeliveryThreshold) {
         transferCount++;
 
-        if (payload == null) {
+        if (largeDeliveryAllocator != null &&
+            (payloadSpooled || (long) available() + buffer.getReadableBytes() > largeDeliveryThreshold)) {
+            spoolTransferPayload(largeDeliveryAllocator, buffer);
+        } else if (payload == null) {
             this.payload = buffer;
         } else if (ProtonCompositeBuffer.isComposite(payload)) {
             ((ProtonCompositeBuffer) payload).append(buffer);
@@ -360,6 +370,34 @@ public class ProtonIncomingDelivery implements IncomingDelivery {
         return this;
     }
 
+    private void spoolTransferPayload(ProtonBufferAllocator allocator, ProtonBuffer buffer) {
+        try (buffer) {
+            if (!payloadSpooled) {
+                final ProtonBuffer spool = allocator.allocate(available() + buffer.getReadableBytes());
+
+                if (payload != null) {
+                    spool.writeBytes(payload);
+                    payload.close();
+                }
+
+                payload = spool;
+                payloadSpooled = true;
+            }
+
+            // Grow by at least the current capacity so the spool isn't resized on each transfer
+            final int minimumGrowth = Math.min(payload.capacity(), ProtonBufferUtils.MAX_BUFFER_CAPACITY - payload.capacity());
+
+            payload.ensureWritable(buffer.getReadableBytes(), minimumGrowth, true);
+            payload.writeBytes(buffer);
+        }
+    }
+
+    private void releasePayload() {
+        payload.close();
+        payload = null;
+        payloadSpooled = false;
+    }
+
     @Override
     public String toString() {
         return "ProtonIncomingDelivery { " +
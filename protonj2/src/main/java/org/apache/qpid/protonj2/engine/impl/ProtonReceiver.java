@@ -24,6 +24,7 @@ import java.util.Objects;
 import java.util.function.Predicate;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 import org.apache.qpid.protonj2.engine.EventHandler;
 import org.apache.qpid.protonj2.engine.IncomingDelivery;
 import org.apache.qpid.protonj2.engine.LinkCreditState;
@@ -32,6 +33,7 @@ import org.apache.qpid.protonj2.engine.Session;
 import org.apache.qpid.protonj2.engine.exceptions.ProtocolViolationException;
 import org.apache.qpid.protonj2.engine.util.DeliveryIdTracker;
 import org.apache.qpid.protonj2.engine.util.UnsettledMap;
+import org.apache.qpid.protonj2.types.DeliveryTag;
 import org.apache.qpid.protonj2.types.UnsignedInteger;
 import org.apache.qpid.protonj2.types.transport.Attach;
 import org.apache.qpid.protonj2.types.transport.DeliveryState;
@@ -52,6 +54,8 @@ public class ProtonReceiver extends ProtonLink<Receiver> implements Receiver {
     private EventHandler<Receiver> linkCreditUpdatedHandler = null;
 
     private final ProtonSessionIncomingWindow sessionWindow;
+    private final ProtonBufferAllocator largeDeliveryAllocator;
+    private final int largeDeliveryThreshold;
     private final DeliveryIdTracker currentDeliveryId = new DeliveryIdTracker();
     private final UnsettledMap<ProtonIncomingDelivery> unsettled =
         new UnsettledMap<ProtonIncomingDelivery>(ProtonIncomingDelivery::getDeliveryIdInt);
@@ -71,6 +75,8 @@ public class ProtonReceiver extends ProtonLink<Receiver> implements Receiver {
         super(session, name, new ProtonLinkCreditState());
 
         this.sessionWindow = session.getIncomingWindow();
+        this.largeDeliveryAllocator = getEngine().configuration().getLargeDeliveryAllocator();
+        this.largeDeliveryThreshold = getEngine().configuration().getLargeDeliveryThreshold();
     }
 
     @Override
@@ -392,7 +398,11 @@ public class ProtonReceiver extends ProtonLink<Receiver> implements Receiver {
         } else {
             verifyNewDeliveryIdSequence(transfer, currentDeliveryId);
 
-            delivery = new ProtonIncomingDelivery(this, transfer.getDeliveryId(), transfer.getDeliveryTag());
+            // A recycled transfer carries a view of the tag bytes that is only valid for this frame.
+            final DeliveryTag deliveryTag = getEngine().configuration().isRecyclePerformatives() && transfer.getDeliveryTag() != null ?
+                transfer.getDeliveryTag().copy() : transfer.getDeliveryTag();
+
+            delivery = new ProtonIncomingDelivery(this, transfer.getDeliveryId(), deliveryTag);
             delivery.setMessageFormat((int) transfer.getMessageFormat());
 
             unsettled.put((int) transfer.getDeliveryId(), delivery);
@@ -408,7 +418,7 @@ public class ProtonReceiver extends ProtonLink<Receiver> implements Receiver {
         }
 
         if (payload != null) {
-            delivery.appendTransferPayload(payload);
+            delivery.appendTransferPayload(payload, largeDeliveryAllocator, largeDeliveryThreshold);
         }
 
         final boolean done = transfer.getAborted() || !transfer.getMore();
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.qpid.protonj2.resource;
+
+/**
+ * A tracker that is attached to a {@link SharedResource} in order to observe the life-cycle
+ * of the underlying resource it manages, the tracker is retained on behalf of each derived
+ * resource that shares the managed resource (split or shared copies) and released once for
+ * each such resource when it is closed.  Tracker instances move along with the resource when
+ * it is transferred.
+ */
+public interface ResourceTracker {
+
+    /**
+     * Called when a new resource has been derived that shares the tracked resource and which
+     * will itself release this tracker when closed.
+     *
+     * @return the tracker that should be attached to the newly derived resource.
+     */
+    ResourceTracker retain();
+
+    /**
+     * Called when a resource that holds this tracker has been closed.
+     */
+    void release();
+
+    /**
+     * Called when the resource that holds this tracker has changed the size of the underlying
+     * resource it manages such as when a buffer grows to accommodate more writes.
+     *
+     * @param previousCapacity
+     * 		The capacity of the resource before it was resized.
+     * @param newCapacity
+     * 		The capacity of the resource after it was resized.
+     */
+    default void resized(int previousCapacity, int newCapacity) {
+        // Trackers that do not account for resource sizes can ignore this
+    }
+
+}
@@ -30,6 +30,7 @@ public abstract class SharedResource<T extends Resource<T>> implements Resource<
     private static final int TRANSFERRED = -2;
 
     private int count;
+    private ResourceTracker tracker;
 
     protected final T acquire() {
         if (count < 0) {
@@ -47,7 +48,11 @@ public abstract class SharedResource<T extends Resource<T>> implements Resource<
 
         if (current-- == 0) {
             count = CLOSED;
-            releaseResourceOwnership();
+            try {
+                releaseResourceOwnership();
+            } finally {
+                releaseTracker();
+            }
         } else if (current >= 0) {
             --count;
         }
@@ -59,14 +64,48 @@ public abstract class SharedResource<T extends Resource<T>> implements Resource<
             throw resourceIsClosedException();
         }
 
+        final ResourceTracker current = tracker;
+        tracker = null;
+
         try {
-            return transferTheResource();
+            final T result = transferTheResource();
+            if (current != null && result instanceof SharedResource) {
+                ((SharedResource<?>) result).tracker = current;
+            }
+            return result;
         } finally {
             count = TRANSFERRED;
             releaseResourceOwnership();
         }
     }
 
+    /**
+     * Attaches a {@link ResourceTracker} to this resource which will be released when this
+     * resource is closed, moved to the new resource if this resource is transferred, and
+     * retained on behalf of any resource that is derived from this one and shares its contents.
+     *
+     * @param tracker
+     * 		The tracker to attach, or null to remove any existing tracker without releasing it.
+     *
+     * @return this resource instance.
+     */
+    public final T track(ResourceTracker tracker) {
+        if (count < 0) {
+            throw resourceIsClosedException();
+        }
+
+        this.tracker = tracker;
+
+        return self();
+    }
+
+    /**
+     * @return the {@link ResourceTracker} attached to this resource or null if none is attached.
+     */
+    public final ResourceTracker tracker() {
+        return tracker;
+    }
+
     @Override
     public final boolean isClosed() {
         return count < 0;
@@ -76,12 +115,49 @@ public abstract class SharedResource<T extends Resource<T>> implements Resource<
         return count > 0;
     }
 
+    /**
+     * Called by implementations when a new resource has been created that shares the
+     * contents of this resource such as a split or shared read-only copy, the derived
+     * resource is given a retained reference to this resource's tracker if one exists.
+     *
+     * @param derived
+     * 		The newly created resource that shares the contents of this one.
+     */
+    protected final void shareTrackerWith(Object derived) {
+        if (tracker != null && derived instanceof SharedResource) {
+            ((SharedResource<?>) derived).tracker = tracker.retain();
+        }
+    }
+
+    /**
+     * Called by implementations when the underlying resource has been resized such that any
+     * attached tracker can account for the change.
+     *
+     * @param previousCapacity
+     * 		The capacity of the resource before it was resized.
+     * @param newCapacity
+     * 		The capacity of the resource after it was resized.
+     */
+    protected final void trackResize(int previousCapacity, int newCapacity) {
+        if (tracker != null && previousCapacity != newCapacity) {
+            tracker.resized(previousCapacity, newCapacity);
+        }
+    }
+
     protected abstract void releaseResourceOwnership();
 
     protected abstract T transferTheResource();
 
     protected abstract RuntimeException resourceIsClosedException();
 
+    private void releaseTracker() {
+        final ResourceTracker current = tracker;
+        if (current != null) {
+            tracker = null;
+            current.release();
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private T self() {
         return (T) this;
@@ -18,21 +18,30 @@ package org.apache.qpid.protonj2.types;
 
 import static java.nio.charset.StandardCharsets.US_ASCII;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.buffer.ProtonBufferUtils;
 
 /**
  * Class that represents an AMQP Symbol value.  The creation of a Symbol object
  * occurs during a lookup operation which cannot find an already stored version
  * of the string or byte buffer view of the Symbol's ASCII bytes.
+ * <p>
+ * Symbols are cached in fixed size tables which hold the most recently used symbols,
+ * a symbol that is evicted from the cache remains valid and is equal to any symbol with
+ * the same value that is later created so the cache bounds memory use but not correctness.
  */
 public final class Symbol implements Comparable<Symbol> {
 
-    private static final Map<ProtonBuffer, Symbol> bufferToSymbols = new ConcurrentHashMap<>(2048);
-    private static final Map<String, Symbol> stringToSymbols = new ConcurrentHashMap<>(2048);
+    // Tables are two way set associative, each hash maps to an even index and its neighbor
+    // with the most recently used entry in the even slot and the entry to evict in the odd.
+    private static final int SYMBOL_TABLE_SIZE = 2048;
+    private static final int SYMBOL_TABLE_MASK = SYMBOL_TABLE_SIZE - 2;
+
+    private static final AtomicReferenceArray<Symbol> bufferToSymbols = new AtomicReferenceArray<>(SYMBOL_TABLE_SIZE);
+    private static final AtomicReferenceArray<Symbol> stringToSymbols = new AtomicReferenceArray<>(SYMBOL_TABLE_SIZE);
 
     private static final Symbol EMPTY_SYMBOL = new Symbol();
 
@@ -49,8 +58,12 @@ public final class Symbol implements Comparable<Symbol> {
     }
 
     private Symbol(ProtonBuffer underlying) {
+        this(underlying, ProtonBufferUtils.hashCode(underlying));
+    }
+
+    private Symbol(ProtonBuffer underlying, int hashCode) {
         this.underlying = underlying;
-        this.hashCode = underlying.hashCode();
+        this.hashCode = hashCode;
     }
 
     /**
@@ -75,13 +88,19 @@ public final class Symbol implements Comparable<Symbol> {
     @Override
     public String toString() {
         if (symbolString == null && underlying.getReadableBytes() > 0) {
-            symbolString = underlying.toString(US_ASCII);
+            final String value = underlying.toString(US_ASCII);
 
             if (underlying.getReadableBytes() <= MAX_CACHED_SYMBOL_SIZE) {
-                final Symbol existing;
-                if ((existing = stringToSymbols.putIfAbsent(symbolString, this)) != null) {
+                final Symbol existing = lookup(value);
+
+                if (existing != null) {
                     symbolString = existing.symbolString;
+                } else {
+                    symbolString = value;
+                    cache(stringToSymbols, tableIndex(value.hashCode()), this);
                 }
+            } else {
+                symbolString = value;
             }
         }
 
@@ -120,41 +139,46 @@ public final class Symbol implements Comparable<Symbol> {
     }
 
     /**
-     * Look up a singleton {@link Symbol} instance that matches the given {@link String}
-     * name of the {@link Symbol}.
+     * Returns a {@link Symbol} that is equal to one created from the given {@link String} name of
+     * the {@link Symbol}, a cached instance is returned when one is available.  Symbols that are
+     * equal are not guaranteed to be the same instance and must be compared using equals.
      *
      * @param symbolVal
      * 		The {@link String} version of the {@link Symbol} value.
      *
-     * @return a {@link Symbol} that matches the given {@link String}.
+     * @return a {@link Symbol} that is equal to the given {@link String} value.
      */
     public static Symbol valueOf(String symbolVal) {
         return getSymbol(symbolVal);
     }
 
     /**
-     * Look up a singleton {@link Symbol} instance that matches the given {@link ProtonBuffer}
-     * byte view of the {@link Symbol}.
+     * Returns a {@link Symbol} that is equal to one created from the given {@link ProtonBuffer}
+     * byte view of the {@link Symbol}, a cached instance is returned when one is available.
+     * Symbols that are equal are not guaranteed to be the same instance and must be compared
+     * using equals.
      *
      * @param symbolBytes
-     * 		The {@link String} version of the {@link Symbol} value.
+     * 		The {@link ProtonBuffer} version of the {@link Symbol} value.
      *
-     * @return a {@link Symbol} that matches the given {@link String}.
+     * @return a {@link Symbol} that is equal to the given buffer bytes.
      */
     public static Symbol getSymbol(ProtonBuffer symbolBytes) {
         return getSymbol(symbolBytes, false);
     }
 
     /**
-     * Look up a singleton {@link Symbol} instance that matches the given {@link ProtonBuffer}
-     * byte view of the {@link Symbol}.
+     * Returns a {@link Symbol} that is equal to one created from the given {@link ProtonBuffer}
+     * byte view of the {@link Symbol}, a cached instance is returned when one is available.
+     * Symbols that are equal are not guaranteed to be the same instance and must be compared
+     * using equals.
      *
      * @param symbolBuffer
      * 		The {@link ProtonBuffer} version of the {@link Symbol} value.
      * @param copyOnCreate
      * 		Should the provided buffer be copied during creation of a new {@link Symbol}.
      *
-     * @return a {@link Symbol} that matches the given {@link String}.
+     * @return a {@link Symbol} that is equal to the given buffer bytes.
      */
     public static Symbol getSymbol(ProtonBuffer symbolBuffer, boolean copyOnCreate) {
         if (symbolBuffer == null) {
@@ -163,39 +187,44 @@ public final class Symbol implements Comparable<Symbol> {
             return EMPTY_SYMBOL;
         }
 
-        Symbol symbol = bufferToSymbols.get(symbolBuffer);
-        if (symbol == null) {
-            if (copyOnCreate) {
-                // Copy to a known heap based buffer to avoid issue with life-cycle of pooled buffer types.
-                int symbolSize = symbolBuffer.getReadableBytes();
-                ProtonBuffer copy = ProtonBufferAllocator.defaultAllocator().allocate(symbolSize);
-                copy.writeBytes(symbolBuffer);
-                symbolBuffer = copy.convertToReadOnly();
-            }
-
-            symbol = new Symbol(symbolBuffer);
+        return getSymbol(symbolBuffer, symbolBuffer.getReadOffset(), symbolBuffer.getReadableBytes(), copyOnCreate);
+    }
 
-            // Don't cache overly large symbols to prevent holding large
-            // amount of memory in the symbol cache.
-            if (symbolBuffer.getReadableBytes() <= MAX_CACHED_SYMBOL_SIZE) {
-                final Symbol existing;
-                if ((existing = bufferToSymbols.putIfAbsent(symbolBuffer, symbol)) != null) {
-                    symbol = existing;
-                }
-            }
+    /**
+     * Returns a {@link Symbol} that is equal to one created from the bytes in the given region
+     * of the provided {@link ProtonBuffer}, a cached instance is returned when one is available.
+     * The lookup reads the bytes in place and the bytes are only copied when no matching
+     * {@link Symbol} is cached, the state of the provided buffer is not modified.  Symbols that
+     * are equal are not guaranteed to be the same instance and must be compared using equals.
+     *
+     * @param buffer
+     * 		The {@link ProtonBuffer} that contains the {@link Symbol} bytes.
+     * @param offset
+     * 		The offset into the buffer where the {@link Symbol} bytes start.
+     * @param length
+     * 		The number of bytes that comprise the {@link Symbol}.
+     *
+     * @return a {@link Symbol} that is equal to the given buffer region.
+     */
+    public static Symbol getSymbol(ProtonBuffer buffer, int offset, int length) {
+        if (buffer == null) {
+            return null;
+        } else if (length == 0) {
+            return EMPTY_SYMBOL;
         }
 
-        return symbol;
+        return getSymbol(buffer, offset, length, true);
     }
 
     /**
-     * Look up a singleton {@link Symbol} instance that matches the given {@link String}
-     * name of the {@link Symbol}.
+     * Returns a {@link Symbol} that is equal to one created from the given {@link String} name of
+     * the {@link Symbol}, a cached instance is returned when one is available.  Symbols that are
+     * equal are not guaranteed to be the same instance and must be compared using equals.
      *
      * @param stringValue
      * 		The {@link String} version of the {@link Symbol} value.
      *
-     * @return a {@link Symbol} that matches the given {@link String}.
+     * @return a {@link Symbol} that is equal to the given {@link String} value.
      */
     public static Symbol getSymbol(String stringValue) {
         if (stringValue == null) {
@@ -204,17 +233,95 @@ public final class Symbol implements Comparable<Symbol> {
             return EMPTY_SYMBOL;
         }
 
-        Symbol symbol = stringToSymbols.get(stringValue);
+        Symbol symbol = stringValue.length() <= MAX_CACHED_SYMBOL_SIZE ? lookup(stringValue) : null;
         if (symbol == null) {
             symbol = getSymbol(ProtonBufferAllocator.defaultAllocator().copy(stringValue.getBytes(US_ASCII)));
 
             // Don't cache overly large symbols to prevent holding large
             // amount of memory in the symbol cache.
             if (symbol.underlying.getReadableBytes() <= MAX_CACHED_SYMBOL_SIZE) {
-                stringToSymbols.put(stringValue, symbol);
+                if (symbol.symbolString == null) {
+                    symbol.symbolString = stringValue;
+                }
+
+                cache(stringToSymbols, tableIndex(stringValue.hashCode()), symbol);
             }
         }
 
         return symbol;
     }
+
+    //----- Symbol cache implementation
+
+    private static Symbol getSymbol(ProtonBuffer buffer, int offset, int length, boolean copyOnCreate) {
+        // Don't cache overly large symbols to prevent holding large
+        // amount of memory in the symbol cache.
+        if (length > MAX_CACHED_SYMBOL_SIZE) {
+            return new Symbol(copyOnCreate ? copyOf(buffer, offset, length) : buffer);
+        }
+
+        final int hash = ProtonBufferUtils.hashCode(buffer, offset, length);
+        final int index = tableIndex(hash);
+
+        final Symbol first = bufferToSymbols.get(index);
+        if (first != null && first.matches(hash, buffer, offset, length)) {
+            return first;
+        }
+
+        final Symbol second = bufferToSymbols.get(index + 1);
+        if (second != null && second.matches(hash, buffer, offset, length)) {
+            bufferToSymbols.set(index, second);
+            bufferToSymbols.set(index + 1, first);
+            return second;
+        }
+
+        final Symbol symbol = new Symbol(copyOnCreate ? copyOf(buffer, offset, length) : buffer, hash);
+
+        bufferToSymbols.set(index + 1, first);
+        bufferToSymbols.set(index, symbol);
+
+        return symbol;
+    }
+
+    private static Symbol lookup(String stringValue) {
+        final int index = tableIndex(stringValue.hashCode());
+
+        final Symbol first = stringToSymbols.get(index);
+        if (first != null && stringValue.equals(first.symbolString)) {
+            return first;
+        }
+
+        final Symbol second = stringToSymbols.get(index + 1);
+        if (second != null && stringValue.equals(second.symbolString)) {
+            stringToSymbols.set(index, second);
+            stringToSymbols.set(index + 1, first);
+            return second;
+        }
+
+        return null;
+    }
+
+    private static void cache(AtomicReferenceArray<Symbol> table, int index, Symbol symbol) {
+        table.set(index + 1, table.get(index));
+        table.set(index, symbol);
+    }
+
+    private static int tableIndex(int hash) {
+        return (hash ^ (hash >>> 16)) & SYMBOL_TABLE_MASK;
+    }
+
+    private static ProtonBuffer copyOf(ProtonBuffer buffer, int offset, int length) {
+        // Copy to a known heap based buffer to avoid issue with life-cycle of pooled buffer types.
+        final ProtonBuffer copy = ProtonBufferAllocator.defaultAllocator().allocate(length);
+
+        buffer.copyInto(offset, copy, 0, length);
+        copy.setWriteOffset(length);
+
+        return copy.convertToReadOnly();
+    }
+
+    private boolean matches(int hash, ProtonBuffer buffer, int offset, int length) {
+        return hashCode == hash && underlying.getReadableBytes() == length &&
+               ProtonBufferUtils.equals(underlying, underlying.getReadOffset(), buffer, offset, length);
+    }
 }
@@ -31,12 +31,15 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.ReadOnlyBufferException;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.FileChannel;
+import java.nio.channels.GatheringByteChannel;
 import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.ScatteringByteChannel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -1974,6 +1977,139 @@ public abstract class ProtonAbstractBufferTest {
         }
     }
 
+    @Test
+    public void testBuffersDifferingOnlyInLastByteOfLongContentAreNotEqual() {
+        final byte[] data1 = new byte[67];
+        final byte[] data2 = new byte[67];
+
+        for (int i = 0; i < data1.length; ++i) {
+            data1[i] = (byte) i;
+            data2[i] = (byte) i;
+        }
+        data2[data2.length - 1] = (byte) 0xFF;
+
+        try (ProtonBufferAllocator allocator = createTestCaseAllocator();
+             ProtonBuffer buf1 = allocator.allocate(data1.length);
+             ProtonBuffer buf2 = allocator.allocate(data2.length)) {
+
+            buf1.writeBytes(data1);
+            buf2.writeBytes(data2);
+
+            assertNotEquals(buf1, buf2);
+            assertTrue(ProtonBufferUtils.equals(buf1, buf2, data1.length - 1));
+            assertTrue(ProtonBufferUtils.equals(buf1, 3, buf2, 3, data1.length - 4));
+            assertFalse(ProtonBufferUtils.equals(buf1, 3, buf2, 3, data1.length - 3));
+        }
+    }
+
+    @Test
+    public void testCompareToOrdersUsingUnsignedByteValues() {
+        final byte[] data1 = new byte[20];
+        final byte[] data2 = new byte[20];
+
+        data1[13] = (byte) 0x7F;
+        data2[13] = (byte) 0x80;
+
+        try (ProtonBufferAllocator allocator = createTestCaseAllocator();
+             ProtonBuffer buf1 = allocator.allocate(data1.length);
+             ProtonBuffer buf2 = allocator.allocate(data2.length)) {
+
+            buf1.writeBytes(data1);
+            buf2.writeBytes(data2);
+
+            assertEquals(-1, buf1.compareTo(buf2));
+            assertEquals(1, buf2.compareTo(buf1));
+
+            buf1.setByte(13, (byte) 0x80);
+            buf1.setByte(19, (byte) 0xFF);
+
+            assertEquals(1, buf1.compareTo(buf2));
+            assertEquals(-1, buf2.compareTo(buf1));
+
+            buf2.setByte(19, (byte) 0xFF);
+
+            assertEquals(0, buf1.compareTo(buf2));
+            assertEquals(0, buf2.compareTo(buf1));
+        }
+    }
+
+    @Test
+    public void testCompareToUsesReadableBytesOnly() {
+        final String content = "aaaaaaaaaaaaaaaaaaaaaaaa";
+        final byte[] data1 = content.getBytes(StandardCharsets.UTF_8);
+        final byte[] data2 = ("zzz" + content + "b").getBytes(StandardCharsets.UTF_8);
+
+        try (ProtonBufferAllocator allocator = createTestCaseAllocator();
+             ProtonBuffer buf1 = allocator.allocate(data1.length);
+             ProtonBuffer buf2 = allocator.allocate(data2.length)) {
+
+            buf1.writeBytes(data1);
+            buf2.writeBytes(data2);
+
+            assertTrue(buf1.compareTo(buf2) < 0);
+
+            buf2.advanceReadOffset(3);
+
+            assertTrue(buf1.compareTo(buf2) < 0);
+            assertTrue(buf2.compareTo(buf1) > 0);
+
+            buf2.setWriteOffset(buf2.getWriteOffset() - 1);
+
+            assertEquals(0, buf1.compareTo(buf2));
+
+            buf2.setWriteOffset(buf2.getWriteOffset() - 1);
+
+            assertEquals(1, buf1.compareTo(buf2));
+            assertEquals(-1, buf2.compareTo(buf1));
+        }
+    }
+
+    @Test
+    public void testWriteBytesFromDirectByteBuffer() {
+        final ByteBuffer source = ByteBuffer.allocateDirect(37);
+
+        for (int i = 0; i < source.capacity(); ++i) {
+            source.put((byte) i);
+        }
+        source.flip().position(2);
+
+        try (ProtonBufferAllocator allocator = createTestCaseAllocator();
+             ProtonBuffer buffer = allocator.allocate(8)) {
+
+            buffer.writeByte((byte) 127);
+            buffer.writeBytes(source);
+
+            assertFalse(source.hasRemaining());
+            assertEquals(36, buffer.getReadableBytes());
+            assertEquals(127, buffer.readByte());
+
+            for (int i = 2; i < source.capacity(); ++i) {
+                assertEquals(i, buffer.readByte());
+            }
+        }
+    }
+
+    @Test
+    public void testReadableArrayOffsetAccountsForReadOffset() {
+        final byte[] data = new byte[] { 0, 1, 2, 3, 4, 5, 6, 7 };
+
+        try (ProtonBufferAllocator allocator = createTestCaseAllocator();
+             ProtonBuffer buffer = allocator.allocate(data.length)) {
+
+            buffer.writeBytes(data);
+            buffer.advanceReadOffset(3);
+
+            try (ProtonBufferComponentAccessor accessor = buffer.componentAccessor()) {
+                for (ProtonBufferComponent component = accessor.firstReadable(); component != null; component = accessor.nextReadable()) {
+                    if (component.hasReadbleArray()) {
+                        assertEquals(3, component.getReadableArray()[component.getReadableArrayOffset()]);
+                        assertEquals(5, component.getReadableArrayLength());
+                    }
+                }
+            }
+        }
+    }
+
     @Test
     public void testImplicitGrowthLimit() {
         try (ProtonBufferAllocator allocator = createTestCaseAllocator(); ProtonBuffer buf = allocator.allocate(8)) {
@@ -4217,6 +4353,64 @@ public abstract class ProtonAbstractBufferTest {
         }
     }
 
+    @Test
+    public void testTransferToGatheringChannelWritesAllComponentsInOneCall() throws IOException {
+        try (ProtonBufferAllocator allocator = createTestCaseAllocator();
+             ProtonBuffer buffer1 = allocator.allocate(4).writeInt(0x01020304);
+             ProtonBuffer buffer2 = allocator.allocate(4).writeInt(0x05060708);
+             ProtonBuffer buffer3 = allocator.allocate(4).writeInt(0x090A0B0C);
+             ProtonBuffer composite = allocator.composite(new ProtonBuffer[] { buffer1, buffer2, buffer3 })) {
+
+            final RecordingByteChannel recorder = new RecordingByteChannel(new byte[0]);
+
+            assertEquals(10, composite.transferTo(recorder, 10));
+            assertEquals(2, composite.getReadableBytes());
+            assertEquals(1, recorder.vectoredWrites);
+            assertArrayEquals(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 }, recorder.written.toByteArray());
+
+            assertEquals(2, composite.transferTo(recorder, 10));
+            assertFalse(composite.isReadable());
+            assertEquals(0, composite.transferTo(recorder, 10));
+        }
+    }
+
+    @Test
+    public void testTransferFromScatteringChannelFillsAllComponentsInOneCall() throws IOException {
+        try (ProtonBufferAllocator allocator = createTestCaseAllocator();
+             ProtonBuffer composite = allocator.composite(new ProtonBuffer[] {
+                 allocator.allocate(4), allocator.allocate(4), allocator.allocate(4) })) {
+
+            final RecordingByteChannel recorder = new RecordingByteChannel(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 });
+
+            assertEquals(10, composite.transferFrom(recorder, 12));
+            assertEquals(1, recorder.vectoredReads);
+            assertEquals(10, composite.getReadableBytes());
+            assertEquals(2, composite.getWritableBytes());
+            assertEquals(0x01020304, composite.readInt());
+            assertEquals(0x05060708, composite.readInt());
+            assertEquals(0x090A, composite.readShort());
+
+            assertEquals(-1, composite.transferFrom(recorder, 2));
+            assertEquals(2, composite.getWritableBytes());
+        }
+    }
+
+    @Test
+    public void testTransferUsingVectoredChannelsOnSingleBuffer() throws IOException {
+        try (ProtonBufferAllocator allocator = createTestCaseAllocator();
+             ProtonBuffer buffer = allocator.allocate(8)) {
+
+            final RecordingByteChannel recorder = new RecordingByteChannel(new byte[] { 1, 2, 3, 4, 5, 6 });
+
+            assertEquals(6, buffer.transferFrom(recorder, 8));
+            assertEquals(6, buffer.getReadableBytes());
+            assertEquals(4, buffer.transferTo(recorder, 4));
+            assertEquals(2, buffer.getReadableBytes());
+            assertArrayEquals(new byte[] { 1, 2, 3, 4 }, recorder.written.toByteArray());
+            assertEquals(0x0506, buffer.readShort());
+        }
+    }
+
     @Test
     public void testTransferToMustFunctionOnReadOnlyBuffers() throws IOException {
         try (ProtonBufferAllocator allocator = createTestCaseAllocator(); ProtonBuffer buffer = allocator.allocate(8)) {
@@ -5518,6 +5712,89 @@ public abstract class ProtonAbstractBufferTest {
         }
     }
 
+    /*
+     * Byte channel that records the vectored operations made against it, writes are captured
+     * and reads are served from the given bytes after which the channel reports end of stream.
+     */
+    private static final class RecordingByteChannel implements GatheringByteChannel, ScatteringByteChannel {
+
+        private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+        private final ByteBuffer readable;
+
+        private int vectoredWrites;
+        private int vectoredReads;
+
+        RecordingByteChannel(byte[] readable) {
+            this.readable = ByteBuffer.wrap(readable);
+        }
+
+        @Override
+        public int write(ByteBuffer source) {
+            final int length = source.remaining();
+            while (source.hasRemaining()) {
+                written.write(source.get());
+            }
+            return length;
+        }
+
+        @Override
+        public long write(ByteBuffer[] sources, int offset, int length) {
+            vectoredWrites++;
+            long total = 0;
+            for (int i = offset; i < offset + length; ++i) {
+                total += write(sources[i]);
+            }
+            return total;
+        }
+
+        @Override
+        public long write(ByteBuffer[] sources) {
+            return write(sources, 0, sources.length);
+        }
+
+        @Override
+        public int read(ByteBuffer target) {
+            if (!readable.hasRemaining()) {
+                return -1;
+            }
+
+            int count = 0;
+            while (readable.hasRemaining() && target.hasRemaining()) {
+                target.put(readable.get());
+                count++;
+            }
+            return count;
+        }
+
+        @Override
+        public long read(ByteBuffer[] targets, int offset, int length) {
+            vectoredReads++;
+            if (!readable.hasRemaining()) {
+                return -1;
+            }
+
+            long total = 0;
+            for (int i = offset; i < offset + length && readable.hasRemaining(); ++i) {
+                total += read(targets[i]);
+            }
+            return total;
+        }
+
+        @Override
+        public long read(ByteBuffer[] targets) {
+            return read(targets, 0, targets.length);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
     protected static void verifyInaccessible(ProtonBuffer buf) {
         verifyReadInaccessible(buf);
 
@@ -27,6 +27,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.CharacterCodingException;
 import java.nio.charset.StandardCharsets;
 import java.util.Iterator;
@@ -1449,6 +1450,192 @@ public class ProtonCompositeBufferImplTest extends ProtonAbstractBufferTest {
         }
     }
 
+    @Test
+    public void testIndexedAccessAcrossManyComponentsInAnyOrder() {
+        try (ProtonBufferAllocator allocator = createProtonDefaultAllocator();
+             ProtonCompositeBuffer composite = allocator.composite()) {
+
+            for (int i = 0; i < 64; ++i) {
+                composite.append(allocator.allocate(3 + (i % 5)));
+            }
+
+            final int capacity = composite.capacity();
+
+            for (int i = 0; i < capacity; ++i) {
+                composite.writeByte((byte) i);
+            }
+
+            for (int i = capacity - 1; i >= 0; --i) {
+                assertEquals((byte) i, composite.getByte(i));
+            }
+
+            for (int i = 0; i < capacity - Long.BYTES; i += 13) {
+                assertEquals(composite.getByte(i + 7), (byte) composite.getLong(i));
+                assertEquals(composite.getByte(capacity - i - 1), (byte) composite.getInt(capacity - i - Integer.BYTES));
+            }
+
+            for (int i = 0; i < capacity; ++i) {
+                assertEquals((byte) i, composite.readByte());
+            }
+        }
+    }
+
+    @Test
+    public void testZeroLengthCopyIntoAtEndOfCompositeBuffer() {
+        try (ProtonBufferAllocator allocator = createProtonDefaultAllocator();
+             ProtonCompositeBuffer composite = allocator.composite()) {
+
+            composite.append(allocator.copy(new byte[] { 0, 1, 2, 3 }));
+            composite.append(allocator.copy(new byte[] { 4, 5, 6, 7 }));
+
+            final int capacity = composite.capacity();
+
+            assertDoesNotThrow(() -> composite.copyInto(capacity, new byte[0], 0, 0));
+            assertDoesNotThrow(() -> composite.copyInto(capacity, ByteBuffer.allocate(0), 0, 0));
+            assertDoesNotThrow(() -> composite.copyInto(capacity, allocator.allocate(0), 0, 0));
+        }
+    }
+
+    @Test
+    public void testAutoConsolidateValidatesArguments() {
+        try (ProtonBufferAllocator allocator = createProtonDefaultAllocator();
+             ProtonCompositeBuffer composite = allocator.composite()) {
+
+            assertThrows(IllegalArgumentException.class, () -> composite.autoConsolidate(-1, 16));
+            assertThrows(IllegalArgumentException.class, () -> composite.autoConsolidate(1, 16));
+            assertThrows(IllegalArgumentException.class, () -> composite.autoConsolidate(4, -1));
+
+            assertSame(composite, composite.autoConsolidate(0, 0));
+            assertSame(composite, composite.autoConsolidate(4, 16));
+        }
+    }
+
+    @Test
+    public void testAutoConsolidateMergesSmallTrailingComponents() {
+        try (ProtonBufferAllocator allocator = createProtonDefaultAllocator();
+             ProtonCompositeBuffer composite = allocator.composite()) {
+
+            composite.autoConsolidate(4, 16);
+
+            for (int i = 0; i < 10; ++i) {
+                composite.append(allocator.allocate(8).writeLong(i));
+
+                // Consume part of the content as it arrives to ensure offsets are retained
+                if (i == 5) {
+                    assertEquals(0, composite.readLong());
+                    assertEquals(0, composite.readInt());
+                }
+            }
+
+            assertEquals(80, composite.capacity());
+            assertEquals(68, composite.getReadableBytes());
+            assertEquals(12, composite.getReadOffset());
+            assertEquals(80, composite.getWriteOffset());
+            assertTrue(composite.componentCount() < 10);
+
+            assertEquals(1, composite.readInt());
+            for (int i = 2; i < 10; ++i) {
+                assertEquals(i, composite.readLong());
+            }
+        }
+    }
+
+    @Test
+    public void testAutoConsolidateRetainsWritableSpaceOfMergedComponents() {
+        try (ProtonBufferAllocator allocator = createProtonDefaultAllocator();
+             ProtonCompositeBuffer composite = allocator.composite()) {
+
+            composite.autoConsolidate(2, 16);
+            composite.append(allocator.allocate(8).writeInt(1));
+            composite.append(allocator.allocate(8));
+
+            assertEquals(1, composite.componentCount());
+            assertEquals(16, composite.capacity());
+            assertEquals(12, composite.getWritableBytes());
+
+            composite.writeInt(2).writeLong(3);
+
+            assertEquals(1, composite.readInt());
+            assertEquals(2, composite.readInt());
+            assertEquals(3, composite.readLong());
+        }
+    }
+
+    @Test
+    public void testAutoConsolidateIgnoresLargeComponents() {
+        try (ProtonBufferAllocator allocator = createProtonDefaultAllocator();
+             ProtonCompositeBuffer composite = allocator.composite()) {
+
+            composite.autoConsolidate(2, 16);
+            composite.append(allocator.allocate(32).writeLong(1).writeLong(2).writeLong(3).writeLong(4));
+            composite.append(allocator.allocate(32).writeLong(5).writeLong(6).writeLong(7).writeLong(8));
+
+            assertEquals(2, composite.componentCount());
+
+            composite.append(allocator.allocate(8).writeLong(9));
+
+            assertEquals(3, composite.componentCount());
+
+            composite.append(allocator.allocate(8).writeLong(10));
+
+            assertEquals(3, composite.componentCount());
+
+            for (int i = 1; i <= 10; ++i) {
+                assertEquals(i, composite.readLong());
+            }
+        }
+    }
+
+    @Test
+    public void testIndexOfStartingInLaterComponent() {
+        try (ProtonBufferAllocator allocator = createProtonDefaultAllocator();
+             ProtonCompositeBuffer composite = allocator.composite()) {
+
+            byte[] data1 = new byte[] {9, 8, 7, 6, 5, 4, 3, 2, 1, 0};
+            byte[] data2 = new byte[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11};
+
+            composite.append(allocator.copy(data1)).append(allocator.copy(data2));
+
+            assertEquals(3, composite.indexOf((byte) 6));
+            assertEquals(9, composite.indexOf((byte) 0));
+            assertEquals(20, composite.indexOf((byte) 10));
+
+            composite.advanceReadOffset(12);
+
+            assertEquals(16, composite.indexOf((byte) 6));
+            assertEquals(-1, composite.indexOf((byte) 0));
+            assertEquals(-1, composite.indexOf((byte) 8, 12, 6));
+            assertEquals(18, composite.indexOf((byte) 8, 12, 7));
+        }
+    }
+
+    @Test
+    public void testWriteBytesFromByteBufferSpanningComponents() {
+        try (ProtonBufferAllocator allocator = createProtonDefaultAllocator();
+             ProtonCompositeBuffer composite = allocator.composite()) {
+
+            composite.append(allocator.allocate(5)).append(allocator.allocate(5)).append(allocator.allocate(5));
+
+            final ByteBuffer source = ByteBuffer.allocateDirect(13);
+            for (int i = 0; i < source.capacity(); ++i) {
+                source.put((byte) i);
+            }
+            source.flip();
+
+            composite.writeByte((byte) 127);
+            composite.writeBytes(source);
+
+            assertFalse(source.hasRemaining());
+            assertEquals(14, composite.getReadableBytes());
+            assertEquals(1, composite.getWritableBytes());
+            assertEquals(127, composite.readByte());
+
+            for (int i = 0; i < 13; ++i) {
+                assertEquals(i, composite.readByte());
+            }
+        }
+    }
+
     @Test
     public void testEqualsWhenContentRemainingWithDifferentStartPositionsSame() throws CharacterCodingException {
         doEqualsWhenContentRemainingWithDifferentStartPositionsSameTestImpl(false);
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.buffer.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+
+import org.apache.qpid.protonj2.buffer.ProtonAbstractBufferTest;
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.buffer.ProtonBufferComponent;
+import org.apache.qpid.protonj2.buffer.ProtonBufferComponentAccessor;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test the direct memory backed proton buffer
+ */
+public class ProtonDirectByteBufferTest extends ProtonAbstractBufferTest {
+
+    @Override
+    public ProtonBufferAllocator createTestCaseAllocator() {
+        return new ProtonDirectByteBufferAllocator();
+    }
+
+    @Test
+    public void testBufferReportsDirectAndHasNoBackingArray() {
+        try (ProtonBufferAllocator allocator = createTestCaseAllocator();
+             ProtonBuffer buffer = allocator.allocate(16)) {
+
+            assertTrue(buffer.isDirect());
+
+            buffer.writeLong(Long.MAX_VALUE);
+
+            try (ProtonBufferComponentAccessor accessor = buffer.componentAccessor()) {
+                for (ProtonBufferComponent component : accessor.components()) {
+                    assertFalse(component.hasReadbleArray());
+                    assertFalse(component.hasWritableArray());
+                    assertTrue(component.getReadableBuffer().isDirect());
+                    assertTrue(component.getWritableBuffer().isDirect());
+                    assertThrows(UnsupportedOperationException.class, () -> component.getReadableArray());
+                    assertThrows(UnsupportedOperationException.class, () -> component.getWritableArray());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testHeapBufferAllocationsAreNotDirect() {
+        try (ProtonBufferAllocator allocator = createTestCaseAllocator();
+             ProtonBuffer buffer = allocator.allocateHeapBuffer(16)) {
+
+            assertFalse(buffer.isDirect());
+        }
+    }
+
+    @Test
+    public void testBufferExposesNativeAddressValues() {
+        try (ProtonBufferAllocator allocator = createTestCaseAllocator();
+             ProtonBuffer buffer = allocator.allocate(16)) {
+
+            buffer.writeLong(Long.MAX_VALUE);
+            buffer.readByte();
+
+            try (ProtonBufferComponentAccessor accessor = buffer.componentAccessor()) {
+                for (ProtonBufferComponent component : accessor.components()) {
+                    final long address = component.getNativeAddress();
+
+                    // Address is allowed to be zero if the JDK doesn't allow access to it
+                    if (address != 0) {
+                        assertEquals(address + 1, component.getNativeReadAddress());
+                        assertEquals(address + 8, component.getNativeWriteAddress());
+                    } else {
+                        assertEquals(0, component.getNativeReadAddress());
+                        assertEquals(0, component.getNativeWriteAddress());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSplitBuffersExposeDistinctNativeAddresses() {
+        try (ProtonBufferAllocator allocator = createTestCaseAllocator();
+             ProtonBuffer buffer = allocator.allocate(16)) {
+
+            final long address = buffer.componentAccessor().first().getNativeAddress();
+
+            try (ProtonBuffer front = buffer.split(8)) {
+                final long frontAddress = front.componentAccessor().first().getNativeAddress();
+                final long backAddress = buffer.componentAccessor().first().getNativeAddress();
+
+                if (address != 0) {
+                    assertEquals(address, frontAddress);
+                    assertEquals(address + 8, backAddress);
+                    assertNotEquals(frontAddress, backAddress);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testWrapDirectByteBuffer() {
+        try (ProtonDirectByteBufferAllocator allocator = new ProtonDirectByteBufferAllocator()) {
+            final ByteBuffer source = ByteBuffer.allocateDirect(8).putLong(0, 0x0102030405060708L);
+
+            try (ProtonBuffer buffer = allocator.wrap(source)) {
+                assertEquals(8, buffer.getReadableBytes());
+                assertEquals(0x0102030405060708L, buffer.getLong(0));
+
+                source.put(0, (byte) 0x7F);
+
+                assertEquals((byte) 0x7F, buffer.getByte(0));
+            }
+        }
+    }
+
+    @Test
+    public void testCannotWrapHeapByteBuffer() {
+        try (ProtonDirectByteBufferAllocator allocator = new ProtonDirectByteBufferAllocator()) {
+            assertThrows(IllegalArgumentException.class, () -> allocator.wrap(ByteBuffer.allocate(8)));
+        }
+    }
+}
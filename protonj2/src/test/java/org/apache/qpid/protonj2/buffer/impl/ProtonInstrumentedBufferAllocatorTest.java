@@ -0,0 +1,231 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.buffer.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.qpid.protonj2.buffer.ProtonAbstractBufferTest;
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.buffer.ProtonCompositeBuffer;
+import org.apache.qpid.protonj2.buffer.impl.ProtonInstrumentedBufferAllocator.LeakReport;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test the instrumented buffer allocator decorator
+ */
+public class ProtonInstrumentedBufferAllocatorTest extends ProtonAbstractBufferTest {
+
+    @Override
+    public ProtonBufferAllocator createTestCaseAllocator() {
+        return new ProtonInstrumentedBufferAllocator(new ProtonPooledBufferAllocator(), 1);
+    }
+
+    @Test
+    public void testCreateWithInvalidConfiguration() {
+        assertThrows(NullPointerException.class, () -> new ProtonInstrumentedBufferAllocator(null));
+        assertThrows(IllegalArgumentException.class, () -> new ProtonInstrumentedBufferAllocator(ProtonBufferAllocator.defaultAllocator(), -1));
+    }
+
+    @Test
+    public void testCountsLiveBuffersAndBytes() {
+        try (ProtonInstrumentedBufferAllocator allocator = new ProtonInstrumentedBufferAllocator(ProtonBufferAllocator.defaultAllocator())) {
+            ProtonBuffer buffer1 = allocator.allocate(100);
+            ProtonBuffer buffer2 = allocator.allocate(50);
+
+            assertEquals(2, allocator.getLiveBuffers());
+            assertEquals(150, allocator.getLiveBytes());
+
+            buffer1.close();
+
+            assertEquals(1, allocator.getLiveBuffers());
+            assertEquals(50, allocator.getLiveBytes());
+
+            buffer1.close();
+
+            assertEquals(1, allocator.getLiveBuffers());
+
+            buffer2.close();
+
+            assertEquals(0, allocator.getLiveBuffers());
+            assertEquals(0, allocator.getLiveBytes());
+            assertEquals(2, allocator.getPeakLiveBuffers());
+            assertEquals(150, allocator.getPeakLiveBytes());
+            assertEquals(2, allocator.getTotalAllocations());
+            assertTrue(allocator.getAllocationSites().isEmpty());
+        }
+    }
+
+    @Test
+    public void testBufferGrowthIsCountedInLiveBytes() {
+        doTestBufferGrowthIsCountedInLiveBytes(0);
+    }
+
+    @Test
+    public void testSampledBufferGrowthIsCountedInLiveBytes() {
+        doTestBufferGrowthIsCountedInLiveBytes(1);
+    }
+
+    private void doTestBufferGrowthIsCountedInLiveBytes(int samplingInterval) {
+        try (ProtonInstrumentedBufferAllocator allocator =
+                new ProtonInstrumentedBufferAllocator(ProtonBufferAllocator.defaultAllocator(), samplingInterval)) {
+
+            ProtonBuffer buffer = allocator.allocate(16);
+
+            assertEquals(16, allocator.getLiveBytes());
+
+            buffer.ensureWritable(64);
+
+            final int grownCapacity = buffer.capacity();
+
+            assertTrue(grownCapacity >= 64);
+            assertEquals(grownCapacity, allocator.getLiveBytes());
+            assertEquals(grownCapacity, allocator.getPeakLiveBytes());
+
+            buffer.close();
+
+            assertEquals(0, allocator.getLiveBuffers());
+            assertEquals(0, allocator.getLiveBytes());
+            assertEquals(grownCapacity, allocator.getPeakLiveBytes());
+        }
+    }
+
+    @Test
+    public void testResetStatisticsResetsHighWaterMarks() {
+        try (ProtonInstrumentedBufferAllocator allocator = new ProtonInstrumentedBufferAllocator(ProtonBufferAllocator.defaultAllocator(), 1)) {
+            allocator.allocate(100).close();
+
+            try (ProtonBuffer buffer = allocator.allocate(10)) {
+                assertEquals(100, allocator.getPeakLiveBytes());
+                assertFalse(allocator.getAllocationSites().isEmpty());
+
+                allocator.resetStatistics();
+
+                assertEquals(1, allocator.getPeakLiveBuffers());
+                assertEquals(10, allocator.getPeakLiveBytes());
+                assertTrue(allocator.getAllocationSites().isEmpty());
+            }
+        }
+    }
+
+    @Test
+    public void testSplitBuffersReleaseAllocationWhenAllAreClosed() {
+        try (ProtonInstrumentedBufferAllocator allocator = new ProtonInstrumentedBufferAllocator(ProtonBufferAllocator.defaultAllocator())) {
+            ProtonBuffer buffer = allocator.allocate(64);
+            ProtonBuffer front = buffer.split(16);
+            ProtonBuffer copy = buffer.convertToReadOnly().copy(true);
+
+            assertEquals(1, allocator.getLiveBuffers());
+
+            buffer.close();
+            front.close();
+
+            assertEquals(1, allocator.getLiveBuffers());
+            assertEquals(64, allocator.getLiveBytes());
+
+            copy.close();
+
+            assertEquals(0, allocator.getLiveBuffers());
+            assertEquals(0, allocator.getLiveBytes());
+        }
+    }
+
+    @Test
+    public void testTransferredBufferRetainsTracking() {
+        try (ProtonInstrumentedBufferAllocator allocator = new ProtonInstrumentedBufferAllocator(ProtonBufferAllocator.defaultAllocator())) {
+            ProtonBuffer buffer = allocator.allocate(32);
+            ProtonBuffer transferred = buffer.transfer();
+
+            assertTrue(buffer.isClosed());
+            assertEquals(1, allocator.getLiveBuffers());
+
+            transferred.close();
+
+            assertEquals(0, allocator.getLiveBuffers());
+        }
+    }
+
+    @Test
+    public void testCompositeGrowthAndComponentsAreTracked() {
+        try (ProtonInstrumentedBufferAllocator allocator = new ProtonInstrumentedBufferAllocator(ProtonBufferAllocator.defaultAllocator())) {
+            ProtonCompositeBuffer composite = allocator.composite(allocator.allocate(16));
+
+            composite.ensureWritable(64);
+
+            assertEquals(2, allocator.getLiveBuffers());
+
+            composite.close();
+
+            assertEquals(0, allocator.getLiveBuffers());
+        }
+    }
+
+    @Test
+    public void testSampledAllocationSitesAreRecorded() {
+        try (ProtonInstrumentedBufferAllocator allocator = new ProtonInstrumentedBufferAllocator(ProtonBufferAllocator.defaultAllocator(), 2)) {
+            for (int i = 0; i < 10; ++i) {
+                allocator.allocate(8).close();
+            }
+
+            final Map<String, Long> sites = allocator.getAllocationSites();
+
+            assertEquals(1, sites.size());
+            assertEquals(5L, sites.values().iterator().next());
+            assertTrue(sites.keySet().iterator().next().contains(getClass().getSimpleName()));
+        }
+    }
+
+    @Test
+    public void testLeakedBufferIsReportedWhenCollected() throws Exception {
+        final CountDownLatch leaked = new CountDownLatch(1);
+        final AtomicReference<LeakReport> report = new AtomicReference<>();
+
+        try (ProtonInstrumentedBufferAllocator allocator = new ProtonInstrumentedBufferAllocator(ProtonBufferAllocator.defaultAllocator(), 1)) {
+            allocator.setLeakHandler((leak) -> {
+                report.set(leak);
+                leaked.countDown();
+            });
+
+            allocateAndDrop(allocator);
+
+            allocator.allocate(16).close();
+
+            for (int i = 0; i < 50 && leaked.getCount() > 0; ++i) {
+                System.gc();
+                leaked.await(100, TimeUnit.MILLISECONDS);
+            }
+
+            assertTrue(leaked.await(1, TimeUnit.SECONDS));
+            assertEquals(1, allocator.getLeaksDetected());
+            assertEquals(0, allocator.getLiveBuffers());
+            assertEquals(1024, report.get().getCapacity());
+            assertTrue(report.get().getAllocationSite().contains("allocateAndDrop"));
+        }
+    }
+
+    private static void allocateAndDrop(ProtonBufferAllocator allocator) {
+        allocator.allocate(1024).split(512);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.buffer.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.apache.qpid.protonj2.buffer.ProtonAbstractBufferTest;
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test the memory mapped file backed buffer allocator
+ */
+public class ProtonMappedFileBufferAllocatorTest extends ProtonAbstractBufferTest {
+
+    @TempDir
+    public Path directory;
+
+    @Override
+    public ProtonBufferAllocator createTestCaseAllocator() {
+        return new ProtonMappedFileBufferAllocator(directory);
+    }
+
+    @Test
+    public void testBuffersAreDirect() {
+        try (ProtonBufferAllocator allocator = createTestCaseAllocator();
+             ProtonBuffer buffer = allocator.allocate(16)) {
+
+            assertTrue(buffer.isDirect());
+            assertTrue(buffer.unwrap() instanceof ProtonDirectByteBuffer);
+        }
+    }
+
+    @Test
+    public void testHeapBufferAllocationsAreNotMapped() {
+        try (ProtonBufferAllocator allocator = createTestCaseAllocator();
+             ProtonBuffer buffer = allocator.allocateHeapBuffer(16)) {
+
+            assertFalse(buffer.isDirect());
+        }
+    }
+
+    @Test
+    public void testBackingFilesDoNotRemainAfterBuffersClosed() throws IOException {
+        try (ProtonBufferAllocator allocator = createTestCaseAllocator()) {
+            final ProtonBuffer buffer = allocator.allocate(1024);
+            final ProtonBuffer front = buffer.split(512);
+            final ProtonBuffer copy = buffer.copy();
+
+            front.close();
+            buffer.close();
+            copy.close();
+
+            assertEquals(0, countFiles(directory));
+        }
+    }
+
+    @Test
+    public void testGrowthRetainsContentsOfMappedRegion() {
+        try (ProtonBufferAllocator allocator = createTestCaseAllocator();
+             ProtonBuffer buffer = allocator.allocate(8)) {
+
+            buffer.writeLong(42);
+            buffer.ensureWritable(1024 * 1024);
+
+            assertTrue(buffer.capacity() >= 1024 * 1024 + Long.BYTES);
+            assertEquals(42, buffer.readLong());
+
+            for (int i = 0; i < 1024 * 1024 / Long.BYTES; ++i) {
+                buffer.writeLong(i);
+            }
+            for (int i = 0; i < 1024 * 1024 / Long.BYTES; ++i) {
+                assertEquals(i, buffer.readLong());
+            }
+        }
+    }
+
+    @Test
+    public void testGrowthOfSplitBufferDoesNotOverwriteOtherHalf() {
+        try (ProtonBufferAllocator allocator = createTestCaseAllocator();
+             ProtonBuffer buffer = allocator.allocate(16)) {
+
+            buffer.writeLong(1).writeLong(2);
+
+            try (ProtonBuffer front = buffer.split(8)) {
+                front.ensureWritable(64);
+                front.setLong(8, 3);
+
+                assertEquals(1, front.readLong());
+                assertEquals(2, buffer.readLong());
+            }
+        }
+    }
+
+    private static long countFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
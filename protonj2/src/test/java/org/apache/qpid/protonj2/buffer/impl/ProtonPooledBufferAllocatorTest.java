@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.buffer.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.qpid.protonj2.buffer.ProtonAbstractBufferTest;
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.buffer.ProtonBufferComponentAccessor;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test the pooled byte array buffer allocator
+ */
+public class ProtonPooledBufferAllocatorTest extends ProtonAbstractBufferTest {
+
+    @Override
+    public ProtonBufferAllocator createTestCaseAllocator() {
+        return new ProtonPooledBufferAllocator();
+    }
+
+    @Test
+    public void testCreateWithInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new ProtonPooledBufferAllocator(32, 16, 64));
+        assertThrows(IllegalArgumentException.class, () -> new ProtonPooledBufferAllocator(4096, -1, 64));
+        assertThrows(IllegalArgumentException.class, () -> new ProtonPooledBufferAllocator(4096, 16, -1));
+    }
+
+    @Test
+    public void testMaximumPooledSizeRoundedToPowerOfTwo() {
+        try (ProtonPooledBufferAllocator allocator = new ProtonPooledBufferAllocator(3000, 16, 64)) {
+            assertEquals(4096, allocator.getMaximumPooledSize());
+        }
+    }
+
+    @Test
+    public void testArrayIsReusedAfterBufferClosed() {
+        try (ProtonBufferAllocator allocator = createTestCaseAllocator()) {
+            final byte[] array;
+
+            try (ProtonBuffer buffer = allocator.allocate(100)) {
+                assertEquals(100, buffer.capacity());
+                array = backingArray(buffer);
+                assertEquals(128, array.length);
+            }
+
+            try (ProtonBuffer buffer = allocator.allocate(120)) {
+                assertEquals(120, buffer.capacity());
+                assertSame(array, backingArray(buffer));
+            }
+
+            try (ProtonBuffer buffer = allocator.allocate(256)) {
+                assertNotSame(array, backingArray(buffer));
+            }
+        }
+    }
+
+    @Test
+    public void testLargeRequestsAreNotPooled() {
+        try (ProtonPooledBufferAllocator allocator = new ProtonPooledBufferAllocator(1024, 16, 64)) {
+            final byte[] array;
+
+            try (ProtonBuffer buffer = allocator.allocate(2048)) {
+                array = backingArray(buffer);
+                assertEquals(2048, array.length);
+            }
+
+            try (ProtonBuffer buffer = allocator.allocate(2048)) {
+                assertNotSame(array, backingArray(buffer));
+            }
+        }
+    }
+
+    @Test
+    public void testArrayNotReusedUntilAllSplitBuffersClosed() {
+        try (ProtonBufferAllocator allocator = createTestCaseAllocator()) {
+            final ProtonBuffer buffer = allocator.allocate(64);
+            final byte[] array = backingArray(buffer);
+
+            buffer.writeLong(1);
+            buffer.writeLong(2);
+
+            final ProtonBuffer front = buffer.split(8);
+
+            buffer.close();
+
+            try (ProtonBuffer other = allocator.allocate(64)) {
+                assertNotSame(array, backingArray(other));
+            }
+
+            assertEquals(1, front.getLong(0));
+
+            front.close();
+
+            try (ProtonBuffer other = allocator.allocate(64)) {
+                assertSame(array, backingArray(other));
+            }
+        }
+    }
+
+    @Test
+    public void testTransferredBufferOwnsPooledArray() {
+        try (ProtonBufferAllocator allocator = createTestCaseAllocator()) {
+            final ProtonBuffer buffer = allocator.allocate(64);
+            final byte[] array = backingArray(buffer);
+
+            final ProtonBuffer transferred = buffer.transfer();
+
+            try (ProtonBuffer other = allocator.allocate(64)) {
+                assertNotSame(array, backingArray(other));
+            }
+
+            transferred.close();
+
+            try (ProtonBuffer other = allocator.allocate(64)) {
+                assertSame(array, backingArray(other));
+            }
+        }
+    }
+
+    @Test
+    public void testGrowthReleasesPreviousArrayToPool() {
+        try (ProtonBufferAllocator allocator = createTestCaseAllocator()) {
+            final byte[] array;
+
+            try (ProtonBuffer buffer = allocator.allocate(64)) {
+                array = backingArray(buffer);
+
+                buffer.ensureWritable(100, 1, false);
+                assertEquals(100, buffer.capacity());
+                assertEquals(128, backingArray(buffer).length);
+
+                try (ProtonBuffer other = allocator.allocate(64)) {
+                    assertSame(array, backingArray(other));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testArraysReleasedOnOtherThreadAreReturnedThroughArena() throws Exception {
+        try (ProtonPooledBufferAllocator allocator = new ProtonPooledBufferAllocator(1024, 0, 4)) {
+            final AtomicReference<byte[]> array = new AtomicReference<>();
+            final CountDownLatch done = new CountDownLatch(1);
+
+            final ProtonBuffer buffer = allocator.allocate(64);
+            array.set(backingArray(buffer));
+
+            final Thread releaser = new Thread(() -> {
+                buffer.close();
+                done.countDown();
+            });
+
+            releaser.start();
+            done.await();
+
+            try (ProtonBuffer other = allocator.allocate(64)) {
+                assertSame(array.get(), backingArray(other));
+            }
+        }
+    }
+
+    @Test
+    public void testArraysReleasedAfterCloseAreNotReused() {
+        final ProtonPooledBufferAllocator allocator = new ProtonPooledBufferAllocator();
+        final ProtonBuffer buffer = allocator.allocate(64);
+
+        allocator.close();
+        buffer.close();
+
+        assertThrows(IllegalStateException.class, () -> allocator.allocate(64));
+    }
+
+    private static byte[] backingArray(ProtonBuffer buffer) {
+        try (ProtonBufferComponentAccessor accessor = buffer.componentAccessor()) {
+            return accessor.first().getWritableArray();
+        }
+    }
+}
@@ -21,13 +21,20 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 import org.apache.qpid.protonj2.buffer.ProtonBufferInputStream;
 import org.apache.qpid.protonj2.codec.util.NoLocalType;
 import org.apache.qpid.protonj2.codec.util.NoLocalTypeDecoder;
+import org.apache.qpid.protonj2.codec.encoders.AbstractDescribedListTypeEncoder;
+import org.apache.qpid.protonj2.codec.encoders.AbstractDescribedMapTypeEncoder;
 import org.apache.qpid.protonj2.codec.util.NoLocalTypeEncoder;
+import org.apache.qpid.protonj2.types.Symbol;
+import org.apache.qpid.protonj2.types.UnknownDescribedType;
+import org.apache.qpid.protonj2.types.UnsignedLong;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -67,4 +74,166 @@ public class RegisteredTypeCodecTest extends CodecTestSupport {
         NoLocalType resultTye = (NoLocalType) result;
         assertEquals(NoLocalType.NO_LOCAL.getDescriptor(), resultTye.getDescriptor());
     }
+
+    @Test
+    public void testDescribedListTypeWritesFullDescriptorCode() throws IOException {
+        doTestDescribedListTypeWritesFullDescriptorCode(false);
+    }
+
+    @Test
+    public void testDescribedListTypeWritesFullDescriptorCodeFromStream() throws IOException {
+        doTestDescribedListTypeWritesFullDescriptorCode(true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void doTestDescribedListTypeWritesFullDescriptorCode(boolean fromStream) throws IOException {
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        encoder.registerDescribedTypeEncoder(new ListTypeWithLargeDescriptorEncoder());
+
+        final ListTypeWithLargeDescriptor value = new ListTypeWithLargeDescriptor("first", "second");
+
+        encoder.writeObject(buffer, encoderState, value);
+
+        assertEquals(buffer.getReadableBytes(), encoder.getEncodedSize(encoderState, value));
+
+        final Object result;
+        if (fromStream) {
+            final InputStream stream = new ProtonBufferInputStream(buffer);
+            result = streamDecoder.readObject(stream, streamDecoderState);
+        } else {
+            result = decoder.readObject(buffer, decoderState);
+        }
+
+        assertTrue(result instanceof UnknownDescribedType);
+        UnknownDescribedType resultType = (UnknownDescribedType) result;
+        assertEquals(ListTypeWithLargeDescriptor.DESCRIPTOR_CODE, resultType.getDescriptor());
+        assertEquals(List.of("first", "second"), (List<Object>) resultType.getDescribed());
+    }
+
+    @Test
+    public void testDescribedMapTypeWritesFullDescriptorCode() throws IOException {
+        doTestDescribedMapTypeWritesFullDescriptorCode(false);
+    }
+
+    @Test
+    public void testDescribedMapTypeWritesFullDescriptorCodeFromStream() throws IOException {
+        doTestDescribedMapTypeWritesFullDescriptorCode(true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void doTestDescribedMapTypeWritesFullDescriptorCode(boolean fromStream) throws IOException {
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        encoder.registerDescribedTypeEncoder(new MapTypeWithLargeDescriptorEncoder());
+
+        final MapTypeWithLargeDescriptor value = new MapTypeWithLargeDescriptor(Map.of("key", "value"));
+
+        encoder.writeObject(buffer, encoderState, value);
+
+        assertEquals(buffer.getReadableBytes(), encoder.getEncodedSize(encoderState, value));
+
+        final Object result;
+        if (fromStream) {
+            final InputStream stream = new ProtonBufferInputStream(buffer);
+            result = streamDecoder.readObject(stream, streamDecoderState);
+        } else {
+            result = decoder.readObject(buffer, decoderState);
+        }
+
+        assertTrue(result instanceof UnknownDescribedType);
+        UnknownDescribedType resultType = (UnknownDescribedType) result;
+        assertEquals(MapTypeWithLargeDescriptor.DESCRIPTOR_CODE, resultType.getDescriptor());
+        assertEquals(Map.of("key", "value"), (Map<Object, Object>) resultType.getDescribed());
+    }
+
+    private static class ListTypeWithLargeDescriptor {
+
+        static final UnsignedLong DESCRIPTOR_CODE = UnsignedLong.valueOf(0x0000468C00000001L);
+        static final Symbol DESCRIPTOR_SYMBOL = Symbol.valueOf("test:list-with-large-descriptor");
+
+        private final String first;
+        private final String second;
+
+        ListTypeWithLargeDescriptor(String first, String second) {
+            this.first = first;
+            this.second = second;
+        }
+    }
+
+    private static class ListTypeWithLargeDescriptorEncoder extends AbstractDescribedListTypeEncoder<ListTypeWithLargeDescriptor> {
+
+        @Override
+        public Class<ListTypeWithLargeDescriptor> getTypeClass() {
+            return ListTypeWithLargeDescriptor.class;
+        }
+
+        @Override
+        public UnsignedLong getDescriptorCode() {
+            return ListTypeWithLargeDescriptor.DESCRIPTOR_CODE;
+        }
+
+        @Override
+        public Symbol getDescriptorSymbol() {
+            return ListTypeWithLargeDescriptor.DESCRIPTOR_SYMBOL;
+        }
+
+        @Override
+        public void writeElement(ListTypeWithLargeDescriptor source, int index, ProtonBuffer buffer, Encoder encoder, EncoderState state) {
+            encoder.writeString(buffer, state, index == 0 ? source.first : source.second);
+        }
+
+        @Override
+        public int getElementCount(ListTypeWithLargeDescriptor value) {
+            return 2;
+        }
+    }
+
+    private static class MapTypeWithLargeDescriptor {
+
+        static final UnsignedLong DESCRIPTOR_CODE = UnsignedLong.valueOf(0x0000468C00000002L);
+        static final Symbol DESCRIPTOR_SYMBOL = Symbol.valueOf("test:map-with-large-descriptor");
+
+        private final Map<String, String> map;
+
+        MapTypeWithLargeDescriptor(Map<String, String> map) {
+            this.map = map;
+        }
+    }
+
+    private static class MapTypeWithLargeDescriptorEncoder extends AbstractDescribedMapTypeEncoder<String, String, MapTypeWithLargeDescriptor> {
+
+        @Override
+        public Class<MapTypeWithLargeDescriptor> getTypeClass() {
+            return MapTypeWithLargeDescriptor.class;
+        }
+
+        @Override
+        public UnsignedLong getDescriptorCode() {
+            return MapTypeWithLargeDescriptor.DESCRIPTOR_CODE;
+        }
+
+        @Override
+        public Symbol getDescriptorSymbol() {
+            return MapTypeWithLargeDescriptor.DESCRIPTOR_SYMBOL;
+        }
+
+        @Override
+        public boolean hasMap(MapTypeWithLargeDescriptor value) {
+            return value.map != null;
+        }
+
+        @Override
+        public int getMapSize(MapTypeWithLargeDescriptor value) {
+            return value.map.size();
+        }
+
+        @Override
+        public void writeMapEntries(ProtonBuffer buffer, Encoder encoder, EncoderState state, MapTypeWithLargeDescriptor value) {
+            value.map.forEach((key, entry) -> {
+                encoder.writeString(buffer, state, key);
+                encoder.writeString(buffer, state, entry);
+            });
+        }
+    }
 }
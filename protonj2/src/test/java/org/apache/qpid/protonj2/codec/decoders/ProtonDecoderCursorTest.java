@@ -0,0 +1,404 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.codec.decoders;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.buffer.ProtonBufferInputStream;
+import org.apache.qpid.protonj2.codec.CodecTestSupport;
+import org.apache.qpid.protonj2.codec.DecodeEOFException;
+import org.apache.qpid.protonj2.codec.DecodeException;
+import org.apache.qpid.protonj2.codec.DecoderCursor;
+import org.apache.qpid.protonj2.codec.DecoderCursor.Token;
+import org.apache.qpid.protonj2.types.Binary;
+import org.apache.qpid.protonj2.types.Symbol;
+import org.apache.qpid.protonj2.types.UnknownDescribedType;
+import org.apache.qpid.protonj2.types.UnsignedInteger;
+import org.apache.qpid.protonj2.types.messaging.AmqpSequence;
+import org.apache.qpid.protonj2.types.messaging.AmqpValue;
+import org.apache.qpid.protonj2.types.messaging.Header;
+import org.junit.jupiter.api.Test;
+
+public class ProtonDecoderCursorTest extends CodecTestSupport {
+
+    @Test
+    public void testReadPrimitiveValuesFromBuffer() throws IOException {
+        doTestReadPrimitiveValues(false);
+    }
+
+    @Test
+    public void testReadPrimitiveValuesFromStream() throws IOException {
+        doTestReadPrimitiveValues(true);
+    }
+
+    private void doTestReadPrimitiveValues(boolean fromStream) throws IOException {
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        encoder.writeBoolean(buffer, encoderState, true);
+        encoder.writeInteger(buffer, encoderState, 1);
+        encoder.writeInteger(buffer, encoderState, Integer.MAX_VALUE);
+        encoder.writeLong(buffer, encoderState, Long.MAX_VALUE);
+        encoder.writeString(buffer, encoderState, "string");
+        encoder.writeSymbol(buffer, encoderState, "symbol");
+        encoder.writeBinary(buffer, encoderState, new byte[] { 1, 2, 3 });
+        encoder.writeObject(buffer, encoderState, null);
+        encoder.writeUnsignedInteger(buffer, encoderState, 42);
+
+        final DecoderCursor cursor = createCursor(buffer, fromStream);
+
+        assertNull(cursor.currentToken());
+
+        assertEquals(Token.VALUE, cursor.nextToken());
+        assertEquals(Boolean.class, cursor.getTypeClass());
+        assertTrue(cursor.readBoolean());
+        assertEquals(Token.VALUE, cursor.nextToken());
+        assertEquals(1, cursor.readInt());
+        assertEquals(Token.VALUE, cursor.nextToken());
+        assertEquals(Integer.MAX_VALUE, cursor.readInt());
+        assertEquals(Token.VALUE, cursor.nextToken());
+        assertEquals(Long.MAX_VALUE, cursor.readLong());
+        assertEquals(Token.VALUE, cursor.nextToken());
+        assertEquals("string", cursor.readString());
+        assertEquals(Token.VALUE, cursor.nextToken());
+        assertEquals(Symbol.valueOf("symbol"), cursor.readSymbol());
+        assertEquals(Token.VALUE, cursor.nextToken());
+        assertEquals(new Binary(new byte[] { 1, 2, 3 }), cursor.readBinary());
+        assertEquals(Token.NULL, cursor.nextToken());
+        assertNull(cursor.readString());
+        assertEquals(Token.VALUE, cursor.nextToken());
+        assertEquals(UnsignedInteger.valueOf(42), cursor.readObject());
+        assertEquals(Token.END_OF_DATA, cursor.nextToken());
+        assertEquals(Token.END_OF_DATA, cursor.nextToken());
+    }
+
+    @Test
+    public void testReadWrongTypeFailsAndLeavesValueUnreadFromBuffer() throws IOException {
+        doTestReadWrongTypeFailsAndLeavesValueUnread(false);
+    }
+
+    @Test
+    public void testReadWrongTypeFailsAndLeavesValueUnreadFromStream() throws IOException {
+        doTestReadWrongTypeFailsAndLeavesValueUnread(true);
+    }
+
+    private void doTestReadWrongTypeFailsAndLeavesValueUnread(boolean fromStream) throws IOException {
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        encoder.writeString(buffer, encoderState, "string");
+
+        final DecoderCursor cursor = createCursor(buffer, fromStream);
+
+        assertEquals(Token.VALUE, cursor.nextToken());
+        assertThrows(DecodeException.class, () -> cursor.readInt());
+        assertThrows(DecodeException.class, () -> cursor.readLong());
+        assertThrows(DecodeException.class, () -> cursor.readSymbol());
+        assertThrows(IllegalStateException.class, () -> cursor.enterList());
+        assertEquals("string", cursor.readString());
+        assertThrows(IllegalStateException.class, () -> cursor.readString());
+        assertThrows(IllegalStateException.class, () -> cursor.exit());
+    }
+
+    @Test
+    public void testWalkNestedListsAndMapsFromBuffer() throws IOException {
+        doTestWalkNestedListsAndMaps(false);
+    }
+
+    @Test
+    public void testWalkNestedListsAndMapsFromStream() throws IOException {
+        doTestWalkNestedListsAndMaps(true);
+    }
+
+    private void doTestWalkNestedListsAndMaps(boolean fromStream) throws IOException {
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        final Map<String, Object> map = new LinkedHashMap<>();
+        map.put("id", 1);
+        map.put("tags", Arrays.asList("a", "b"));
+
+        final List<Object> list = new ArrayList<>();
+        list.add(map);
+        list.add(new ArrayList<>());
+        list.add("tail");
+
+        encoder.writeList(buffer, encoderState, list);
+        encoder.writeInteger(buffer, encoderState, 2);
+
+        final DecoderCursor cursor = createCursor(buffer, fromStream);
+
+        assertEquals(Token.START_LIST, cursor.nextToken());
+        assertEquals(List.class, cursor.getTypeClass());
+        assertEquals(3, cursor.enterList());
+        assertEquals(1, cursor.getDepth());
+
+        assertEquals(Token.START_MAP, cursor.nextToken());
+        assertEquals(4, cursor.enterMap());
+        assertEquals(Token.VALUE, cursor.nextToken());
+        assertEquals("id", cursor.readString());
+        assertEquals(Token.VALUE, cursor.nextToken());
+        assertEquals(1, cursor.readInt());
+        assertEquals(Token.VALUE, cursor.nextToken());
+        assertEquals("tags", cursor.readString());
+        assertEquals(Token.START_LIST, cursor.nextToken());
+        assertEquals(2, cursor.enterList());
+        assertEquals(3, cursor.getDepth());
+        assertEquals(Token.VALUE, cursor.nextToken());
+        assertEquals("a", cursor.readString());
+        assertEquals(Token.VALUE, cursor.nextToken());
+        assertEquals("b", cursor.readString());
+        assertEquals(Token.END, cursor.nextToken());
+        assertEquals(2, cursor.getDepth());
+        assertEquals(Token.END, cursor.nextToken());
+        assertEquals(1, cursor.getDepth());
+
+        assertEquals(Token.START_LIST, cursor.nextToken());
+        assertEquals(0, cursor.enterList());
+        assertEquals(Token.END, cursor.nextToken());
+
+        assertEquals(Token.VALUE, cursor.nextToken());
+        assertEquals("tail", cursor.readString());
+        assertEquals(Token.END, cursor.nextToken());
+        assertEquals(0, cursor.getDepth());
+
+        assertEquals(Token.VALUE, cursor.nextToken());
+        assertEquals(2, cursor.readInt());
+        assertEquals(Token.END_OF_DATA, cursor.nextToken());
+    }
+
+    @Test
+    public void testUnreadAndUnenteredValuesAreSkippedFromBuffer() throws IOException {
+        doTestUnreadAndUnenteredValuesAreSkipped(false);
+    }
+
+    @Test
+    public void testUnreadAndUnenteredValuesAreSkippedFromStream() throws IOException {
+        doTestUnreadAndUnenteredValuesAreSkipped(true);
+    }
+
+    private void doTestUnreadAndUnenteredValuesAreSkipped(boolean fromStream) throws IOException {
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        encoder.writeList(buffer, encoderState, Arrays.asList(1, 2, Arrays.asList(3, 4)));
+        encoder.writeMap(buffer, encoderState, Map.of("key", "value"));
+        encoder.writeArray(buffer, encoderState, new long[] { 1, 2, 3 });
+        encoder.writeList(buffer, encoderState, Arrays.asList("a", "b", "c", "d"));
+        encoder.writeString(buffer, encoderState, "last");
+
+        final DecoderCursor cursor = createCursor(buffer, fromStream);
+
+        assertEquals(Token.START_LIST, cursor.nextToken());
+        assertEquals(Token.START_MAP, cursor.nextToken());
+        cursor.skip();
+        assertEquals(Token.START_ARRAY, cursor.nextToken());
+        assertEquals(Token.START_LIST, cursor.nextToken());
+        assertEquals(4, cursor.enterList());
+        assertEquals(Token.VALUE, cursor.nextToken());
+        assertEquals("a", cursor.readString());
+        cursor.exit();
+        assertEquals(0, cursor.getDepth());
+        assertEquals(Token.VALUE, cursor.nextToken());
+        assertEquals("last", cursor.readString());
+        assertEquals(Token.END_OF_DATA, cursor.nextToken());
+    }
+
+    @Test
+    public void testWalkArraysFromBuffer() throws IOException {
+        doTestWalkArrays(false);
+    }
+
+    @Test
+    public void testWalkArraysFromStream() throws IOException {
+        doTestWalkArrays(true);
+    }
+
+    private void doTestWalkArrays(boolean fromStream) throws IOException {
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        encoder.writeArray(buffer, encoderState, new int[] { 1, 1024, -1 });
+        encoder.writeArray(buffer, encoderState, new String[] { "one", "two" });
+        encoder.writeArray(buffer, encoderState, new int[0]);
+
+        final DecoderCursor cursor = createCursor(buffer, fromStream);
+
+        assertEquals(Token.START_ARRAY, cursor.nextToken());
+        assertEquals(3, cursor.enterArray());
+        assertEquals(Token.VALUE, cursor.nextToken());
+        assertEquals(1, cursor.readInt());
+        assertEquals(Token.VALUE, cursor.nextToken());
+        assertEquals(1024, cursor.readInt());
+        assertEquals(Token.VALUE, cursor.nextToken());
+        assertEquals(-1, cursor.readInt());
+        assertEquals(Token.END, cursor.nextToken());
+
+        assertEquals(Token.START_ARRAY, cursor.nextToken());
+        assertEquals(2, cursor.enterArray());
+        assertEquals(Token.VALUE, cursor.nextToken());
+        assertEquals("one", cursor.readString());
+        assertEquals(Token.VALUE, cursor.nextToken());
+        assertEquals("two", cursor.readString());
+        assertEquals(Token.END, cursor.nextToken());
+
+        assertEquals(Token.START_ARRAY, cursor.nextToken());
+        assertEquals(0, cursor.enterArray());
+        assertEquals(Token.END, cursor.nextToken());
+        assertEquals(Token.END_OF_DATA, cursor.nextToken());
+    }
+
+    @Test
+    public void testWalkAmqpSequenceBodyFromBuffer() throws IOException {
+        doTestWalkAmqpSequenceBody(false);
+    }
+
+    @Test
+    public void testWalkAmqpSequenceBodyFromStream() throws IOException {
+        doTestWalkAmqpSequenceBody(true);
+    }
+
+    private void doTestWalkAmqpSequenceBody(boolean fromStream) throws IOException {
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        final int count = 1000;
+        final List<Object> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; ++i) {
+            entries.add(Arrays.asList(i, "row-" + i));
+        }
+
+        encoder.writeObject(buffer, encoderState, new Header());
+        encoder.writeObject(buffer, encoderState, new AmqpSequence<>(entries));
+
+        final DecoderCursor cursor = createCursor(buffer, fromStream);
+
+        assertEquals(Token.DESCRIBED, cursor.nextToken());
+        assertEquals(Header.DESCRIPTOR_CODE, cursor.getDescriptor());
+        assertEquals(Header.class, cursor.getTypeClass());
+        cursor.skip();
+
+        assertEquals(Token.DESCRIBED, cursor.nextToken());
+        assertEquals(AmqpSequence.DESCRIPTOR_CODE, cursor.getDescriptor());
+        assertEquals(Token.START_LIST, cursor.nextToken());
+        assertEquals(count, cursor.enterList());
+
+        long sum = 0;
+        int rows = 0;
+
+        while (cursor.nextToken() == Token.START_LIST) {
+            assertEquals(2, cursor.enterList());
+            assertEquals(Token.VALUE, cursor.nextToken());
+            sum += cursor.readInt();
+            assertEquals(Token.VALUE, cursor.nextToken());
+            assertEquals("row-" + rows++, cursor.readString());
+            assertEquals(Token.END, cursor.nextToken());
+        }
+
+        assertEquals(Token.END, cursor.currentToken());
+        assertEquals(count, rows);
+        assertEquals((count - 1) * count / 2, sum);
+        assertEquals(Token.END_OF_DATA, cursor.nextToken());
+    }
+
+    @Test
+    public void testReadDescribedTypesFromBuffer() throws IOException {
+        doTestReadDescribedTypes(false);
+    }
+
+    @Test
+    public void testReadDescribedTypesFromStream() throws IOException {
+        doTestReadDescribedTypes(true);
+    }
+
+    private void doTestReadDescribedTypes(boolean fromStream) throws IOException {
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        final Header header = new Header();
+        header.setDurable(true);
+        header.setPriority((byte) 7);
+
+        final UnknownDescribedType unknown = new UnknownDescribedType(Symbol.valueOf("unknown"), "value");
+
+        encoder.writeObject(buffer, encoderState, header);
+        encoder.writeObject(buffer, encoderState, unknown);
+        encoder.writeObject(buffer, encoderState, new AmqpValue<>("skipped"));
+        encoder.writeObject(buffer, encoderState, new AmqpValue<>("read"));
+
+        final DecoderCursor cursor = createCursor(buffer, fromStream);
+
+        assertEquals(Token.DESCRIBED, cursor.nextToken());
+        Header decoded = (Header) cursor.readObject();
+        assertTrue(decoded.isDurable());
+        assertEquals(7, decoded.getPriority());
+
+        assertEquals(Token.DESCRIBED, cursor.nextToken());
+        assertEquals(Symbol.valueOf("unknown"), cursor.getDescriptor());
+        assertEquals(unknown, cursor.readObject());
+
+        assertEquals(Token.DESCRIBED, cursor.nextToken());
+        cursor.skip();
+
+        assertEquals(Token.DESCRIBED, cursor.nextToken());
+        assertEquals(Token.VALUE, cursor.nextToken());
+        assertEquals("read", cursor.readString());
+        assertEquals(Token.END_OF_DATA, cursor.nextToken());
+    }
+
+    @Test
+    public void testTruncatedEncodingFailsFromBuffer() throws IOException {
+        doTestTruncatedEncodingFails(false, DecodeException.class);
+    }
+
+    @Test
+    public void testTruncatedEncodingFailsFromStream() throws IOException {
+        doTestTruncatedEncodingFails(true, DecodeEOFException.class);
+    }
+
+    private void doTestTruncatedEncodingFails(boolean fromStream, Class<? extends RuntimeException> expected) throws IOException {
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        encoder.writeList(buffer, encoderState, Arrays.asList(1, 2, 3));
+
+        buffer.setWriteOffset(buffer.getWriteOffset() - 4);
+
+        final DecoderCursor cursor = createCursor(buffer, fromStream);
+
+        assertEquals(Token.START_LIST, cursor.nextToken());
+
+        assertThrows(expected, () -> {
+            cursor.enterList();
+            while (cursor.nextToken() != Token.END) {
+                cursor.readInt();
+            }
+        });
+    }
+
+    private DecoderCursor createCursor(ProtonBuffer buffer, boolean fromStream) {
+        if (fromStream) {
+            return streamDecoder.newCursor(new ProtonBufferInputStream(buffer), streamDecoderState);
+        } else {
+            return decoder.newCursor(buffer, decoderState);
+        }
+    }
+}
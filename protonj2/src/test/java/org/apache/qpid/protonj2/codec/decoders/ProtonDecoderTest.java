@@ -19,6 +19,7 @@ package org.apache.qpid.protonj2.codec.decoders;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -26,6 +27,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
@@ -37,6 +40,8 @@ import org.apache.qpid.protonj2.codec.DecoderState;
 import org.apache.qpid.protonj2.codec.EncodingCodes;
 import org.apache.qpid.protonj2.types.UnknownDescribedType;
 import org.apache.qpid.protonj2.types.UnsignedLong;
+import org.apache.qpid.protonj2.types.messaging.ApplicationProperties;
+import org.apache.qpid.protonj2.types.messaging.Properties;
 import org.junit.jupiter.api.Test;
 
 public class ProtonDecoderTest extends CodecTestSupport {
@@ -289,4 +294,145 @@ public class ProtonDecoderTest extends CodecTestSupport {
         assertNotNull(((ProtonDecoderState) decoderState).getStringDecoder());
         assertThrows(DecodeException.class, () -> decoder.readString(buffer, decoderState));
     }
+
+    @Test
+    public void testStringCacheDisabledByDefault() throws IOException {
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        encoder.writeString(buffer, encoderState, "address");
+        encoder.writeString(buffer, encoderState, "address");
+
+        assertEquals(0, ((ProtonDecoderState) decoderState).getStringCacheSize());
+
+        String first = decoder.readString(buffer, decoderState);
+        String second = decoder.readString(buffer, decoderState);
+
+        assertEquals(first, second);
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void testSetStringCacheSize() {
+        ProtonDecoderState state = (ProtonDecoderState) decoderState;
+
+        assertThrows(IllegalArgumentException.class, () -> state.setStringCacheSize(-1));
+        assertThrows(IllegalArgumentException.class, () -> state.setStringCacheSize(65537));
+
+        assertEquals(2, state.setStringCacheSize(1).getStringCacheSize());
+        assertEquals(4, state.setStringCacheSize(3).getStringCacheSize());
+        assertEquals(1024, state.setStringCacheSize(1024).getStringCacheSize());
+        assertEquals(0, state.setStringCacheSize(0).getStringCacheSize());
+    }
+
+    @Test
+    public void testStringCacheReturnsSameInstanceForRepeatedStrings() throws IOException {
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        final String ascii = "queue://address";
+        final String unicode = "\u00e9v\u00e9nement";
+        final String large = "large-".repeat(20);
+
+        for (int i = 0; i < 2; ++i) {
+            encoder.writeString(buffer, encoderState, ascii);
+            encoder.writeString(buffer, encoderState, unicode);
+            encoder.writeString(buffer, encoderState, large);
+        }
+
+        ((ProtonDecoderState) decoderState).setStringCacheSize(16);
+
+        String ascii1 = decoder.readString(buffer, decoderState);
+        String unicode1 = decoder.readString(buffer, decoderState);
+        String large1 = decoder.readString(buffer, decoderState);
+        String ascii2 = decoder.readString(buffer, decoderState);
+        String unicode2 = decoder.readString(buffer, decoderState);
+        String large2 = decoder.readString(buffer, decoderState);
+
+        assertFalse(buffer.isReadable());
+
+        assertEquals(ascii, ascii1);
+        assertSame(ascii1, ascii2);
+        assertEquals(unicode, unicode1);
+        assertSame(unicode1, unicode2);
+        assertEquals(large, large1);
+        assertEquals(large, large2);
+        assertNotSame(large1, large2);
+    }
+
+    @Test
+    public void testStringCacheEvictsLeastRecentlyUsedEntries() throws IOException {
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        ((ProtonDecoderState) decoderState).setStringCacheSize(2);
+
+        encoder.writeString(buffer, encoderState, "a");
+        encoder.writeString(buffer, encoderState, "b");
+        final String a = decoder.readString(buffer, decoderState);
+        final String b = decoder.readString(buffer, decoderState);
+
+        encoder.writeString(buffer, encoderState, "a");
+        assertSame(a, decoder.readString(buffer, decoderState));
+
+        // Evicts "b" which is now the least recently used
+        encoder.writeString(buffer, encoderState, "c");
+        assertEquals("c", decoder.readString(buffer, decoderState));
+
+        encoder.writeString(buffer, encoderState, "a");
+        encoder.writeString(buffer, encoderState, "b");
+        assertSame(a, decoder.readString(buffer, decoderState));
+        String decodedB = decoder.readString(buffer, decoderState);
+        assertEquals(b, decodedB);
+        assertNotSame(b, decodedB);
+    }
+
+    @Test
+    public void testStringCacheNotUsedWithCustomStringDecoder() throws IOException {
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        encoder.writeString(buffer, encoderState, "address");
+        encoder.writeString(buffer, encoderState, "address");
+
+        ((ProtonDecoderState) decoderState).setStringCacheSize(16);
+        ((ProtonDecoderState) decoderState).setStringDecoder((source, length) -> {
+            final byte[] bytes = new byte[length];
+            source.readBytes(bytes, 0, length);
+            return new String(bytes);
+        });
+
+        String first = decoder.readString(buffer, decoderState);
+        String second = decoder.readString(buffer, decoderState);
+
+        assertEquals("address", first);
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void testStringCacheDeduplicatesMessageSectionStrings() throws IOException {
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        Map<String, Object> map = new HashMap<>();
+        map.put("key", "value");
+
+        Properties properties = new Properties();
+        properties.setTo("queue");
+        properties.setReplyTo("reply-queue");
+        properties.setSubject("subject");
+
+        for (int i = 0; i < 2; ++i) {
+            encoder.writeObject(buffer, encoderState, new ApplicationProperties(map));
+            encoder.writeObject(buffer, encoderState, properties);
+        }
+
+        ((ProtonDecoderState) decoderState).setStringCacheSize(64);
+
+        ApplicationProperties appProperties1 = (ApplicationProperties) decoder.readObject(buffer, decoderState);
+        Properties properties1 = (Properties) decoder.readObject(buffer, decoderState);
+        ApplicationProperties appProperties2 = (ApplicationProperties) decoder.readObject(buffer, decoderState);
+        Properties properties2 = (Properties) decoder.readObject(buffer, decoderState);
+
+        assertSame(appProperties1.getValue().keySet().iterator().next(), appProperties2.getValue().keySet().iterator().next());
+        assertSame(appProperties1.getValue().get("key"), appProperties2.getValue().get("key"));
+        assertSame(properties1.getTo(), properties2.getTo());
+        assertSame(properties1.getReplyTo(), properties2.getReplyTo());
+        assertSame(properties1.getSubject(), properties2.getSubject());
+    }
 }
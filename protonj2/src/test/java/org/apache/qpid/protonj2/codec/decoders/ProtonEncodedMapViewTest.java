@@ -0,0 +1,293 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.codec.decoders;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.buffer.netty.Netty4ProtonBufferAllocator;
+import org.apache.qpid.protonj2.codec.CodecTestSupport;
+import org.apache.qpid.protonj2.types.Symbol;
+import org.apache.qpid.protonj2.types.UnknownDescribedType;
+import org.apache.qpid.protonj2.types.messaging.ApplicationProperties;
+import org.apache.qpid.protonj2.types.messaging.MessageAnnotations;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+
+public class ProtonEncodedMapViewTest extends CodecTestSupport {
+
+    @Override
+    @BeforeEach
+    public void setUp() {
+        super.setUp();
+        ((ProtonDecoderState) decoderState).setLazyMapSections(true);
+    }
+
+    @Test
+    public void testApplicationPropertiesDecodeToEagerMapByDefault() throws IOException {
+        ((ProtonDecoderState) decoderState).setLazyMapSections(false);
+
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+        encoder.writeObject(buffer, encoderState, new ApplicationProperties(createApplicationProperties()));
+
+        ApplicationProperties result = (ApplicationProperties) decoder.readObject(buffer, decoderState);
+
+        assertTrue(result.getValue() instanceof LinkedHashMap);
+    }
+
+    @Test
+    public void testApplicationPropertiesView() throws IOException {
+        final Map<String, Object> expected = createApplicationProperties();
+
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+        encoder.writeObject(buffer, encoderState, new ApplicationProperties(expected));
+
+        ApplicationProperties result = (ApplicationProperties) decoder.readObject(buffer, decoderState);
+
+        assertFalse(buffer.isReadable());
+        assertTrue(result.getValue() instanceof ProtonEncodedMapView);
+
+        final Map<String, Object> view = result.getValue();
+
+        assertEquals(expected.size(), view.size());
+        assertFalse(view.isEmpty());
+
+        for (Map.Entry<String, Object> entry : expected.entrySet()) {
+            assertTrue(view.containsKey(entry.getKey()));
+            assertEquals(entry.getValue(), view.get(entry.getKey()));
+        }
+
+        assertFalse(view.containsKey("missing"));
+        assertNull(view.get("missing"));
+        assertNull(view.get(Symbol.valueOf("string")));
+        assertNull(view.get(1));
+        assertTrue(view.containsKey("null"));
+        assertNull(view.get("null"));
+
+        assertSame(view.get("list"), view.get("list"));
+
+        assertEquals(expected, view);
+        assertEquals(view, expected);
+        assertEquals(expected.hashCode(), view.hashCode());
+        assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(view.keySet()));
+    }
+
+    @Test
+    public void testApplicationPropertiesViewIsReadOnly() throws IOException {
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+        encoder.writeObject(buffer, encoderState, new ApplicationProperties(createApplicationProperties()));
+
+        final Map<String, Object> view = ((ApplicationProperties) decoder.readObject(buffer, decoderState)).getValue();
+
+        assertThrows(UnsupportedOperationException.class, () -> view.put("key", "value"));
+        assertThrows(UnsupportedOperationException.class, () -> view.remove("string"));
+        assertThrows(UnsupportedOperationException.class, () -> view.clear());
+        assertThrows(UnsupportedOperationException.class, () -> view.entrySet().iterator().next().setValue("value"));
+    }
+
+    @Test
+    public void testApplicationPropertiesViewIndependentOfSourceBuffer() throws IOException {
+        final Map<String, Object> expected = createApplicationProperties();
+
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+        encoder.writeObject(buffer, encoderState, new ApplicationProperties(expected));
+
+        final Map<String, Object> view = ((ApplicationProperties) decoder.readObject(buffer, decoderState)).getValue();
+
+        buffer.fill((byte) 0);
+
+        assertEquals(expected, view);
+    }
+
+    @Test
+    public void testApplicationPropertiesViewDoesNotRetainNettySourceBuffer() throws IOException {
+        final Map<String, Object> expected = createApplicationProperties();
+        final ByteBuf source = PooledByteBufAllocator.DEFAULT.directBuffer();
+        final ProtonBuffer buffer = new Netty4ProtonBufferAllocator(PooledByteBufAllocator.DEFAULT).wrap(source);
+
+        encoder.writeObject(buffer, encoderState, new ApplicationProperties(expected));
+        buffer.convertToReadOnly();
+
+        final Map<String, Object> view = ((ApplicationProperties) decoder.readObject(buffer, decoderState)).getValue();
+
+        assertTrue(view instanceof ProtonEncodedMapView);
+
+        buffer.close();
+
+        assertEquals(0, source.refCnt());
+        assertEquals(expected, view);
+    }
+
+    @Test
+    public void testApplicationPropertiesViewOfLargeMap() throws IOException {
+        final Map<String, Object> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 300; ++i) {
+            expected.put("key-" + i, i);
+        }
+
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+        encoder.writeObject(buffer, encoderState, new ApplicationProperties(expected));
+
+        final Map<String, Object> view = ((ApplicationProperties) decoder.readObject(buffer, decoderState)).getValue();
+
+        assertTrue(view instanceof ProtonEncodedMapView);
+        assertEquals(300, view.size());
+
+        for (int i = 299; i >= 0; --i) {
+            assertEquals(i, view.get("key-" + i));
+        }
+
+        assertNull(view.get("key-300"));
+    }
+
+    @Test
+    public void testApplicationPropertiesViewOfEmptyMap() throws IOException {
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+        encoder.writeObject(buffer, encoderState, new ApplicationProperties(new LinkedHashMap<>()));
+
+        final Map<String, Object> view = ((ApplicationProperties) decoder.readObject(buffer, decoderState)).getValue();
+
+        assertTrue(view.isEmpty());
+        assertNull(view.get("key"));
+        assertFalse(view.entrySet().iterator().hasNext());
+    }
+
+    @Test
+    public void testMessageAnnotationsView() throws IOException {
+        final Map<Symbol, Object> expected = new LinkedHashMap<>();
+        expected.put(Symbol.valueOf("x-opt-jms-msg-type"), (byte) 5);
+        expected.put(Symbol.valueOf("x-opt-to-type"), "queue");
+        expected.put(Symbol.valueOf("x-opt-delivery-time"), 1234567890L);
+
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+        encoder.writeObject(buffer, encoderState, new MessageAnnotations(expected));
+
+        final Map<Symbol, Object> view = ((MessageAnnotations) decoder.readObject(buffer, decoderState)).getValue();
+
+        assertTrue(view instanceof ProtonEncodedMapView);
+        assertEquals((byte) 5, view.get(Symbol.valueOf("x-opt-jms-msg-type")));
+        assertEquals("queue", view.get(Symbol.valueOf("x-opt-to-type")));
+        assertEquals(1234567890L, view.get(Symbol.valueOf("x-opt-delivery-time")));
+        assertNull(view.get("x-opt-to-type"));
+        assertNull(view.get(Symbol.valueOf("x-opt-missing")));
+        assertSame(Symbol.valueOf("x-opt-to-type"), view.keySet().toArray()[1]);
+        assertEquals(expected, view);
+    }
+
+    @Test
+    public void testApplicationPropertiesWithNonStringKeysDecodedInFull() throws IOException {
+        // A null key is tolerated by the full decode but cannot be indexed by the view
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+        Map<Object, Object> map = new LinkedHashMap<>();
+        map.put("string", "value");
+        map.put(null, "null-key");
+        encoder.writeDescribedType(buffer, encoderState, new UnknownDescribedType(ApplicationProperties.DESCRIPTOR_CODE, map));
+
+        final Map<String, Object> result = ((ApplicationProperties) decoder.readObject(buffer, decoderState)).getValue();
+
+        assertFalse(buffer.isReadable());
+        assertTrue(result instanceof LinkedHashMap);
+        assertEquals(map, result);
+    }
+
+    @Test
+    public void testApplicationPropertiesViewConcurrentReads() throws Exception {
+        final Map<String, Object> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 256; ++i) {
+            expected.put("key-" + i, "value-" + i);
+        }
+
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+        encoder.writeObject(buffer, encoderState, new ApplicationProperties(expected));
+
+        final Map<String, Object> view = ((ApplicationProperties) decoder.readObject(buffer, decoderState)).getValue();
+        final int readers = 4;
+        final CyclicBarrier barrier = new CyclicBarrier(readers);
+        final ExecutorService executor = Executors.newFixedThreadPool(readers);
+
+        try {
+            final List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < readers; ++i) {
+                final boolean iterate = i % 2 == 0;
+                results.add(executor.submit(() -> {
+                    barrier.await();
+                    if (iterate) {
+                        for (Map.Entry<String, Object> entry : view.entrySet()) {
+                            if (!expected.get(entry.getKey()).equals(entry.getValue())) {
+                                return false;
+                            }
+                        }
+                    } else {
+                        for (Map.Entry<String, Object> entry : expected.entrySet()) {
+                            if (!entry.getValue().equals(view.get(entry.getKey()))) {
+                                return false;
+                            }
+                        }
+                    }
+                    return true;
+                }));
+            }
+
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Map<String, Object> createApplicationProperties() {
+        final Map<String, Object> map = new LinkedHashMap<>();
+
+        map.put("string", "value");
+        map.put("int", 42);
+        map.put("long", Long.MAX_VALUE);
+        map.put("boolean", true);
+        map.put("null", null);
+        map.put("list", new ArrayList<>(Arrays.asList("a", "b", "c")));
+        map.put("événement", "unicode");
+        map.put("symbol", Symbol.valueOf("value"));
+
+        final List<Object> nested = new ArrayList<>();
+        nested.add(1);
+        nested.add("two");
+        map.put("nested", nested);
+
+        return map;
+    }
+}
@@ -0,0 +1,302 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.codec.decoders;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.codec.CodecTestSupport;
+import org.apache.qpid.protonj2.codec.DecodeEOFException;
+import org.apache.qpid.protonj2.codec.DecodeException;
+import org.apache.qpid.protonj2.types.Binary;
+import org.apache.qpid.protonj2.types.Symbol;
+import org.apache.qpid.protonj2.types.UnsignedInteger;
+import org.apache.qpid.protonj2.types.messaging.AmqpValue;
+import org.apache.qpid.protonj2.types.messaging.ApplicationProperties;
+import org.apache.qpid.protonj2.types.messaging.Header;
+import org.apache.qpid.protonj2.types.messaging.Properties;
+import org.apache.qpid.protonj2.types.messaging.Section;
+import org.junit.jupiter.api.Test;
+
+public class ProtonReadAheadInputStreamTest extends CodecTestSupport {
+
+    @Test
+    public void testCreateWithInvalidArguments() {
+        assertThrows(NullPointerException.class, () -> new ProtonReadAheadInputStream(null));
+        assertThrows(IllegalArgumentException.class, () -> new ProtonReadAheadInputStream(new ByteArrayInputStream(new byte[0]), 0));
+    }
+
+    @Test
+    public void testWrapReturnsExistingReadAheadStream() {
+        ProtonReadAheadInputStream stream = new ProtonReadAheadInputStream(new ByteArrayInputStream(new byte[0]));
+
+        assertSame(stream, ProtonReadAheadInputStream.wrap(stream));
+        assertFalse(stream == ProtonReadAheadInputStream.wrap(new ByteArrayInputStream(new byte[0])));
+    }
+
+    @Test
+    public void testReadBytesAcrossFills() throws IOException {
+        final byte[] source = createPayload(100);
+
+        try (ProtonReadAheadInputStream stream = new ProtonReadAheadInputStream(new TrickleInputStream(source), 7)) {
+            assertTrue(stream.markSupported());
+
+            for (int i = 0; i < 10; ++i) {
+                assertEquals(source[i] & 0xFF, stream.read());
+            }
+
+            final byte[] chunk = new byte[30];
+            assertEquals(30, stream.readNBytes(chunk, 0, chunk.length));
+            assertArrayEquals(Arrays.copyOfRange(source, 10, 40), chunk);
+
+            long skipped = 0;
+            while (skipped < 20) {
+                skipped += stream.skip(20 - skipped);
+            }
+            assertEquals(20, skipped);
+            assertEquals(source[60] & 0xFF, stream.read());
+
+            final byte[] remaining = stream.readAllBytes();
+            assertArrayEquals(Arrays.copyOfRange(source, 61, 100), remaining);
+            assertEquals(-1, stream.read());
+            assertEquals(-1, stream.read(new byte[1], 0, 1));
+        }
+    }
+
+    @Test
+    public void testLargeReadBypassesBuffer() throws IOException {
+        final byte[] source = createPayload(64);
+
+        try (ProtonReadAheadInputStream stream = new ProtonReadAheadInputStream(new ByteArrayInputStream(source), 8)) {
+            final byte[] target = new byte[64];
+
+            assertEquals(64, stream.read(target, 0, 64));
+            assertEquals(0, stream.getBufferedBytes());
+            assertArrayEquals(source, target);
+        }
+    }
+
+    @Test
+    public void testMarkAndResetRetainsBytesAcrossFills() throws IOException {
+        final byte[] source = createPayload(64);
+
+        try (ProtonReadAheadInputStream stream = new ProtonReadAheadInputStream(new TrickleInputStream(source), 4)) {
+            stream.skip(3);
+            stream.mark(32);
+
+            final byte[] first = stream.readNBytes(20);
+            stream.reset();
+            final byte[] second = stream.readNBytes(20);
+
+            assertArrayEquals(Arrays.copyOfRange(source, 3, 23), first);
+            assertArrayEquals(first, second);
+            assertArrayEquals(Arrays.copyOfRange(source, 23, 64), stream.readAllBytes());
+        }
+    }
+
+    @Test
+    public void testResetWithoutMarkFails() throws IOException {
+        try (ProtonReadAheadInputStream stream = new ProtonReadAheadInputStream(new ByteArrayInputStream(createPayload(8)))) {
+            assertThrows(IOException.class, () -> stream.reset());
+        }
+    }
+
+    @Test
+    public void testMarkInvalidatedAfterReadLimitExceeded() throws IOException {
+        try (ProtonReadAheadInputStream stream = new ProtonReadAheadInputStream(new ByteArrayInputStream(createPayload(64)), 4)) {
+            stream.mark(2);
+            stream.readNBytes(16);
+
+            assertThrows(IOException.class, () -> stream.reset());
+        }
+    }
+
+    @Test
+    public void testAvailableIncludesBufferedAndSourceBytes() throws IOException {
+        try (ProtonReadAheadInputStream stream = new ProtonReadAheadInputStream(new ByteArrayInputStream(createPayload(20)), 8)) {
+            assertEquals(20, stream.available());
+            stream.read();
+            assertEquals(7, stream.getBufferedBytes());
+            assertEquals(19, stream.available());
+        }
+    }
+
+    @Test
+    public void testPrimitiveReadsAcrossFills() throws IOException {
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        buffer.writeByte((byte) 1);
+        buffer.writeShort((short) 0x0203);
+        buffer.writeInt(0x04050607);
+        buffer.writeLong(0x08090A0B0C0D0E0FL);
+
+        final byte[] source = new byte[buffer.getReadableBytes()];
+        buffer.readBytes(source, 0, source.length);
+
+        try (ProtonReadAheadInputStream stream = new ProtonReadAheadInputStream(new TrickleInputStream(source), 2)) {
+            assertEquals(1, ProtonStreamUtils.readByte(stream));
+            assertEquals(0x0203, ProtonStreamUtils.readShort(stream));
+            assertEquals(0x04050607, ProtonStreamUtils.readInt(stream));
+            assertEquals(0x08090A0B0C0D0E0FL, ProtonStreamUtils.readLong(stream));
+
+            assertThrows(DecodeEOFException.class, () -> ProtonStreamUtils.readEncodingCode(stream));
+            assertThrows(DecodeException.class, () -> ProtonStreamUtils.readInt(stream));
+        }
+    }
+
+    @Test
+    public void testDecodeMessageThroughSmallReadAheadBuffer() throws IOException {
+        final List<Section<?>> sections = createMessageSections();
+        final byte[] encoded = encodeSections(sections);
+
+        for (int readAheadSize : new int[] { 1, 3, 16, 8192 }) {
+            try (ProtonReadAheadInputStream stream = new ProtonReadAheadInputStream(new TrickleInputStream(encoded), readAheadSize)) {
+                assertSectionsDecoded(sections, stream);
+                assertEquals(-1, stream.read());
+            }
+        }
+    }
+
+    @Test
+    public void testPeekNextTypeDecoderWithSourceThatDoesNotSupportMark() throws IOException {
+        final byte[] encoded = encodeSections(createMessageSections());
+
+        try (ProtonReadAheadInputStream stream = new ProtonReadAheadInputStream(new TrickleInputStream(encoded), 4)) {
+            assertEquals(Header.class, streamDecoder.peekNextTypeDecoder(stream, streamDecoderState).getTypeClass());
+            assertEquals(Header.class, streamDecoder.readObject(stream, streamDecoderState).getClass());
+            assertEquals(Properties.class, streamDecoder.peekNextTypeDecoder(stream, streamDecoderState).getTypeClass());
+        }
+    }
+
+    @Test
+    public void testDecodeTruncatedStringFails() throws IOException {
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+        encoder.writeString(buffer, encoderState, "a string that will be truncated");
+
+        final byte[] encoded = new byte[buffer.getReadableBytes() - 4];
+        buffer.readBytes(encoded, 0, encoded.length);
+
+        try (ProtonReadAheadInputStream stream = new ProtonReadAheadInputStream(new ByteArrayInputStream(encoded), 4)) {
+            assertThrows(DecodeException.class, () -> streamDecoder.readString(stream, streamDecoderState));
+        }
+    }
+
+    private void assertSectionsDecoded(List<Section<?>> expected, InputStream stream) {
+        final Header header = (Header) streamDecoder.readObject(stream, streamDecoderState);
+        assertEquals(((Header) expected.get(0)).getPriority(), header.getPriority());
+        assertEquals(((Header) expected.get(0)).getTimeToLive(), header.getTimeToLive());
+
+        final Properties properties = (Properties) streamDecoder.readObject(stream, streamDecoderState);
+        assertEquals(((Properties) expected.get(1)).getMessageId(), properties.getMessageId());
+        assertEquals(((Properties) expected.get(1)).getSubject(), properties.getSubject());
+        assertEquals(((Properties) expected.get(1)).getUserId(), properties.getUserId());
+
+        final ApplicationProperties applicationProperties = (ApplicationProperties) streamDecoder.readObject(stream, streamDecoderState);
+        assertEquals(((ApplicationProperties) expected.get(2)).getValue(), applicationProperties.getValue());
+
+        final AmqpValue<?> body = (AmqpValue<?>) streamDecoder.readObject(stream, streamDecoderState);
+        assertEquals(((AmqpValue<?>) expected.get(3)).getValue(), body.getValue());
+    }
+
+    private List<Section<?>> createMessageSections() {
+        final Header header = new Header();
+        header.setPriority((byte) 9);
+        header.setTimeToLive(65535);
+
+        final Properties properties = new Properties();
+        properties.setMessageId(UUID.randomUUID());
+        properties.setSubject("subject éè中");
+        properties.setUserId(new Binary(createPayload(10)));
+
+        final Map<String, Object> map = new LinkedHashMap<>();
+        map.put("string", "value");
+        map.put("unicode", "üñîçøðé 中文");
+        map.put("long", Long.MAX_VALUE);
+        map.put("int", 42);
+        map.put("uint", UnsignedInteger.valueOf(Integer.MAX_VALUE));
+        map.put("double", 3.14d);
+        map.put("symbol", Symbol.valueOf("symbol-value"));
+        map.put("large", "large-string-value-".repeat(100));
+
+        final List<Object> list = new ArrayList<>();
+        for (int i = 0; i < 32; ++i) {
+            list.add(i % 2 == 0 ? (Object) ("entry-" + i) : (Object) Long.valueOf(i));
+        }
+
+        return Arrays.asList(header, properties, new ApplicationProperties(map), new AmqpValue<>(list));
+    }
+
+    private byte[] encodeSections(List<Section<?>> sections) {
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        for (Section<?> section : sections) {
+            encoder.writeObject(buffer, encoderState, section);
+        }
+
+        final byte[] encoded = new byte[buffer.getReadableBytes()];
+        buffer.readBytes(encoded, 0, encoded.length);
+
+        return encoded;
+    }
+
+    private static byte[] createPayload(int size) {
+        final byte[] payload = new byte[size];
+        for (int i = 0; i < size; ++i) {
+            payload[i] = (byte) i;
+        }
+
+        return payload;
+    }
+
+    /**
+     * Returns at most three bytes per read and does not support marks to simulate a stream
+     * over a delivery that is arriving in small transfers.
+     */
+    private static final class TrickleInputStream extends FilterInputStream {
+
+        TrickleInputStream(byte[] payload) {
+            super(new ByteArrayInputStream(payload));
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) throws IOException {
+            return super.read(target, offset, Math.min(3, length));
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
+}
@@ -23,16 +23,44 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 import org.apache.qpid.protonj2.codec.CodecTestSupport;
 import org.apache.qpid.protonj2.codec.EncoderState;
 import org.apache.qpid.protonj2.codec.EncodingCodes;
+import org.apache.qpid.protonj2.codec.SectionEncoder;
+import org.apache.qpid.protonj2.types.Binary;
+import org.apache.qpid.protonj2.types.Decimal128;
+import org.apache.qpid.protonj2.types.Decimal32;
+import org.apache.qpid.protonj2.types.Decimal64;
+import org.apache.qpid.protonj2.types.Symbol;
+import org.apache.qpid.protonj2.types.UnknownDescribedType;
 import org.apache.qpid.protonj2.types.UnsignedByte;
 import org.apache.qpid.protonj2.types.UnsignedInteger;
 import org.apache.qpid.protonj2.types.UnsignedLong;
 import org.apache.qpid.protonj2.types.UnsignedShort;
+import org.apache.qpid.protonj2.types.messaging.AmqpSequence;
+import org.apache.qpid.protonj2.types.messaging.AmqpValue;
+import org.apache.qpid.protonj2.types.messaging.ApplicationProperties;
+import org.apache.qpid.protonj2.types.messaging.Data;
+import org.apache.qpid.protonj2.types.messaging.DeliveryAnnotations;
+import org.apache.qpid.protonj2.types.messaging.Footer;
+import org.apache.qpid.protonj2.types.messaging.Header;
+import org.apache.qpid.protonj2.types.messaging.MessageAnnotations;
+import org.apache.qpid.protonj2.types.messaging.Properties;
+import org.apache.qpid.protonj2.types.messaging.Section;
+import org.apache.qpid.protonj2.types.transport.Open;
+import org.apache.qpid.protonj2.types.transport.Transfer;
 import org.junit.jupiter.api.Test;
 
 class ProtonEncoderTest extends CodecTestSupport {
@@ -405,4 +433,184 @@ class ProtonEncoderTest extends CodecTestSupport {
         assertEquals(buffer.getByte(5), (byte) 255);
         assertEquals(buffer.getByte(6), (byte) 255);
     }
+
+    @Test
+    public void testGetEncodedSizeOfPrimitives() throws IOException {
+        assertEncodedSizeMatches(null);
+        assertEncodedSizeMatches(Boolean.TRUE);
+        assertEncodedSizeMatches(Byte.valueOf((byte) 1));
+        assertEncodedSizeMatches(Short.valueOf((short) 1));
+        assertEncodedSizeMatches(Character.valueOf('a'));
+        assertEncodedSizeMatches(Float.valueOf(1.5f));
+        assertEncodedSizeMatches(Double.valueOf(1.5));
+        assertEncodedSizeMatches(new Decimal32(1));
+        assertEncodedSizeMatches(new Decimal64(1));
+        assertEncodedSizeMatches(new Decimal128(1, 1));
+        assertEncodedSizeMatches(new Date());
+        assertEncodedSizeMatches(UUID.randomUUID());
+        assertEncodedSizeMatches(UnsignedByte.valueOf((byte) 1));
+        assertEncodedSizeMatches(UnsignedShort.valueOf((short) 1));
+
+        for (int value : new int[] { 0, 1, -128, 127, -129, 128, Integer.MIN_VALUE, Integer.MAX_VALUE }) {
+            assertEncodedSizeMatches(Integer.valueOf(value));
+            assertEncodedSizeMatches(Long.valueOf(value));
+            assertEncodedSizeMatches(UnsignedInteger.valueOf(value));
+            assertEncodedSizeMatches(UnsignedLong.valueOf(value));
+        }
+
+        assertEncodedSizeMatches(Long.MAX_VALUE);
+        assertEncodedSizeMatches(UnsignedLong.valueOf(Long.MIN_VALUE));
+    }
+
+    @Test
+    public void testGetEncodedSizeOfVariableWidthTypes() throws IOException {
+        for (int length : new int[] { 0, 1, 64, 65, 255, 256, 1024 }) {
+            final char[] chars = new char[length];
+            final byte[] bytes = new byte[length];
+
+            Arrays.fill(chars, 'a');
+
+            assertEncodedSizeMatches(new String(chars));
+            assertEncodedSizeMatches(Symbol.valueOf(new String(chars)));
+            assertEncodedSizeMatches(new Binary(bytes));
+        }
+
+        assertEncodedSizeMatches("\u00e9t\u00e9");
+        assertEncodedSizeMatches("\u20ac\u20ac\u20ac");
+        assertEncodedSizeMatches("\ud83d\ude00 surrogate pair");
+    }
+
+    @Test
+    public void testGetEncodedSizeOfStringWithCustomUTF8Encoder() throws IOException {
+        ((ProtonEncoderState) encoderState).setUTF8Encoder(new UTF8Encoder() {
+
+            @Override
+            public ProtonBuffer encodeUTF8(ProtonBuffer buffer, CharSequence sequence) {
+                return buffer.writeBytes(sequence.toString().getBytes(StandardCharsets.UTF_8));
+            }
+        });
+
+        assertEncodedSizeMatches("custom-\u20ac-encoding");
+    }
+
+    @Test
+    public void testGetEncodedSizeOfListsAndMaps() throws IOException {
+        final List<Object> list = new ArrayList<>();
+        final Map<Object, Object> map = new LinkedHashMap<>();
+
+        assertEncodedSizeMatches(list);
+        assertEncodedSizeMatches(map);
+
+        list.add("string");
+        list.add(42);
+        list.add(Collections.singletonList(UnsignedInteger.ONE));
+        list.add(new int[] { 1, 2, 3 });
+
+        map.put(Symbol.valueOf("key"), "value");
+        map.put("null", null);
+        map.put(1, list);
+
+        assertEncodedSizeMatches(list);
+        assertEncodedSizeMatches(map);
+        assertEncodedSizeMatches(new String[] { "one", "two" });
+        assertEncodedSizeMatches(new long[] { 1, 2, 3 });
+    }
+
+    @Test
+    public void testGetEncodedSizeOfDescribedTypes() throws IOException {
+        assertEncodedSizeMatches(new UnknownDescribedType(Symbol.valueOf("unknown"), Arrays.asList("a", 1)));
+
+        Open open = new Open();
+        open.setContainerId("container");
+        open.setHostname("localhost");
+        open.setMaxFrameSize(65535);
+
+        Transfer transfer = new Transfer();
+        transfer.setHandle(1);
+        transfer.setDeliveryId(2);
+        transfer.setDeliveryTag(new byte[] { 1, 2 });
+
+        assertEncodedSizeMatches(open);
+        assertEncodedSizeMatches(transfer);
+    }
+
+    @Test
+    public void testGetEncodedSizeOfMessageSections() throws IOException {
+        final Header header = new Header();
+
+        assertEncodedSizeMatches(header);
+
+        header.setDurable(true);
+        header.setPriority((byte) 9);
+        header.setTimeToLive(65535);
+        header.setFirstAcquirer(true);
+        header.setDeliveryCount(1);
+
+        final Properties properties = new Properties();
+
+        assertEncodedSizeMatches(properties);
+
+        properties.setMessageId("ID:1");
+        properties.setUserId(new Binary(new byte[] { 1, 2, 3 }));
+        properties.setTo("queue");
+        properties.setContentType("text/plain");
+        properties.setAbsoluteExpiryTime(1000);
+        properties.setGroupSequence(300);
+        properties.setReplyToGroupId("group");
+
+        final Map<Symbol, Object> annotations = new HashMap<>();
+        annotations.put(Symbol.valueOf("x-opt-test"), "annotation");
+        annotations.put(Symbol.valueOf("x-opt-count"), 1024L);
+
+        final Map<String, Object> applicationProperties = new HashMap<>();
+        applicationProperties.put("one", 1);
+        applicationProperties.put("string", "value");
+
+        assertEncodedSizeMatches(header);
+        assertEncodedSizeMatches(properties);
+        assertEncodedSizeMatches(new DeliveryAnnotations(annotations));
+        assertEncodedSizeMatches(new MessageAnnotations(annotations));
+        assertEncodedSizeMatches(new MessageAnnotations(null));
+        assertEncodedSizeMatches(new ApplicationProperties(applicationProperties));
+        assertEncodedSizeMatches(new Footer(annotations));
+        assertEncodedSizeMatches(new Data(new byte[16]));
+        assertEncodedSizeMatches(new Data(new byte[1024]));
+        assertEncodedSizeMatches(new Data((byte[]) null));
+        assertEncodedSizeMatches(new AmqpValue<>("body"));
+        assertEncodedSizeMatches(new AmqpValue<>(applicationProperties));
+        assertEncodedSizeMatches(new AmqpSequence<>(Arrays.asList(1, "two", 3L)));
+    }
+
+    @Test
+    public void testSectionEncoderGetEncodedSize() throws IOException {
+        final SectionEncoder sectionEncoder = new SectionEncoder(encoder);
+        final List<Section<?>> sections = new ArrayList<>();
+
+        final Header header = new Header();
+        header.setDurable(true);
+
+        final Properties properties = new Properties();
+        properties.setMessageId(UUID.randomUUID());
+
+        sections.add(header);
+        sections.add(properties);
+        sections.add(new ApplicationProperties(Collections.singletonMap("key", "value")));
+        sections.add(new Data(new byte[300]));
+
+        for (Section<?> section : sections) {
+            ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+            sectionEncoder.write(buffer, section);
+
+            assertEquals(buffer.getReadableBytes(), sectionEncoder.getEncodedSize(section));
+        }
+    }
+
+    private void assertEncodedSizeMatches(Object value) {
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        encoder.writeObject(buffer, encoderState, value);
+
+        assertEquals(buffer.getReadableBytes(), encoder.getEncodedSize(encoderState, value), "Size mismatch for: " + value);
+    }
 }
@@ -0,0 +1,302 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.codec.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.codec.CodecTestSupport;
+import org.apache.qpid.protonj2.types.Symbol;
+import org.apache.qpid.protonj2.types.UnsignedInteger;
+import org.apache.qpid.protonj2.types.UnsignedShort;
+import org.apache.qpid.protonj2.types.messaging.AmqpValue;
+import org.apache.qpid.protonj2.types.messaging.ApplicationProperties;
+import org.apache.qpid.protonj2.types.messaging.DeliveryAnnotations;
+import org.apache.qpid.protonj2.types.messaging.Footer;
+import org.apache.qpid.protonj2.types.messaging.Header;
+import org.apache.qpid.protonj2.types.messaging.MessageAnnotations;
+import org.apache.qpid.protonj2.types.messaging.Properties;
+import org.junit.jupiter.api.Test;
+
+public class MessageFilterTest extends CodecTestSupport {
+
+    @Test
+    public void testCompileRejectsNullExpression() {
+        assertThrows(IllegalArgumentException.class, () -> MessageFilter.compile(null));
+    }
+
+    @Test
+    public void testCompileRejectsInvalidExpressions() {
+        assertThrows(IllegalArgumentException.class, () -> MessageFilter.compile(""));
+        assertThrows(IllegalArgumentException.class, () -> MessageFilter.compile("color ="));
+        assertThrows(IllegalArgumentException.class, () -> MessageFilter.compile("color = 'red"));
+        assertThrows(IllegalArgumentException.class, () -> MessageFilter.compile("(color = 'red'"));
+        assertThrows(IllegalArgumentException.class, () -> MessageFilter.compile("color = 'red')"));
+        assertThrows(IllegalArgumentException.class, () -> MessageFilter.compile("color IN ()"));
+        assertThrows(IllegalArgumentException.class, () -> MessageFilter.compile("color IN (size)"));
+        assertThrows(IllegalArgumentException.class, () -> MessageFilter.compile("color IS 'red'"));
+        assertThrows(IllegalArgumentException.class, () -> MessageFilter.compile("color NOT 'red'"));
+        assertThrows(IllegalArgumentException.class, () -> MessageFilter.compile("AND = 1"));
+        assertThrows(IllegalArgumentException.class, () -> MessageFilter.compile("size = 1.2.3"));
+    }
+
+    @Test
+    public void testCompileErrorReportsPosition() {
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class, () -> MessageFilter.compile("color = 'red' AND size >"));
+
+        assertTrue(error.getMessage().contains("position 24"), error.getMessage());
+    }
+
+    @Test
+    public void testGetExpression() {
+        assertEquals("color = 'red'", MessageFilter.compile("color = 'red'").getExpression());
+    }
+
+    @Test
+    public void testApplicationPropertyComparisons() throws Exception {
+        ProtonBuffer message = encodeMessage();
+
+        assertTrue(matches("color = 'red'", message));
+        assertFalse(matches("color = 'blue'", message));
+        assertTrue(matches("color <> 'blue'", message));
+        assertTrue(matches("color < 's'", message));
+        assertTrue(matches("size = 10", message));
+        assertTrue(matches("size = 10.0", message));
+        assertTrue(matches("size > 9 AND size >= 10 AND size < 11 AND size <= 10", message));
+        assertFalse(matches("size > 10", message));
+        assertTrue(matches("weight > 1.4", message));
+        assertTrue(matches("count = 3", message));
+        assertTrue(matches("active", message));
+        assertTrue(matches("active = TRUE", message));
+        assertFalse(matches("NOT active", message));
+        assertTrue(matches("name = 'O''Brien'", message));
+        assertTrue(matches("x-opt-route = 'a'", message));
+    }
+
+    @Test
+    public void testKeywordsAreCaseInsensitive() throws Exception {
+        ProtonBuffer message = encodeMessage();
+
+        assertTrue(matches("color = 'red' and size = 10 or color is null", message));
+        assertTrue(matches("missing IS not NULL or active = true", message));
+        assertFalse(matches("Active = true", message));
+    }
+
+    @Test
+    public void testLogicalOperators() throws Exception {
+        ProtonBuffer message = encodeMessage();
+
+        assertTrue(matches("color = 'red' AND size = 10", message));
+        assertFalse(matches("color = 'red' AND size = 11", message));
+        assertTrue(matches("color = 'blue' OR size = 10", message));
+        assertFalse(matches("color = 'blue' OR size = 11", message));
+        assertTrue(matches("NOT (color = 'blue' OR size = 11)", message));
+        assertTrue(matches("color = 'blue' OR size = 11 OR (active AND weight > 1)", message));
+    }
+
+    @Test
+    public void testInPredicate() throws Exception {
+        ProtonBuffer message = encodeMessage();
+
+        assertTrue(matches("color IN ('green', 'red')", message));
+        assertFalse(matches("color IN ('green', 'blue')", message));
+        assertTrue(matches("color NOT IN ('green', 'blue')", message));
+        assertTrue(matches("size IN (1, 10, 100)", message));
+        assertFalse(matches("missing IN ('a')", message));
+        assertFalse(matches("missing NOT IN ('a')", message));
+    }
+
+    @Test
+    public void testNullSemantics() throws Exception {
+        ProtonBuffer message = encodeMessage();
+
+        assertTrue(matches("missing IS NULL", message));
+        assertFalse(matches("missing IS NOT NULL", message));
+        assertTrue(matches("color IS NOT NULL", message));
+        assertFalse(matches("missing = 'a'", message));
+        assertFalse(matches("missing <> 'a'", message));
+        assertFalse(matches("NOT (missing = 'a')", message));
+        assertFalse(matches("missing = 'a' AND color = 'red'", message));
+        assertTrue(matches("missing = 'a' OR color = 'red'", message));
+        assertFalse(matches("missing = 'a' OR color = 'blue'", message));
+        assertTrue(matches("NOT (missing = 'a' AND color = 'blue')", message));
+        assertTrue(matches("nothing IS NULL", message));
+    }
+
+    @Test
+    public void testMismatchedTypesAreUnknown() throws Exception {
+        ProtonBuffer message = encodeMessage();
+
+        assertFalse(matches("color = 1", message));
+        assertFalse(matches("color <> 1", message));
+        assertFalse(matches("size = '10'", message));
+        assertFalse(matches("color", message));
+    }
+
+    @Test
+    public void testHeaderFields() throws Exception {
+        ProtonBuffer message = encodeMessage();
+
+        assertTrue(matches("header.durable", message));
+        assertTrue(matches("header.priority = 7", message));
+        assertTrue(matches("header.ttl = 5000", message));
+        assertTrue(matches("header.first_acquirer = FALSE", message));
+        assertTrue(matches("header.delivery_count = 0", message));
+    }
+
+    @Test
+    public void testHeaderDefaultsApplyWhenHeaderMissing() throws Exception {
+        ProtonBuffer message = ProtonBufferAllocator.defaultAllocator().allocate();
+        encoder.writeObject(message, encoderState, new AmqpValue<>("body"));
+
+        assertTrue(matches("header.durable = FALSE", message));
+        assertTrue(matches("header.priority = 4", message));
+        assertTrue(matches("header.ttl IS NULL", message));
+        assertTrue(matches("header.first_acquirer = FALSE", message));
+        assertTrue(matches("header.delivery_count = 0", message));
+    }
+
+    @Test
+    public void testPropertiesFields() throws Exception {
+        ProtonBuffer message = encodeMessage();
+
+        assertTrue(matches("properties.message_id = 'ID:1'", message));
+        assertTrue(matches("properties.to = 'queue'", message));
+        assertTrue(matches("properties.subject = 'orders'", message));
+        assertTrue(matches("properties.content_type = 'text/plain'", message));
+        assertTrue(matches("properties.creation_time = 1000", message));
+        assertTrue(matches("properties.group_sequence = 3", message));
+        assertTrue(matches("properties.group_id IS NULL", message));
+        assertTrue(matches("properties.reply_to_group_id IS NULL", message));
+        assertFalse(matches("properties.subject = 'returns'", message));
+    }
+
+    @Test
+    public void testUnknownHeaderOrPropertiesFieldSelectsApplicationProperty() throws Exception {
+        ProtonBuffer message = encodeMessage();
+
+        assertTrue(matches("header.colour IS NULL", message));
+        assertTrue(matches("properties.colour IS NULL", message));
+    }
+
+    @Test
+    public void testCombinedSections() throws Exception {
+        ProtonBuffer message = encodeMessage();
+
+        assertTrue(matches("header.priority > 4 AND properties.subject = 'orders' AND color IN ('red', 'green')", message));
+        assertFalse(matches("header.priority > 4 AND properties.subject = 'orders' AND color IN ('blue')", message));
+    }
+
+    @Test
+    public void testMatchesLeavesReadOffsetUnchanged() throws Exception {
+        ProtonBuffer message = ProtonBufferAllocator.defaultAllocator().allocate();
+        message.writeByte((byte) 0);
+        message.advanceReadOffset(1);
+
+        encodeMessage(message);
+
+        final int readOffset = message.getReadOffset();
+        final int readable = message.getReadableBytes();
+
+        assertTrue(matches("color = 'red' AND header.durable AND properties.to = 'queue'", message));
+        assertEquals(readOffset, message.getReadOffset());
+        assertEquals(readable, message.getReadableBytes());
+    }
+
+    @Test
+    public void testFilterCanBeReused() throws Exception {
+        MessageFilter filter = MessageFilter.compile("color = 'red'");
+
+        Map<String, Object> properties = new HashMap<>();
+        ProtonBuffer blue = ProtonBufferAllocator.defaultAllocator().allocate();
+        properties.put("color", "blue");
+        encoder.writeObject(blue, encoderState, new ApplicationProperties(properties));
+
+        ProtonBuffer empty = ProtonBufferAllocator.defaultAllocator().allocate();
+        encoder.writeObject(empty, encoderState, new AmqpValue<>("body"));
+
+        assertTrue(filter.matches(encodeMessage()));
+        assertFalse(filter.matches(blue));
+        assertTrue(filter.matches(encodeMessage()));
+        assertFalse(filter.matches(empty));
+    }
+
+    @Test
+    public void testPropertyInBodyOrFooterIsNotSelected() throws Exception {
+        Map<Symbol, Object> footer = new HashMap<>();
+        footer.put(Symbol.valueOf("color"), "red");
+
+        ProtonBuffer message = ProtonBufferAllocator.defaultAllocator().allocate();
+        encoder.writeObject(message, encoderState, new AmqpValue<>("color"));
+        encoder.writeObject(message, encoderState, new Footer(footer));
+
+        assertTrue(matches("color IS NULL", message));
+    }
+
+    private boolean matches(String expression, ProtonBuffer message) {
+        return MessageFilter.compile(expression).matches(message);
+    }
+
+    private ProtonBuffer encodeMessage() {
+        return encodeMessage(ProtonBufferAllocator.defaultAllocator().allocate());
+    }
+
+    private ProtonBuffer encodeMessage(ProtonBuffer buffer) {
+        Header header = new Header();
+        header.setDurable(true);
+        header.setPriority((byte) 7);
+        header.setTimeToLive(5000);
+
+        Map<Symbol, Object> annotations = new HashMap<>();
+        annotations.put(Symbol.valueOf("color"), "green");
+
+        Properties properties = new Properties();
+        properties.setMessageId("ID:1");
+        properties.setTo("queue");
+        properties.setSubject("orders");
+        properties.setContentType("text/plain");
+        properties.setCreationTime(1000);
+        properties.setGroupSequence(3);
+
+        Map<String, Object> applicationProperties = new HashMap<>();
+        applicationProperties.put("color", "red");
+        applicationProperties.put("size", 10);
+        applicationProperties.put("weight", 1.5f);
+        applicationProperties.put("count", UnsignedShort.valueOf((short) 3));
+        applicationProperties.put("total", UnsignedInteger.valueOf(300));
+        applicationProperties.put("active", true);
+        applicationProperties.put("name", "O'Brien");
+        applicationProperties.put("x-opt-route", Symbol.valueOf("a"));
+        applicationProperties.put("nothing", null);
+
+        encoder.writeObject(buffer, encoderState, header);
+        encoder.writeObject(buffer, encoderState, new DeliveryAnnotations(annotations));
+        encoder.writeObject(buffer, encoderState, new MessageAnnotations(annotations));
+        encoder.writeObject(buffer, encoderState, properties);
+        encoder.writeObject(buffer, encoderState, new ApplicationProperties(applicationProperties));
+        encoder.writeObject(buffer, encoderState, new AmqpValue<>("body"));
+
+        return buffer;
+    }
+}
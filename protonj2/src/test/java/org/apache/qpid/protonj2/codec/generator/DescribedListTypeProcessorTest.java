@@ -0,0 +1,372 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.qpid.protonj2.codec.generator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.StringContains.containsString;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.apache.qpid.protonj2.buffer.ProtonBuffer;
+import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.buffer.ProtonBufferInputStream;
+import org.apache.qpid.protonj2.codec.CodecTestSupport;
+import org.apache.qpid.protonj2.codec.DescribedTypeDecoder;
+import org.apache.qpid.protonj2.codec.DescribedTypeEncoder;
+import org.apache.qpid.protonj2.codec.StreamDescribedTypeDecoder;
+import org.apache.qpid.protonj2.types.Symbol;
+import org.apache.qpid.protonj2.types.UnknownDescribedType;
+import org.apache.qpid.protonj2.types.UnsignedInteger;
+import org.apache.qpid.protonj2.types.UnsignedLong;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for the codecs generated by the {@link DescribedListTypeProcessor}
+ */
+public class DescribedListTypeProcessorTest extends CodecTestSupport {
+
+    private static final String ORDER_SOURCE =
+        "package sample;\n" +
+        "\n" +
+        "import java.util.List;\n" +
+        "import java.util.UUID;\n" +
+        "\n" +
+        "import org.apache.qpid.protonj2.codec.generator.DescribedListElement;\n" +
+        "import org.apache.qpid.protonj2.codec.generator.DescribedListType;\n" +
+        "import org.apache.qpid.protonj2.types.Symbol;\n" +
+        "import org.apache.qpid.protonj2.types.UnsignedInteger;\n" +
+        "\n" +
+        "@DescribedListType(descriptorCode = 0x0000CAFE00000001L, descriptorSymbol = \"sample:order\")\n" +
+        "public class Order {\n" +
+        "    @DescribedListElement(index = 0) public long id;\n" +
+        "    @DescribedListElement(index = 1) public String name;\n" +
+        "    @DescribedListElement(index = 2) private int quantity;\n" +
+        "    @DescribedListElement(index = 3) public boolean express;\n" +
+        "    @DescribedListElement(index = 5) public List<String> tags;\n" +
+        "    @DescribedListElement(index = 6) public Symbol category;\n" +
+        "    @DescribedListElement(index = 7) public byte[] payload;\n" +
+        "    @DescribedListElement(index = 8) public double price;\n" +
+        "    @DescribedListElement(index = 9) public UUID reference;\n" +
+        "    @DescribedListElement(index = 10) public Integer optional;\n" +
+        "    @DescribedListElement(index = 11) public UnsignedInteger count;\n" +
+        "    @DescribedListElement(index = 12) public Line line;\n" +
+        "    @DescribedListElement(index = 13) public int[] bins;\n" +
+        "\n" +
+        "    public int getQuantity() { return quantity; }\n" +
+        "    public void setQuantity(int quantity) { this.quantity = quantity; }\n" +
+        "}\n";
+
+    private static final String LINE_SOURCE =
+        "package sample;\n" +
+        "\n" +
+        "import org.apache.qpid.protonj2.codec.generator.DescribedListElement;\n" +
+        "import org.apache.qpid.protonj2.codec.generator.DescribedListType;\n" +
+        "\n" +
+        "@DescribedListType(descriptorCode = 2, descriptorSymbol = \"sample:line\")\n" +
+        "public class Line {\n" +
+        "    @DescribedListElement(index = 0) private final String sku;\n" +
+        "    @DescribedListElement(index = 1) private final short amount;\n" +
+        "    @DescribedListElement(index = 2) private final char grade;\n" +
+        "    @DescribedListElement(index = 3) private final float weight;\n" +
+        "\n" +
+        "    public Line(String sku, short amount, char grade, float weight) {\n" +
+        "        this.sku = sku;\n" +
+        "        this.amount = amount;\n" +
+        "        this.grade = grade;\n" +
+        "        this.weight = weight;\n" +
+        "    }\n" +
+        "\n" +
+        "    public String getSku() { return sku; }\n" +
+        "    public short getAmount() { return amount; }\n" +
+        "    public char grade() { return grade; }\n" +
+        "    public float getWeight() { return weight; }\n" +
+        "}\n";
+
+    @TempDir
+    Path workDir;
+
+    @Test
+    public void testGeneratedCodecsRoundTripFromBuffer() throws Exception {
+        doTestGeneratedCodecsRoundTrip(false);
+    }
+
+    @Test
+    public void testGeneratedCodecsRoundTripFromStream() throws Exception {
+        doTestGeneratedCodecsRoundTrip(true);
+    }
+
+    private void doTestGeneratedCodecsRoundTrip(boolean fromStream) throws Exception {
+        final ClassLoader loader = compile(List.of(), "sample.Order", ORDER_SOURCE, "sample.Line", LINE_SOURCE);
+
+        registerGeneratedCodecs(loader, "sample.Order");
+        registerGeneratedCodecs(loader, "sample.Line");
+
+        final Class<?> orderClass = loader.loadClass("sample.Order");
+        final Class<?> lineClass = loader.loadClass("sample.Line");
+
+        final Object line = lineClass.getConstructor(String.class, short.class, char.class, float.class)
+                                     .newInstance("sku-1", (short) 3, 'A', 1.5f);
+
+        final Object order = orderClass.getConstructor().newInstance();
+        final UUID reference = UUID.randomUUID();
+
+        orderClass.getField("id").set(order, Long.MAX_VALUE);
+        orderClass.getField("name").set(order, "order");
+        orderClass.getMethod("setQuantity", int.class).invoke(order, 1024);
+        orderClass.getField("express").set(order, true);
+        orderClass.getField("tags").set(order, Arrays.asList("one", "two"));
+        orderClass.getField("category").set(order, Symbol.valueOf("category"));
+        orderClass.getField("payload").set(order, new byte[] { 1, 2, 3 });
+        orderClass.getField("price").set(order, 9.99);
+        orderClass.getField("reference").set(order, reference);
+        orderClass.getField("count").set(order, UnsignedInteger.valueOf(7));
+        orderClass.getField("line").set(order, line);
+        orderClass.getField("bins").set(order, new int[] { 1, 200, 70000 });
+
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        encoder.writeObject(buffer, encoderState, order);
+
+        assertEquals(buffer.getReadableBytes(), encoder.getEncodedSize(encoderState, order));
+
+        final Object result;
+        if (fromStream) {
+            final InputStream stream = new ProtonBufferInputStream(buffer);
+            result = streamDecoder.readObject(stream, streamDecoderState);
+        } else {
+            result = decoder.readObject(buffer, decoderState);
+        }
+
+        assertEquals(orderClass, result.getClass());
+        assertEquals(Long.MAX_VALUE, orderClass.getField("id").get(result));
+        assertEquals("order", orderClass.getField("name").get(result));
+        assertEquals(1024, orderClass.getMethod("getQuantity").invoke(result));
+        assertEquals(true, orderClass.getField("express").get(result));
+        assertEquals(Arrays.asList("one", "two"), orderClass.getField("tags").get(result));
+        assertEquals(Symbol.valueOf("category"), orderClass.getField("category").get(result));
+        assertArrayEquals(new byte[] { 1, 2, 3 }, (byte[]) orderClass.getField("payload").get(result));
+        assertEquals(9.99, orderClass.getField("price").get(result));
+        assertEquals(reference, orderClass.getField("reference").get(result));
+        assertNull(orderClass.getField("optional").get(result));
+        assertEquals(UnsignedInteger.valueOf(7), orderClass.getField("count").get(result));
+        assertArrayEquals(new int[] { 1, 200, 70000 }, (int[]) orderClass.getField("bins").get(result));
+
+        final Object decodedLine = orderClass.getField("line").get(result);
+
+        assertEquals(lineClass, decodedLine.getClass());
+        assertEquals("sku-1", lineClass.getMethod("getSku").invoke(decodedLine));
+        assertEquals((short) 3, lineClass.getMethod("getAmount").invoke(decodedLine));
+        assertEquals('A', lineClass.getMethod("grade").invoke(decodedLine));
+        assertEquals(1.5f, lineClass.getMethod("getWeight").invoke(decodedLine));
+    }
+
+    @Test
+    public void testGeneratedEncoderWritesFullDescriptorCode() throws Exception {
+        final ClassLoader loader = compile(List.of(), "sample.Order", ORDER_SOURCE, "sample.Line", LINE_SOURCE);
+
+        encoder.registerDescribedTypeEncoder((DescribedTypeEncoder<?>)
+            loader.loadClass("sample.OrderTypeEncoder").getConstructor().newInstance());
+
+        final Object order = loader.loadClass("sample.Order").getConstructor().newInstance();
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        encoder.writeObject(buffer, encoderState, order);
+
+        assertEquals(buffer.getReadableBytes(), encoder.getEncodedSize(encoderState, order));
+
+        // Decoder without the generated decoder registered sees the raw described type
+        final Object result = decoder.readObject(buffer, decoderState);
+
+        assertTrue(result instanceof UnknownDescribedType);
+        assertEquals(UnsignedLong.valueOf(0x0000CAFE00000001L), ((UnknownDescribedType) result).getDescriptor());
+        assertEquals(14, ((List<?>) ((UnknownDescribedType) result).getDescribed()).size());
+    }
+
+    @Test
+    public void testGeneratedDecoderSkipsUnknownTrailingElements() throws Exception {
+        final ClassLoader loader = compile(List.of(), "sample.Line", LINE_SOURCE);
+
+        registerGeneratedCodecs(loader, "sample.Line");
+
+        final Class<?> lineClass = loader.loadClass("sample.Line");
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        final List<Object> elements = new ArrayList<>();
+        elements.add("sku-2");
+        elements.add((short) 1);
+        elements.add('B');
+        elements.add(2.5f);
+        elements.add(Map.of("added", "later"));
+        elements.add(UUID.randomUUID());
+
+        encoder.writeObject(buffer, encoderState, new UnknownDescribedType(Symbol.valueOf("sample:line"), elements));
+        encoder.writeObject(buffer, encoderState, "trailer");
+
+        final Object result = decoder.readObject(buffer, decoderState);
+
+        assertEquals(lineClass, result.getClass());
+        assertEquals("sku-2", lineClass.getMethod("getSku").invoke(result));
+        assertEquals(2.5f, lineClass.getMethod("getWeight").invoke(result));
+        assertEquals("trailer", decoder.readObject(buffer, decoderState));
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_16)
+    public void testGeneratedCodecsForRecord() throws Exception {
+        final String source =
+            "package sample;\n" +
+            "\n" +
+            "import org.apache.qpid.protonj2.codec.generator.DescribedListElement;\n" +
+            "import org.apache.qpid.protonj2.codec.generator.DescribedListType;\n" +
+            "\n" +
+            "@DescribedListType(descriptorCode = 3, descriptorSymbol = \"sample:point\")\n" +
+            "public record Point(@DescribedListElement(index = 0) int x, @DescribedListElement(index = 1) int y) {}\n";
+
+        final ClassLoader loader = compile(List.of(), "sample.Point", source);
+
+        registerGeneratedCodecs(loader, "sample.Point");
+
+        final Class<?> pointClass = loader.loadClass("sample.Point");
+        final Object point = pointClass.getConstructor(int.class, int.class).newInstance(-5, 500);
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        encoder.writeObject(buffer, encoderState, point);
+
+        assertEquals(buffer.getReadableBytes(), encoder.getEncodedSize(encoderState, point));
+        assertEquals(point, decoder.readObject(buffer, decoderState));
+    }
+
+    @Test
+    public void testInaccessibleElementIsReported() throws Exception {
+        final String source =
+            "package sample;\n" +
+            "\n" +
+            "import org.apache.qpid.protonj2.codec.generator.DescribedListElement;\n" +
+            "import org.apache.qpid.protonj2.codec.generator.DescribedListType;\n" +
+            "\n" +
+            "@DescribedListType(descriptorCode = 4, descriptorSymbol = \"sample:hidden\")\n" +
+            "public class Hidden {\n" +
+            "    @DescribedListElement(index = 0) private String value;\n" +
+            "}\n";
+
+        final List<String> errors = new ArrayList<>();
+
+        assertNull(compile(errors, "sample.Hidden", source));
+        assertFalse(errors.isEmpty());
+        assertThat(errors.get(0), containsString("must be non-private or have a non-private accessor"));
+    }
+
+    @Test
+    public void testDuplicateElementIndexIsReported() throws Exception {
+        final String source =
+            "package sample;\n" +
+            "\n" +
+            "import org.apache.qpid.protonj2.codec.generator.DescribedListElement;\n" +
+            "import org.apache.qpid.protonj2.codec.generator.DescribedListType;\n" +
+            "\n" +
+            "@DescribedListType(descriptorCode = 5, descriptorSymbol = \"sample:duplicate\")\n" +
+            "public class Duplicate {\n" +
+            "    @DescribedListElement(index = 0) public String first;\n" +
+            "    @DescribedListElement(index = 0) public String second;\n" +
+            "}\n";
+
+        final List<String> errors = new ArrayList<>();
+
+        assertNull(compile(errors, "sample.Duplicate", source));
+        assertFalse(errors.isEmpty());
+        assertThat(errors.get(0), containsString("index 0 is already used by first"));
+    }
+
+    private void registerGeneratedCodecs(ClassLoader loader, String typeName) throws Exception {
+        final Object typeEncoder = loader.loadClass(typeName + "TypeEncoder").getConstructor().newInstance();
+        final Object typeDecoder = loader.loadClass(typeName + "TypeDecoder").getConstructor().newInstance();
+
+        encoder.registerDescribedTypeEncoder((DescribedTypeEncoder<?>) typeEncoder);
+        decoder.registerDescribedTypeDecoder((DescribedTypeDecoder<?>) typeDecoder);
+        streamDecoder.registerDescribedTypeDecoder((StreamDescribedTypeDecoder<?>) typeDecoder);
+    }
+
+    /*
+     * Compiles the given pairs of type name and source with the processor enabled, returning a class
+     * loader for the output or null if compilation failed in which case the errors are collected.
+     */
+    private ClassLoader compile(List<String> errors, String... typesAndSources) throws IOException {
+        final Path sourceDir = Files.createTempDirectory(workDir, "src");
+        final Path outputDir = Files.createTempDirectory(workDir, "classes");
+        final List<Path> sourceFiles = new ArrayList<>();
+
+        for (int i = 0; i < typesAndSources.length; i += 2) {
+            final Path sourceFile = sourceDir.resolve(typesAndSources[i].replace('.', '/') + ".java");
+
+            Files.createDirectories(sourceFile.getParent());
+            Files.write(sourceFile, typesAndSources[i + 1].getBytes(StandardCharsets.UTF_8));
+            sourceFiles.add(sourceFile);
+        }
+
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            final List<String> options = List.of("-classpath", System.getProperty("java.class.path"),
+                                                 "-d", outputDir.toString(),
+                                                 "-s", outputDir.toString());
+
+            final JavaCompiler.CompilationTask task = compiler.getTask(
+                null, fileManager, diagnostics, options, null, fileManager.getJavaFileObjectsFromPaths(sourceFiles));
+
+            task.setProcessors(List.of(new DescribedListTypeProcessor()));
+
+            if (!task.call()) {
+                for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+                    if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                        errors.add(diagnostic.getMessage(null));
+                    }
+                }
+
+                return null;
+            }
+        }
+
+        return new URLClassLoader(new URL[] { outputDir.toUri().toURL() }, getClass().getClassLoader());
+    }
+}
@@ -34,6 +34,7 @@ import org.apache.qpid.protonj2.buffer.ProtonBufferInputStream;
 import org.apache.qpid.protonj2.codec.CodecTestSupport;
 import org.apache.qpid.protonj2.codec.DecodeException;
 import org.apache.qpid.protonj2.codec.EncodingCodes;
+import org.apache.qpid.protonj2.codec.SectionEncoder;
 import org.apache.qpid.protonj2.codec.StreamTypeDecoder;
 import org.apache.qpid.protonj2.codec.TypeDecoder;
 import org.apache.qpid.protonj2.codec.decoders.messaging.AmqpSequenceTypeDecoder;
@@ -100,6 +101,46 @@ public class AmqpSequenceTypeCodecTest extends CodecTestSupport {
         assertEquals(value.getValue(), decoded.getValue());
     }
 
+    @Test
+    public void testSectionEncoderWritesSequenceFromIterator() throws IOException {
+        doTestSectionEncoderWritesSequenceFromIterator(false);
+    }
+
+    @Test
+    public void testSectionEncoderWritesSequenceFromIteratorFromStream() throws IOException {
+        doTestSectionEncoderWritesSequenceFromIterator(true);
+    }
+
+    private void doTestSectionEncoderWritesSequenceFromIterator(boolean fromStream) throws IOException {
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+        ProtonBuffer expected = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        List<Object> list = new ArrayList<>();
+
+        list.add(UUID.randomUUID());
+        list.add("string");
+        list.add(new Modified());
+
+        new SectionEncoder(encoder).writeSequence(buffer, list.iterator());
+
+        encoder.writeObject(expected, encoderState, new AmqpSequence<>(list));
+
+        assertEquals(expected, buffer);
+
+        final Object result;
+        if (fromStream) {
+            InputStream stream = new ProtonBufferInputStream(buffer);
+            result = streamDecoder.readObject(stream, streamDecoderState);
+        } else {
+            result = decoder.readObject(buffer, decoderState);
+        }
+
+        assertTrue(result instanceof AmqpSequence);
+        assertEquals(3, ((AmqpSequence<?>) result).getValue().size());
+        assertEquals(list.get(0), ((AmqpSequence<?>) result).getValue().get(0));
+        assertEquals(list.get(1), ((AmqpSequence<?>) result).getValue().get(1));
+    }
+
     @Test
     public void testEncodeDecodeArrayOfAmqpSequence() throws IOException {
         doTestEncodeDecodeArrayOfAmqpSequence(false);
@@ -126,6 +126,51 @@ public class ApplicationPropertiesTypeCodecTest extends CodecTestSupport {
         }
     }
 
+    @Test
+    public void testEncodeUsesMap8WhenEntriesFit() throws IOException {
+        doTestEncodeSelectsMapEncodingFromEntriesSize(10, EncodingCodes.MAP8, false);
+    }
+
+    @Test
+    public void testEncodeUsesMap8WhenEntriesFitFromStream() throws IOException {
+        doTestEncodeSelectsMapEncodingFromEntriesSize(10, EncodingCodes.MAP8, true);
+    }
+
+    @Test
+    public void testEncodeUsesMap32WhenEntriesDoNotFit() throws IOException {
+        doTestEncodeSelectsMapEncodingFromEntriesSize(300, EncodingCodes.MAP32, false);
+    }
+
+    @Test
+    public void testEncodeUsesMap32WhenEntriesDoNotFitFromStream() throws IOException {
+        doTestEncodeSelectsMapEncodingFromEntriesSize(300, EncodingCodes.MAP32, true);
+    }
+
+    private void doTestEncodeSelectsMapEncodingFromEntriesSize(int valueLength, byte expectedEncoding, boolean fromStream) throws IOException {
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+        final Map<String, Object> map = new LinkedHashMap<>();
+
+        map.put("key", "a".repeat(valueLength));
+        map.put("int", 42);
+
+        final ApplicationProperties properties = new ApplicationProperties(map);
+
+        encoder.writeObject(buffer, encoderState, properties);
+
+        assertEquals(encoder.getEncodedSize(encoderState, properties), buffer.getReadableBytes());
+        assertEquals(expectedEncoding, buffer.getByte(3));
+
+        final Object result;
+        if (fromStream) {
+            result = streamDecoder.readObject(new ProtonBufferInputStream(buffer), streamDecoderState);
+        } else {
+            result = decoder.readObject(buffer, decoderState);
+        }
+
+        assertTrue(result instanceof ApplicationProperties);
+        assertEquals(map, ((ApplicationProperties) result).getValue());
+    }
+
     @Test
     public void testEncodeDecodeZeroSizedArrayOfApplicationProperties() throws IOException {
         doTestEncodeDecodeZeroSizedArrayOfApplicationProperties(false);
@@ -64,6 +64,27 @@ public class DataTypeCodecTest extends CodecTestSupport {
         assertEquals(Data.DESCRIPTOR_SYMBOL, new DataTypeEncoder().getDescriptorSymbol());
     }
 
+    @Test
+    public void testEncodeSmallDataIntoBufferOfEncodedSize() throws IOException {
+        doTestEncodeDataIntoBufferOfEncodedSize(255);
+    }
+
+    @Test
+    public void testEncodeLargeDataIntoBufferOfEncodedSize() throws IOException {
+        doTestEncodeDataIntoBufferOfEncodedSize(65536);
+    }
+
+    private void doTestEncodeDataIntoBufferOfEncodedSize(int payloadSize) throws IOException {
+        final Data data = new Data(new byte[payloadSize]);
+        final int encodedSize = encoder.getEncodedSize(encoderState, data);
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().outputBuffer(encodedSize);
+
+        encoder.writeObject(buffer, encoderState, data);
+
+        assertEquals(encodedSize, buffer.getReadableBytes());
+        assertEquals(encodedSize, buffer.capacity());
+    }
+
     @Test
     public void testDecodeData() throws IOException {
         doTestDecodeDataSeries(1, false);
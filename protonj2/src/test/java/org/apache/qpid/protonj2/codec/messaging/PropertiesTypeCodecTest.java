@@ -149,6 +149,55 @@ public class PropertiesTypeCodecTest extends CodecTestSupport {
         }
     }
 
+    @Test
+    public void testEncodeUsesList8WhenElementsFit() throws IOException {
+        doTestEncodeSelectsListEncodingFromElementSize(10, EncodingCodes.LIST8, false);
+    }
+
+    @Test
+    public void testEncodeUsesList8WhenElementsFitFromStream() throws IOException {
+        doTestEncodeSelectsListEncodingFromElementSize(10, EncodingCodes.LIST8, true);
+    }
+
+    @Test
+    public void testEncodeUsesList32WhenElementsDoNotFit() throws IOException {
+        doTestEncodeSelectsListEncodingFromElementSize(300, EncodingCodes.LIST32, false);
+    }
+
+    @Test
+    public void testEncodeUsesList32WhenElementsDoNotFitFromStream() throws IOException {
+        doTestEncodeSelectsListEncodingFromElementSize(300, EncodingCodes.LIST32, true);
+    }
+
+    private void doTestEncodeSelectsListEncodingFromElementSize(int toLength, byte expectedEncoding, boolean fromStream) throws IOException {
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+        final Properties properties = new Properties();
+
+        properties.setMessageId("ID:Message-1:1:1:0");
+        properties.setTo("a".repeat(toLength));
+        properties.setCreationTime(1);
+
+        encoder.writeObject(buffer, encoderState, properties);
+
+        assertEquals(encoder.getEncodedSize(encoderState, properties), buffer.getReadableBytes());
+        assertEquals(expectedEncoding, buffer.getByte(3));
+
+        final Object result;
+        if (fromStream) {
+            result = streamDecoder.readObject(new ProtonBufferInputStream(buffer), streamDecoderState);
+        } else {
+            result = decoder.readObject(buffer, decoderState);
+        }
+
+        assertTrue(result instanceof Properties);
+
+        final Properties decoded = (Properties) result;
+
+        assertEquals("ID:Message-1:1:1:0", decoded.getMessageId());
+        assertEquals("a".repeat(toLength), decoded.getTo());
+        assertEquals(1, decoded.getCreationTime());
+    }
+
     @Test
     public void testEncodeAndDecodeWithMaxUnsignedValuesFromLongs() throws IOException {
         doTestEncodeAndDecodeWithMaxUnsignedValuesFromLongs(false);
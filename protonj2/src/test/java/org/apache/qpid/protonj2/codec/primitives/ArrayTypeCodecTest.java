@@ -20,6 +20,8 @@ import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -38,6 +40,7 @@ import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 import org.apache.qpid.protonj2.buffer.ProtonBufferInputStream;
 import org.apache.qpid.protonj2.buffer.ProtonBufferUtils;
 import org.apache.qpid.protonj2.codec.CodecTestSupport;
+import org.apache.qpid.protonj2.codec.DecodeException;
 import org.apache.qpid.protonj2.codec.EncodingCodes;
 import org.apache.qpid.protonj2.codec.StreamTypeDecoder;
 import org.apache.qpid.protonj2.codec.TypeDecoder;
@@ -1505,4 +1508,168 @@ public class ArrayTypeCodecTest extends CodecTestSupport {
             assertEquals(16, typeDecoder.readSize(buffer, decoderState));
         }
     }
+
+    @Test
+    public void testReadPrimitiveArrays() throws IOException {
+        doTestReadPrimitiveArrays(false);
+    }
+
+    @Test
+    public void testReadPrimitiveArraysFS() throws IOException {
+        doTestReadPrimitiveArrays(true);
+    }
+
+    private void doTestReadPrimitiveArrays(boolean fromStream) throws IOException {
+        final Random random = new Random(System.currentTimeMillis());
+
+        for (int size : new int[] { 0, 1, 10, 100 }) {
+            final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+            final int[] ints = random.ints(size).toArray();
+            final long[] longs = random.longs(size).toArray();
+            final double[] doubles = random.doubles(size).toArray();
+            final UUID[] uuids = new UUID[size];
+            for (int i = 0; i < size; ++i) {
+                uuids[i] = UUID.randomUUID();
+            }
+
+            encoder.writeArray(buffer, encoderState, ints);
+            encoder.writeArray(buffer, encoderState, longs);
+            encoder.writeArray(buffer, encoderState, doubles);
+            if (size > 0) {
+                encoder.writeArray(buffer, encoderState, uuids);
+            }
+
+            if (fromStream) {
+                final InputStream stream = new ProtonBufferInputStream(buffer);
+
+                assertArrayEquals(ints, streamDecoder.readIntArray(stream, streamDecoderState));
+                assertArrayEquals(longs, streamDecoder.readLongArray(stream, streamDecoderState));
+                assertArrayEquals(doubles, streamDecoder.readDoubleArray(stream, streamDecoderState));
+                if (size > 0) {
+                    assertArrayEquals(uuids, streamDecoder.readUUIDArray(stream, streamDecoderState));
+                }
+            } else {
+                assertArrayEquals(ints, decoder.readIntArray(buffer, decoderState));
+                assertArrayEquals(longs, decoder.readLongArray(buffer, decoderState));
+                assertArrayEquals(doubles, decoder.readDoubleArray(buffer, decoderState));
+                if (size > 0) {
+                    assertArrayEquals(uuids, decoder.readUUIDArray(buffer, decoderState));
+                }
+            }
+
+            assertFalse(buffer.isReadable());
+        }
+    }
+
+    @Test
+    public void testReadPrimitiveArraysWithSmallElementEncodings() throws IOException {
+        doTestReadPrimitiveArraysWithSmallElementEncodings(false);
+    }
+
+    @Test
+    public void testReadPrimitiveArraysWithSmallElementEncodingsFS() throws IOException {
+        doTestReadPrimitiveArraysWithSmallElementEncodings(true);
+    }
+
+    private void doTestReadPrimitiveArraysWithSmallElementEncodings(boolean fromStream) throws IOException {
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        buffer.writeByte(EncodingCodes.ARRAY8);
+        buffer.writeByte((byte) 5);
+        buffer.writeByte((byte) 3);
+        buffer.writeByte(EncodingCodes.SMALLINT);
+        buffer.writeBytes(new byte[] { -1, 0, 127 });
+
+        buffer.writeByte(EncodingCodes.ARRAY32);
+        buffer.writeInt(11);
+        buffer.writeInt(2);
+        buffer.writeByte(EncodingCodes.SMALLLONG);
+        buffer.writeBytes(new byte[] { -128, 1 });
+
+        if (fromStream) {
+            final InputStream stream = new ProtonBufferInputStream(buffer);
+
+            assertArrayEquals(new int[] { -1, 0, 127 }, streamDecoder.readIntArray(stream, streamDecoderState));
+            assertArrayEquals(new long[] { -128, 1 }, streamDecoder.readLongArray(stream, streamDecoderState));
+        } else {
+            assertArrayEquals(new int[] { -1, 0, 127 }, decoder.readIntArray(buffer, decoderState));
+            assertArrayEquals(new long[] { -128, 1 }, decoder.readLongArray(buffer, decoderState));
+        }
+
+        assertFalse(buffer.isReadable());
+    }
+
+    @Test
+    public void testReadPrimitiveArraysFromNullEncoding() throws IOException {
+        doTestReadPrimitiveArraysFromNullEncoding(false);
+    }
+
+    @Test
+    public void testReadPrimitiveArraysFromNullEncodingFS() throws IOException {
+        doTestReadPrimitiveArraysFromNullEncoding(true);
+    }
+
+    private void doTestReadPrimitiveArraysFromNullEncoding(boolean fromStream) throws IOException {
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        buffer.writeBytes(new byte[] { EncodingCodes.NULL, EncodingCodes.NULL, EncodingCodes.NULL, EncodingCodes.NULL });
+
+        if (fromStream) {
+            final InputStream stream = new ProtonBufferInputStream(buffer);
+
+            assertNull(streamDecoder.readIntArray(stream, streamDecoderState));
+            assertNull(streamDecoder.readLongArray(stream, streamDecoderState));
+            assertNull(streamDecoder.readDoubleArray(stream, streamDecoderState));
+            assertNull(streamDecoder.readUUIDArray(stream, streamDecoderState));
+        } else {
+            assertNull(decoder.readIntArray(buffer, decoderState));
+            assertNull(decoder.readLongArray(buffer, decoderState));
+            assertNull(decoder.readDoubleArray(buffer, decoderState));
+            assertNull(decoder.readUUIDArray(buffer, decoderState));
+        }
+    }
+
+    @Test
+    public void testReadPrimitiveArrayWithWrongElementTypeFails() throws IOException {
+        doTestReadPrimitiveArrayWithWrongElementTypeFails(false);
+    }
+
+    @Test
+    public void testReadPrimitiveArrayWithWrongElementTypeFailsFS() throws IOException {
+        doTestReadPrimitiveArrayWithWrongElementTypeFails(true);
+    }
+
+    private void doTestReadPrimitiveArrayWithWrongElementTypeFails(boolean fromStream) throws IOException {
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        encoder.writeArray(buffer, encoderState, new long[] { 1, 2, 3 });
+
+        if (fromStream) {
+            assertThrows(DecodeException.class, () -> streamDecoder.readIntArray(new ProtonBufferInputStream(buffer.copy()), streamDecoderState));
+            assertThrows(DecodeException.class, () -> streamDecoder.readDoubleArray(new ProtonBufferInputStream(buffer.copy()), streamDecoderState));
+            assertThrows(DecodeException.class, () -> streamDecoder.readUUIDArray(new ProtonBufferInputStream(buffer.copy()), streamDecoderState));
+            assertThrows(DecodeException.class, () -> streamDecoder.readIntArray(new ProtonBufferInputStream(
+                ProtonBufferAllocator.defaultAllocator().copy(new byte[] { EncodingCodes.LIST0 })), streamDecoderState));
+        } else {
+            assertThrows(DecodeException.class, () -> decoder.readIntArray(buffer.copy(), decoderState));
+            assertThrows(DecodeException.class, () -> decoder.readDoubleArray(buffer.copy(), decoderState));
+            assertThrows(DecodeException.class, () -> decoder.readUUIDArray(buffer.copy(), decoderState));
+            assertThrows(DecodeException.class, () -> decoder.readIntArray(
+                ProtonBufferAllocator.defaultAllocator().copy(new byte[] { EncodingCodes.LIST0 }), decoderState));
+        }
+    }
+
+    @Test
+    public void testReadPrimitiveArrayWithCountLargerThanAvailableBytesFails() throws IOException {
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        buffer.writeByte(EncodingCodes.ARRAY8);
+        buffer.writeByte((byte) 7);
+        buffer.writeByte((byte) 100);
+        buffer.writeByte(EncodingCodes.LONG);
+        buffer.writeInt(0);
+
+        assertThrows(DecodeException.class, () -> decoder.readLongArray(buffer, decoderState));
+    }
 }
@@ -180,6 +180,41 @@ public class IntegerTypeCodecTest extends CodecTestSupport {
         assertEquals(42, streamDecoder.readInteger(stream, streamDecoderState).intValue());
     }
 
+    @Test
+    public void testReadNegativeIntegerFromEncodingCodeSmallInt() throws IOException {
+        doTestReadNegativeIntegerFromEncodingCodeSmallInt(false);
+    }
+
+    @Test
+    public void testReadNegativeIntegerFromEncodingCodeSmallIntFromStream() throws IOException {
+        doTestReadNegativeIntegerFromEncodingCodeSmallInt(true);
+    }
+
+    private void doTestReadNegativeIntegerFromEncodingCodeSmallInt(boolean fromStream) throws IOException {
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        encoder.writeInteger(buffer, encoderState, -1);
+        encoder.writeInteger(buffer, encoderState, -128);
+        encoder.writeInteger(buffer, encoderState, -1);
+        encoder.writeInteger(buffer, encoderState, -128);
+
+        assertEquals(EncodingCodes.SMALLINT, buffer.getByte(0));
+
+        if (fromStream) {
+            InputStream stream = new ProtonBufferInputStream(buffer);
+
+            assertEquals(-1, streamDecoder.readInteger(stream, streamDecoderState).intValue());
+            assertEquals(-128, streamDecoder.readInteger(stream, streamDecoderState).intValue());
+            assertEquals(-1, streamDecoder.readInteger(stream, streamDecoderState, 0));
+            assertEquals(-128, streamDecoder.readInteger(stream, streamDecoderState, 0));
+        } else {
+            assertEquals(-1, decoder.readInteger(buffer, decoderState).intValue());
+            assertEquals(-128, decoder.readInteger(buffer, decoderState).intValue());
+            assertEquals(-1, decoder.readInteger(buffer, decoderState, 0));
+            assertEquals(-128, decoder.readInteger(buffer, decoderState, 0));
+        }
+    }
+
     @Test
     public void testSkipValue() throws IOException {
         doTestSkipValue(false);
@@ -30,8 +30,10 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
@@ -398,6 +400,94 @@ public class ListTypeCodecTest extends CodecTestSupport {
         assertEquals(EncodingCodes.LIST0, buffer.readByte());
     }
 
+    @Test
+    public void testEncodeEmptyIteratorIsList0() throws IOException {
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        encoder.writeList(buffer, encoderState, Collections.emptyIterator());
+
+        assertEquals(1, buffer.getReadableBytes());
+        assertEquals(EncodingCodes.LIST0, buffer.readByte());
+    }
+
+    @Test
+    public void testEncodeListFromIterator() throws IOException {
+        doTestEncodeListFromIterator(false);
+    }
+
+    @Test
+    public void testEncodeListFromIteratorFS() throws IOException {
+        doTestEncodeListFromIterator(true);
+    }
+
+    private void doTestEncodeListFromIterator(boolean fromStream) throws IOException {
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+        ProtonBuffer expected = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        final List<Object> list = new ArrayList<>();
+        list.add(UUID.randomUUID());
+        list.add("string");
+        list.add(null);
+        list.add("another");
+        list.add(Symbol.valueOf("symbol"));
+        list.add(UnsignedInteger.valueOf(42));
+
+        encoder.writeList(buffer, encoderState, list.iterator());
+        encoder.writeObject(buffer, encoderState, "trailer");
+
+        // Should match the encoding of the same values from a List
+        expected.writeByte(EncodingCodes.LIST32);
+        expected.writeInt(0);
+        expected.writeInt(list.size());
+        for (Object entry : list) {
+            encoder.writeObject(expected, encoderState, entry);
+        }
+        expected.setInt(1, expected.getWriteOffset() - 1 - Integer.BYTES);
+
+        assertEquals(expected, buffer.copy(0, expected.getReadableBytes()));
+
+        final Object result;
+        final Object trailer;
+
+        if (fromStream) {
+            InputStream stream = new ProtonBufferInputStream(buffer);
+            result = streamDecoder.readObject(stream, streamDecoderState);
+            trailer = streamDecoder.readObject(stream, streamDecoderState);
+        } else {
+            result = decoder.readObject(buffer, decoderState);
+            trailer = decoder.readObject(buffer, decoderState);
+        }
+
+        assertEquals(list, result);
+        assertEquals("trailer", trailer);
+    }
+
+    @Test
+    public void testEncodeLargeListFromJavaStream() throws IOException {
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        final int count = 65535;
+
+        encoder.writeList(buffer, encoderState, IntStream.range(0, count).mapToObj(i -> "entry-" + i).iterator());
+
+        final List<?> result = decoder.readList(buffer, decoderState);
+
+        assertEquals(count, result.size());
+        for (int i = 0; i < count; ++i) {
+            assertEquals("entry-" + i, result.get(i));
+        }
+    }
+
+    @Test
+    public void testEncodeNullIteratorWritesNull() throws IOException {
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        encoder.writeList(buffer, encoderState, (Iterator<?>) null);
+
+        assertEquals(1, buffer.getReadableBytes());
+        assertEquals(EncodingCodes.NULL, buffer.readByte());
+    }
+
     @Test
     public void testDecodeFailsEarlyOnInvalidLengthList8() throws Exception {
         ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate(16).implicitGrowthLimit(16);
@@ -193,6 +193,41 @@ public class LongTypeCodecTest extends CodecTestSupport {
         }
     }
 
+    @Test
+    public void testReadNegativeLongFromEncodingCodeSmallLong() throws IOException {
+        doTestReadNegativeLongFromEncodingCodeSmallLong(false);
+    }
+
+    @Test
+    public void testReadNegativeLongFromEncodingCodeSmallLongFromStream() throws IOException {
+        doTestReadNegativeLongFromEncodingCodeSmallLong(true);
+    }
+
+    private void doTestReadNegativeLongFromEncodingCodeSmallLong(boolean fromStream) throws IOException {
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        encoder.writeLong(buffer, encoderState, -1l);
+        encoder.writeLong(buffer, encoderState, -128l);
+        encoder.writeLong(buffer, encoderState, -1l);
+        encoder.writeLong(buffer, encoderState, -128l);
+
+        assertEquals(EncodingCodes.SMALLLONG, buffer.getByte(0));
+
+        if (fromStream) {
+            InputStream stream = new ProtonBufferInputStream(buffer);
+
+            assertEquals(-1l, streamDecoder.readLong(stream, streamDecoderState).longValue());
+            assertEquals(-128l, streamDecoder.readLong(stream, streamDecoderState).longValue());
+            assertEquals(-1l, streamDecoder.readLong(stream, streamDecoderState, 0l));
+            assertEquals(-128l, streamDecoder.readLong(stream, streamDecoderState, 0l));
+        } else {
+            assertEquals(-1l, decoder.readLong(buffer, decoderState).longValue());
+            assertEquals(-128l, decoder.readLong(buffer, decoderState).longValue());
+            assertEquals(-1l, decoder.readLong(buffer, decoderState, 0l));
+            assertEquals(-128l, decoder.readLong(buffer, decoderState, 0l));
+        }
+    }
+
     @Test
     public void testSkipValue() throws IOException {
         doTestSkipValue(false);
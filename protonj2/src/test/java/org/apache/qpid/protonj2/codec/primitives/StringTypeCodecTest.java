@@ -19,6 +19,7 @@ package org.apache.qpid.protonj2.codec.primitives;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -26,6 +27,7 @@ import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.Character.UnicodeBlock;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -36,6 +38,7 @@ import java.util.UUID;
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
 import org.apache.qpid.protonj2.buffer.ProtonBufferInputStream;
+import org.apache.qpid.protonj2.buffer.impl.ProtonDirectByteBuffer;
 import org.apache.qpid.protonj2.codec.CodecTestSupport;
 import org.apache.qpid.protonj2.codec.DecodeException;
 import org.apache.qpid.protonj2.codec.EncodingCodes;
@@ -633,4 +636,75 @@ public class StringTypeCodecTest extends CodecTestSupport {
             assertEquals(16, typeDecoder.readSize(buffer, decoderState));
         }
     }
+
+    @Test
+    public void testEncodeAndDecodeASCIIStringsOfEachLengthUpToLargeString() throws IOException {
+        for (int i = 0; i <= LARGE_STRING_VALUE.length(); ++i) {
+            doTestEncodeDecode(LARGE_STRING_VALUE.substring(0, i), false);
+        }
+    }
+
+    @Test
+    public void testEncodeAndDecodeStringsWithNonASCIICharAtEachPosition() throws IOException {
+        final String prefix = LARGE_STRING_VALUE.substring(0, 24);
+
+        for (int i = 0; i <= prefix.length(); ++i) {
+            final String value = prefix.substring(0, i) + "\u00e9" + prefix.substring(i);
+
+            doTestEncodeDecode(value, false);
+
+            final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+            encoder.writeString(buffer, encoderState, value);
+            assertEquals(2 + value.length() + 1, buffer.getReadableBytes());
+        }
+    }
+
+    @Test
+    public void testEncodeAndDecodeStringUsingDirectBuffer() throws IOException {
+        doTestEncodeDecodeUsingBuffer(LARGE_STRING_VALUE, new ProtonDirectByteBuffer(1024));
+        doTestEncodeDecodeUsingBuffer("\u00e9" + LARGE_STRING_VALUE, new ProtonDirectByteBuffer(1024));
+    }
+
+    @Test
+    public void testEncodeAndDecodeStringUsingCompositeBuffer() throws IOException {
+        doTestEncodeDecodeUsingBuffer(LARGE_STRING_VALUE, ProtonBufferAllocator.defaultAllocator().composite());
+        doTestEncodeDecodeUsingBuffer(LARGE_STRING_VALUE + "\u00e9", ProtonBufferAllocator.defaultAllocator().composite());
+    }
+
+    @Test
+    public void testDecodeASCIIStringSpanningCompositeBufferComponents() throws IOException {
+        final ProtonBuffer encoded = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        encoder.writeString(encoded, encoderState, LARGE_STRING_VALUE);
+
+        for (int split = 1; split < encoded.getReadableBytes(); split += 7) {
+            final ProtonBuffer copy = encoded.copy();
+            final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().composite(
+                new ProtonBuffer[] { copy.readSplit(split), copy });
+
+            assertEquals(LARGE_STRING_VALUE, decoder.readObject(buffer, decoderState));
+            assertEquals(0, buffer.getReadableBytes());
+        }
+    }
+
+    @Test
+    public void testDecodeMalformedStringAfterASCIIPrefixThrows() throws IOException {
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        buffer.writeByte(EncodingCodes.STR8);
+        buffer.writeByte((byte) 17);
+        buffer.writeBytes(LARGE_STRING_VALUE.substring(0, 16).getBytes(StandardCharsets.US_ASCII));
+        buffer.writeByte((byte) 0xFF);
+
+        assertThrows(DecodeException.class, () -> decoder.readObject(buffer, decoderState));
+    }
+
+    private void doTestEncodeDecodeUsingBuffer(String value, ProtonBuffer buffer) throws IOException {
+        encoder.writeObject(buffer, encoderState, value);
+        encoder.writeObject(buffer, encoderState, value);
+
+        assertEquals(value, decoder.readObject(buffer, decoderState));
+        assertEquals(value, decoder.readObject(buffer, decoderState));
+        assertEquals(0, buffer.getReadableBytes());
+    }
 }
@@ -17,6 +17,7 @@
 package org.apache.qpid.protonj2.codec.transport;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -36,6 +37,7 @@ import org.apache.qpid.protonj2.codec.EncodeException;
 import org.apache.qpid.protonj2.codec.EncodingCodes;
 import org.apache.qpid.protonj2.codec.StreamTypeDecoder;
 import org.apache.qpid.protonj2.codec.TypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.ProtonDecoderState;
 import org.apache.qpid.protonj2.codec.decoders.transport.DispositionTypeDecoder;
 import org.apache.qpid.protonj2.codec.encoders.transport.DispositionTypeEncoder;
 import org.apache.qpid.protonj2.types.messaging.Accepted;
@@ -193,6 +195,35 @@ public class DispositionTypeCodecTest extends CodecTestSupport {
         }
     }
 
+    @Test
+    public void testDecodeIntoRecycledDisposition() throws IOException {
+        ((ProtonDecoderState) decoderState).setRecyclePerformatives(true);
+
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        Disposition first = new Disposition().setRole(Role.RECEIVER).setFirst(1).setLast(2).setSettled(true);
+        first.setState(Accepted.getInstance());
+        Disposition second = new Disposition().setRole(Role.SENDER).setFirst(3);
+
+        encoder.writeObject(buffer, encoderState, first);
+        encoder.writeObject(buffer, encoderState, second);
+
+        final Disposition result1 = (Disposition) decoder.readObject(buffer, decoderState);
+
+        assertEquals(Role.RECEIVER, result1.getRole());
+        assertEquals(2, result1.getLast());
+        assertSame(Accepted.getInstance(), result1.getState());
+
+        final Disposition result2 = (Disposition) decoder.readObject(buffer, decoderState);
+
+        assertSame(result1, result2);
+        assertEquals(Role.SENDER, result2.getRole());
+        assertEquals(3, result2.getFirst());
+        assertFalse(result2.hasLast());
+        assertFalse(result2.hasSettled());
+        assertNull(result2.getState());
+    }
+
     @Test
     public void testSkipValue() throws IOException {
         testSkipValue(false);
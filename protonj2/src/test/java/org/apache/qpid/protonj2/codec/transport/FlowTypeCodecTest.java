@@ -17,8 +17,10 @@
 package org.apache.qpid.protonj2.codec.transport;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -35,6 +37,7 @@ import org.apache.qpid.protonj2.codec.EncodeException;
 import org.apache.qpid.protonj2.codec.EncodingCodes;
 import org.apache.qpid.protonj2.codec.StreamTypeDecoder;
 import org.apache.qpid.protonj2.codec.TypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.ProtonDecoderState;
 import org.apache.qpid.protonj2.codec.decoders.transport.FlowTypeDecoder;
 import org.apache.qpid.protonj2.codec.encoders.transport.FlowTypeEncoder;
 import org.apache.qpid.protonj2.types.UnsignedInteger;
@@ -131,6 +134,35 @@ public class FlowTypeCodecTest extends CodecTestSupport {
         assertNull(input.getProperties());
     }
 
+    @Test
+    public void testDecodeIntoRecycledFlow() throws IOException {
+        ((ProtonDecoderState) decoderState).setRecyclePerformatives(true);
+
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        Flow first = new Flow().setNextIncomingId(1).setIncomingWindow(2).setNextOutgoingId(3).setOutgoingWindow(4);
+        first.setHandle(5).setLinkCredit(6).setDrain(true);
+        Flow second = new Flow().setNextIncomingId(7).setIncomingWindow(8).setNextOutgoingId(9).setOutgoingWindow(10);
+
+        encoder.writeObject(buffer, encoderState, first);
+        encoder.writeObject(buffer, encoderState, second);
+
+        final Flow result1 = (Flow) decoder.readObject(buffer, decoderState);
+
+        assertEquals(5, result1.getHandle());
+        assertEquals(6, result1.getLinkCredit());
+        assertTrue(result1.getDrain());
+
+        final Flow result2 = (Flow) decoder.readObject(buffer, decoderState);
+
+        assertSame(result1, result2);
+        assertEquals(7, result2.getNextIncomingId());
+        assertEquals(10, result2.getOutgoingWindow());
+        assertFalse(result2.hasHandle());
+        assertFalse(result2.hasLinkCredit());
+        assertFalse(result2.getDrain());
+    }
+
     @Test
     public void testSkipValue() throws IOException {
         testSkipValue(false);
@@ -19,6 +19,8 @@ package org.apache.qpid.protonj2.codec.transport;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -35,8 +37,11 @@ import org.apache.qpid.protonj2.codec.EncodeException;
 import org.apache.qpid.protonj2.codec.EncodingCodes;
 import org.apache.qpid.protonj2.codec.StreamTypeDecoder;
 import org.apache.qpid.protonj2.codec.TypeDecoder;
+import org.apache.qpid.protonj2.codec.decoders.ProtonDecoderState;
+import org.apache.qpid.protonj2.codec.decoders.ProtonDeliveryTagView;
 import org.apache.qpid.protonj2.codec.decoders.transport.TransferTypeDecoder;
 import org.apache.qpid.protonj2.codec.encoders.transport.TransferTypeEncoder;
+import org.apache.qpid.protonj2.types.DeliveryTag;
 import org.apache.qpid.protonj2.types.UnsignedInteger;
 import org.apache.qpid.protonj2.types.transport.Transfer;
 import org.junit.jupiter.api.Test;
@@ -119,6 +124,69 @@ public class TransferTypeCodeTest extends CodecTestSupport {
         assertFalse(result.getBatchable());
     }
 
+    @Test
+    public void testDecodeIntoRecycledTransfer() throws IOException {
+        ((ProtonDecoderState) decoderState).setRecyclePerformatives(true);
+
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        Transfer first = new Transfer();
+        first.setHandle(1);
+        first.setDeliveryId(1);
+        first.setDeliveryTag(new byte[] {0, 1, 2});
+        first.setSettled(true);
+
+        Transfer second = new Transfer();
+        second.setHandle(2);
+        second.setDeliveryTag(new byte[] {3, 4});
+
+        encoder.writeObject(buffer, encoderState, first);
+        encoder.writeObject(buffer, encoderState, second);
+
+        final Transfer result1 = (Transfer) decoder.readObject(buffer, decoderState);
+
+        assertEquals(1, result1.getHandle());
+        assertEquals(1, result1.getDeliveryId());
+        assertTrue(result1.getSettled());
+        assertTrue(result1.getDeliveryTag() instanceof ProtonDeliveryTagView);
+        assertEquals(first.getDeliveryTag(), result1.getDeliveryTag());
+
+        final DeliveryTag retained = result1.getDeliveryTag().copy();
+
+        final Transfer result2 = (Transfer) decoder.readObject(buffer, decoderState);
+
+        assertSame(result1, result2);
+        assertEquals(2, result2.getHandle());
+        assertFalse(result2.hasDeliveryId());
+        assertFalse(result2.hasSettled());
+        assertEquals(second.getDeliveryTag(), result2.getDeliveryTag());
+        assertEquals(first.getDeliveryTag(), retained);
+    }
+
+    @Test
+    public void testDecodeArrayDoesNotRecycleTransfers() throws IOException {
+        ((ProtonDecoderState) decoderState).setRecyclePerformatives(true);
+
+        ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate();
+
+        Transfer[] array = new Transfer[3];
+        for (int i = 0; i < array.length; ++i) {
+            array[i] = new Transfer().setHandle(i).setDeliveryTag(new byte[] {(byte) i});
+        }
+
+        encoder.writeArray(buffer, encoderState, array);
+
+        final Object[] result = (Object[]) decoder.readObject(buffer, decoderState);
+
+        assertEquals(3, result.length);
+        assertNotSame(result[0], result[1]);
+        assertNotSame(result[1], result[2]);
+
+        for (int i = 0; i < result.length; ++i) {
+            assertEquals(array[i].getDeliveryTag(), ((Transfer) result[i]).getDeliveryTag());
+        }
+    }
+
     @Test
     public void testSkipValue() throws IOException {
         doTestSkipValue(false);
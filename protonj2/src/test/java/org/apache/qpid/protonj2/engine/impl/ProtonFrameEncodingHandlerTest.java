@@ -16,7 +16,9 @@
  */
 package org.apache.qpid.protonj2.engine.impl;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -25,6 +27,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.buffer.ProtonCompositeBuffer;
 import org.apache.qpid.protonj2.codec.CodecFactory;
 import org.apache.qpid.protonj2.codec.Decoder;
 import org.apache.qpid.protonj2.codec.DecoderState;
@@ -196,6 +199,104 @@ class ProtonFrameEncodingHandlerTest {
         assertEquals(transfer.getMore(), decodedTransfer.getMore());
     }
 
+    @Test
+    void testEncodeTransferWithReadOnlyPayloadSharesPayloadBytes() {
+        ProtonFrameEncodingHandler handler = new ProtonFrameEncodingHandler();
+        handler.handlerAdded(context);
+        handler.engineStarting(context);
+
+        Transfer transfer = new Transfer();
+        transfer.setHandle(0);
+        transfer.setDeliveryId(0);
+        transfer.setDeliveryTag(new byte[] {0});
+
+        final byte[] payload = new byte[4096];
+
+        random.nextBytes(payload);
+
+        final ProtonBuffer payloadBuffer = ProtonBufferAllocator.defaultAllocator().copy(payload).convertToReadOnly();
+
+        OutgoingAMQPEnvelope frame = framePool.take(transfer, 32, payloadBuffer);
+
+        handler.handleWrite(context, frame);
+
+        ArgumentCaptor<ProtonBuffer> argument = ArgumentCaptor.forClass(ProtonBuffer.class);
+        Mockito.verify(context).fireWrite(argument.capture(), Mockito.any(Runnable.class));
+
+        ProtonBuffer output = argument.getValue();
+
+        assertNotNull(output);
+        assertTrue(ProtonCompositeBuffer.isComposite(output));
+        assertTrue(output.isReadOnly());
+        assertFalse(payloadBuffer.isReadable());
+
+        final int bufferSize = output.getReadableBytes();
+
+        assertEquals(bufferSize, output.readInt());
+        assertEquals(FRAME_DOFF_SIZE, output.readByte());
+        assertEquals(AMQP_FRAME_TYPE, output.readByte());
+        assertEquals(32, output.readShort());
+
+        final Transfer decodedTransfer = decode(output);
+        assertEquals(transfer.getHandle(), decodedTransfer.getHandle());
+        assertEquals(transfer.getDeliveryTag(), decodedTransfer.getDeliveryTag());
+
+        final byte[] payloadRead = new byte[payload.length];
+
+        assertEquals(payload.length, output.getReadableBytes());
+        output.readBytes(payloadRead, 0, payloadRead.length);
+        assertArrayEquals(payload, payloadRead);
+    }
+
+    @Test
+    void testEncodeTransferWithReadOnlyPayloadThatDoesNotFitIntoFrame() {
+        ProtonFrameEncodingHandler handler = new ProtonFrameEncodingHandler();
+        handler.handlerAdded(context);
+        handler.engineStarting(context);
+
+        Transfer transfer = new Transfer();
+        transfer.setHandle(0);
+        transfer.setDeliveryId(0);
+        transfer.setDeliveryTag(new byte[] {0});
+
+        final byte[] payload = new byte[(int) (configuration.getOutboundMaxFrameSize() * 2)];
+        final AtomicBoolean toLargeHandlerCalled = new AtomicBoolean();
+
+        random.nextBytes(payload);
+
+        final ProtonBuffer payloadBuffer = ProtonBufferAllocator.defaultAllocator().copy(payload).convertToReadOnly();
+
+        OutgoingAMQPEnvelope frame = framePool.take(transfer, 32, payloadBuffer);
+        frame.setPayloadToLargeHandler((performative) -> {
+            transfer.setMore(true);
+            toLargeHandlerCalled.set(true);
+        });
+
+        handler.handleWrite(context, frame);
+
+        ArgumentCaptor<ProtonBuffer> argument = ArgumentCaptor.forClass(ProtonBuffer.class);
+        Mockito.verify(context).fireWrite(argument.capture(), Mockito.any(Runnable.class));
+
+        ProtonBuffer output = argument.getValue();
+
+        assertTrue(toLargeHandlerCalled.get());
+        assertNotNull(output);
+        assertEquals(configuration.getOutboundMaxFrameSize(), output.getReadableBytes());
+        assertEquals(output.getReadableBytes(), output.readInt());
+        assertEquals(FRAME_DOFF_SIZE, output.readByte());
+        assertEquals(AMQP_FRAME_TYPE, output.readByte());
+        assertEquals(32, output.readShort());
+
+        final Transfer decodedTransfer = decode(output);
+        assertTrue(decodedTransfer.getMore());
+
+        final int payloadWritten = output.getReadableBytes();
+
+        assertEquals(payload.length - payloadWritten, payloadBuffer.getReadableBytes());
+        assertEquals(payload[payloadWritten], payloadBuffer.getByte(payloadBuffer.getReadOffset()));
+        assertEquals(payload[payloadWritten - 1], output.getByte(output.getWriteOffset() - 1));
+    }
+
     @Test
     void testOutgoingFrameIsReleasedAfterWriteFinishes() {
         ProtonFrameEncodingHandler handler = new ProtonFrameEncodingHandler();
@@ -47,6 +47,8 @@ import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.qpid.protonj2.buffer.ProtonBuffer;
 import org.apache.qpid.protonj2.buffer.ProtonBufferAllocator;
+import org.apache.qpid.protonj2.buffer.impl.ProtonDirectByteBufferAllocator;
+import org.apache.qpid.protonj2.codec.decoders.ProtonDeliveryTagView;
 import org.apache.qpid.protonj2.engine.Connection;
 import org.apache.qpid.protonj2.engine.Engine;
 import org.apache.qpid.protonj2.engine.EngineFactory;
@@ -1953,8 +1955,18 @@ public class ProtonReceiverTest extends ProtonEngineTestSupport {
         doTestReceiverReportsDeliveryUpdatedOnDispositionForMultipleTransfers(Integer.MAX_VALUE);
     }
 
+    @Test
+    public void testReceiverReportsDeliveryUpdatedOnDispositionForMultipleTransfersWithRecycledPerformatives() throws Exception {
+        doTestReceiverReportsDeliveryUpdatedOnDispositionForMultipleTransfers(0, true);
+    }
+
     private void doTestReceiverReportsDeliveryUpdatedOnDispositionForMultipleTransfers(int firstDeliveryId) throws Exception {
+        doTestReceiverReportsDeliveryUpdatedOnDispositionForMultipleTransfers(firstDeliveryId, false);
+    }
+
+    private void doTestReceiverReportsDeliveryUpdatedOnDispositionForMultipleTransfers(int firstDeliveryId, boolean recyclePerformatives) throws Exception {
         Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+        engine.configuration().setRecyclePerformatives(recyclePerformatives);
         engine.errorHandler(result -> failure = result.failureCause());
         ProtonTestConnector peer = createTestPeer(engine);
 
@@ -2015,6 +2027,7 @@ public class ProtonReceiverTest extends ProtonEngineTestSupport {
 
         for (IncomingDelivery delivery : deliveries) {
             assertEquals(deliveryTag++, delivery.getTag().tagBuffer().getByte(0), "Delivery not updated in correct order");
+            assertFalse(delivery.getTag() instanceof ProtonDeliveryTagView, "Delivery should not retain a recycled tag view");
             assertTrue(delivery.isRemotelySettled(), "Delivery should be marked as remotely settled");
         }
 
@@ -2193,6 +2206,80 @@ public class ProtonReceiverTest extends ProtonEngineTestSupport {
         assertNull(failure);
     }
 
+    @Test
+    public void testMultiFrameDeliveryAboveThresholdMovedToLargeDeliveryAllocator() throws Exception {
+        doTestMultiFrameDeliveryWithLargeDeliveryAllocator(true);
+    }
+
+    @Test
+    public void testMultiFrameDeliveryBelowThresholdNotMovedToLargeDeliveryAllocator() throws Exception {
+        doTestMultiFrameDeliveryWithLargeDeliveryAllocator(false);
+    }
+
+    private void doTestMultiFrameDeliveryWithLargeDeliveryAllocator(boolean exceedThreshold) throws Exception {
+        final int TRANSFERS = 4;
+        final int CHUNK_SIZE = 256;
+
+        Engine engine = EngineFactory.PROTON.createNonSaslEngine();
+        engine.errorHandler(result -> failure = result.failureCause());
+        engine.configuration().setLargeDeliveryAllocator(ProtonDirectByteBufferAllocator.allocator());
+        engine.configuration().setLargeDeliveryThreshold(exceedThreshold ? CHUNK_SIZE + CHUNK_SIZE / 2 : TRANSFERS * CHUNK_SIZE * 2);
+        ProtonTestConnector peer = createTestPeer(engine);
+
+        final byte[][] chunks = new byte[TRANSFERS][CHUNK_SIZE];
+
+        peer.expectAMQPHeader().respondWithAMQPHeader();
+        peer.expectOpen().respond().withContainerId("driver");
+        peer.expectBegin().respond();
+        peer.expectAttach().respond();
+        peer.expectFlow().withLinkCredit(1);
+        for (int i = 0; i < TRANSFERS; ++i) {
+            Arrays.fill(chunks[i], (byte) i);
+            peer.remoteTransfer().withDeliveryId(0)
+                                 .withDeliveryTag(new byte[] {0})
+                                 .withMore(i < TRANSFERS - 1)
+                                 .withMessageFormat(0)
+                                 .withBody().withData(chunks[i]).also().queue();
+        }
+        peer.expectDetach().respond();
+
+        Connection connection = engine.start();
+
+        connection.open();
+        Session session = connection.session();
+        session.open();
+        Receiver receiver = session.receiver("test");
+
+        final AtomicReference<IncomingDelivery> receivedDelivery = new AtomicReference<>();
+
+        receiver.deliveryReadHandler(delivery -> {
+            if (!delivery.isPartial()) {
+                receivedDelivery.set(delivery);
+            }
+        });
+
+        receiver.open();
+        receiver.addCredit(1);
+
+        assertNotNull(receivedDelivery.get(), "Delivery did not arrive at the receiver");
+
+        try (ProtonBuffer payload = receivedDelivery.get().readAll()) {
+            assertNotNull(payload);
+            assertEquals(!exceedThreshold, payload.isComposite());
+
+            for (int i = 0; i < TRANSFERS; ++i) {
+                Data section = decoder.readObject(payload, decoderState, Data.class);
+                assertArrayEquals(chunks[i], section.getBinary().asByteArray());
+            }
+        }
+
+        receiver.close();
+
+        peer.waitForScriptToComplete();
+
+        assertNull(failure);
+    }
+
     @Test
     public void testMultiplexMultiFrameDeliveriesOnSingleSessionIncoming() throws Exception {
         doMultiplexMultiFrameDeliveryOnSingleSessionIncomingTestImpl(true);
@@ -265,4 +265,67 @@ public class SymbolTest {
         assertFalse(Symbols.contains(null, "four"));
         assertFalse(Symbols.contains(new Symbol[0], "four"));
     }
+
+    @Test
+    public void testGetSymbolFromBufferRegion() {
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate(32);
+
+        buffer.writeBytes("prefix-Symbol-Region-suffix".getBytes(StandardCharsets.US_ASCII));
+
+        final Symbol symbol = Symbol.getSymbol(buffer, 7, 13);
+
+        assertEquals("Symbol-Region", symbol.toString());
+        assertEquals(0, buffer.getReadOffset());
+        assertSame(symbol, Symbol.getSymbol(buffer, 7, 13));
+        assertSame(symbol, Symbol.valueOf("Symbol-Region"));
+        assertEquals(Symbol.valueOf("Symbol-Region").hashCode(), symbol.hashCode());
+        assertSame(Symbol.valueOf(""), Symbol.getSymbol(buffer, 7, 0));
+        assertNull(Symbol.getSymbol(null, 0, 1));
+    }
+
+    @Test
+    public void testGetSymbolFromBufferRegionCopiesOnCreate() {
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().allocate(32);
+
+        buffer.writeBytes("Symbol-Region-Copied".getBytes(StandardCharsets.US_ASCII));
+
+        final Symbol symbol = Symbol.getSymbol(buffer, 0, buffer.getReadableBytes());
+
+        buffer.setByte(0, (byte) 'X');
+
+        assertEquals("Symbol-Region-Copied", symbol.toString());
+    }
+
+    @Test
+    public void testLargeSymbolFromBufferRegionNotCached() {
+        final ProtonBuffer buffer = ProtonBufferAllocator.defaultAllocator().copy(LARGE_SYMBOL_VALUE.getBytes(StandardCharsets.US_ASCII));
+
+        final Symbol symbol1 = Symbol.getSymbol(buffer, 0, buffer.getReadableBytes());
+        final Symbol symbol2 = Symbol.getSymbol(buffer, 0, buffer.getReadableBytes());
+
+        assertNotSame(symbol1, symbol2);
+        assertEquals(symbol1, symbol2);
+        assertEquals(LARGE_SYMBOL_VALUE, symbol1.toString());
+    }
+
+    @Test
+    public void testSymbolCacheEvictsColdSymbolsAndRetainsEquality() {
+        final Symbol hot = Symbol.valueOf("hot-symbol");
+        final Symbol cold = Symbol.valueOf("cold-symbol");
+
+        for (int i = 0; i < 100_000; ++i) {
+            final String value = "random-symbol-" + i;
+            final Symbol symbol = Symbol.valueOf(value);
+
+            assertEquals(value, symbol.toString());
+            assertSame(hot, Symbol.valueOf("hot-symbol"));
+        }
+
+        final Symbol coldAgain = Symbol.valueOf("cold-symbol");
+
+        assertEquals(cold, coldAgain);
+        assertEquals(cold.hashCode(), coldAgain.hashCode());
+        assertEquals(0, cold.compareTo(coldAgain));
+        assertSame(coldAgain, Symbol.valueOf("cold-symbol"));
+    }
 }